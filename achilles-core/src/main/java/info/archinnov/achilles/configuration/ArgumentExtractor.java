@@ -18,16 +18,21 @@
 package info.archinnov.achilles.configuration;
 
 import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
+import info.archinnov.achilles.context.EntityCache;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.json.DefaultObjectMapperFactory;
 import info.archinnov.achilles.json.ObjectMapperFactory;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.validation.Validator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -44,6 +49,90 @@ public abstract class ArgumentExtractor {
 		return entityPackages;
 	}
 
+	public Set<String> initBinaryTranscodingTargets(Map<String, Object> configurationMap) {
+		Set<String> targets = new HashSet<String>();
+		String binaryTranscodingParameter = (String) configurationMap.get(BINARY_TRANSCODING_PARAM);
+		if (StringUtils.isNotBlank(binaryTranscodingParameter)) {
+			for (String target : StringUtils.split(binaryTranscodingParameter, ",")) {
+				targets.add(target.trim());
+			}
+		}
+		return targets;
+	}
+
+	public Set<Class<?>> initBinaryTranscodingBeans(Map<String, Object> configurationMap) {
+		Set<Class<?>> beanTypes = new HashSet<Class<?>>();
+		String binaryBeansParameter = (String) configurationMap.get(BINARY_TRANSCODING_BEANS_PARAM);
+		if (StringUtils.isNotBlank(binaryBeansParameter)) {
+			for (String className : StringUtils.split(binaryBeansParameter, ",")) {
+				try {
+					beanTypes.add(Class.forName(className.trim()));
+				} catch (ClassNotFoundException e) {
+					throw new AchillesException("Cannot find the binary encoded type '" + className.trim() + "'", e);
+				}
+			}
+		}
+		return beanTypes;
+	}
+
+	public Set<String> initEntityCacheTargets(Map<String, Object> configurationMap) {
+		Set<String> targets = new HashSet<String>();
+		String entityCacheParameter = (String) configurationMap.get(ENTITY_CACHE_PARAM);
+		if (StringUtils.isNotBlank(entityCacheParameter)) {
+			for (String target : StringUtils.split(entityCacheParameter, ",")) {
+				targets.add(target.trim());
+			}
+		}
+		return targets;
+	}
+
+	public EntityCache initEntityCache(Map<String, Object> configurationMap) {
+		Number maxSize = (Number) configurationMap.get(ENTITY_CACHE_MAX_SIZE_PARAM);
+		Number ttl = (Number) configurationMap.get(ENTITY_CACHE_TTL_PARAM);
+		return new EntityCache(maxSize != null ? maxSize.longValue() : DEFAULT_ENTITY_CACHE_MAX_SIZE,
+				ttl != null ? ttl.longValue() : DEFAULT_ENTITY_CACHE_TTL);
+	}
+
+	public int initScanParallelism(Map<String, Object> configurationMap) {
+		return initPositiveInt(configurationMap, SCAN_PARALLELISM_PARAM, DEFAULT_SCAN_PARALLELISM);
+	}
+
+	public int initScanTokenRanges(Map<String, Object> configurationMap) {
+		return initPositiveInt(configurationMap, SCAN_TOKEN_RANGES_PARAM, DEFAULT_SCAN_TOKEN_RANGES);
+	}
+
+	public boolean initCounterCoalescing(Map<String, Object> configurationMap) {
+		Boolean counterCoalescing = (Boolean) configurationMap.get(COUNTER_COALESCING_PARAM);
+		return counterCoalescing != null ? counterCoalescing : false;
+	}
+
+	public int initCounterCoalescingInterval(Map<String, Object> configurationMap) {
+		return initPositiveInt(configurationMap, COUNTER_COALESCING_INTERVAL_PARAM,
+				DEFAULT_COUNTER_COALESCING_INTERVAL);
+	}
+
+	public int initCounterCoalescingThreshold(Map<String, Object> configurationMap) {
+		return initPositiveInt(configurationMap, COUNTER_COALESCING_THRESHOLD_PARAM,
+				DEFAULT_COUNTER_COALESCING_THRESHOLD);
+	}
+
+	public int initAsyncThreads(Map<String, Object> configurationMap) {
+		return initPositiveInt(configurationMap, ASYNC_THREADS_PARAM, DEFAULT_ASYNC_THREADS);
+	}
+
+	public int initAsyncQueueSize(Map<String, Object> configurationMap) {
+		return initPositiveInt(configurationMap, ASYNC_QUEUE_SIZE_PARAM, DEFAULT_ASYNC_QUEUE_SIZE);
+	}
+
+	private int initPositiveInt(Map<String, Object> configurationMap, String param, int defaultValue) {
+		Number value = (Number) configurationMap.get(param);
+		if (value == null) {
+			return defaultValue;
+		}
+		Validator.validateTrue(value.intValue() > 0, "The parameter '%s' should be strictly positive", param);
+		return value.intValue();
+	}
+
 	public boolean initForceCFCreation(Map<String, Object> configurationMap) {
 		Boolean forceColumnFamilyCreation = (Boolean) configurationMap.get(FORCE_CF_CREATION_PARAM);
 		if (forceColumnFamilyCreation != null) {
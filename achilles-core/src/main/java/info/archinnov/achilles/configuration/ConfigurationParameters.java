@@ -25,6 +25,23 @@ public interface ConfigurationParameters {
 	String OBJECT_MAPPER_FACTORY_PARAM = "achilles.json.object.mapper.factory";
 	String OBJECT_MAPPER_PARAM = "achilles.json.object.mapper";
 
+	String BINARY_TRANSCODING_PARAM = "achilles.transcoding.binary";
+	String BINARY_TRANSCODING_BEANS_PARAM = "achilles.transcoding.binary.beans";
+
+	String ENTITY_CACHE_PARAM = "achilles.entity.cache";
+	String ENTITY_CACHE_MAX_SIZE_PARAM = "achilles.entity.cache.max.size";
+	String ENTITY_CACHE_TTL_PARAM = "achilles.entity.cache.ttl.seconds";
+
+	String SCAN_PARALLELISM_PARAM = "achilles.scan.parallelism";
+	String SCAN_TOKEN_RANGES_PARAM = "achilles.scan.token.ranges";
+
+	String COUNTER_COALESCING_PARAM = "achilles.counter.coalescing";
+	String COUNTER_COALESCING_INTERVAL_PARAM = "achilles.counter.coalescing.interval.ms";
+	String COUNTER_COALESCING_THRESHOLD_PARAM = "achilles.counter.coalescing.threshold";
+
+	String ASYNC_THREADS_PARAM = "achilles.async.threads";
+	String ASYNC_QUEUE_SIZE_PARAM = "achilles.async.queue.size";
+
 	String CONSISTENCY_LEVEL_READ_DEFAULT_PARAM = "achilles.consistency.read.default";
 	String CONSISTENCY_LEVEL_WRITE_DEFAULT_PARAM = "achilles.consistency.write.default";
 	String CONSISTENCY_LEVEL_READ_MAP_PARAM = "achilles.consistency.read.map";
@@ -33,4 +50,16 @@ public interface ConfigurationParameters {
 	String FORCE_CF_CREATION_PARAM = "achilles.ddl.force.column.family.creation";
 
 	ConsistencyLevel DEFAULT_LEVEL = ConsistencyLevel.ONE;
+
+	long DEFAULT_ENTITY_CACHE_MAX_SIZE = 10000L;
+	long DEFAULT_ENTITY_CACHE_TTL = 60L;
+
+	int DEFAULT_SCAN_PARALLELISM = 4;
+	int DEFAULT_SCAN_TOKEN_RANGES = 256;
+
+	int DEFAULT_COUNTER_COALESCING_INTERVAL = 1000;
+	int DEFAULT_COUNTER_COALESCING_THRESHOLD = 10000;
+
+	int DEFAULT_ASYNC_THREADS = 16;
+	int DEFAULT_ASYNC_QUEUE_SIZE = 1000;
 }
@@ -63,12 +63,6 @@ public abstract class AchillesConsistencyLevelPolicy {
 		return defaultGlobalWriteConsistencyLevel;
 	}
 
-	public abstract void loadConsistencyLevelForRead(String columnFamily);
-
-	public abstract void loadConsistencyLevelForWrite(String columnFamily);
-
-	public abstract void reinitDefaultConsistencyLevels();
-
 	public abstract void reinitCurrentConsistencyLevels();
 
 	public abstract ConsistencyLevel getCurrentReadLevel();
@@ -17,8 +17,19 @@
 package info.archinnov.achilles.context;
 
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.entity.metadata.transcoding.BinaryCodec;
 import info.archinnov.achilles.json.ObjectMapperFactory;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import net.sf.cglib.proxy.Factory;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+
 public class ConfigurationContext {
 	private boolean forceColumnFamilyCreation;
 
@@ -26,6 +37,24 @@ public class ConfigurationContext {
 
 	private ObjectMapperFactory objectMapperFactory;
 
+	private Set<String> binaryTranscodingTargets = new HashSet<String>();
+
+	private BinaryCodec binaryCodec = BinaryCodec.DEFAULT;
+
+	private Set<String> entityCacheTargets = new HashSet<String>();
+
+	private EntityCache entityCache;
+
+	private int scanParallelism;
+
+	private int scanTokenRanges;
+
+	private ExecutorService scanExecutor;
+
+	private ListeningExecutorService asyncExecutor;
+
+	private Map<Class<?>, Factory> proxyFactories = new HashMap<Class<?>, Factory>();
+
 	private Impl impl;
 
 	public boolean isForceColumnFamilyCreation() {
@@ -52,6 +81,92 @@ public class ConfigurationContext {
 		this.objectMapperFactory = objectMapperFactory;
 	}
 
+	public Set<String> getBinaryTranscodingTargets() {
+		return binaryTranscodingTargets;
+	}
+
+	public void setBinaryTranscodingTargets(Set<String> binaryTranscodingTargets) {
+		this.binaryTranscodingTargets = binaryTranscodingTargets;
+	}
+
+	public BinaryCodec getBinaryCodec() {
+		return binaryCodec;
+	}
+
+	public void setBinaryCodec(BinaryCodec binaryCodec) {
+		this.binaryCodec = binaryCodec;
+	}
+
+	/**
+	 * Binary transcoding is enabled for a property when either its entity
+	 * class name or 'entityClassName#propertyName' is configured
+	 */
+	public boolean isBinaryTranscoding(Class<?> entityClass, String propertyName) {
+		String entityClassName = entityClass.getCanonicalName();
+		return binaryTranscodingTargets.contains(entityClassName)
+				|| binaryTranscodingTargets.contains(entityClassName + "#" + propertyName);
+	}
+
+	public Set<String> getEntityCacheTargets() {
+		return entityCacheTargets;
+	}
+
+	public void setEntityCacheTargets(Set<String> entityCacheTargets) {
+		this.entityCacheTargets = entityCacheTargets;
+	}
+
+	public boolean isEntityCached(Class<?> entityClass) {
+		return entityCacheTargets.contains(entityClass.getCanonicalName());
+	}
+
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	public void setEntityCache(EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	public int getScanParallelism() {
+		return scanParallelism;
+	}
+
+	public void setScanParallelism(int scanParallelism) {
+		this.scanParallelism = scanParallelism;
+	}
+
+	public int getScanTokenRanges() {
+		return scanTokenRanges;
+	}
+
+	public void setScanTokenRanges(int scanTokenRanges) {
+		this.scanTokenRanges = scanTokenRanges;
+	}
+
+	public ExecutorService getScanExecutor() {
+		return scanExecutor;
+	}
+
+	public void setScanExecutor(ExecutorService scanExecutor) {
+		this.scanExecutor = scanExecutor;
+	}
+
+	public ListeningExecutorService getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	public void setAsyncExecutor(ListeningExecutorService asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	public Map<Class<?>, Factory> getProxyFactories() {
+		return proxyFactories;
+	}
+
+	public void setProxyFactories(Map<Class<?>, Factory> proxyFactories) {
+		this.proxyFactories = proxyFactories;
+	}
+
 	public Impl getImpl() {
 		return impl;
 	}
@@ -0,0 +1,218 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.context;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Read-through cache of eagerly loaded entities, shared by all the
+ * PersistenceManagers of a PersistenceManagerFactory.
+ *
+ * Only the eager properties are kept, in their encoded form (the values
+ * written to Cassandra). Each lookup decodes them into a new instance, so
+ * entities returned by the cache never share mutable state with the snapshot
+ * or with each other.
+ */
+public class EntityCache {
+	private static final Logger log = LoggerFactory.getLogger(EntityCache.class);
+
+	private final Cache<CacheKey, Object[]> snapshots;
+
+	public EntityCache(long maxSize, long ttlInSeconds) {
+		log.debug("Create entity cache with max size {} and ttl {} seconds", maxSize, ttlInSeconds);
+		snapshots = CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttlInSeconds, TimeUnit.SECONDS)
+				.recordStats().build();
+	}
+
+	public <T> T get(EntityMeta entityMeta, Object primaryKey) {
+		Object[] snapshot = snapshots.getIfPresent(new CacheKey(entityMeta.getEntityClass(), primaryKey));
+		if (snapshot == null) {
+			return null;
+		}
+		log.trace("Entity cache hit for entity class {} and primary key {}", entityMeta.getClassName(), primaryKey);
+		return this.<T> decode(entityMeta, snapshot, primaryKey);
+	}
+
+	public void put(EntityMeta entityMeta, Object primaryKey, Object entity) {
+		if (entity != null) {
+			snapshots.put(new CacheKey(entityMeta.getEntityClass(), primaryKey), encode(entityMeta, entity));
+		}
+	}
+
+	public void invalidate(Class<?> entityClass, Object primaryKey) {
+		snapshots.invalidate(new CacheKey(entityClass, primaryKey));
+	}
+
+	public void invalidateAll(Class<?> entityClass) {
+		List<CacheKey> keys = new ArrayList<CacheKey>();
+		for (CacheKey key : snapshots.asMap().keySet()) {
+			if (key.entityClass == entityClass) {
+				keys.add(key);
+			}
+		}
+		snapshots.invalidateAll(keys);
+	}
+
+	public void invalidateAll() {
+		snapshots.invalidateAll();
+	}
+
+	public long size() {
+		return snapshots.size();
+	}
+
+	public CacheStats stats() {
+		return snapshots.stats();
+	}
+
+	private Object[] encode(EntityMeta entityMeta, Object entity) {
+		List<PropertyMeta> eagerMetas = entityMeta.getEagerMetas();
+		Object[] snapshot = new Object[eagerMetas.size()];
+		for (int i = 0; i < snapshot.length; i++) {
+			PropertyMeta pm = eagerMetas.get(i);
+			if (!pm.isCounter() && pm != entityMeta.getIdMeta()) {
+				snapshot[i] = copyMutableValues(encodeValue(pm, pm.getValueFromField(entity)));
+			}
+		}
+		return snapshot;
+	}
+
+	private <T> T decode(EntityMeta entityMeta, Object[] snapshot, Object primaryKey) {
+		T target = entityMeta.<T> instanciate();
+		entityMeta.getIdMeta().setValueToField(target, primaryKey);
+		List<PropertyMeta> eagerMetas = entityMeta.getEagerMetas();
+		for (int i = 0; i < snapshot.length; i++) {
+			PropertyMeta pm = eagerMetas.get(i);
+			if (!pm.isCounter() && pm != entityMeta.getIdMeta()) {
+				pm.setValueToField(target, decodeValue(pm, copyMutableValues(snapshot[i])));
+			}
+		}
+		return target;
+	}
+
+	private Object encodeValue(PropertyMeta pm, Object value) {
+		switch (pm.type()) {
+		case LIST:
+			return pm.encode((List<?>) value);
+		case SET:
+			return pm.encode((Set<?>) value);
+		case MAP:
+			return pm.encode((Map<?, ?>) value);
+		default:
+			return pm.encode(value);
+		}
+	}
+
+	private Object decodeValue(PropertyMeta pm, Object value) {
+		switch (pm.type()) {
+		case LIST:
+			return pm.decode((List<?>) value);
+		case SET:
+			return pm.decode((Set<?>) value);
+		case MAP:
+			return pm.decode((Map<?, ?>) value);
+		default:
+			return pm.decode(value);
+		}
+	}
+
+	/**
+	 * Encoding leaves the natively supported types as they are, copy the
+	 * mutable ones (Date, byte[], ByteBuffer), alone or inside a collection
+	 */
+	private Object copyMutableValues(Object value) {
+		if (value instanceof List) {
+			List<Object> copy = new ArrayList<Object>();
+			for (Object element : (List<?>) value) {
+				copy.add(copyMutable(element));
+			}
+			return copy;
+		} else if (value instanceof Set) {
+			Set<Object> copy = new LinkedHashSet<Object>();
+			for (Object element : (Set<?>) value) {
+				copy.add(copyMutable(element));
+			}
+			return copy;
+		} else if (value instanceof Map) {
+			Map<Object, Object> copy = new LinkedHashMap<Object, Object>();
+			for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				copy.put(copyMutable(entry.getKey()), copyMutable(entry.getValue()));
+			}
+			return copy;
+		}
+		return copyMutable(value);
+	}
+
+	private Object copyMutable(Object value) {
+		if (value instanceof Date) {
+			return new Date(((Date) value).getTime());
+		} else if (value instanceof byte[]) {
+			return ((byte[]) value).clone();
+		} else if (value instanceof ByteBuffer) {
+			ByteBuffer source = ((ByteBuffer) value).duplicate();
+			ByteBuffer copy = ByteBuffer.allocate(source.remaining());
+			copy.put(source);
+			copy.flip();
+			return copy;
+		}
+		return value;
+	}
+
+	private static class CacheKey {
+		private final Class<?> entityClass;
+		private final Object primaryKey;
+
+		private CacheKey(Class<?> entityClass, Object primaryKey) {
+			this.entityClass = entityClass;
+			this.primaryKey = primaryKey;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(entityClass, primaryKey);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return entityClass == other.entityClass && Objects.equal(primaryKey, other.primaryKey);
+		}
+	}
+}
@@ -31,10 +31,14 @@ import java.util.List;
 import java.util.Set;
 
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
 
 public abstract class PersistenceContext {
-	protected ReflectionInvoker invoker = new ReflectionInvoker();
-	protected EntityInitializer initializer = new EntityInitializer();
+	private static final ReflectionInvoker INVOKER = new ReflectionInvoker();
+	private static final EntityInitializer INITIALIZER = new EntityInitializer();
+
+	protected ReflectionInvoker invoker = INVOKER;
+	protected EntityInitializer initializer = INITIALIZER;
 	protected ConfigurationContext configContext;
 	protected Class<?> entityClass;
 	protected EntityMeta entityMeta;
@@ -94,6 +98,14 @@ public abstract class PersistenceContext {
 
 	public abstract <T> T getReference(Class<T> entityClass);
 
+	public abstract ListenableFuture<Void> persistAsync();
+
+	public abstract <T> ListenableFuture<T> mergeAsync(T entity);
+
+	public abstract ListenableFuture<Void> removeAsync();
+
+	public abstract <T> ListenableFuture<T> findAsync(Class<T> entityClass);
+
 	public abstract <T> T initialize(T entity);
 
 	public <T> List<T> initialize(List<T> entities) {
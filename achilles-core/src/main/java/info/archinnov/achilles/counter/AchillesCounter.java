@@ -27,6 +27,6 @@ public interface AchillesCounter {
 	public static final String THRIFT_COUNTER_CF = "achillesCounterCF";
 
 	public static enum CQLQueryType {
-		INCR, DECR, SELECT, DELETE;
+		INCR, DECR, SELECT, SELECT_ALL, DELETE;
 	}
 }
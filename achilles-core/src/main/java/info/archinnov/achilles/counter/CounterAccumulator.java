@@ -0,0 +1,141 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.AtomicLongMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Write-behind buffer for counter updates. Deltas are summed per counter key
+ * and written by the flusher every flush interval, as soon as
+ * flushThreshold updates are pending, and on shutdown.
+ *
+ * A counter read does not see the deltas which are not flushed yet
+ */
+public class CounterAccumulator<K> {
+	private static final Logger log = LoggerFactory.getLogger(CounterAccumulator.class);
+
+	/**
+	 * Write the deltas as a list of independent writes. A write which fails
+	 * may have been partially applied by Cassandra
+	 */
+	public static interface Flusher<K> {
+		/**
+		 * Split the deltas into the groups sent with one write each
+		 */
+		List<Map<K, Long>> split(Map<K, Long> deltas);
+
+		void write(Map<K, Long> group);
+	}
+
+	private final AtomicLongMap<K> deltas = AtomicLongMap.create();
+	private final AtomicInteger pendingUpdates = new AtomicInteger();
+	private final Flusher<K> flusher;
+	private final int flushThreshold;
+	private final ScheduledExecutorService scheduler;
+
+	private final Runnable flushTask = new Runnable() {
+		@Override
+		public void run() {
+			try {
+				flush();
+			} catch (RuntimeException e) {
+				log.error("Error when flushing counter deltas, the unsent ones will be retried on next flush", e);
+			}
+		}
+	};
+
+	public CounterAccumulator(Flusher<K> flusher, long flushIntervalMillis, int flushThreshold) {
+		log.info("Coalesce counter updates, flushing every {} ms or every {} updates", flushIntervalMillis,
+				flushThreshold);
+		this.flusher = flusher;
+		this.flushThreshold = flushThreshold;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+				.setNameFormat("achilles-counter-flush-%d").build());
+		scheduler.scheduleWithFixedDelay(flushTask, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	public void add(K key, long delta) {
+		deltas.addAndGet(key, delta);
+		int pending = pendingUpdates.incrementAndGet();
+		if (pending >= flushThreshold && pendingUpdates.compareAndSet(pending, 0) && !scheduler.isShutdown()) {
+			scheduler.execute(flushTask);
+		}
+	}
+
+	/**
+	 * Write all the pending deltas. When a write fails, its deltas are dropped
+	 * since Cassandra may have applied some of them and counter updates are
+	 * not idempotent. The deltas of the following writes, which were not sent,
+	 * are put back in the buffer before the exception is raised
+	 */
+	public synchronized void flush() {
+		pendingUpdates.set(0);
+		Map<K, Long> drained = new HashMap<K, Long>();
+		for (K key : new ArrayList<K>(deltas.asMap().keySet())) {
+			long delta = deltas.remove(key);
+			if (delta != 0L) {
+				drained.put(key, delta);
+			}
+		}
+		if (drained.isEmpty()) {
+			return;
+		}
+
+		log.debug("Flushing {} coalesced counter deltas", drained.size());
+		List<Map<K, Long>> groups = flusher.split(drained);
+		for (int i = 0; i < groups.size(); i++) {
+			try {
+				flusher.write(groups.get(i));
+			} catch (RuntimeException e) {
+				log.error("Dropping counter deltas {} of the failed write, they may have been partially applied",
+						groups.get(i));
+				for (Map<K, Long> unsent : groups.subList(i + 1, groups.size())) {
+					for (Entry<K, Long> entry : unsent.entrySet()) {
+						deltas.addAndGet(entry.getKey(), entry.getValue());
+					}
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Stop the periodic flush and write the remaining deltas
+	 */
+	public void shutdown() {
+		scheduler.shutdown();
+		flush();
+	}
+
+	public int size() {
+		return deltas.size();
+	}
+}
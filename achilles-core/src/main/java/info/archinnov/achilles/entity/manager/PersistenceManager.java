@@ -18,26 +18,39 @@ package info.archinnov.achilles.entity.manager;
 
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.EntityCache;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.operations.EntityInitializer;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.entity.operations.EntityValidator;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
+import info.archinnov.achilles.iterator.ScanIterator;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	protected static final Optional<Integer> NO_TTL = Optional.<Integer> absent();
@@ -48,6 +61,8 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	protected Map<Class<?>, EntityMeta> entityMetaMap;
 	protected AchillesConsistencyLevelPolicy consistencyPolicy;
 	protected ConfigurationContext configContext;
+	protected EntityCache entityCache;
+	private SetMultimap<Class<?>, Object> pendingEvictions = HashMultimap.create();
 
 	protected EntityProxifier<CONTEXT> proxifier;
 	protected EntityValidator<CONTEXT> entityValidator;
@@ -58,6 +73,7 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		this.entityMetaMap = entityMetaMap;
 		this.configContext = configContext;
 		this.consistencyPolicy = configContext.getConsistencyPolicy();
+		this.entityCache = configContext.getEntityCache();
 	}
 
 	/**
@@ -84,18 +100,40 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		if (log.isDebugEnabled())
 			log.debug("Persisting entity '{}' with options {} ", entity, options);
 
-		entityValidator.validateEntity(entity, entityMetaMap);
+		CONTEXT context = initPersistContext(entity, options);
+		context.persist();
+		evictFromCache(context);
+	}
 
-		if (options.getTtl().isPresent()) {
-			entityValidator.validateNotClusteredCounter(entity, entityMetaMap);
-		}
-		if (proxifier.isProxy(entity)) {
-			throw new IllegalStateException(
-					"Then entity is already in 'managed' state. Please use the merge() method instead of persist()");
-		}
+	/**
+	 * Persist an entity asynchronously.
+	 * 
+	 * @param entity
+	 *            Entity to be persisted
+	 * @return future completed once the entity is persisted
+	 */
+	public ListenableFuture<Void> persistAsync(Object entity) {
+		log.debug("Persisting asynchronously entity '{}'", entity);
 
-		CONTEXT context = initPersistenceContext(entity, options);
-		context.persist();
+		return persistAsync(entity, OptionsBuilder.noOptions());
+	}
+
+	/**
+	 * Persist an entity asynchronously with the given options.
+	 * 
+	 * @param entity
+	 *            Entity to be persisted
+	 * @param Options
+	 *            options for consistency level, ttl and timestamp
+	 * @return future completed once the entity is persisted
+	 */
+	public ListenableFuture<Void> persistAsync(final Object entity, Options options) {
+		if (log.isDebugEnabled())
+			log.debug("Persisting asynchronously entity '{}' with options {} ", entity, options);
+
+		CONTEXT context = initPersistContext(entity, options);
+		validateNotBatchMode(context);
+		return evictFromCacheOnSuccess(context, context.persistAsync());
 	}
 
 	/**
@@ -154,13 +192,44 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		if (log.isDebugEnabled()) {
 			log.debug("Merging entity '{}' with options {} ", proxifier.unwrap(entity), options);
 		}
-		entityValidator.validateEntity(entity, entityMetaMap);
-		if (options.getTtl().isPresent()) {
-			entityValidator.validateNotClusteredCounter(entity, entityMetaMap);
-		}
-		CONTEXT context = initPersistenceContext(entity, options);
-		return context.<T> merge(entity);
+		CONTEXT context = initMergeContext(entity, options);
+		T merged = context.<T> merge(entity);
+		evictFromCache(context);
+		return merged;
+
+	}
+
+	/**
+	 * Merge an entity asynchronously. See {@link #merge(Object)}
+	 * 
+	 * @param entity
+	 *            Entity to be merged
+	 * @return future of the merged entity or a new proxified entity
+	 */
+	public <T> ListenableFuture<T> mergeAsync(T entity) {
+		if (log.isDebugEnabled())
+			log.debug("Merging asynchronously entity '{}'", proxifier.unwrap(entity));
 
+		return mergeAsync(entity, OptionsBuilder.noOptions());
+	}
+
+	/**
+	 * Merge an entity asynchronously with the given options. See
+	 * {@link #merge(Object, Options)}
+	 * 
+	 * @param entity
+	 *            Entity to be merged
+	 * @param Options
+	 *            options for consistency level, ttl and timestamp
+	 * @return future of the merged entity or a new proxified entity
+	 */
+	public <T> ListenableFuture<T> mergeAsync(final T entity, Options options) {
+		if (log.isDebugEnabled()) {
+			log.debug("Merging asynchronously entity '{}' with options {} ", proxifier.unwrap(entity), options);
+		}
+		CONTEXT context = initMergeContext(entity, options);
+		validateNotBatchMode(context);
+		return evictFromCacheOnSuccess(context, context.<T> mergeAsync(entity));
 	}
 
 	/**
@@ -195,6 +264,7 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.noOptions());
 		entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
 		context.remove();
+		evictFromCache(context);
 	}
 
 	/**
@@ -213,6 +283,43 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		proxifier.ensureProxy(entity);
 		CONTEXT context = initPersistenceContext(entity, OptionsBuilder.withConsistency(writeLevel));
 		context.remove();
+		evictFromCache(context);
+	}
+
+	/**
+	 * Remove an entity asynchronously.
+	 * 
+	 * @param entity
+	 *            Entity to be removed
+	 * @return future completed once the entity is removed
+	 */
+	public ListenableFuture<Void> removeAsync(Object entity) {
+		if (log.isDebugEnabled())
+			log.debug("Removing asynchronously entity '{}'", proxifier.unwrap(entity));
+
+		return removeAsync(entity, null);
+	}
+
+	/**
+	 * Remove an entity asynchronously with the given Consistency Level for
+	 * write.
+	 * 
+	 * @param entity
+	 *            Entity to be removed
+	 * @param writeLevel
+	 *            Consistency Level for write
+	 * @return future completed once the entity is removed
+	 */
+	public ListenableFuture<Void> removeAsync(final Object entity, ConsistencyLevel writeLevel) {
+		if (log.isDebugEnabled())
+			log.debug("Removing asynchronously entity '{}' with write consistency level {}",
+					proxifier.unwrap(entity), writeLevel);
+
+		entityValidator.validateEntity(entity, entityMetaMap);
+		proxifier.ensureProxy(entity);
+		CONTEXT context = initPersistenceContext(entity, OptionsBuilder.withConsistency(writeLevel));
+		validateNotBatchMode(context);
+		return evictFromCacheOnSuccess(context, context.removeAsync());
 	}
 
 	/**
@@ -233,6 +340,7 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.withConsistency(writeLevel));
 		entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
 		context.remove();
+		evictFromCache(context);
 	}
 
 	/**
@@ -265,11 +373,123 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	public <T> T find(final Class<T> entityClass, final Object primaryKey, ConsistencyLevel readLevel) {
 		log.debug("Find entity class '{}' with primary key {} and read consistency level {}", entityClass, primaryKey,
 				readLevel);
-		Validator.validateNotNull(entityClass, "Entity class should not be null for find by id");
-		Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for find by id");
-		CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.withConsistency(readLevel));
-		entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
-		return context.<T> find(entityClass);
+		CONTEXT context = initFindContext(entityClass, primaryKey, readLevel);
+
+		EntityCache entityCache = entityCacheFor(context, readLevel);
+		if (entityCache != null) {
+			T cached = entityCache.<T> get(context.getEntityMeta(), primaryKey);
+			if (cached != null) {
+				return proxifier.buildProxy(cached, context);
+			}
+		}
+
+		T entity = context.<T> find(entityClass);
+		if (entityCache != null && entity != null) {
+			entityCache.put(context.getEntityMeta(), primaryKey, proxifier.getRealObject(entity));
+		}
+		return entity;
+	}
+
+	/**
+	 * Find an entity asynchronously.
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKey
+	 *            Primary key (Cassandra row key) of the entity to load
+	 * @return future of the found entity or null if no entity is found
+	 */
+	public <T> ListenableFuture<T> findAsync(Class<T> entityClass, Object primaryKey) {
+		log.debug("Find asynchronously entity class '{}' with primary key {}", entityClass, primaryKey);
+		return findAsync(entityClass, primaryKey, null);
+	}
+
+	/**
+	 * Find an entity asynchronously with the given Consistency Level for read
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKey
+	 *            Primary key (Cassandra row key) of the entity to load
+	 * @param readLevel
+	 *            Consistency Level for read
+	 * @return future of the found entity or null if no entity is found
+	 */
+	public <T> ListenableFuture<T> findAsync(final Class<T> entityClass, final Object primaryKey,
+			ConsistencyLevel readLevel) {
+		log.debug("Find asynchronously entity class '{}' with primary key {} and read consistency level {}",
+				entityClass, primaryKey, readLevel);
+		final CONTEXT context = initFindContext(entityClass, primaryKey, readLevel);
+		validateNotBatchMode(context);
+
+		final EntityCache entityCache = entityCacheFor(context, readLevel);
+		if (entityCache == null) {
+			return context.<T> findAsync(entityClass);
+		}
+
+		T cached = entityCache.<T> get(context.getEntityMeta(), primaryKey);
+		if (cached != null) {
+			return Futures.immediateFuture(proxifier.buildProxy(cached, context));
+		}
+		return Futures.transform(context.<T> findAsync(entityClass), new Function<T, T>() {
+			@Override
+			public T apply(T entity) {
+				if (entity != null) {
+					entityCache.put(context.getEntityMeta(), primaryKey, proxifier.getRealObject(entity));
+				}
+				return entity;
+			}
+		});
+	}
+
+	/**
+	 * Find several entities of the same type by their primary keys.
+	 * 
+	 * Primary keys for which no entity is found are absent from the returned
+	 * map
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKeys
+	 *            Primary keys (Cassandra row keys) of the entities to load
+	 * @return Found entities, indexed by primary key, in the order of the
+	 *         given primary keys
+	 */
+	public <K, T> Map<K, T> find(Class<T> entityClass, Collection<K> primaryKeys) {
+		log.debug("Find entities of class '{}' with primary keys {}", entityClass, primaryKeys);
+		return find(entityClass, primaryKeys, null);
+	}
+
+	/**
+	 * Find several entities of the same type by their primary keys with the
+	 * given Consistency Level for read
+	 * 
+	 * Primary keys for which no entity is found are absent from the returned
+	 * map
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKeys
+	 *            Primary keys (Cassandra row keys) of the entities to load
+	 * @param readLevel
+	 *            Consistency Level for read
+	 * @return Found entities, indexed by primary key, in the order of the
+	 *         given primary keys
+	 */
+	public <K, T> Map<K, T> find(final Class<T> entityClass, Collection<K> primaryKeys, ConsistencyLevel readLevel) {
+		log.debug("Find entities of class '{}' with primary keys {} and read consistency level {}", entityClass,
+				primaryKeys, readLevel);
+		Validator.validateNotNull(entityClass, "Entity class should not be null for find by ids");
+		Validator.validateNotNull(primaryKeys, "Entity primaryKeys should not be null for find by ids");
+
+		Map<K, CONTEXT> contexts = new LinkedHashMap<K, CONTEXT>();
+		for (K primaryKey : primaryKeys) {
+			Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for find by ids");
+			CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.withConsistency(readLevel));
+			entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
+			contexts.put(primaryKey, context);
+		}
+		return findAll(entityClass, contexts);
 	}
 
 	/**
@@ -314,6 +534,14 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for get reference");
 		CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.withConsistency(readLevel));
 		entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
+
+		EntityCache entityCache = entityCacheFor(context, readLevel);
+		if (entityCache != null) {
+			T cached = entityCache.<T> get(context.getEntityMeta(), primaryKey);
+			if (cached != null) {
+				return proxifier.buildProxy(cached, context);
+			}
+		}
 		return context.<T> getReference(entityClass);
 	}
 
@@ -374,9 +602,7 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	 */
 	public <T> Set<T> initialize(final Set<T> entities) {
 		log.debug("Force lazy fields initialization for entity set {}", entities);
-		for (T entity : entities) {
-			initialize(entity);
-		}
+		initializeAll(entities);
 		return entities;
 	}
 
@@ -389,9 +615,7 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	 */
 	public <T> List<T> initialize(final List<T> entities) {
 		log.debug("Force lazy fields initialization for entity set {}", entities);
-		for (T entity : entities) {
-			initialize(entity);
-		}
+		initializeAll(entities);
 		return entities;
 	}
 
@@ -476,6 +700,182 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 	 */
 	public abstract <T> SliceQueryBuilder<CONTEXT, T> sliceQuery(Class<T> entityClass);
 
+	/**
+	 * Iterate over all the entities of a non clustered entity class.
+	 * 
+	 * The table is read chunk by chunk, several chunks being loaded in
+	 * parallel in the background (see 'achilles.scan.parallelism'). Only these
+	 * chunks are held in memory, not the whole table. Entities are in
+	 * 'managed' state
+	 * 
+	 * @param entityClass
+	 *            Entity class
+	 * @return ScanIterator<T>
+	 */
+	public <T> ScanIterator<T> scan(Class<T> entityClass) {
+		Validator.validateNotNull(entityClass, "The entityClass to scan should not be null");
+		EntityMeta entityMeta = entityMetaMap.get(entityClass);
+		Validator.validateNotNull(entityMeta, "Cannot scan entity type '%s' because it is not managed by Achilles",
+				entityClass.getCanonicalName());
+		Validator.validateFalse(entityMeta.isClusteredEntity(),
+				"Cannot scan entity type '%s' because it is a clustered entity", entityMeta.getClassName());
+
+		log.debug("Scan all entities of class {}", entityMeta.getClassName());
+		return new ScanIterator<T>(scanTasks(entityClass, entityMeta), configContext.getScanExecutor(),
+				configContext.getScanParallelism());
+	}
+
+	/**
+	 * Split the scan of an entity table into loading tasks, created lazily
+	 */
+	protected abstract <T> Iterator<Callable<List<T>>> scanTasks(Class<T> entityClass, EntityMeta entityMeta);
+
+	/**
+	 * Load the entities for the given persistence contexts. Implementations
+	 * can override it to group the reads instead of issuing them one by one
+	 */
+	protected <K, T> Map<K, T> findAll(Class<T> entityClass, Map<K, CONTEXT> contexts) {
+		Map<K, T> entities = new LinkedHashMap<K, T>();
+		for (Entry<K, CONTEXT> entry : contexts.entrySet()) {
+			T entity = entry.getValue().<T> find(entityClass);
+			if (entity != null) {
+				entities.put(entry.getKey(), entity);
+			}
+		}
+		return entities;
+	}
+
+	/**
+	 * Group the entities by class so that each lazy property is read once for
+	 * the whole group. Clustered entities are still initialized one by one
+	 */
+	private <T> void initializeAll(Collection<T> entities) {
+		Map<Class<?>, List<T>> entitiesByClass = new LinkedHashMap<Class<?>, List<T>>();
+		for (T entity : entities) {
+			proxifier.ensureProxy(entity);
+			Class<?> baseClass = proxifier.deriveBaseClass(entity);
+			List<T> group = entitiesByClass.get(baseClass);
+			if (group == null) {
+				group = new ArrayList<T>();
+				entitiesByClass.put(baseClass, group);
+			}
+			group.add(entity);
+		}
+
+		for (Entry<Class<?>, List<T>> entry : entitiesByClass.entrySet()) {
+			List<T> group = entry.getValue();
+			EntityMeta entityMeta = entityMetaMap.get(entry.getKey());
+			if (group.size() == 1 || entityMeta == null || entityMeta.isClusteredEntity()) {
+				for (T entity : group) {
+					initialize(entity);
+				}
+			} else {
+				CONTEXT context = initPersistenceContext(group.get(0), OptionsBuilder.noOptions());
+				context.initialize(group);
+			}
+		}
+	}
+
+	private CONTEXT initPersistContext(Object entity, Options options) {
+		entityValidator.validateEntity(entity, entityMetaMap);
+
+		if (options.getTtl().isPresent()) {
+			entityValidator.validateNotClusteredCounter(entity, entityMetaMap);
+		}
+		if (proxifier.isProxy(entity)) {
+			throw new IllegalStateException(
+					"Then entity is already in 'managed' state. Please use the merge() method instead of persist()");
+		}
+		return initPersistenceContext(entity, options);
+	}
+
+	private CONTEXT initMergeContext(Object entity, Options options) {
+		entityValidator.validateEntity(entity, entityMetaMap);
+		if (options.getTtl().isPresent()) {
+			entityValidator.validateNotClusteredCounter(entity, entityMetaMap);
+		}
+		return initPersistenceContext(entity, options);
+	}
+
+	private CONTEXT initFindContext(Class<?> entityClass, Object primaryKey, ConsistencyLevel readLevel) {
+		Validator.validateNotNull(entityClass, "Entity class should not be null for find by id");
+		Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for find by id");
+		CONTEXT context = initPersistenceContext(entityClass, primaryKey, OptionsBuilder.withConsistency(readLevel));
+		entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
+		return context;
+	}
+
+	/**
+	 * Statements of a batch are only sent at the end of the batch, there is
+	 * nothing to wait for asynchronously
+	 */
+	private void validateNotBatchMode(CONTEXT context) {
+		Validator.validateFalse(context.isBatchMode(),
+				"Asynchronous operations are not supported by a batching PersistenceManager");
+	}
+
+	/**
+	 * The entity cache is only used for cacheable entities read without an
+	 * explicit consistency level
+	 */
+	private EntityCache entityCacheFor(CONTEXT context, ConsistencyLevel readLevel) {
+		EntityMeta entityMeta = context.getEntityMeta();
+		if (entityCache != null && readLevel == null && entityMeta != null && entityMeta.isCacheable()) {
+			return entityCache;
+		}
+		return null;
+	}
+
+	/**
+	 * In batch mode, the write is only sent at the end of the batch. The entity
+	 * is evicted again at that time since a find in between may have cached the
+	 * previous row
+	 */
+	private void evictFromCache(CONTEXT context) {
+		EntityMeta entityMeta = context.getEntityMeta();
+		if (entityCache != null && entityMeta != null && entityMeta.isCacheable()) {
+			entityCache.invalidate(entityMeta.getEntityClass(), context.getPrimaryKey());
+			if (context.isBatchMode()) {
+				pendingEvictions.put(entityMeta.getEntityClass(), context.getPrimaryKey());
+			}
+		}
+	}
+
+	/**
+	 * Evict the entities written during the current batch, once the batch has
+	 * been flushed
+	 */
+	protected void evictPendingFromCache() {
+		if (entityCache != null) {
+			for (Entry<Class<?>, Object> entry : pendingEvictions.entries()) {
+				entityCache.invalidate(entry.getKey(), entry.getValue());
+			}
+		}
+		pendingEvictions.clear();
+	}
+
+	protected void clearPendingEvictions() {
+		pendingEvictions.clear();
+	}
+
+	/**
+	 * Evict the entity from the cache once the asynchronous write succeeded,
+	 * before the returned future completes
+	 */
+	private <V> ListenableFuture<V> evictFromCacheOnSuccess(final CONTEXT context, ListenableFuture<V> future) {
+		EntityMeta entityMeta = context.getEntityMeta();
+		if (entityCache == null || entityMeta == null || !entityMeta.isCacheable()) {
+			return future;
+		}
+		return Futures.transform(future, new Function<V, V>() {
+			@Override
+			public V apply(V result) {
+				evictFromCache(context);
+				return result;
+			}
+		});
+	}
+
 	protected abstract CONTEXT initPersistenceContext(Object entity, Options options);
 
 	protected abstract CONTEXT initPersistenceContext(Class<?> entityClass, Object primaryKey, Options options);
@@ -516,4 +916,8 @@ public abstract class PersistenceManager<CONTEXT extends PersistenceContext> {
 		this.configContext = configContext;
 	}
 
+	protected void setEntityCache(EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
 }
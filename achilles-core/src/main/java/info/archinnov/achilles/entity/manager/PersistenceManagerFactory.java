@@ -19,7 +19,12 @@ package info.archinnov.achilles.entity.manager;
 import info.archinnov.achilles.configuration.ArgumentExtractor;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.EntityCache;
+import info.archinnov.achilles.counter.CounterAccumulator;
+import info.archinnov.achilles.counter.CounterAccumulator.Flusher;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.transcoding.BinaryCodec;
+import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.entity.parsing.EntityExplorer;
 import info.archinnov.achilles.entity.parsing.EntityParser;
 import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
@@ -27,20 +32,31 @@ import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.validation.Validator;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 public abstract class PersistenceManagerFactory {
 	private static final Logger log = LoggerFactory.getLogger(PersistenceManagerFactory.class);
 
 	protected Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
 	protected ConfigurationContext configContext;
 	protected List<String> entityPackages;
+	protected Map<String, Long> bootstrapTimings = new LinkedHashMap<String, Long>();
+	protected CounterAccumulator<?> counterAccumulator;
 
 	private EntityParser entityParser = new EntityParser();
 	private EntityExplorer entityExplorer = new EntityExplorer();
@@ -59,15 +75,23 @@ public abstract class PersistenceManagerFactory {
 		log.info("Bootstraping Achilles PersistenceManagerFactory ");
 
 		boolean hasSimpleCounter = false;
+		long start = System.nanoTime();
 		try {
 			hasSimpleCounter = discoverEntities();
 		} catch (Exception e) {
 			throw new AchillesException("Exception during entity parsing : " + e.getMessage(), e);
 		}
+		recordBootstrapPhase("entity discovery", start);
 
 		return hasSimpleCounter;
 	}
 
+	protected void recordBootstrapPhase(String phase, long startNanos) {
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		log.info("Bootstrap phase '{}' done in {} ms", phase, elapsed);
+		bootstrapTimings.put(phase, elapsed);
+	}
+
 	protected boolean discoverEntities() throws ClassNotFoundException, IOException {
 		log.info("Start discovery of entities, searching in packages '{}'", StringUtils.join(entityPackages, ","));
 
@@ -80,6 +104,7 @@ public abstract class PersistenceManagerFactory {
 			entityMetaMap.put(entityClass, entityMeta);
 			hasSimpleCounter = context.getHasSimpleCounter() || hasSimpleCounter;
 		}
+		configContext.setProxyFactories(EntityProxifier.createProxyFactories(entityMetaMap));
 
 		return hasSimpleCounter;
 	}
@@ -93,10 +118,77 @@ public abstract class PersistenceManagerFactory {
 		configContext.setForceColumnFamilyCreation(argumentExtractor.initForceCFCreation(configurationMap));
 		configContext.setConsistencyPolicy(initConsistencyLevelPolicy(configurationMap, argumentExtractor));
 		configContext.setObjectMapperFactory(argumentExtractor.initObjectMapperFactory(configurationMap));
+		configContext.setBinaryTranscodingTargets(argumentExtractor.initBinaryTranscodingTargets(configurationMap));
+		configContext.setBinaryCodec(new BinaryCodec(argumentExtractor.initBinaryTranscodingBeans(configurationMap)));
+		configContext.setEntityCacheTargets(argumentExtractor.initEntityCacheTargets(configurationMap));
+		configContext.setEntityCache(argumentExtractor.initEntityCache(configurationMap));
+		configContext.setScanParallelism(argumentExtractor.initScanParallelism(configurationMap));
+		configContext.setScanTokenRanges(argumentExtractor.initScanTokenRanges(configurationMap));
+		configContext.setScanExecutor(initScanExecutor(configContext.getScanParallelism()));
 
 		return configContext;
 	}
 
+	/**
+	 * Executor loading the chunks of the scans, shared by all the scans of
+	 * this factory. Each scan has at most scanParallelism chunks pending, so
+	 * the queue is bounded by the number of concurrent scans
+	 */
+	private ExecutorService initScanExecutor(int threads) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true)
+						.setNameFormat("achilles-scan-%d").build());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Create the write-behind buffer for counter updates when counter
+	 * coalescing is enabled, return null otherwise
+	 */
+	protected <K> CounterAccumulator<K> initCounterAccumulator(Map<String, Object> configurationMap,
+			ArgumentExtractor argumentExtractor, Flusher<K> flusher) {
+		if (!argumentExtractor.initCounterCoalescing(configurationMap)) {
+			return null;
+		}
+		CounterAccumulator<K> accumulator = new CounterAccumulator<K>(flusher,
+				argumentExtractor.initCounterCoalescingInterval(configurationMap),
+				argumentExtractor.initCounterCoalescingThreshold(configurationMap));
+		counterAccumulator = accumulator;
+		return accumulator;
+	}
+
+	/**
+	 * Write the pending counter updates when counter coalescing is enabled
+	 * and stop the scan executor. Counter updates done after the shutdown are
+	 * not written
+	 */
+	public void shutdown() {
+		log.info("Shutting down Achilles PersistenceManagerFactory");
+		if (configContext != null && configContext.getScanExecutor() != null) {
+			configContext.getScanExecutor().shutdown();
+		}
+		if (counterAccumulator != null) {
+			counterAccumulator.shutdown();
+		}
+	}
+
+	/**
+	 * Hit/miss statistics of the entity cache shared by the
+	 * PersistenceManagers of this factory
+	 */
+	public CacheStats getEntityCacheStats() {
+		EntityCache entityCache = configContext.getEntityCache();
+		return entityCache != null ? entityCache.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Duration in milliseconds of each bootstrap phase, in execution order
+	 */
+	public Map<String, Long> getBootstrapTimings() {
+		return Collections.unmodifiableMap(bootstrapTimings);
+	}
+
 	protected void setEntityPackages(List<String> entityPackages) {
 		this.entityPackages = entityPackages;
 	}
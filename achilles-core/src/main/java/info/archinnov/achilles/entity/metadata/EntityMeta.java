@@ -63,6 +63,8 @@ public class EntityMeta {
 	private PropertyMeta firstMeta;
 	private List<PropertyMeta> allMetasExceptIdMeta;
 	private boolean clusteredCounter = false;
+	private List<PropertyMeta> propertyMetasByOrdinal;
+	private boolean cacheable = false;
 
 	public Object getPrimaryKey(Object entity) {
 		return idMeta.getPrimaryKey(entity);
@@ -227,6 +229,22 @@ public class EntityMeta {
 		this.clusteredCounter = clusteredCounter;
 	}
 
+	public List<PropertyMeta> getPropertyMetasByOrdinal() {
+		return propertyMetasByOrdinal;
+	}
+
+	public void setPropertyMetasByOrdinal(List<PropertyMeta> propertyMetasByOrdinal) {
+		this.propertyMetasByOrdinal = propertyMetasByOrdinal;
+	}
+
+	public boolean isCacheable() {
+		return cacheable;
+	}
+
+	public void setCacheable(boolean cacheable) {
+		this.cacheable = cacheable;
+	}
+
 	public boolean isValueless() {
 		return propertyMetas.size() == 1;
 	}
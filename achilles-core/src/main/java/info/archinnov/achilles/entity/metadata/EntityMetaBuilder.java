@@ -75,6 +75,7 @@ public class EntityMetaBuilder {
 		meta.setClassName(className);
 		meta.setTableName(columnFamilyName);
 		meta.setPropertyMetas(Collections.unmodifiableMap(propertyMetas));
+		meta.setPropertyMetasByOrdinal(Collections.unmodifiableList(assignOrdinals(propertyMetas)));
 		meta.setGetterMetas(Collections.unmodifiableMap(extractGetterMetas(propertyMetas)));
 		meta.setSetterMetas(Collections.unmodifiableMap(extractSetterMetas(propertyMetas)));
 		meta.setConsistencyLevels(consistencyLevels);
@@ -99,6 +100,14 @@ public class EntityMetaBuilder {
 		return meta;
 	}
 
+	private List<PropertyMeta> assignOrdinals(Map<String, PropertyMeta> propertyMetas) {
+		List<PropertyMeta> metasByOrdinal = new ArrayList<PropertyMeta>(propertyMetas.values());
+		for (int ordinal = 0; ordinal < metasByOrdinal.size(); ordinal++) {
+			metasByOrdinal.get(ordinal).setOrdinal(ordinal);
+		}
+		return metasByOrdinal;
+	}
+
 	private Map<Method, PropertyMeta> extractGetterMetas(Map<String, PropertyMeta> propertyMetas) {
 		Map<Method, PropertyMeta> getterMetas = new HashMap<Method, PropertyMeta>();
 		for (PropertyMeta propertyMeta : propertyMetas.values()) {
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.metadata;
 
 import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
+import info.archinnov.achilles.proxy.PropertyAccessor;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
@@ -61,8 +62,11 @@ public class PropertyMeta {
 	private Class<?> idClass;
 	private Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels;
 	private boolean timeUUID = false;
+	private int ordinal;
 	private DataTranscoder transcoder;
 	private ReflectionInvoker invoker = new ReflectionInvoker();
+	private PropertyAccessor accessor;
+	private Object columnNameTemplate;
 
 	public List<Method> getComponentGetters() {
 		List<Method> compGetters = new ArrayList<Method>();
@@ -266,6 +270,14 @@ public class PropertyMeta {
 		return transcoder.forceDecodeFromJSON(cassandraValue, valueClass);
 	}
 
+	public String forceEncode(Object object) {
+		return transcoder.forceEncode(object);
+	}
+
+	public Object forceDecode(String cassandraValue) {
+		return transcoder.forceDecode(cassandraValue, valueClass);
+	}
+
 	public Object getPrimaryKey(Object entity) {
 		if (type.isId()) {
 			return invoker.getPrimaryKey(entity, this);
@@ -298,23 +310,39 @@ public class PropertyMeta {
 	}
 
 	public Object getValueFromField(Object target) {
+		if (accessor != null) {
+			return accessor.getValue(target);
+		}
 		return invoker.getValueFromField(target, getter);
 	}
 
 	public List<?> getListValueFromField(Object target) {
+		if (accessor != null) {
+			return (List<?>) accessor.getValue(target);
+		}
 		return invoker.getListValueFromField(target, getter);
 	}
 
 	public Set<?> getSetValueFromField(Object target) {
+		if (accessor != null) {
+			return (Set<?>) accessor.getValue(target);
+		}
 		return invoker.getSetValueFromField(target, getter);
 	}
 
 	public Map<?, ?> getMapValueFromField(Object target) {
+		if (accessor != null) {
+			return (Map<?, ?>) accessor.getValue(target);
+		}
 		return invoker.getMapValueFromField(target, getter);
 	}
 
 	public void setValueToField(Object target, Object args) {
-		invoker.setValueToField(target, setter, args);
+		if (accessor != null) {
+			accessor.setValue(target, args);
+		} else {
+			invoker.setValueToField(target, setter, args);
+		}
 	}
 
 	public Class<?> getValueClassForTableCreation() {
@@ -438,6 +466,14 @@ public class PropertyMeta {
 		this.invoker = invoker;
 	}
 
+	public PropertyAccessor getAccessor() {
+		return accessor;
+	}
+
+	public void setAccessor(PropertyAccessor accessor) {
+		this.accessor = accessor;
+	}
+
 	public boolean isTimeUUID() {
 		return timeUUID;
 	}
@@ -446,6 +482,30 @@ public class PropertyMeta {
 		this.timeUUID = timeUUID;
 	}
 
+	/**
+	 * Dense index of this property within its entity, assigned when the
+	 * EntityMeta is built
+	 */
+	public int getOrdinal() {
+		return ordinal;
+	}
+
+	public void setOrdinal(int ordinal) {
+		this.ordinal = ordinal;
+	}
+
+	/**
+	 * Column names of this property serialized once by the implementation,
+	 * when the PersistenceManagerFactory is bootstrapped
+	 */
+	public Object getColumnNameTemplate() {
+		return columnNameTemplate;
+	}
+
+	public void setColumnNameTemplate(Object columnNameTemplate) {
+		this.columnNameTemplate = columnNameTemplate;
+	}
+
 	@Override
 	public String toString() {
 		return Objects.toStringHelper(this.getClass()).add("type", type).add("entityClassName", entityClassName)
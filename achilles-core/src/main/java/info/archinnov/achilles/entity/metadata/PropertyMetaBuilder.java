@@ -16,8 +16,9 @@
  */
 package info.archinnov.achilles.entity.metadata;
 
+import info.archinnov.achilles.entity.metadata.transcoding.AbstractTranscoder;
+import info.archinnov.achilles.entity.metadata.transcoding.BinaryCodec;
 import info.archinnov.achilles.entity.metadata.transcoding.CompoundTranscoder;
-import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.ListTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.MapTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.SetTranscoder;
@@ -44,6 +45,8 @@ public class PropertyMetaBuilder {
 	private EmbeddedIdProperties embeddedIdProperties;
 	private Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels;
 	private boolean timeUUID = false;
+	private BinaryCodec binaryCodec;
+	private boolean binaryTranscoding = false;
 
 	public static PropertyMetaBuilder factory() {
 		return new PropertyMetaBuilder();
@@ -81,7 +84,15 @@ public class PropertyMetaBuilder {
 
 		meta.setCounterProperties(counterProperties);
 		meta.setConsistencyLevels(consistencyLevels);
-		meta.setTranscoder(determineTranscoder(isCompound));
+		AbstractTranscoder transcoder = determineTranscoder(isCompound);
+		if (transcoder != null) {
+			if (binaryCodec != null) {
+				transcoder.setBinaryCodec(binaryCodec);
+			}
+			transcoder.setBinaryEncoding(binaryTranscoding);
+			transcoder.warmUp(keyClass, valueClass);
+		}
+		meta.setTranscoder(transcoder);
 		meta.setTimeUUID(timeUUID);
 
 		return meta;
@@ -117,7 +128,17 @@ public class PropertyMetaBuilder {
 		return this;
 	}
 
-	private DataTranscoder determineTranscoder(boolean isCompound) {
+	public PropertyMetaBuilder binaryCodec(BinaryCodec binaryCodec) {
+		this.binaryCodec = binaryCodec;
+		return this;
+	}
+
+	public PropertyMetaBuilder binaryTranscoding(boolean binaryTranscoding) {
+		this.binaryTranscoding = binaryTranscoding;
+		return this;
+	}
+
+	private AbstractTranscoder determineTranscoder(boolean isCompound) {
 		switch (type) {
 		case EMBEDDED_ID:
 			return new CompoundTranscoder(objectMapper);
@@ -24,13 +24,21 @@ import info.archinnov.achilles.proxy.ReflectionInvoker;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.ObjectWriter;
 
 public abstract class AbstractTranscoder implements DataTranscoder {
 
 	protected ObjectMapper objectMapper;
 	protected ReflectionInvoker invoker = new ReflectionInvoker();
+	protected BinaryCodec binaryCodec = BinaryCodec.DEFAULT;
+	protected boolean binaryEncoding = false;
+	private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<Class<?>, ObjectReader>();
+	private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<Class<?>, ObjectWriter>();
 
 	public AbstractTranscoder(ObjectMapper objectMapper) {
 		this.objectMapper = objectMapper;
@@ -118,6 +126,8 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 			return entityValue;
 		} else if (sourceType.isEnum()) {
 			return ((Enum<?>) entityValue).name();
+		} else if (binaryEncoding) {
+			return binaryCodec.encode(entityValue, objectMapper);
 		} else {
 			return forceEncodeToJSON(entityValue);
 		}
@@ -130,7 +140,7 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 		} else if (targetType.isEnum()) {
 			return Enum.valueOf((Class) targetType, (String) cassandraValue);
 		} else if (cassandraValue instanceof String) {
-			return forceDecodeFromJSON((String) cassandraValue, targetType);
+			return forceDecode((String) cassandraValue, targetType);
 		} else {
 			throw new AchillesException("Error while decoding value '" + cassandraValue + "' to type '"
 					+ targetType.getCanonicalName() + "'");
@@ -147,6 +157,10 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 			} else {
 				try {
 
+					ObjectWriter writer = writerFor(object.getClass());
+					if (writer != null) {
+						return writer.writeValueAsString(object);
+					}
 					return this.objectMapper.writeValueAsString(object);
 				} catch (Exception e) {
 					throw new AchillesException("Error while encoding value '" + object + "'", e);
@@ -157,6 +171,24 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 		return result;
 	}
 
+	@Override
+	public String forceEncode(Object object) {
+		if (binaryEncoding && object != null && !isSupportedType(object.getClass())
+				&& !object.getClass().isEnum()) {
+			return binaryCodec.encode(object, objectMapper);
+		}
+		return forceEncodeToJSON(object);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T forceDecode(String cassandraValue, Class<T> targetType) {
+		if (BinaryCodec.isBinaryEncoded(cassandraValue) && targetType != String.class) {
+			return (T) binaryCodec.decode(cassandraValue, targetType, objectMapper);
+		}
+		return forceDecodeFromJSON(cassandraValue, targetType);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T forceDecodeFromJSON(String cassandraValue, Class<T> targetType) {
@@ -168,6 +200,10 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 				result = (T) cassandraValue;
 			} else {
 				try {
+					ObjectReader reader = readerFor(targetType);
+					if (reader != null) {
+						return reader.<T> readValue(cassandraValue);
+					}
 					return objectMapper.readValue(cassandraValue, targetType);
 				} catch (Exception e) {
 					throw new AchillesException("Error while decoding value '" + cassandraValue + "' to type '"
@@ -177,4 +213,49 @@ public abstract class AbstractTranscoder implements DataTranscoder {
 		}
 		return result;
 	}
+
+	/**
+	 * Resolve the JSON readers/writers of the given types once, so that the
+	 * first read/write of a property does not pay the type introspection cost
+	 */
+	public void warmUp(Class<?>... types) {
+		for (Class<?> type : types) {
+			if (type != null && type != String.class && !isSupportedType(type) && !type.isEnum()) {
+				readerFor(type);
+				writerFor(type);
+			}
+		}
+	}
+
+	ObjectReader readerFor(Class<?> type) {
+		ObjectReader reader = readers.get(type);
+		if (reader == null && objectMapper != null) {
+			reader = objectMapper.reader(type);
+			if (reader != null) {
+				ObjectReader existing = readers.putIfAbsent(type, reader);
+				reader = existing != null ? existing : reader;
+			}
+		}
+		return reader;
+	}
+
+	ObjectWriter writerFor(Class<?> type) {
+		ObjectWriter writer = writers.get(type);
+		if (writer == null && objectMapper != null) {
+			writer = objectMapper.writerWithType(type);
+			if (writer != null) {
+				ObjectWriter existing = writers.putIfAbsent(type, writer);
+				writer = existing != null ? existing : writer;
+			}
+		}
+		return writer;
+	}
+
+	public void setBinaryCodec(BinaryCodec binaryCodec) {
+		this.binaryCodec = binaryCodec;
+	}
+
+	public void setBinaryEncoding(boolean binaryEncoding) {
+		this.binaryEncoding = binaryEncoding;
+	}
 }
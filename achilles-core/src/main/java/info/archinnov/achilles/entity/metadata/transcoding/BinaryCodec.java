@@ -0,0 +1,469 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.metadata.transcoding;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.codec.binary.Base64;
+import org.codehaus.jackson.map.ObjectMapper;
+
+import com.google.common.base.Charsets;
+import com.google.common.primitives.Primitives;
+
+/**
+ * Compact binary encoding for values that are not native Cassandra types.
+ * Values are written as tagged, length-prefixed fields and stored as a
+ * Base64 string behind a versioned header, so columns written as JSON can
+ * still be read.
+ *
+ * Only the bean types given at construction are encoded field by field. Their
+ * field layout ignores Jackson annotations, so types using them are rejected.
+ * Each bean is written with a fingerprint of its field layout and a short hash
+ * of each field name. When the fingerprint does not match the current layout,
+ * the fields are matched by name and values whose type changed are converted
+ * with the ObjectMapper, as a JSON value would be. Any other type (other
+ * beans, arrays, java.* classes...) is embedded as JSON
+ */
+public class BinaryCodec {
+
+	/**
+	 * Codec without binary encoded bean types, used to read binary values
+	 * when binary transcoding is not enabled
+	 */
+	public static final BinaryCodec DEFAULT = new BinaryCodec(Collections.<Class<?>> emptySet());
+
+	static final String HEADER_PREFIX = "#b";
+	static final char VERSION = '1';
+	static final String HEADER = HEADER_PREFIX + VERSION + ":";
+
+	private static final byte NULL = 0;
+	private static final byte BOOLEAN = 1;
+	private static final byte BYTE = 2;
+	private static final byte SHORT = 3;
+	private static final byte INT = 4;
+	private static final byte LONG = 5;
+	private static final byte FLOAT = 6;
+	private static final byte DOUBLE = 7;
+	private static final byte CHAR = 8;
+	private static final byte STRING = 9;
+	private static final byte ENUM = 10;
+	private static final byte UUID_TYPE = 11;
+	private static final byte DATE = 12;
+	private static final byte BYTES = 13;
+	private static final byte LIST = 14;
+	private static final byte SET = 15;
+	private static final byte MAP = 16;
+	private static final byte BEAN = 17;
+	private static final byte JSON = 18;
+
+	private final Map<Class<?>, BeanLayout> layouts = new HashMap<Class<?>, BeanLayout>();
+
+	public BinaryCodec(Set<Class<?>> beanTypes) {
+		for (Class<?> beanType : beanTypes) {
+			layouts.put(beanType, new BeanLayout(beanType));
+		}
+	}
+
+	public static boolean isBinaryEncoded(String cassandraValue) {
+		return cassandraValue != null && cassandraValue.startsWith(HEADER_PREFIX);
+	}
+
+	public String encode(Object value, ObjectMapper objectMapper) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		try {
+			writeValue(out, value, objectMapper);
+			out.flush();
+		} catch (Exception e) {
+			throw new AchillesException("Error while binary encoding value '" + value + "'", e);
+		}
+		return HEADER + new String(Base64.encodeBase64(bytes.toByteArray()), Charsets.US_ASCII);
+	}
+
+	public Object decode(String cassandraValue, Type targetType, ObjectMapper objectMapper) {
+		if (cassandraValue.length() < HEADER.length() || cassandraValue.charAt(HEADER_PREFIX.length()) != VERSION
+				|| cassandraValue.charAt(HEADER.length() - 1) != ':') {
+			throw new AchillesException("Unsupported binary encoding header for value '" + cassandraValue + "'");
+		}
+		byte[] bytes = Base64.decodeBase64(cassandraValue.substring(HEADER.length()).getBytes(Charsets.US_ASCII));
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		try {
+			return readValue(in, targetType, objectMapper);
+		} catch (AchillesException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new AchillesException("Error while binary decoding value '" + cassandraValue + "' to type '"
+					+ targetType + "'", e);
+		}
+	}
+
+	private void writeValue(DataOutputStream out, Object value, ObjectMapper objectMapper) throws Exception {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof Byte) {
+			out.writeByte(BYTE);
+			out.writeByte((Byte) value);
+		} else if (value instanceof Short) {
+			out.writeByte(SHORT);
+			out.writeShort((Short) value);
+		} else if (value instanceof Integer) {
+			out.writeByte(INT);
+			out.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			out.writeByte(LONG);
+			out.writeLong((Long) value);
+		} else if (value instanceof Float) {
+			out.writeByte(FLOAT);
+			out.writeFloat((Float) value);
+		} else if (value instanceof Double) {
+			out.writeByte(DOUBLE);
+			out.writeDouble((Double) value);
+		} else if (value instanceof Character) {
+			out.writeByte(CHAR);
+			out.writeChar((Character) value);
+		} else if (value instanceof String) {
+			out.writeByte(STRING);
+			writeString(out, (String) value);
+		} else if (value instanceof Enum<?>) {
+			out.writeByte(ENUM);
+			writeString(out, ((Enum<?>) value).name());
+		} else if (value instanceof UUID) {
+			out.writeByte(UUID_TYPE);
+			out.writeLong(((UUID) value).getMostSignificantBits());
+			out.writeLong(((UUID) value).getLeastSignificantBits());
+		} else if (value instanceof Date) {
+			out.writeByte(DATE);
+			out.writeLong(((Date) value).getTime());
+		} else if (value instanceof byte[]) {
+			out.writeByte(BYTES);
+			writeLength(out, ((byte[]) value).length);
+			out.write((byte[]) value);
+		} else if (value instanceof List<?>) {
+			out.writeByte(LIST);
+			writeCollection(out, (List<?>) value, objectMapper);
+		} else if (value instanceof Set<?>) {
+			out.writeByte(SET);
+			writeCollection(out, (Set<?>) value, objectMapper);
+		} else if (value instanceof Map<?, ?>) {
+			out.writeByte(MAP);
+			writeLength(out, ((Map<?, ?>) value).size());
+			for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				writeValue(out, entry.getKey(), objectMapper);
+				writeValue(out, entry.getValue(), objectMapper);
+			}
+		} else if (layouts.containsKey(value.getClass())) {
+			out.writeByte(BEAN);
+			BeanLayout layout = layouts.get(value.getClass());
+			out.writeInt(layout.fingerprint);
+			writeLength(out, layout.fields.size());
+			for (Field field : layout.fields) {
+				out.writeShort(nameHash(field));
+				writeValue(out, field.get(value), objectMapper);
+			}
+		} else {
+			out.writeByte(JSON);
+			writeString(out, objectMapper.writeValueAsString(value));
+		}
+	}
+
+	private void writeCollection(DataOutputStream out, Collection<?> collection, ObjectMapper objectMapper)
+			throws Exception {
+		writeLength(out, collection.size());
+		for (Object element : collection) {
+			writeValue(out, element, objectMapper);
+		}
+	}
+
+	private void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes("UTF-8");
+		writeLength(out, bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Lengths are written 7 bits per byte, so that short strings and
+	 * collections only take one byte of length
+	 */
+	private void writeLength(DataOutputStream out, int length) throws IOException {
+		int remaining = length;
+		while ((remaining & ~0x7F) != 0) {
+			out.writeByte((remaining & 0x7F) | 0x80);
+			remaining >>>= 7;
+		}
+		out.writeByte(remaining);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object readValue(DataInputStream in, Type type, ObjectMapper objectMapper) throws Exception {
+		byte tag = in.readByte();
+		switch (tag) {
+		case NULL:
+			return null;
+		case BOOLEAN:
+			return in.readBoolean();
+		case BYTE:
+			return in.readByte();
+		case SHORT:
+			return in.readShort();
+		case INT:
+			return in.readInt();
+		case LONG:
+			return in.readLong();
+		case FLOAT:
+			return in.readFloat();
+		case DOUBLE:
+			return in.readDouble();
+		case CHAR:
+			return in.readChar();
+		case STRING:
+			return readString(in);
+		case ENUM:
+			String name = readString(in);
+			return rawClass(type).isEnum() ? Enum.valueOf((Class) rawClass(type), name) : name;
+		case UUID_TYPE:
+			return new UUID(in.readLong(), in.readLong());
+		case DATE:
+			return new Date(in.readLong());
+		case BYTES:
+			byte[] bytes = new byte[readLength(in)];
+			in.readFully(bytes);
+			return bytes;
+		case LIST:
+			return readCollection(in, type, List.class, new ArrayList<Object>(), objectMapper);
+		case SET:
+			return readCollection(in, type, Set.class, new HashSet<Object>(), objectMapper);
+		case MAP:
+			return readMap(in, type, objectMapper);
+		case BEAN:
+			return readBean(in, type, objectMapper);
+		case JSON:
+			return objectMapper.readValue(readString(in), objectMapper.getTypeFactory().constructType(type));
+		default:
+			throw new AchillesException("Unknown binary encoding tag '" + tag + "' for type '" + type + "'");
+		}
+	}
+
+	private Collection<Object> readCollection(DataInputStream in, Type type, Class<?> baseType,
+			Collection<Object> defaultCollection, ObjectMapper objectMapper) throws Exception {
+		Collection<Object> collection = newInstanceOrDefault(rawClass(type), baseType, defaultCollection);
+		Type elementType = typeArgument(type, 0);
+		int size = readLength(in);
+		for (int i = 0; i < size; i++) {
+			collection.add(readValue(in, elementType, objectMapper));
+		}
+		return collection;
+	}
+
+	private Map<Object, Object> readMap(DataInputStream in, Type type, ObjectMapper objectMapper) throws Exception {
+		Map<Object, Object> map = newInstanceOrDefault(rawClass(type), Map.class, new HashMap<Object, Object>());
+		Type keyType = typeArgument(type, 0);
+		Type valueType = typeArgument(type, 1);
+		int size = readLength(in);
+		for (int i = 0; i < size; i++) {
+			Object key = readValue(in, keyType, objectMapper);
+			map.put(key, readValue(in, valueType, objectMapper));
+		}
+		return map;
+	}
+
+	private Object readBean(DataInputStream in, Type type, ObjectMapper objectMapper) throws Exception {
+		Class<?> beanClass = rawClass(type);
+		BeanLayout layout = layouts.get(beanClass);
+		int fingerprint = in.readInt();
+		int size = readLength(in);
+		if (layout == null) {
+			for (int i = 0; i < size; i++) {
+				in.readShort();
+				readValue(in, Object.class, objectMapper);
+			}
+			if (beanClass == Object.class) {
+				return null;
+			}
+			throw new AchillesException("Binary encoded value of type '" + beanClass.getCanonicalName()
+					+ "' cannot be read since this type is not binary encoded");
+		}
+
+		Object bean = layout.constructor.newInstance();
+		if (fingerprint == layout.fingerprint) {
+			for (Field field : layout.fields) {
+				in.readShort();
+				setField(bean, field, readValue(in, field.getGenericType(), objectMapper));
+			}
+		} else {
+			for (int i = 0; i < size; i++) {
+				Field field = layout.fieldsByHash.get(in.readShort());
+				if (field == null) {
+					readValue(in, Object.class, objectMapper);
+				} else {
+					Object fieldValue = readValue(in, field.getGenericType(), objectMapper);
+					if (fieldValue != null && !Primitives.wrap(field.getType()).isInstance(fieldValue)) {
+						fieldValue = objectMapper.convertValue(fieldValue,
+								objectMapper.getTypeFactory().constructType(field.getGenericType()));
+					}
+					setField(bean, field, fieldValue);
+				}
+			}
+		}
+		return bean;
+	}
+
+	private void setField(Object bean, Field field, Object fieldValue) throws IllegalAccessException {
+		if (fieldValue != null || !field.getType().isPrimitive()) {
+			field.set(bean, fieldValue);
+		}
+	}
+
+	private String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return new String(bytes, "UTF-8");
+	}
+
+	private int readLength(DataInputStream in) throws IOException {
+		int length = 0;
+		int shift = 0;
+		byte current;
+		do {
+			current = in.readByte();
+			length |= (current & 0x7F) << shift;
+			shift += 7;
+		} while ((current & 0x80) != 0);
+		return length;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T newInstanceOrDefault(Class<?> rawClass, Class<?> baseType, T defaultInstance) throws Exception {
+		if (baseType.isAssignableFrom(rawClass) && !rawClass.isInterface()
+				&& !Modifier.isAbstract(rawClass.getModifiers())) {
+			return (T) rawClass.newInstance();
+		}
+		return defaultInstance;
+	}
+
+	private Class<?> rawClass(Type type) {
+		if (type instanceof Class<?>) {
+			return (Class<?>) type;
+		} else if (type instanceof ParameterizedType) {
+			return (Class<?>) ((ParameterizedType) type).getRawType();
+		}
+		return Object.class;
+	}
+
+	private Type typeArgument(Type type, int index) {
+		if (type instanceof ParameterizedType) {
+			Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+			if (index < arguments.length) {
+				return arguments[index];
+			}
+		}
+		return Object.class;
+	}
+
+	private static short nameHash(Field field) {
+		return (short) field.getName().hashCode();
+	}
+
+	private static class BeanLayout {
+		private final Constructor<?> constructor;
+		private final List<Field> fields = new ArrayList<Field>();
+		private final Map<Short, Field> fieldsByHash = new HashMap<Short, Field>();
+		private final int fingerprint;
+
+		private BeanLayout(Class<?> beanClass) {
+			String className = beanClass.getCanonicalName();
+			Validator.validateFalse(beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())
+					|| beanClass.isEnum() || beanClass.isArray() || beanClass.getName().startsWith("java."),
+					"The type '%s' cannot be binary encoded field by field", className);
+			try {
+				constructor = beanClass.getDeclaredConstructor();
+			} catch (NoSuchMethodException e) {
+				throw new AchillesException("The binary encoded type '" + className
+						+ "' should have a default constructor", e);
+			}
+			constructor.setAccessible(true);
+
+			for (Class<?> current = beanClass; current != null && current != Object.class; current = current
+					.getSuperclass()) {
+				validateNoJacksonAnnotation(className, current.getAnnotations());
+				for (Method method : current.getDeclaredMethods()) {
+					validateNoJacksonAnnotation(className, method.getAnnotations());
+				}
+				for (Field field : current.getDeclaredFields()) {
+					validateNoJacksonAnnotation(className, field.getAnnotations());
+					int modifiers = field.getModifiers();
+					if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+						field.setAccessible(true);
+						fields.add(field);
+					}
+				}
+			}
+			Collections.sort(fields, new Comparator<Field>() {
+				@Override
+				public int compare(Field field1, Field field2) {
+					return field1.getName().compareTo(field2.getName());
+				}
+			});
+
+			StringBuilder signature = new StringBuilder();
+			for (Field field : fields) {
+				Field sameHash = fieldsByHash.put(nameHash(field), field);
+				Validator.validateTrue(sameHash == null,
+						"The fields '%s' and '%s' of the binary encoded type '%s' have the same name hash",
+						field.getName(), sameHash != null ? sameHash.getName() : null, className);
+				signature.append(field.getName()).append(':').append(field.getGenericType()).append(';');
+			}
+			fingerprint = signature.toString().hashCode();
+		}
+
+		private static void validateNoJacksonAnnotation(String className, Annotation[] annotations) {
+			for (Annotation annotation : annotations) {
+				Validator.validateFalse(annotation.annotationType().getName().startsWith("org.codehaus.jackson"),
+						"The binary encoded type '%s' should not use the Jackson annotation '%s'", className,
+						annotation.annotationType().getSimpleName());
+			}
+		}
+	}
+}
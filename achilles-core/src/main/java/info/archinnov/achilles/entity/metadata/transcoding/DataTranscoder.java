@@ -41,6 +41,8 @@ public interface DataTranscoder {
 
 	public String forceEncodeToJSON(Object object);
 
+	public String forceEncode(Object object);
+
 	// Decode
 	public Object decode(PropertyMeta pm, Object cassandraValue);
 
@@ -55,4 +57,6 @@ public interface DataTranscoder {
 	public Object decodeFromComponents(PropertyMeta pm, List<?> components);
 
 	public <T> T forceDecodeFromJSON(String cassandraValue, Class<T> targetType);
+
+	public <T> T forceDecode(String cassandraValue, Class<T> targetType);
 }
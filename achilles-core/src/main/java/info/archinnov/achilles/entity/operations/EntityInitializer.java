@@ -26,6 +26,8 @@ import info.archinnov.achilles.type.Counter;
 import info.archinnov.achilles.type.CounterBuilder;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -77,4 +79,49 @@ public class EntityInitializer {
 			}
 		}
 	}
+
+	/**
+	 * Initialize entities of the same class, loading each lazy property and
+	 * counter for all of them at once instead of entity by entity
+	 */
+	public <T, CONTEXT extends PersistenceContext> void initializeEntities(List<T> entities, EntityMeta entityMeta,
+			List<EntityInterceptor<CONTEXT, T>> interceptors, EntityLoader<CONTEXT> loader) {
+
+		log.debug("Initializing lazy fields for {} entities of class {}", entities.size(), entityMeta.getClassName());
+
+		List<PropertyMeta> allLazyMetas = FluentIterable.from(entityMeta.getPropertyMetas().values()).filter(lazyType)
+				.toImmutableList();
+
+		for (PropertyMeta propertyMeta : allLazyMetas) {
+			if (propertyMeta.isCounter()) {
+				List<CONTEXT> contexts = new ArrayList<CONTEXT>();
+				for (EntityInterceptor<CONTEXT, T> interceptor : interceptors) {
+					contexts.add(interceptor.getContext());
+				}
+				List<Long> counterValues = loader.loadCounters(contexts, propertyMeta);
+				for (int i = 0; i < interceptors.size(); i++) {
+					Object realObject = interceptors.get(i).getTarget();
+					propertyMeta.setValueToField(realObject, CounterBuilder.incr(counterValues.get(i)));
+				}
+			} else {
+				List<EntityInterceptor<CONTEXT, T>> toBeLoaded = new ArrayList<EntityInterceptor<CONTEXT, T>>();
+				List<CONTEXT> contexts = new ArrayList<CONTEXT>();
+				List<Object> realObjects = new ArrayList<Object>();
+				for (EntityInterceptor<CONTEXT, T> interceptor : interceptors) {
+					if (!interceptor.isLoaded(propertyMeta)) {
+						toBeLoaded.add(interceptor);
+						contexts.add(interceptor.getContext());
+						realObjects.add(interceptor.getTarget());
+					}
+				}
+				if (!toBeLoaded.isEmpty()) {
+					log.trace("Loading property {} for {} entities", propertyMeta.getPropertyName(), toBeLoaded.size());
+					loader.loadPropertyIntoObjects(contexts, realObjects, propertyMeta);
+					for (EntityInterceptor<CONTEXT, T> interceptor : toBeLoaded) {
+						interceptor.markLoaded(propertyMeta);
+					}
+				}
+			}
+		}
+	}
 }
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.operations;
 
 import java.util.Collection;
+import java.util.List;
 
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -27,4 +28,19 @@ public interface EntityLoader<CONTEXT extends PersistenceContext> {
 	public <T> T load(CONTEXT context, Class<T> entityClass);
 	
 	public <V> void loadPropertyIntoObject(CONTEXT context, Object realObject, PropertyMeta propertyMeta);
+
+	/**
+	 * Load the same property for several entities of one class, realObjects
+	 * being aligned with contexts
+	 */
+	public void loadPropertyIntoObjects(List<CONTEXT> contexts, List<Object> realObjects, PropertyMeta propertyMeta);
+
+	/**
+	 * Read the same counter for several entities of one class. The returned
+	 * values are aligned with contexts, null when the counter does not exist.
+	 * Each value is the one Counter.get() of the entity would return: it goes
+	 * through the counter read path of the context and, like Counter.get(),
+	 * does not include the deltas still held by the counter accumulator
+	 */
+	public List<Long> loadCounters(List<CONTEXT> contexts, PropertyMeta counterMeta);
 }
@@ -16,19 +16,27 @@
  */
 package info.archinnov.achilles.entity.operations;
 
+import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.proxy.EntityCallbackFilter;
 import info.archinnov.achilles.proxy.EntityInterceptor;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +44,44 @@ import org.slf4j.LoggerFactory;
 public abstract class EntityProxifier<CONTEXT extends PersistenceContext> {
 	private static final Logger log = LoggerFactory.getLogger(EntityProxifier.class);
 
+	private static final MethodInterceptor PASS_THROUGH = new MethodInterceptor() {
+		@Override
+		public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+			return proxy.invokeSuper(obj, args);
+		}
+	};
+
+	/**
+	 * Generate the proxy classes of the given entities once, so that proxies
+	 * can later be created with {@link Factory#newInstance(Callback[])} without
+	 * going through Enhancer class lookup. The factories are held by the
+	 * configuration context of each PersistenceManagerFactory
+	 */
+	public static Map<Class<?>, Factory> createProxyFactories(Map<Class<?>, EntityMeta> entityMetaMap) {
+		Map<Class<?>, Factory> proxyFactories = new HashMap<Class<?>, Factory>();
+		for (Entry<Class<?>, EntityMeta> entry : entityMetaMap.entrySet()) {
+			Class<?> entityClass = entry.getKey();
+			try {
+				proxyFactories.put(entityClass, createProxyFactory(entityClass, entry.getValue()));
+			} catch (Exception e) {
+				log.warn("Cannot generate proxy class for entity {} : {}", entityClass.getCanonicalName(),
+						e.getMessage());
+			}
+		}
+		return proxyFactories;
+	}
+
+	static Factory createProxyFactory(Class<?> entityClass, EntityMeta entityMeta) {
+		log.debug("Generate proxy class for entity class {}", entityClass.getCanonicalName());
+
+		EntityCallbackFilter callbackFilter = new EntityCallbackFilter(entityMeta);
+		Enhancer enhancer = new Enhancer();
+		enhancer.setSuperclass(entityClass);
+		enhancer.setCallbackFilter(callbackFilter);
+		enhancer.setCallbacks(callbackFilter.buildCallbacks(PASS_THROUGH));
+		return (Factory) enhancer.create();
+	}
+
 	public Class<?> deriveBaseClass(Object entity) {
 		log.debug("Deriving base class for entity {} ", entity);
 
@@ -61,11 +107,22 @@ public abstract class EntityProxifier<CONTEXT extends PersistenceContext> {
 
 		log.debug("Build Cglib proxy for entity {} ", entity);
 
-		Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(entity.getClass());
-		enhancer.setCallback(buildInterceptor(context, entity, alreadyLoaded));
+		Factory factory = getProxyFactory(context, entity.getClass());
+		Callback[] callbacks = factory.getCallbacks();
+		callbacks[0] = buildInterceptor(context, entity, alreadyLoaded);
+		return (T) factory.newInstance(callbacks);
+	}
 
-		return (T) enhancer.create();
+	private Factory getProxyFactory(CONTEXT context, Class<?> entityClass) {
+		ConfigurationContext configContext = context != null ? context.getConfigContext() : null;
+		Factory factory = null;
+		if (configContext != null && configContext.getProxyFactories() != null) {
+			factory = configContext.getProxyFactories().get(entityClass);
+		}
+		if (factory == null) {
+			factory = createProxyFactory(entityClass, context != null ? context.getEntityMeta() : null);
+		}
+		return factory;
 	}
 
 	@SuppressWarnings("unchecked")
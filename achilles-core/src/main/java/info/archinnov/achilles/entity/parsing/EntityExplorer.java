@@ -18,10 +18,16 @@ package info.archinnov.achilles.entity.parsing;
 
 import info.archinnov.achilles.annotations.Entity;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
@@ -32,13 +38,134 @@ import org.slf4j.LoggerFactory;
 public class EntityExplorer {
 	private static final Logger log = LoggerFactory.getLogger(EntityExplorer.class);
 
+	/**
+	 * Index written at compile time by the achilles-processor module
+	 */
+	static final String ENTITY_INDEX = "META-INF/achilles/entities";
+
 	public List<Class<?>> discoverEntities(List<String> packageNames) throws ClassNotFoundException, IOException {
 		log.debug("Discovery of Achilles entity classes in packages {}", StringUtils.join(packageNames, ","));
 
 		Set<Class<?>> candidateClasses = new HashSet<Class<?>>();
-		Reflections reflections = new Reflections(packageNames);
-		candidateClasses.addAll(reflections.getTypesAnnotatedWith(Entity.class));
+		List<String> packagesToScan = new ArrayList<String>();
+		ClassLoader classLoader = getClassLoader();
+		Map<String, List<String>> entityIndexes = readEntityIndexes(classLoader);
+		for (String packageName : packageNames) {
+			Set<Class<?>> indexedEntities = loadIndexedEntities(packageName, entityIndexes, classLoader);
+			if (indexedEntities != null) {
+				candidateClasses.addAll(indexedEntities);
+			} else {
+				packagesToScan.add(packageName);
+			}
+		}
+
+		if (!packagesToScan.isEmpty()) {
+			log.debug("Scanning the classpath for entities of packages {}", StringUtils.join(packagesToScan, ","));
+			candidateClasses.addAll(scanPackages(packagesToScan));
+		}
 		return new ArrayList<Class<?>>(candidateClasses);
 	}
 
+	protected Set<Class<?>> scanPackages(List<String> packageNames) {
+		Reflections reflections = new Reflections(packageNames);
+		return reflections.getTypesAnnotatedWith(Entity.class);
+	}
+
+	/**
+	 * Return the indexed entities of the package, or null when the package
+	 * should be scanned: the index does not cover every classpath root
+	 * containing the package, or it lists a class which is not an entity
+	 * anymore
+	 */
+	private Set<Class<?>> loadIndexedEntities(String packageName, Map<String, List<String>> entityIndexes,
+			ClassLoader classLoader) throws IOException {
+		if (entityIndexes.isEmpty()) {
+			return null;
+		}
+		String packagePath = packageName.replace('.', '/');
+		Set<String> packageRoots = classpathRoots(classLoader.getResources(packagePath), packagePath);
+		Set<String> unindexedRoots = new HashSet<String>(packageRoots);
+		unindexedRoots.removeAll(entityIndexes.keySet());
+		if (packageRoots.isEmpty() || unindexedRoots.size() == packageRoots.size()) {
+			return null;
+		}
+		if (!unindexedRoots.isEmpty()) {
+			log.warn("No Achilles entity index in {} for package {}, scanning the classpath",
+					StringUtils.join(unindexedRoots, ","), packageName);
+			return null;
+		}
+
+		Set<Class<?>> entities = new HashSet<Class<?>>();
+		for (String root : packageRoots) {
+			for (String className : entityIndexes.get(root)) {
+				if (className.startsWith(packageName + ".")) {
+					Class<?> entityClass = loadIndexedEntity(className, classLoader);
+					if (entityClass == null) {
+						log.warn("Achilles entity index in {} is stale, scanning the classpath for package {}", root,
+								packageName);
+						return null;
+					}
+					entities.add(entityClass);
+				}
+			}
+		}
+		return entities;
+	}
+
+	/**
+	 * Read the entity indexes, by classpath root
+	 */
+	private Map<String, List<String>> readEntityIndexes(ClassLoader classLoader) throws IOException {
+		Map<String, List<String>> entityIndexes = new HashMap<String, List<String>>();
+		Enumeration<URL> indexes = classLoader.getResources(ENTITY_INDEX);
+		while (indexes.hasMoreElements()) {
+			URL index = indexes.nextElement();
+			log.debug("Reading Achilles entity index {}", index);
+			List<String> classNames = new ArrayList<String>();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), "UTF-8"));
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (StringUtils.isNotBlank(line)) {
+						classNames.add(line.trim());
+					}
+				}
+			} finally {
+				reader.close();
+			}
+			entityIndexes.put(classpathRoot(index, ENTITY_INDEX), classNames);
+		}
+		return entityIndexes;
+	}
+
+	private Set<String> classpathRoots(Enumeration<URL> resources, String path) {
+		Set<String> roots = new HashSet<String>();
+		while (resources.hasMoreElements()) {
+			roots.add(classpathRoot(resources.nextElement(), path));
+		}
+		return roots;
+	}
+
+	private String classpathRoot(URL resource, String path) {
+		String url = StringUtils.removeEnd(resource.toString(), "/");
+		return StringUtils.removeEnd(url, path);
+	}
+
+	private Class<?> loadIndexedEntity(String className, ClassLoader classLoader) {
+		try {
+			Class<?> entityClass = Class.forName(className, false, classLoader);
+			if (entityClass.isAnnotationPresent(Entity.class)) {
+				return entityClass;
+			}
+			log.warn("Indexed class {} is not annotated with @Entity anymore, ignoring it", className);
+		} catch (ClassNotFoundException e) {
+			log.warn("Indexed entity class {} cannot be found, ignoring it", className);
+		}
+		return null;
+	}
+
+	protected ClassLoader getClassLoader() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		return classLoader != null ? classLoader : EntityExplorer.class.getClassLoader();
+	}
 }
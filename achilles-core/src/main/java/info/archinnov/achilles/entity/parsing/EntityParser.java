@@ -26,12 +26,15 @@ import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
 import info.archinnov.achilles.entity.parsing.context.PropertyParsingContext;
 import info.archinnov.achilles.entity.parsing.validator.EntityParsingValidator;
 import info.archinnov.achilles.helper.EntityIntrospector;
+import info.archinnov.achilles.proxy.PropertyAccessor;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Field;
 import java.util.List;
 
+import net.sf.cglib.reflect.FastClass;
+
 import org.apache.cassandra.utils.Pair;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.slf4j.Logger;
@@ -91,8 +94,10 @@ public class EntityParser {
 				.className(entityClass.getCanonicalName()).columnFamilyName(columnFamilyName)
 				.propertyMetas(context.getPropertyMetas()).consistencyLevels(context.getCurrentConsistencyLevels())
 				.build();
+		entityMeta.setCacheable(context.isEntityCached() && !entityMeta.hasEmbeddedId());
 
 		saveConsistencyLevel(context, columnFamilyName, consistencyLevels);
+		generatePropertyAccessors(entityClass, entityMeta);
 
 		log.trace("Entity meta built for entity class {} : {}", context.getCurrentEntityClass().getCanonicalName(),
 				entityMeta);
@@ -125,6 +130,19 @@ public class EntityParser {
 		}
 	}
 
+	private void generatePropertyAccessors(Class<?> entityClass, EntityMeta entityMeta) {
+		FastClass fastClass = PropertyAccessor.createFastClass(entityClass);
+		if (fastClass != null) {
+			for (PropertyMeta propertyMeta : entityMeta.getAllMetas()) {
+				PropertyAccessor accessor = PropertyAccessor.create(fastClass, propertyMeta.getGetter(),
+						propertyMeta.getSetter());
+				log.trace("Fast accessor generated for property {} of entity class {} : {}",
+						propertyMeta.getPropertyName(), entityClass.getCanonicalName(), accessor != null);
+				propertyMeta.setAccessor(accessor);
+			}
+		}
+	}
+
 	private void saveConsistencyLevel(EntityParsingContext context, String columnFamilyName,
 			Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels) {
 		log.debug("Set default read/write consistency levels {} / {} for column family {}",
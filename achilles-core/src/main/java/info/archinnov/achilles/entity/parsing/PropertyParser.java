@@ -147,7 +147,8 @@ public class PropertyParser {
 				.propertyName(context.getCurrentPropertyName())
 				.entityClassName(context.getCurrentEntityClass().getCanonicalName()).accessors(accessors)
 				.consistencyLevels(context.getCurrentConsistencyLevels()).timeuuid(timeUUID)
-				.build(Void.class, field.getType());
+				.binaryCodec(context.getBinaryCodec())
+				.binaryTranscoding(context.isBinaryTranscoding()).build(Void.class, field.getType());
 
 		log.trace("Built simple property meta for property {} of entity class {} : {}", propertyMeta.getPropertyName(),
 				context.getCurrentEntityClass().getCanonicalName(), propertyMeta);
@@ -203,7 +204,8 @@ public class PropertyParser {
 				.propertyName(context.getCurrentPropertyName())
 				.entityClassName(context.getCurrentEntityClass().getCanonicalName())
 				.consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).timeuuid(timeUUID)
-				.build(Void.class, valueClass);
+				.binaryCodec(context.getBinaryCodec())
+				.binaryTranscoding(context.isBinaryTranscoding()).build(Void.class, valueClass);
 
 		log.trace("Built list property meta for property {} of entity class {} : {}", listMeta.getPropertyName(),
 				context.getCurrentEntityClass().getCanonicalName(), listMeta);
@@ -231,7 +233,8 @@ public class PropertyParser {
 				.propertyName(context.getCurrentPropertyName())
 				.entityClassName(context.getCurrentEntityClass().getCanonicalName())
 				.consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).timeuuid(timeUUID)
-				.build(Void.class, valueClass);
+				.binaryCodec(context.getBinaryCodec())
+				.binaryTranscoding(context.isBinaryTranscoding()).build(Void.class, valueClass);
 
 		log.trace("Built set property meta for property {} of  entity class {} : {}", setMeta.getPropertyName(),
 				context.getCurrentEntityClass().getCanonicalName(), setMeta);
@@ -260,7 +263,8 @@ public class PropertyParser {
 				.propertyName(context.getCurrentPropertyName())
 				.entityClassName(context.getCurrentEntityClass().getCanonicalName())
 				.consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).timeuuid(timeUUID)
-				.build(keyClass, valueClass);
+				.binaryCodec(context.getBinaryCodec())
+				.binaryTranscoding(context.isBinaryTranscoding()).build(keyClass, valueClass);
 
 		log.trace("Built map property meta for property {} of entity class {} : {}", mapMeta.getPropertyName(), context
 				.getCurrentEntityClass().getCanonicalName(), mapMeta);
@@ -16,10 +16,12 @@
  */
 package info.archinnov.achilles.entity.parsing.context;
 
+import info.archinnov.achilles.annotations.Entity;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.ConfigurationContext.Impl;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.transcoding.BinaryCodec;
 import info.archinnov.achilles.json.ObjectMapperFactory;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
@@ -127,4 +129,17 @@ public class EntityParsingContext {
 	public AchillesConsistencyLevelPolicy getConfigurableCLPolicy() {
 		return configContext.getConsistencyPolicy();
 	}
+
+	public boolean isEntityCached() {
+		Entity entity = currentEntityClass.getAnnotation(Entity.class);
+		return (entity != null && entity.cacheable()) || configContext.isEntityCached(currentEntityClass);
+	}
+
+	public boolean isBinaryTranscoding(String propertyName) {
+		return configContext.isBinaryTranscoding(currentEntityClass, propertyName);
+	}
+
+	public BinaryCodec getBinaryCodec() {
+		return configContext.getBinaryCodec();
+	}
 }
@@ -18,6 +18,7 @@ package info.archinnov.achilles.entity.parsing.context;
 
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.transcoding.BinaryCodec;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.lang.reflect.Field;
@@ -65,6 +66,14 @@ public class PropertyParsingContext {
 		this.currentPropertyName = currentPropertyName;
 	}
 
+	public boolean isBinaryTranscoding() {
+		return context.isBinaryTranscoding(currentPropertyName);
+	}
+
+	public BinaryCodec getBinaryCodec() {
+		return context.getBinaryCodec();
+	}
+
 	public List<PropertyMeta> getCounterMetas() {
 		return context.getCounterMetas();
 	}
@@ -0,0 +1,71 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.helper;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.google.common.base.Function;
+
+/**
+ * List applying the function to each element on first access only. Unlike
+ * Lists.transform(), iterating several times or calling get(i) repeatedly
+ * does not run the function again
+ */
+public class MemoizedTransformList<F, T> extends AbstractList<T> implements RandomAccess {
+	private static final Object NOT_TRANSFORMED = new Object();
+
+	private final List<F> sources;
+	private final List<Object> values;
+	private final Function<? super F, ? extends T> function;
+
+	public MemoizedTransformList(List<F> sources, Function<? super F, ? extends T> function) {
+		this.sources = new ArrayList<F>(sources);
+		this.function = function;
+		this.values = new ArrayList<Object>(sources.size());
+		for (int i = 0; i < sources.size(); i++) {
+			values.add(NOT_TRANSFORMED);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T get(int index) {
+		Object value = values.get(index);
+		if (value == NOT_TRANSFORMED) {
+			value = function.apply(sources.get(index));
+			values.set(index, value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	public T remove(int index) {
+		T removed = get(index);
+		sources.remove(index);
+		values.remove(index);
+		modCount++;
+		return removed;
+	}
+
+	@Override
+	public int size() {
+		return sources.size();
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.iterator;
+
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Iterator over the results of a sequence of loading tasks, each task
+ * returning one chunk (token range, page of keys...) of the scanned entities.
+ *
+ * At most 'parallelism' tasks are running or waiting to be consumed at any
+ * time, so memory usage is bounded by the size of that many chunks. Chunks are
+ * returned in the order of the tasks
+ */
+public class ScanIterator<T> implements Iterator<T> {
+
+	private final Iterator<Callable<List<T>>> tasks;
+	private final ExecutorService executor;
+	private final int parallelism;
+	private final LinkedList<Future<List<T>>> pending = new LinkedList<Future<List<T>>>();
+
+	private Iterator<T> current = Collections.<T> emptyList().iterator();
+	private boolean closed;
+
+	public ScanIterator(Iterator<Callable<List<T>>> tasks, ExecutorService executor, int parallelism) {
+		this.tasks = tasks;
+		this.executor = executor;
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!current.hasNext()) {
+			submitTasks();
+			if (pending.isEmpty()) {
+				return false;
+			}
+			Future<List<T>> next = pending.removeFirst();
+			submitTasks();
+			current = await(next).iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return current.next();
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Cannot remove entity from a scan");
+	}
+
+	/**
+	 * Cancel the tasks not consumed yet. To be called when the iteration is
+	 * given up before its end
+	 */
+	public void close() {
+		closed = true;
+		for (Future<List<T>> future : pending) {
+			future.cancel(true);
+		}
+		pending.clear();
+		current = Collections.<T> emptyList().iterator();
+	}
+
+	private void submitTasks() {
+		while (!closed && pending.size() < parallelism && tasks.hasNext()) {
+			pending.add(executor.submit(tasks.next()));
+		}
+	}
+
+	private List<T> await(Future<List<T>> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			close();
+			Thread.currentThread().interrupt();
+			throw new AchillesException("Interrupted while scanning entities", e);
+		} catch (ExecutionException e) {
+			close();
+			throw new AchillesException("Error while scanning entities : " + e.getCause().getMessage(), e.getCause());
+		}
+	}
+}
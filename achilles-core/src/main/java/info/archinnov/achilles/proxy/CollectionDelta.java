@@ -0,0 +1,100 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pending mutation of a List/Set/Map property that can be applied in place,
+ * without rewriting the whole collection. Consecutive mutations of the same
+ * kind are merged
+ */
+public class CollectionDelta {
+
+	public static enum Operation {
+		APPEND, PREPEND, REMOVE, PUT
+	}
+
+	private final Operation operation;
+	private final List<Object> elements = new ArrayList<Object>();
+	private final Map<Object, Object> entries = new LinkedHashMap<Object, Object>();
+
+	public static CollectionDelta append(Collection<?> elements) {
+		CollectionDelta delta = new CollectionDelta(Operation.APPEND);
+		delta.elements.addAll(elements);
+		return delta;
+	}
+
+	public static CollectionDelta prepend(Collection<?> elements) {
+		CollectionDelta delta = new CollectionDelta(Operation.PREPEND);
+		delta.elements.addAll(elements);
+		return delta;
+	}
+
+	public static CollectionDelta remove(Collection<?> elements) {
+		CollectionDelta delta = new CollectionDelta(Operation.REMOVE);
+		delta.elements.addAll(elements);
+		return delta;
+	}
+
+	public static CollectionDelta put(Map<?, ?> entries) {
+		CollectionDelta delta = new CollectionDelta(Operation.PUT);
+		delta.entries.putAll(entries);
+		return delta;
+	}
+
+	private CollectionDelta(Operation operation) {
+		this.operation = operation;
+	}
+
+	/**
+	 * Merge the next mutation into this one. Return false when both cannot be
+	 * expressed as a single delta
+	 */
+	public boolean merge(CollectionDelta next) {
+		if (next.operation != operation) {
+			return false;
+		}
+		switch (operation) {
+			case PREPEND:
+				elements.addAll(0, next.elements);
+				break;
+			case PUT:
+				entries.putAll(next.entries);
+				break;
+			default:
+				elements.addAll(next.elements);
+		}
+		return true;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	public List<Object> getElements() {
+		return elements;
+	}
+
+	public Map<Object, Object> getEntries() {
+		return entries;
+	}
+}
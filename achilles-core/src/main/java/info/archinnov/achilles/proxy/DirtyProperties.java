@@ -0,0 +1,143 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.lang.reflect.Method;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dirty setter map backed by a bitset indexed by property ordinal. Keys are
+ * always the setters of the flagged property metas.
+ *
+ * A dirty List/Set/Map property can also carry a CollectionDelta when all its
+ * mutations since the last flush can be applied in place
+ */
+public class DirtyProperties extends AbstractMap<Method, PropertyMeta> {
+
+	private final Map<Method, PropertyMeta> setterMetas;
+	private final List<PropertyMeta> metasByOrdinal;
+	private final BitSet dirty;
+	private final Map<Integer, CollectionDelta> deltas = new HashMap<Integer, CollectionDelta>();
+
+	public static Map<Method, PropertyMeta> forEntity(EntityMeta entityMeta) {
+		List<PropertyMeta> metasByOrdinal = entityMeta.getPropertyMetasByOrdinal();
+		if (metasByOrdinal == null || metasByOrdinal.isEmpty()) {
+			return new HashMap<Method, PropertyMeta>();
+		}
+		return new DirtyProperties(entityMeta);
+	}
+
+	public DirtyProperties(EntityMeta entityMeta) {
+		this.setterMetas = entityMeta.getSetterMetas();
+		this.metasByOrdinal = entityMeta.getPropertyMetasByOrdinal();
+		this.dirty = new BitSet(metasByOrdinal.size());
+	}
+
+	@Override
+	public PropertyMeta put(Method setter, PropertyMeta propertyMeta) {
+		int ordinal = propertyMeta.getOrdinal();
+		PropertyMeta previous = dirty.get(ordinal) ? propertyMeta : null;
+		dirty.set(ordinal);
+		deltas.remove(ordinal);
+		return previous;
+	}
+
+	public void putDelta(PropertyMeta propertyMeta, CollectionDelta delta) {
+		int ordinal = propertyMeta.getOrdinal();
+		if (!dirty.get(ordinal)) {
+			dirty.set(ordinal);
+			deltas.put(ordinal, delta);
+		} else {
+			CollectionDelta pending = deltas.get(ordinal);
+			if (pending != null && !pending.merge(delta)) {
+				deltas.remove(ordinal);
+			}
+		}
+	}
+
+	public CollectionDelta getDelta(PropertyMeta propertyMeta) {
+		int ordinal = propertyMeta.getOrdinal();
+		return dirty.get(ordinal) ? deltas.get(ordinal) : null;
+	}
+
+	@Override
+	public PropertyMeta get(Object setter) {
+		PropertyMeta propertyMeta = setterMetas.get(setter);
+		return propertyMeta != null && dirty.get(propertyMeta.getOrdinal()) ? propertyMeta : null;
+	}
+
+	@Override
+	public boolean containsKey(Object setter) {
+		return get(setter) != null;
+	}
+
+	@Override
+	public PropertyMeta remove(Object setter) {
+		PropertyMeta propertyMeta = get(setter);
+		if (propertyMeta != null) {
+			dirty.clear(propertyMeta.getOrdinal());
+			deltas.remove(propertyMeta.getOrdinal());
+		}
+		return propertyMeta;
+	}
+
+	@Override
+	public void clear() {
+		dirty.clear();
+		deltas.clear();
+	}
+
+	@Override
+	public int size() {
+		return dirty.cardinality();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return dirty.isEmpty();
+	}
+
+	@Override
+	public Set<Entry<Method, PropertyMeta>> entrySet() {
+		return new AbstractSet<Entry<Method, PropertyMeta>>() {
+			@Override
+			public Iterator<Entry<Method, PropertyMeta>> iterator() {
+				return new OrdinalIterator<Entry<Method, PropertyMeta>>(dirty, metasByOrdinal) {
+					@Override
+					protected Entry<Method, PropertyMeta> element(PropertyMeta propertyMeta) {
+						return new SimpleImmutableEntry<Method, PropertyMeta>(propertyMeta.getSetter(), propertyMeta);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return dirty.cardinality();
+			}
+		};
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
+
+/**
+ * Resolve once, when the proxy class is generated, which callback handles each
+ * method of an entity. The getter and the setter of the property with ordinal
+ * <em>n</em> are bound to the callbacks at index <em>2n + 1</em> and
+ * <em>2n + 2</em>, every other method goes to the {@link EntityInterceptor} at
+ * index 0
+ */
+public class EntityCallbackFilter implements CallbackFilter {
+
+	private final Map<Method, Integer> callbackIndexes = new HashMap<Method, Integer>();
+	private final int propertyCount;
+
+	public EntityCallbackFilter(EntityMeta entityMeta) {
+		List<PropertyMeta> propertyMetas = entityMeta != null ? entityMeta.getPropertyMetasByOrdinal() : null;
+		propertyCount = propertyMetas != null ? propertyMetas.size() : 0;
+		for (int ordinal = 0; ordinal < propertyCount; ordinal++) {
+			PropertyMeta propertyMeta = propertyMetas.get(ordinal);
+			if (propertyMeta.getGetter() != null) {
+				callbackIndexes.put(propertyMeta.getGetter(), 2 * ordinal + 1);
+			}
+			if (propertyMeta.getSetter() != null) {
+				callbackIndexes.put(propertyMeta.getSetter(), 2 * ordinal + 2);
+			}
+		}
+	}
+
+	@Override
+	public int accept(Method method) {
+		Integer index = callbackIndexes.get(method);
+		return index != null ? index : 0;
+	}
+
+	public Callback[] buildCallbacks(Callback entityCallback) {
+		Callback[] callbacks = new Callback[2 * propertyCount + 1];
+		callbacks[0] = entityCallback;
+		for (int ordinal = 0; ordinal < propertyCount; ordinal++) {
+			callbacks[2 * ordinal + 1] = new PropertyInterceptor(ordinal, false);
+			callbacks[2 * ordinal + 2] = new PropertyInterceptor(ordinal, true);
+		}
+		return callbacks;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof EntityCallbackFilter)) {
+			return false;
+		}
+		return callbackIndexes.equals(((EntityCallbackFilter) obj).callbackIndexes);
+	}
+
+	@Override
+	public int hashCode() {
+		return callbackIndexes.hashCode();
+	}
+}
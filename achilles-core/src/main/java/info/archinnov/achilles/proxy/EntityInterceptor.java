@@ -46,10 +46,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 
 	protected T target;
 	protected Object primaryKey;
-	protected Method idGetter;
-	protected Method idSetter;
-	protected Map<Method, PropertyMeta> getterMetas;
-	protected Map<Method, PropertyMeta> setterMetas;
+	protected List<PropertyMeta> propertyMetas;
 	protected Map<Method, PropertyMeta> dirtyMap;
 	protected Set<Method> alreadyLoaded;
 	protected CONTEXT context;
@@ -58,37 +55,45 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		return this.target;
 	}
 
+	/**
+	 * Only methods which are neither getters nor setters of a mapped property
+	 * reach this callback. Property accessors are routed by the callback filter
+	 * of the proxy class to a {@link PropertyInterceptor} which dispatches on
+	 * the property ordinal
+	 */
 	@Override
 	public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
 		log.trace("Method {} called for entity of class {}", method.getName(), target.getClass().getCanonicalName());
 
-		if (idGetter.equals(method)) {
+		return proxy.invoke(target, args);
+	}
+
+	public Object interceptGetter(int ordinal, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+		PropertyMeta propertyMeta = propertyMetas.get(ordinal);
+		if (propertyMeta.type().isId()) {
 			return primaryKey;
-		} else if (idSetter.equals(method)) {
-			throw new IllegalAccessException("Cannot change primary key value for existing entity ");
 		}
+		return interceptGetter(propertyMeta, method, args, proxy);
+	}
 
-		Object result = null;
-		if (this.getterMetas.containsKey(method)) {
-			result = interceptGetter(method, args, proxy);
-		} else if (this.setterMetas.containsKey(method)) {
-			result = interceptSetter(method, args, proxy);
-		} else {
-			result = proxy.invoke(target, args);
+	public Object interceptSetter(int ordinal, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+		PropertyMeta propertyMeta = propertyMetas.get(ordinal);
+		if (propertyMeta.type().isId()) {
+			throw new IllegalAccessException("Cannot change primary key value for existing entity ");
 		}
-		return result;
+		return interceptSetter(propertyMeta, method, args, proxy);
 	}
 
-	private <K, V> Object interceptGetter(Method method, Object[] args, MethodProxy proxy) throws Throwable {
+	private <K, V> Object interceptGetter(PropertyMeta propertyMeta, Method method, Object[] args, MethodProxy proxy)
+			throws Throwable {
 		Object result = null;
-		PropertyMeta propertyMeta = this.getterMetas.get(method);
 
 		// Load fields into target object
-		if (!propertyMeta.isCounter() && !this.alreadyLoaded.contains(method)) {
+		if (!propertyMeta.isCounter() && !isLoaded(propertyMeta)) {
 			log.trace("Loading property {}", propertyMeta.getPropertyName());
 
 			loader.loadPropertyIntoObject(context, target, propertyMeta);
-			alreadyLoaded.add(method);
+			markLoaded(propertyMeta);
 		}
 
 		log.trace("Invoking getter {} on real object", method.getName());
@@ -110,7 +115,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 				@SuppressWarnings("unchecked")
 				List<Object> list = (List<Object>) rawValue;
 				result = ListWrapperBuilder.builder(context, list).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
-						.propertyMeta(this.getPropertyMetaByProperty(method)).proxifier(proxifier).build();
+						.propertyMeta(propertyMeta).proxifier(proxifier).build();
 			}
 			break;
 		case SET:
@@ -122,7 +127,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 				@SuppressWarnings("unchecked")
 				Set<Object> set = (Set<Object>) rawValue;
 				result = SetWrapperBuilder.builder(context, set).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
-						.propertyMeta(this.getPropertyMetaByProperty(method)).proxifier(proxifier).build();
+						.propertyMeta(propertyMeta).proxifier(proxifier).build();
 			}
 			break;
 		case MAP:
@@ -136,7 +141,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 				result = MapWrapperBuilder
 						//
 						.builder(context, map).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
-						.propertyMeta(this.getPropertyMetaByProperty(method)).proxifier(proxifier).build();
+						.propertyMeta(propertyMeta).proxifier(proxifier).build();
 			}
 			break;
 		default:
@@ -151,8 +156,8 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 
 	protected abstract Counter buildCounterWrapper(PropertyMeta propertyMeta);
 
-	private Object interceptSetter(Method method, Object[] args, MethodProxy proxy) throws Throwable {
-		PropertyMeta propertyMeta = this.setterMetas.get(method);
+	private Object interceptSetter(PropertyMeta propertyMeta, Method method, Object[] args, MethodProxy proxy)
+			throws Throwable {
 		Object result = null;
 
 		switch (propertyMeta.type()) {
@@ -164,7 +169,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		}
 
 		if (propertyMeta.type().isLazy()) {
-			this.alreadyLoaded.add(propertyMeta.getGetter());
+			markLoaded(propertyMeta);
 		}
 		log.trace("Flaging property {}", propertyMeta.getPropertyName());
 
@@ -173,6 +178,21 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		return result;
 	}
 
+	public boolean isLoaded(PropertyMeta propertyMeta) {
+		if (alreadyLoaded instanceof LoadedProperties) {
+			return ((LoadedProperties) alreadyLoaded).containsOrdinal(propertyMeta.getOrdinal());
+		}
+		return alreadyLoaded.contains(propertyMeta.getGetter());
+	}
+
+	public void markLoaded(PropertyMeta propertyMeta) {
+		if (alreadyLoaded instanceof LoadedProperties) {
+			((LoadedProperties) alreadyLoaded).addOrdinal(propertyMeta.getOrdinal());
+		} else {
+			alreadyLoaded.add(propertyMeta.getGetter());
+		}
+	}
+
 	public Map<Method, PropertyMeta> getDirtyMap() {
 		return dirtyMap;
 	}
@@ -193,20 +213,8 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		this.primaryKey = key;
 	}
 
-	void setIdGetter(Method idGetter) {
-		this.idGetter = idGetter;
-	}
-
-	void setIdSetter(Method idSetter) {
-		this.idSetter = idSetter;
-	}
-
-	void setGetterMetas(Map<Method, PropertyMeta> getterMetas) {
-		this.getterMetas = getterMetas;
-	}
-
-	void setSetterMetas(Map<Method, PropertyMeta> setterMetas) {
-		this.setterMetas = setterMetas;
+	void setPropertyMetas(List<PropertyMeta> propertyMetas) {
+		this.propertyMetas = propertyMetas;
 	}
 
 	void setDirtyMap(Map<Method, PropertyMeta> dirtyMap) {
@@ -225,10 +233,6 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
 		this.context = context;
 	}
 
-	private PropertyMeta getPropertyMetaByProperty(Method method) {
-		return getterMetas.get(method);
-	}
-
 	protected void setLoader(EntityLoader<CONTEXT> loader) {
 		this.loader = loader;
 	}
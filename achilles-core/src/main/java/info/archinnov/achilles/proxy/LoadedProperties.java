@@ -0,0 +1,116 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.lang.reflect.Method;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set of already loaded getters backed by a bitset indexed by property
+ * ordinal. Getters not mapped by the entity are ignored
+ */
+public class LoadedProperties extends AbstractSet<Method> {
+
+	private final Map<Method, PropertyMeta> getterMetas;
+	private final List<PropertyMeta> metasByOrdinal;
+	private final BitSet loaded;
+
+	/**
+	 * Build the loaded getters set of a new proxy, seeded with the given
+	 * getters. Entity metas without ordinals keep the plain set
+	 */
+	public static Set<Method> forEntity(EntityMeta entityMeta, Set<Method> alreadyLoaded) {
+		List<PropertyMeta> metasByOrdinal = entityMeta.getPropertyMetasByOrdinal();
+		if (metasByOrdinal == null || metasByOrdinal.isEmpty()) {
+			return alreadyLoaded != null ? alreadyLoaded : new HashSet<Method>();
+		}
+		LoadedProperties loaded = new LoadedProperties(entityMeta);
+		if (alreadyLoaded != null) {
+			loaded.addAll(alreadyLoaded);
+		}
+		return loaded;
+	}
+
+	public LoadedProperties(EntityMeta entityMeta) {
+		this.getterMetas = entityMeta.getGetterMetas();
+		this.metasByOrdinal = entityMeta.getPropertyMetasByOrdinal();
+		this.loaded = new BitSet(metasByOrdinal.size());
+	}
+
+	public boolean containsOrdinal(int ordinal) {
+		return loaded.get(ordinal);
+	}
+
+	public void addOrdinal(int ordinal) {
+		loaded.set(ordinal);
+	}
+
+	@Override
+	public boolean contains(Object getter) {
+		PropertyMeta propertyMeta = getterMetas.get(getter);
+		return propertyMeta != null && loaded.get(propertyMeta.getOrdinal());
+	}
+
+	@Override
+	public boolean add(Method getter) {
+		PropertyMeta propertyMeta = getterMetas.get(getter);
+		if (propertyMeta == null || loaded.get(propertyMeta.getOrdinal())) {
+			return false;
+		}
+		loaded.set(propertyMeta.getOrdinal());
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object getter) {
+		PropertyMeta propertyMeta = getterMetas.get(getter);
+		if (propertyMeta == null || !loaded.get(propertyMeta.getOrdinal())) {
+			return false;
+		}
+		loaded.clear(propertyMeta.getOrdinal());
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		loaded.clear();
+	}
+
+	@Override
+	public int size() {
+		return loaded.cardinality();
+	}
+
+	@Override
+	public Iterator<Method> iterator() {
+		return new OrdinalIterator<Method>(loaded, metasByOrdinal) {
+			@Override
+			protected Method element(PropertyMeta propertyMeta) {
+				return propertyMeta.getGetter();
+			}
+		};
+	}
+}
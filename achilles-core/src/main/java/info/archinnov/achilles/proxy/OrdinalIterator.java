@@ -0,0 +1,64 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+abstract class OrdinalIterator<E> implements Iterator<E> {
+
+	private final BitSet bits;
+	private final List<PropertyMeta> metasByOrdinal;
+	private int next;
+	private int last = -1;
+
+	OrdinalIterator(BitSet bits, List<PropertyMeta> metasByOrdinal) {
+		this.bits = bits;
+		this.metasByOrdinal = metasByOrdinal;
+		this.next = bits.nextSetBit(0);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return next >= 0;
+	}
+
+	@Override
+	public E next() {
+		if (next < 0) {
+			throw new NoSuchElementException();
+		}
+		last = next;
+		next = bits.nextSetBit(next + 1);
+		return element(metasByOrdinal.get(last));
+	}
+
+	@Override
+	public void remove() {
+		if (last < 0) {
+			throw new IllegalStateException();
+		}
+		bits.clear(last);
+		last = -1;
+	}
+
+	protected abstract E element(PropertyMeta propertyMeta);
+}
@@ -0,0 +1,120 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import net.sf.cglib.reflect.FastClass;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Getter/setter dispatcher backed by a CGLIB {@link FastClass} generated once
+ * per entity class. Methods are invoked by index instead of going through
+ * {@link Method#invoke(Object, Object...)}
+ */
+public class PropertyAccessor {
+	private static final Logger log = LoggerFactory.getLogger(PropertyAccessor.class);
+
+	private final FastClass fastClass;
+	private final Method getter;
+	private final Method setter;
+	private final int getterIndex;
+	private final int setterIndex;
+
+	PropertyAccessor(FastClass fastClass, Method getter, Method setter) {
+		this.fastClass = fastClass;
+		this.getter = getter;
+		this.setter = setter;
+		this.getterIndex = getter != null ? fastClass.getIndex(getter.getName(), getter.getParameterTypes()) : -1;
+		this.setterIndex = setter != null ? fastClass.getIndex(setter.getName(), setter.getParameterTypes()) : -1;
+	}
+
+	/**
+	 * Generate the dispatcher class for the given entity class
+	 * 
+	 * @return the generated FastClass or null if it cannot be generated, in
+	 *         which case reflection should be used
+	 */
+	public static FastClass createFastClass(Class<?> entityClass) {
+		try {
+			return FastClass.create(entityClass);
+		} catch (Throwable e) {
+			log.debug("Cannot generate fast accessors for class {}, falling back to reflection : {}",
+					entityClass.getCanonicalName(), e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Build an accessor for the given getter/setter pair
+	 * 
+	 * @return the accessor or null if one of the methods cannot be dispatched
+	 *         by the generated class (non public method for example)
+	 */
+	public static PropertyAccessor create(FastClass fastClass, Method getter, Method setter) {
+		if (fastClass == null || getter == null || setter == null) {
+			return null;
+		}
+		PropertyAccessor accessor = new PropertyAccessor(fastClass, getter, setter);
+		if (accessor.getterIndex < 0 || accessor.setterIndex < 0) {
+			return null;
+		}
+		return accessor;
+	}
+
+	public Object getValue(Object target) {
+		if (target == null) {
+			return null;
+		}
+		try {
+			return fastClass.invoke(getterIndex, target, null);
+		} catch (InvocationTargetException e) {
+			throw new AchillesException("Cannot invoke '" + getter.getName() + "' of type '"
+					+ getter.getDeclaringClass().getCanonicalName() + "' on instance '" + target + "'", e.getCause());
+		} catch (Exception e) {
+			throw new AchillesException("Cannot invoke '" + getter.getName() + "' of type '"
+					+ getter.getDeclaringClass().getCanonicalName() + "' on instance '" + target + "'", e);
+		}
+	}
+
+	public void setValue(Object target, Object value) {
+		Class<?> parameterClass = setter.getParameterTypes()[0];
+		if (parameterClass.isPrimitive()) {
+			Validator.validateNotNull(value,
+					"Cannot set null value to primitive type '%s' when invoking '%s' on instance of class'%s'",
+					parameterClass.getCanonicalName(), setter.getName(), setter.getDeclaringClass().getCanonicalName());
+		}
+		if (target != null) {
+			try {
+				fastClass.invoke(setterIndex, target, new Object[] { value });
+			} catch (InvocationTargetException e) {
+				throw new AchillesException("Cannot invoke '" + setter.getName() + "' of type '"
+						+ setter.getDeclaringClass().getCanonicalName() + "' on instance '" + target + "'",
+						e.getCause());
+			} catch (Exception e) {
+				throw new AchillesException("Cannot invoke '" + setter.getName() + "' of type '"
+						+ setter.getDeclaringClass().getCanonicalName() + "' on instance '" + target + "'", e);
+			}
+		}
+	}
+}
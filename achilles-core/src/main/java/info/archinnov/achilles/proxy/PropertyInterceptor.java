@@ -0,0 +1,49 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import java.lang.reflect.Method;
+
+import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+
+/**
+ * Callback bound by {@link EntityCallbackFilter} to the getter or the setter
+ * of one property of the proxy class. It holds no per-entity state, the
+ * {@link EntityInterceptor} of the proxy is always the callback at index 0
+ */
+public class PropertyInterceptor implements MethodInterceptor {
+
+	private final int ordinal;
+	private final boolean setter;
+
+	public PropertyInterceptor(int ordinal, boolean setter) {
+		this.ordinal = ordinal;
+		this.setter = setter;
+	}
+
+	@Override
+	public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+		EntityInterceptor<?, ?> interceptor = (EntityInterceptor<?, ?>) ((Factory) obj).getCallback(0);
+		if (setter) {
+			return interceptor.interceptSetter(ordinal, method, args, proxy);
+		} else {
+			return interceptor.interceptGetter(ordinal, method, args, proxy);
+		}
+	}
+}
@@ -19,6 +19,8 @@ package info.archinnov.achilles.proxy.wrapper;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
+import info.archinnov.achilles.proxy.CollectionDelta;
+import info.archinnov.achilles.proxy.DirtyProperties;
 
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -47,8 +49,19 @@ public abstract class AbstractWrapper {
 	}
 
 	protected void markDirty() {
-		if (!dirtyMap.containsKey(setter)) {
+		if (dirtyMap instanceof DirtyProperties) {
+			// Always put so that any pending delta is replaced by a full write
 			dirtyMap.put(setter, propertyMeta);
+		} else if (!dirtyMap.containsKey(setter)) {
+			dirtyMap.put(setter, propertyMeta);
+		}
+	}
+
+	protected void markDirty(CollectionDelta delta) {
+		if (dirtyMap instanceof DirtyProperties) {
+			((DirtyProperties) dirtyMap).putDelta(propertyMeta, delta);
+		} else {
+			markDirty();
 		}
 	}
 
@@ -16,9 +16,13 @@
  */
 package info.archinnov.achilles.proxy.wrapper;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.CollectionDelta;
 import info.archinnov.achilles.proxy.wrapper.builder.IteratorWrapperBuilder;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 
 import org.slf4j.Logger;
@@ -28,6 +32,7 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
 	private static final Logger log = LoggerFactory.getLogger(CollectionWrapper.class);
 
 	protected Collection<Object> target;
+	protected boolean deltaEnabled = true;
 
 	public CollectionWrapper(Collection<Object> target) {
 		this.target = target;
@@ -37,8 +42,9 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
 	public boolean add(Object arg0) {
 		log.trace("Mark collection property {} of entity class {} dirty upon element addition",
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-		this.markDirty();
-		boolean result = target.add(proxifier.unwrap(arg0));
+		Object element = proxifier.unwrap(arg0);
+		markAppended(Collections.singletonList(element));
+		boolean result = target.add(element);
 
 		return result;
 	}
@@ -46,11 +52,12 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
 	@Override
 	public boolean addAll(Collection<?> arg0) {
 		boolean result = false;
-		result = target.addAll(proxifier.unwrap(arg0));
+		Collection<?> elements = proxifier.unwrap(arg0);
+		result = target.addAll(elements);
 		if (result) {
 			log.trace("Mark collection property {} of entity class {} dirty upon elements addition",
 					propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-			this.markDirty();
+			markAppended(elements);
 		}
 		return result;
 	}
@@ -93,11 +100,12 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
 	@Override
 	public boolean remove(Object arg0) {
 		boolean result = false;
-		result = this.target.remove(proxifier.unwrap(arg0));
+		Object element = proxifier.unwrap(arg0);
+		result = this.target.remove(element);
 		if (result) {
 			log.trace("Mark collection property {} of entity class {} dirty upon element removal",
 					propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-			this.markDirty();
+			markRemoved(Collections.singletonList(element));
 		}
 		return result;
 	}
@@ -105,11 +113,12 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
 	@Override
 	public boolean removeAll(Collection<?> arg0) {
 		boolean result = false;
-		result = this.target.removeAll(proxifier.unwrap(arg0));
+		Collection<?> elements = proxifier.unwrap(arg0);
+		result = this.target.removeAll(elements);
 		if (result) {
 			log.trace("Mark collection property {} of entity class {} dirty upon elements removal",
 					propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-			this.markDirty();
+			markRemoved(elements);
 		}
 		return result;
 	}
@@ -144,4 +153,34 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
 	public Collection<Object> getTarget() {
 		return this.target;
 	}
+
+	void disableDelta() {
+		this.deltaEnabled = false;
+	}
+
+	protected boolean isListDelta() {
+		PropertyType type = propertyMeta.type();
+		return deltaEnabled && (type == LIST || type == LAZY_LIST);
+	}
+
+	protected boolean isSetDelta() {
+		PropertyType type = propertyMeta.type();
+		return deltaEnabled && (type == SET || type == LAZY_SET);
+	}
+
+	private void markAppended(Collection<?> elements) {
+		if (isListDelta() || isSetDelta()) {
+			this.markDirty(CollectionDelta.append(elements));
+		} else {
+			this.markDirty();
+		}
+	}
+
+	private void markRemoved(Collection<?> elements) {
+		if (isSetDelta()) {
+			this.markDirty(CollectionDelta.remove(elements));
+		} else {
+			this.markDirty();
+		}
+	}
 }
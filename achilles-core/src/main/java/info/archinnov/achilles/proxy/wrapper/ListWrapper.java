@@ -16,10 +16,12 @@
  */
 package info.archinnov.achilles.proxy.wrapper;
 
+import info.archinnov.achilles.proxy.CollectionDelta;
 import info.archinnov.achilles.proxy.wrapper.builder.ListIteratorWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.ListWrapperBuilder;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
 
@@ -37,17 +39,33 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
 	public void add(int index, Object arg1) {
 		log.trace("Mark list property {} of entity class {} dirty upon element addition at index {}",
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), index);
-		((List<Object>) super.target).add(index, proxifier.unwrap(arg1));
-		super.markDirty();
+		int size = super.target.size();
+		Object element = proxifier.unwrap(arg1);
+		((List<Object>) super.target).add(index, element);
+		if (isListDelta() && index == 0) {
+			super.markDirty(CollectionDelta.prepend(Collections.singletonList(element)));
+		} else if (isListDelta() && index == size) {
+			super.markDirty(CollectionDelta.append(Collections.singletonList(element)));
+		} else {
+			super.markDirty();
+		}
 	}
 
 	@Override
 	public boolean addAll(int arg0, Collection<? extends Object> arg1) {
-		boolean result = ((List<Object>) super.target).addAll(arg0, proxifier.unwrap(arg1));
+		int size = super.target.size();
+		Collection<? extends Object> elements = proxifier.unwrap(arg1);
+		boolean result = ((List<Object>) super.target).addAll(arg0, elements);
 		if (result) {
 			log.trace("Mark list property {} of entity class {} dirty upon elements addition",
 					propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-			super.markDirty();
+			if (isListDelta() && arg0 == 0) {
+				super.markDirty(CollectionDelta.prepend(elements));
+			} else if (isListDelta() && arg0 == size) {
+				super.markDirty(CollectionDelta.append(elements));
+			} else {
+				super.markDirty();
+			}
 		}
 		return result;
 	}
@@ -122,10 +140,14 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
 		log.trace("Build sublist wrapper for list property {} of entity class {} between index {} and {}",
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), from, to);
 
-		return ListWrapperBuilder
+		ListWrapper subListWrapper = ListWrapperBuilder
 				//
 				.builder(context, target).dirtyMap(dirtyMap).setter(setter).propertyMeta(propertyMeta)
 				.proxifier(proxifier).build();
+
+		// Positions in a sub list do not match the ones of the whole list
+		subListWrapper.disableDelta();
+		return subListWrapper;
 	}
 
 	@Override
@@ -16,11 +16,13 @@
  */
 package info.archinnov.achilles.proxy.wrapper;
 
+import info.archinnov.achilles.proxy.CollectionDelta;
 import info.archinnov.achilles.proxy.wrapper.builder.EntrySetWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.KeySetWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.ValueCollectionWrapperBuilder;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -103,8 +105,9 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object> {
 		log.trace("Mark map property {} of entity class {} dirty upon new value {} addition for key {}",
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), value, key);
 
-		Object result = this.target.put(key, proxifier.unwrap(value));
-		this.markDirty();
+		Object element = proxifier.unwrap(value);
+		Object result = this.target.put(key, element);
+		this.markDirty(CollectionDelta.put(Collections.singletonMap(key, element)));
 		return result;
 	}
 
@@ -119,7 +122,7 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object> {
 				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
 
 		this.target.putAll(map);
-		this.markDirty();
+		this.markDirty(CollectionDelta.put(map));
 	}
 
 	@Override
@@ -20,7 +20,9 @@ import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.json.ObjectMapperFactory;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.Collection;
@@ -28,6 +30,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.codehaus.jackson.map.AnnotationIntrospector;
 import org.codehaus.jackson.map.DeserializationConfig;
@@ -103,6 +106,77 @@ public class ArgumentExtractorTest {
 		assertThat(actual).isTrue();
 	}
 
+	@Test
+	public void should_init_binary_transcoding_targets() throws Exception {
+		configMap.put(BINARY_TRANSCODING_PARAM, "my.entity.User, my.entity.Tweet#content");
+
+		doCallRealMethod().when(extractor).initBinaryTranscodingTargets(configMap);
+		Set<String> actual = extractor.initBinaryTranscodingTargets(configMap);
+
+		assertThat(actual).containsOnly("my.entity.User", "my.entity.Tweet#content");
+	}
+
+	@Test
+	public void should_init_empty_binary_transcoding_targets() throws Exception {
+		doCallRealMethod().when(extractor).initBinaryTranscodingTargets(configMap);
+
+		assertThat(extractor.initBinaryTranscodingTargets(configMap)).isEmpty();
+	}
+
+	@Test
+	public void should_init_binary_transcoding_beans() throws Exception {
+		configMap.put(BINARY_TRANSCODING_BEANS_PARAM, "java.lang.Object, " + UserBean.class.getName());
+
+		doCallRealMethod().when(extractor).initBinaryTranscodingBeans(configMap);
+
+		assertThat(extractor.initBinaryTranscodingBeans(configMap)).containsOnly(Object.class, UserBean.class);
+	}
+
+	@Test
+	public void should_exception_when_binary_transcoding_bean_not_found() throws Exception {
+		configMap.put(BINARY_TRANSCODING_BEANS_PARAM, "my.entity.Unknown");
+
+		doCallRealMethod().when(extractor).initBinaryTranscodingBeans(configMap);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot find the binary encoded type 'my.entity.Unknown'");
+
+		extractor.initBinaryTranscodingBeans(configMap);
+	}
+
+	@Test
+	public void should_init_entity_cache_targets() throws Exception {
+		configMap.put(ENTITY_CACHE_PARAM, "my.entity.User, my.entity.Profile");
+
+		doCallRealMethod().when(extractor).initEntityCacheTargets(configMap);
+
+		assertThat(extractor.initEntityCacheTargets(configMap)).containsOnly("my.entity.User", "my.entity.Profile");
+	}
+
+	@Test
+	public void should_init_entity_cache() throws Exception {
+		configMap.put(ENTITY_CACHE_MAX_SIZE_PARAM, 100);
+		configMap.put(ENTITY_CACHE_TTL_PARAM, 10L);
+
+		doCallRealMethod().when(extractor).initEntityCache(configMap);
+
+		assertThat(extractor.initEntityCache(configMap)).isNotNull();
+	}
+
+	@Test
+	public void should_init_scan_parallelism() throws Exception {
+		doCallRealMethod().when(extractor).initScanParallelism(configMap);
+		assertThat(extractor.initScanParallelism(configMap)).isEqualTo(DEFAULT_SCAN_PARALLELISM);
+
+		configMap.put(SCAN_PARALLELISM_PARAM, 8);
+		assertThat(extractor.initScanParallelism(configMap)).isEqualTo(8);
+
+		configMap.put(SCAN_PARALLELISM_PARAM, 0);
+		exception.expect(AchillesException.class);
+		exception.expectMessage("The parameter 'achilles.scan.parallelism' should be strictly positive");
+		extractor.initScanParallelism(configMap);
+	}
+
 	@Test
 	public void should_init_default_object_factory_mapper() throws Exception {
 		doCallRealMethod().when(extractor).initObjectMapperFactory(configMap);
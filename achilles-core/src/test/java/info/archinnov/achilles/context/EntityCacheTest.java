@@ -0,0 +1,215 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.context;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class EntityCacheTest {
+
+	private EntityCache entityCache = new EntityCache(100, 60);
+
+	private EntityMeta entityMeta = new EntityMeta();
+
+	private ReflectionInvoker invoker = new ReflectionInvoker();
+
+	@Before
+	public void setUp() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").type(ID)
+				.accessors().invoker(invoker).build();
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(SIMPLE).accessors().invoker(invoker).build();
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(LIST).accessors().invoker(invoker).build();
+		PropertyMeta userMeta = PropertyMetaTestBuilder.completeBean(Void.class, UserBean.class).field("user")
+				.type(SIMPLE).accessors().invoker(invoker).build();
+		PropertyMeta usersMapMeta = PropertyMetaTestBuilder.completeBean(Integer.class, UserBean.class)
+				.field("usersMap").type(MAP).accessors().invoker(invoker).build();
+
+		entityMeta.setEntityClass(CompleteBean.class);
+		entityMeta.setClassName(CompleteBean.class.getCanonicalName());
+		entityMeta.setIdMeta(idMeta);
+		entityMeta.setEagerMetas(Arrays.asList(idMeta, nameMeta, friendsMeta, userMeta, usersMapMeta));
+	}
+
+	@Test
+	public void should_return_copy_of_cached_entity() throws Exception {
+		CompleteBean entity = new CompleteBean();
+		entity.setId(10L);
+		entity.setName("John");
+		entity.setLabel("label");
+		entity.setFriends(new ArrayList<String>(Arrays.asList("Paul")));
+
+		entityCache.put(entityMeta, 10L, entity);
+		entity.getFriends().add("George");
+
+		CompleteBean cached = entityCache.get(entityMeta, 10L);
+
+		assertThat(cached).isNotSameAs(entity);
+		assertThat(cached.getId()).isEqualTo(10L);
+		assertThat(cached.getName()).isEqualTo("John");
+		assertThat(cached.getLabel()).isNull();
+		assertThat(cached.getFriends()).containsExactly("Paul");
+
+		cached.getFriends().add("Ringo");
+		assertThat(entityCache.<CompleteBean> get(entityMeta, 10L).getFriends()).containsExactly("Paul");
+	}
+
+	@Test
+	public void should_not_share_embedded_beans_with_cached_entity() throws Exception {
+		CompleteBean entity = new CompleteBean();
+		entity.setId(10L);
+		entity.setUser(userBean(1L, "John"));
+		Map<Integer, UserBean> usersMap = new HashMap<Integer, UserBean>();
+		usersMap.put(1, userBean(2L, "Paul"));
+		entity.setUsersMap(usersMap);
+
+		entityCache.put(entityMeta, 10L, entity);
+		entity.getUser().setName("George");
+		entity.getUsersMap().get(1).setName("George");
+
+		CompleteBean cached = entityCache.get(entityMeta, 10L);
+		assertThat(cached.getUser().getName()).isEqualTo("John");
+		assertThat(cached.getUsersMap().get(1).getName()).isEqualTo("Paul");
+
+		cached.getUser().setName("Ringo");
+		cached.getUsersMap().get(1).setName("Ringo");
+
+		CompleteBean cachedAgain = entityCache.get(entityMeta, 10L);
+		assertThat(cachedAgain.getUser()).isNotSameAs(cached.getUser());
+		assertThat(cachedAgain.getUser().getName()).isEqualTo("John");
+		assertThat(cachedAgain.getUsersMap().get(1).getName()).isEqualTo("Paul");
+	}
+
+	@Test
+	public void should_not_share_dates_with_cached_entity() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.of(Event.class, Void.class, Long.class).field("id").type(ID)
+				.accessors().invoker(invoker).build();
+		PropertyMeta dateMeta = PropertyMetaTestBuilder.of(Event.class, Void.class, Date.class).field("date")
+				.type(SIMPLE).accessors().invoker(invoker).build();
+		PropertyMeta datesMeta = PropertyMetaTestBuilder.of(Event.class, Void.class, Date.class).field("dates")
+				.type(LIST).accessors().invoker(invoker).build();
+		EntityMeta eventMeta = new EntityMeta();
+		eventMeta.setEntityClass(Event.class);
+		eventMeta.setClassName(Event.class.getCanonicalName());
+		eventMeta.setIdMeta(idMeta);
+		eventMeta.setEagerMetas(Arrays.asList(idMeta, dateMeta, datesMeta));
+
+		Event event = new Event();
+		event.setDate(new Date(1000L));
+		event.setDates(new ArrayList<Date>(Arrays.asList(new Date(2000L))));
+
+		entityCache.put(eventMeta, 10L, event);
+		event.getDate().setTime(0L);
+		event.getDates().get(0).setTime(0L);
+
+		Event cached = entityCache.get(eventMeta, 10L);
+		assertThat(cached.getDate().getTime()).isEqualTo(1000L);
+		assertThat(cached.getDates().get(0).getTime()).isEqualTo(2000L);
+
+		cached.getDate().setTime(0L);
+		cached.getDates().get(0).setTime(0L);
+
+		Event cachedAgain = entityCache.get(eventMeta, 10L);
+		assertThat(cachedAgain.getDate().getTime()).isEqualTo(1000L);
+		assertThat(cachedAgain.getDates().get(0).getTime()).isEqualTo(2000L);
+	}
+
+	@Test
+	public void should_record_hits_and_misses() throws Exception {
+		CompleteBean entity = new CompleteBean();
+		entity.setId(10L);
+
+		assertThat(entityCache.get(entityMeta, 10L)).isNull();
+		entityCache.put(entityMeta, 10L, entity);
+		assertThat(entityCache.get(entityMeta, 10L)).isNotNull();
+
+		assertThat(entityCache.stats().hitCount()).isEqualTo(1L);
+		assertThat(entityCache.stats().missCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void should_invalidate_entity() throws Exception {
+		CompleteBean entity = new CompleteBean();
+		entity.setId(10L);
+		entityCache.put(entityMeta, 10L, entity);
+		entityCache.put(entityMeta, 11L, entity);
+
+		entityCache.invalidate(CompleteBean.class, 10L);
+
+		assertThat(entityCache.get(entityMeta, 10L)).isNull();
+		assertThat(entityCache.get(entityMeta, 11L)).isNotNull();
+
+		entityCache.invalidateAll(CompleteBean.class);
+		assertThat(entityCache.size()).isEqualTo(0L);
+	}
+
+	private UserBean userBean(Long userId, String name) {
+		UserBean bean = new UserBean();
+		bean.setUserId(userId);
+		bean.setName(name);
+		return bean;
+	}
+
+	public static class Event {
+		private Long id;
+
+		private Date date;
+
+		private List<Date> dates;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public Date getDate() {
+			return date;
+		}
+
+		public void setDate(Date date) {
+			this.date = date;
+		}
+
+		public List<Date> getDates() {
+			return dates;
+		}
+
+		public void setDates(List<Date> dates) {
+			this.dates = dates;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import static org.fest.assertions.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.counter.CounterAccumulator.Flusher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CounterAccumulatorTest {
+
+	@Mock
+	private Flusher<String> flusher;
+
+	@Captor
+	private ArgumentCaptor<Map<String, Long>> deltasCaptor;
+
+	private CounterAccumulator<String> accumulator;
+
+	@Before
+	public void setUp() {
+		when(flusher.split(anyMapOf(String.class, Long.class))).thenAnswer(new Answer<List<Map<String, Long>>>() {
+			@Override
+			public List<Map<String, Long>> answer(InvocationOnMock invocation) throws Throwable {
+				@SuppressWarnings("unchecked")
+				Map<String, Long> deltas = (Map<String, Long>) invocation.getArguments()[0];
+				List<Map<String, Long>> groups = new ArrayList<Map<String, Long>>();
+				for (Map.Entry<String, Long> entry : new TreeMap<String, Long>(deltas).entrySet()) {
+					groups.add(Collections.singletonMap(entry.getKey(), entry.getValue()));
+				}
+				return groups;
+			}
+		});
+		accumulator = new CounterAccumulator<String>(flusher, 3600000L, 10000);
+	}
+
+	@After
+	public void tearDown() {
+		reset(flusher);
+		accumulator.shutdown();
+	}
+
+	@Test
+	public void should_sum_deltas_per_key_and_flush() throws Exception {
+		accumulator.add("a", 1L);
+		accumulator.add("a", 2L);
+		accumulator.add("b", -5L);
+
+		assertThat(accumulator.size()).isEqualTo(2);
+
+		accumulator.flush();
+
+		verify(flusher).split(deltasCaptor.capture());
+		assertThat(deltasCaptor.getValue()).hasSize(2);
+		assertThat(deltasCaptor.getValue().get("a")).isEqualTo(3L);
+		assertThat(deltasCaptor.getValue().get("b")).isEqualTo(-5L);
+		verify(flusher).write(Collections.singletonMap("a", 3L));
+		verify(flusher).write(Collections.singletonMap("b", -5L));
+		assertThat(accumulator.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void should_not_flush_deltas_summing_to_zero() throws Exception {
+		accumulator.add("a", 1L);
+		accumulator.add("a", -1L);
+
+		accumulator.flush();
+
+		verifyZeroInteractions(flusher);
+	}
+
+	@Test
+	public void should_drop_failed_write_and_keep_unsent_deltas() throws Exception {
+		accumulator.add("a", 4L);
+		accumulator.add("b", 2L);
+		RuntimeException failure = new RuntimeException("unavailable");
+		doThrow(failure).doNothing().when(flusher).write(anyMapOf(String.class, Long.class));
+
+		try {
+			accumulator.flush();
+			fail("flush should raise the write failure");
+		} catch (RuntimeException e) {
+			assertThat(e).isSameAs(failure);
+		}
+		verify(flusher).write(Collections.singletonMap("a", 4L));
+		verify(flusher, never()).write(Collections.singletonMap("b", 2L));
+		assertThat(accumulator.size()).isEqualTo(1);
+
+		accumulator.flush();
+
+		verify(flusher).write(Collections.singletonMap("b", 2L));
+		verify(flusher).write(Collections.singletonMap("a", 4L));
+	}
+
+	@Test
+	public void should_flush_remaining_deltas_on_shutdown() throws Exception {
+		accumulator.add("a", 7L);
+
+		accumulator.shutdown();
+
+		verify(flusher).write(Collections.singletonMap("a", 7L));
+	}
+
+	@Test
+	public void should_flush_when_threshold_is_reached() throws Exception {
+		accumulator.shutdown();
+		accumulator = new CounterAccumulator<String>(flusher, 3600000L, 2);
+
+		accumulator.add("a", 1L);
+		accumulator.add("b", 1L);
+
+		verify(flusher, timeout(1000)).split(deltasCaptor.capture());
+		assertThat(deltasCaptor.getValue()).hasSize(2);
+	}
+}
@@ -32,8 +32,11 @@ import info.archinnov.achilles.table.TableCreator;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -43,6 +46,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PersistenceManagerFactoryTest {
@@ -82,6 +86,7 @@ public class PersistenceManagerFactoryTest {
 		pmf.setEntityPackages(entityPackages);
 		pmf.setEntityParser(achillesEntityParser);
 		pmf.setEntityExplorer(achillesEntityExplorer);
+		Whitebox.setInternalState(pmf, "configContext", new ConfigurationContext());
 	}
 
 	@Test
@@ -93,6 +98,21 @@ public class PersistenceManagerFactoryTest {
 		assertThat(hasSimpleCounter).isTrue();
 	}
 
+	@Test
+	public void should_record_bootstrap_timings() throws Exception {
+		Whitebox.setInternalState(pmf, "bootstrapTimings", new LinkedHashMap<String, Long>());
+		when(pmf.discoverEntities()).thenReturn(false);
+		doCallRealMethod().when(pmf).bootstrap();
+		doCallRealMethod().when(pmf).recordBootstrapPhase(anyString(), anyLong());
+		doCallRealMethod().when(pmf).getBootstrapTimings();
+
+		pmf.bootstrap();
+		pmf.recordBootstrapPhase("table validation", System.nanoTime());
+
+		assertThat(pmf.getBootstrapTimings().keySet()).containsExactly("entity discovery", "table validation");
+		assertThat(pmf.getBootstrapTimings().get("entity discovery")).isGreaterThanOrEqualTo(0L);
+	}
+
 	@Test
 	public void should_exception_during_boostrap() throws Exception {
 		when(pmf.discoverEntities()).thenThrow(new RuntimeException("test"));
@@ -119,6 +139,8 @@ public class PersistenceManagerFactoryTest {
 
 		assertThat(entityMetaMap).containsKey(Long.class);
 		assertThat(entityMetaMap).containsValue(entityMeta);
+		ConfigurationContext configContext = Whitebox.getInternalState(pmf, "configContext");
+		assertThat(configContext.getProxyFactories()).isEmpty();
 	}
 
 	@Test
@@ -146,6 +168,7 @@ public class PersistenceManagerFactoryTest {
 		when(extractor.initForceCFCreation(configurationMap)).thenReturn(true);
 		when(pmf.initConsistencyLevelPolicy(configurationMap, extractor)).thenReturn(policy);
 		when(extractor.initObjectMapperFactory(configurationMap)).thenReturn(mapperFactory);
+		when(extractor.initScanParallelism(configurationMap)).thenReturn(3);
 
 		doCallRealMethod().when(pmf).parseConfiguration(configurationMap, extractor);
 
@@ -155,6 +178,22 @@ public class PersistenceManagerFactoryTest {
 		assertThat(builtContext.isForceColumnFamilyCreation()).isTrue();
 		assertThat(builtContext.getConsistencyPolicy()).isSameAs(policy);
 		assertThat(builtContext.getObjectMapperFactory()).isSameAs(mapperFactory);
+
+		ThreadPoolExecutor scanExecutor = (ThreadPoolExecutor) builtContext.getScanExecutor();
+		assertThat(scanExecutor.getMaximumPoolSize()).isEqualTo(3);
+		scanExecutor.shutdown();
+	}
+
+	@Test
+	public void should_shutdown_scan_executor() throws Exception {
+		ExecutorService scanExecutor = mock(ExecutorService.class);
+		ConfigurationContext configContext = Whitebox.getInternalState(pmf, "configContext");
+		configContext.setScanExecutor(scanExecutor);
+		doCallRealMethod().when(pmf).shutdown();
+
+		pmf.shutdown();
+
+		verify(scanExecutor).shutdown();
 	}
 
 }
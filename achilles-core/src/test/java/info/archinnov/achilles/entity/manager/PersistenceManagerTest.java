@@ -20,6 +20,8 @@ import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.EntityCache;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -30,6 +32,8 @@ import info.archinnov.achilles.entity.operations.EntityPersister;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
 import info.archinnov.achilles.entity.operations.EntityValidator;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.iterator.ScanIterator;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -39,9 +43,11 @@ import info.archinnov.achilles.type.OptionsBuilder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -52,8 +58,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
 
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PersistenceManagerTest {
@@ -93,6 +105,12 @@ public class PersistenceManagerTest {
 	@Mock
 	private EntityMeta entityMeta;
 
+	@Mock
+	private EntityCache entityCache;
+
+	@Mock
+	private ConfigurationContext configContext;
+
 	@Captor
 	private ArgumentCaptor<Options> optionsCaptor;
 
@@ -237,6 +255,47 @@ public class PersistenceManagerTest {
 		assertThat(options.getTimestamp().isPresent()).isFalse();
 	}
 
+	@Test
+	public void should_evict_entity_from_cache_when_removing_by_id() throws Exception {
+		doCallRealMethod().when(manager).removeById(CompleteBean.class, primaryKey);
+		doCallRealMethod().when(manager).setEntityCache(entityCache);
+		manager.setEntityCache(entityCache);
+
+		when(context.getEntityMeta()).thenReturn(entityMeta);
+		when(context.getPrimaryKey()).thenReturn(primaryKey);
+		when(entityMeta.isCacheable()).thenReturn(true);
+		when((Class) entityMeta.getEntityClass()).thenReturn(CompleteBean.class);
+
+		manager.removeById(CompleteBean.class, primaryKey);
+
+		verify(context).remove();
+		verify(entityCache).invalidate(CompleteBean.class, primaryKey);
+	}
+
+	@Test
+	public void should_evict_entity_from_cache_again_when_batch_is_flushed() throws Exception {
+		doCallRealMethod().when(manager).removeById(CompleteBean.class, primaryKey);
+		doCallRealMethod().when(manager).setEntityCache(entityCache);
+		doCallRealMethod().when(manager).evictPendingFromCache();
+		manager.setEntityCache(entityCache);
+		Whitebox.setInternalState(manager, "pendingEvictions", HashMultimap.<Class<?>, Object> create());
+
+		when(context.getEntityMeta()).thenReturn(entityMeta);
+		when(context.getPrimaryKey()).thenReturn(primaryKey);
+		when(context.isBatchMode()).thenReturn(true);
+		when(entityMeta.isCacheable()).thenReturn(true);
+		when((Class) entityMeta.getEntityClass()).thenReturn(CompleteBean.class);
+
+		manager.removeById(CompleteBean.class, primaryKey);
+		verify(entityCache).invalidate(CompleteBean.class, primaryKey);
+
+		manager.evictPendingFromCache();
+		verify(entityCache, times(2)).invalidate(CompleteBean.class, primaryKey);
+
+		manager.evictPendingFromCache();
+		verify(entityCache, times(2)).invalidate(CompleteBean.class, primaryKey);
+	}
+
 	@Test
 	public void should_remove_by_id_with_consistency() throws Exception {
 		doCallRealMethod().when(manager).removeById(CompleteBean.class, primaryKey, LOCAL_QUORUM);
@@ -272,6 +331,44 @@ public class PersistenceManagerTest {
 		assertThat(options.getTimestamp().isPresent()).isFalse();
 	}
 
+	@Test
+	public void should_find_from_entity_cache() throws Exception {
+		doCallRealMethod().when(manager).find(CompleteBean.class, primaryKey);
+		doCallRealMethod().when(manager).find(eq(CompleteBean.class), eq(primaryKey), any(ConsistencyLevel.class));
+		doCallRealMethod().when(manager).setEntityCache(entityCache);
+		manager.setEntityCache(entityCache);
+
+		CompleteBean cached = new CompleteBean();
+		when(context.getEntityMeta()).thenReturn(entityMeta);
+		when(entityMeta.isCacheable()).thenReturn(true);
+		when(entityCache.get(entityMeta, primaryKey)).thenReturn(cached);
+		when(proxifier.buildProxy(cached, context)).thenReturn(entity);
+
+		CompleteBean bean = manager.find(CompleteBean.class, primaryKey);
+
+		assertThat(bean).isSameAs(entity);
+		verify(context, never()).find(CompleteBean.class);
+	}
+
+	@Test
+	public void should_put_found_entity_in_entity_cache() throws Exception {
+		doCallRealMethod().when(manager).find(CompleteBean.class, primaryKey);
+		doCallRealMethod().when(manager).find(eq(CompleteBean.class), eq(primaryKey), any(ConsistencyLevel.class));
+		doCallRealMethod().when(manager).setEntityCache(entityCache);
+		manager.setEntityCache(entityCache);
+
+		CompleteBean realObject = new CompleteBean();
+		when(context.getEntityMeta()).thenReturn(entityMeta);
+		when(entityMeta.isCacheable()).thenReturn(true);
+		when(context.find(CompleteBean.class)).thenReturn(entity);
+		when(proxifier.getRealObject(entity)).thenReturn(realObject);
+
+		CompleteBean bean = manager.find(CompleteBean.class, primaryKey);
+
+		assertThat(bean).isSameAs(entity);
+		verify(entityCache).put(entityMeta, primaryKey, realObject);
+	}
+
 	@Test
 	public void should_find_with_consistency() throws Exception {
 		doCallRealMethod().when(manager).find(CompleteBean.class, primaryKey, EACH_QUORUM);
@@ -292,6 +389,25 @@ public class PersistenceManagerTest {
 		assertThat(options.getTimestamp().isPresent()).isFalse();
 	}
 
+	@Test
+	public void should_find_several_entities() throws Exception {
+		List<Long> primaryKeys = Arrays.asList(primaryKey);
+		doCallRealMethod().when(manager).find(CompleteBean.class, primaryKeys);
+		doCallRealMethod().when(manager).find(eq(CompleteBean.class), eq(primaryKeys), any(ConsistencyLevel.class));
+		doCallRealMethod().when(manager).findAll(eq(CompleteBean.class), anyMapOf(Long.class, PersistenceContext.class));
+
+		when(context.find(CompleteBean.class)).thenReturn(entity);
+		PropertyMeta idMeta = new PropertyMeta();
+		when(context.getIdMeta()).thenReturn(idMeta);
+
+		Map<Long, CompleteBean> beans = manager.find(CompleteBean.class, primaryKeys);
+
+		verify(entityValidator).validatePrimaryKey(idMeta, primaryKey);
+		assertThat(beans).hasSize(1);
+		assertThat(beans.get(primaryKey)).isSameAs(entity);
+		assertThat(optionsCaptor.getValue().getConsistencyLevel().isPresent()).isFalse();
+	}
+
 	@Test
 	public void should_get_reference() throws Exception {
 		when(context.getReference(CompleteBean.class)).thenReturn(entity);
@@ -393,6 +509,25 @@ public class PersistenceManagerTest {
 
 	}
 
+	@Test
+	public void should_initialize_entities_of_same_class_together() throws Exception {
+		CompleteBean otherEntity = CompleteBeanTestBuilder.builder().id(primaryKey + 1).buid();
+		List<CompleteBean> entities = Arrays.asList(entity, otherEntity);
+		when((Class) proxifier.deriveBaseClass(entity)).thenReturn(CompleteBean.class);
+		when((Class) proxifier.deriveBaseClass(otherEntity)).thenReturn(CompleteBean.class);
+		when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+		when(entityMeta.isClusteredEntity()).thenReturn(false);
+
+		doCallRealMethod().when(manager).initialize(entities);
+		List<CompleteBean> actual = manager.initialize(entities);
+
+		assertThat(actual).containsExactly(entity, otherEntity);
+		verify(proxifier).ensureProxy(entity);
+		verify(proxifier).ensureProxy(otherEntity);
+		verify(context).initialize(entities);
+		verify(manager, never()).initialize(entity);
+	}
+
 	@Test
 	public void should_initialize_set_of_entities() throws Exception {
 		when(manager.initialize(entity)).thenReturn(entity);
@@ -477,6 +612,155 @@ public class PersistenceManagerTest {
 		assertThat(actual).isSameAs(entities);
 	}
 
+	@Test
+	public void should_persist_async() throws Exception {
+		when(proxifier.isProxy(entity)).thenReturn(false);
+		doCallRealMethod().when(manager).persistAsync(entity);
+		doCallRealMethod().when(manager).persistAsync(eq(entity), any(Options.class));
+		ListenableFuture<Void> future = Futures.<Void> immediateFuture(null);
+		when(context.persistAsync()).thenReturn(future);
+
+		ListenableFuture<Void> actual = manager.persistAsync(entity);
+
+		assertThat(actual).isSameAs(future);
+		verify(entityValidator).validateEntity(entity, entityMetaMap);
+		verify(context, never()).persist();
+	}
+
+	@Test
+	public void should_exception_when_async_operation_in_batch_mode() throws Exception {
+		when(proxifier.isProxy(entity)).thenReturn(false);
+		doCallRealMethod().when(manager).persistAsync(entity);
+		doCallRealMethod().when(manager).persistAsync(eq(entity), any(Options.class));
+		when(context.isBatchMode()).thenReturn(true);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Asynchronous operations are not supported by a batching PersistenceManager");
+
+		manager.persistAsync(entity);
+	}
+
+	@Test
+	public void should_evict_entity_from_cache_when_async_merge_succeeded() throws Exception {
+		doCallRealMethod().when(manager).mergeAsync(entity);
+		doCallRealMethod().when(manager).mergeAsync(eq(entity), any(Options.class));
+		doCallRealMethod().when(manager).setEntityCache(entityCache);
+		manager.setEntityCache(entityCache);
+
+		when(context.getEntityMeta()).thenReturn(entityMeta);
+		when(context.getPrimaryKey()).thenReturn(primaryKey);
+		when(entityMeta.isCacheable()).thenReturn(true);
+		when((Class) entityMeta.getEntityClass()).thenReturn(CompleteBean.class);
+		SettableFuture<CompleteBean> future = SettableFuture.create();
+		when(context.mergeAsync(entity)).thenReturn(future);
+
+		ListenableFuture<CompleteBean> merged = manager.mergeAsync(entity);
+
+		verifyZeroInteractions(entityCache);
+		future.set(entity);
+		assertThat(merged.get()).isSameAs(entity);
+		verify(entityCache).invalidate(CompleteBean.class, primaryKey);
+	}
+
+	@Test
+	public void should_find_async() throws Exception {
+		doCallRealMethod().when(manager).findAsync(CompleteBean.class, primaryKey);
+		doCallRealMethod().when(manager).findAsync(eq(CompleteBean.class), eq(primaryKey),
+				any(ConsistencyLevel.class));
+		PropertyMeta idMeta = new PropertyMeta();
+		when(context.getIdMeta()).thenReturn(idMeta);
+		ListenableFuture<CompleteBean> future = Futures.immediateFuture(entity);
+		when(context.findAsync(CompleteBean.class)).thenReturn(future);
+
+		ListenableFuture<CompleteBean> actual = manager.findAsync(CompleteBean.class, primaryKey);
+
+		verify(entityValidator).validatePrimaryKey(idMeta, primaryKey);
+		assertThat(actual.get()).isSameAs(entity);
+		verify(context, never()).find(CompleteBean.class);
+	}
+
+	@Test
+	public void should_put_entity_found_async_in_entity_cache() throws Exception {
+		doCallRealMethod().when(manager).findAsync(CompleteBean.class, primaryKey);
+		doCallRealMethod().when(manager).findAsync(eq(CompleteBean.class), eq(primaryKey),
+				any(ConsistencyLevel.class));
+		doCallRealMethod().when(manager).setEntityCache(entityCache);
+		manager.setEntityCache(entityCache);
+
+		CompleteBean realObject = new CompleteBean();
+		when(context.getEntityMeta()).thenReturn(entityMeta);
+		when(entityMeta.isCacheable()).thenReturn(true);
+		ListenableFuture<CompleteBean> future = Futures.immediateFuture(entity);
+		when(context.findAsync(CompleteBean.class)).thenReturn(future);
+		when(proxifier.getRealObject(entity)).thenReturn(realObject);
+
+		CompleteBean bean = manager.findAsync(CompleteBean.class, primaryKey).get();
+
+		assertThat(bean).isSameAs(entity);
+		verify(entityCache).put(entityMeta, primaryKey, realObject);
+	}
+
+	@Test
+	public void should_scan_entities_chunk_by_chunk() throws Exception {
+		final CompleteBean entity1 = CompleteBeanTestBuilder.builder().id(1L).buid();
+		final CompleteBean entity2 = CompleteBeanTestBuilder.builder().id(2L).buid();
+		final CompleteBean entity3 = CompleteBeanTestBuilder.builder().id(3L).buid();
+		Callable<List<CompleteBean>> chunk1 = new Callable<List<CompleteBean>>() {
+			@Override
+			public List<CompleteBean> call() throws Exception {
+				return Arrays.asList(entity1, entity2);
+			}
+		};
+		Callable<List<CompleteBean>> chunk2 = new Callable<List<CompleteBean>>() {
+			@Override
+			public List<CompleteBean> call() throws Exception {
+				return Arrays.asList(entity3);
+			}
+		};
+		Iterator<Callable<List<CompleteBean>>> tasks = Arrays.asList(chunk1, chunk2).iterator();
+
+		Whitebox.setInternalState(manager, "configContext", configContext);
+		when(configContext.getScanExecutor()).thenReturn(MoreExecutors.sameThreadExecutor());
+		when(configContext.getScanParallelism()).thenReturn(2);
+		when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+		when(entityMeta.isClusteredEntity()).thenReturn(false);
+		when(manager.scanTasks(CompleteBean.class, entityMeta)).thenReturn(tasks);
+		doCallRealMethod().when(manager).scan(CompleteBean.class);
+
+		ScanIterator<CompleteBean> iterator = manager.scan(CompleteBean.class);
+
+		List<CompleteBean> scanned = new ArrayList<CompleteBean>();
+		while (iterator.hasNext()) {
+			scanned.add(iterator.next());
+		}
+		assertThat(scanned).containsExactly(entity1, entity2, entity3);
+	}
+
+	@Test
+	public void should_exception_when_scanning_unmanaged_entity() throws Exception {
+		doCallRealMethod().when(manager).scan(CompleteBean.class);
+		when(entityMetaMap.get(CompleteBean.class)).thenReturn(null);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot scan entity type '" + CompleteBean.class.getCanonicalName()
+				+ "' because it is not managed by Achilles");
+
+		manager.scan(CompleteBean.class);
+	}
+
+	@Test
+	public void should_exception_when_scanning_clustered_entity() throws Exception {
+		doCallRealMethod().when(manager).scan(CompleteBean.class);
+		when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+		when(entityMeta.isClusteredEntity()).thenReturn(true);
+		when(entityMeta.getClassName()).thenReturn("CompleteBean");
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot scan entity type 'CompleteBean' because it is a clustered entity");
+
+		manager.scan(CompleteBean.class);
+	}
+
 	private void forceMethodCallsOnMock() {
 		doCallRealMethod().when(manager).setInitializer(initializer);
 		manager.setInitializer(initializer);
@@ -87,6 +87,8 @@ public class EntityMetaBuilderTest {
 		assertThat(meta.getEagerGetters()).containsOnly(simpleMeta.getGetter());
 		assertThat(meta.getAllMetasExceptIdMeta()).containsOnly(simpleMeta);
 		assertThat(meta.getFirstMeta()).isSameAs(simpleMeta);
+		assertThat(meta.getPropertyMetasByOrdinal()).containsExactly(simpleMeta);
+		assertThat(simpleMeta.getOrdinal()).isEqualTo(0);
 	}
 
 	@Test
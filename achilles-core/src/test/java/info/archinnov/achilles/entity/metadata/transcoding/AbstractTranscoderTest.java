@@ -32,8 +32,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.ObjectWriter;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -69,6 +72,8 @@ public class AbstractTranscoderTest {
 	public void setUp() {
 		Whitebox.setInternalState(transcoder, ObjectMapper.class, objectMapper);
 		Whitebox.setInternalState(transcoder, ReflectionInvoker.class, invoker);
+		Whitebox.setInternalState(transcoder, "readers", new ConcurrentHashMap<Class<?>, ObjectReader>());
+		Whitebox.setInternalState(transcoder, "writers", new ConcurrentHashMap<Class<?>, ObjectWriter>());
 	}
 
 	@Test
@@ -0,0 +1,254 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.metadata.transcoding;
+
+import static org.fest.assertions.api.Assertions.*;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.codec.binary.Base64;
+import org.codehaus.jackson.annotate.JsonProperty;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class BinaryCodecTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	private BinaryCodec codec = new BinaryCodec(new HashSet<Class<?>>(Arrays.<Class<?>> asList(UserBean.class,
+			Address.class, Person.class)));
+
+	@Test
+	public void should_encode_and_decode_bean() throws Exception {
+		UserBean user = new UserBean();
+		user.setUserId(10L);
+		user.setName("John");
+
+		String encoded = codec.encode(user, objectMapper);
+
+		assertThat(encoded).startsWith(BinaryCodec.HEADER);
+		assertThat(BinaryCodec.isBinaryEncoded(encoded)).isTrue();
+
+		UserBean decoded = (UserBean) codec.decode(encoded, UserBean.class, objectMapper);
+		assertThat(decoded.getUserId()).isEqualTo(10L);
+		assertThat(decoded.getName()).isEqualTo("John");
+	}
+
+	@Test
+	public void should_encode_and_decode_nested_values() throws Exception {
+		Address home = new Address();
+		home.street = "rue de la paix";
+		home.number = 3;
+		home.type = AddressType.HOME;
+
+		Address office = new Address();
+		office.street = "avenue des champs";
+		office.type = AddressType.OFFICE;
+		office.since = new Date(1000L);
+
+		Person person = new Person();
+		person.id = UUID.randomUUID();
+		person.addresses = Arrays.asList(home, office);
+		person.tags = new HashMap<String, AddressType>();
+		person.tags.put("main", AddressType.HOME);
+		person.balance = new BigDecimal("12.50");
+		person.picture = new byte[] { 1, 2, 3 };
+
+		Person decoded = (Person) codec.decode(codec.encode(person, objectMapper), Person.class, objectMapper);
+
+		assertThat(decoded.id).isEqualTo(person.id);
+		assertThat(decoded.addresses).hasSize(2);
+		assertThat(decoded.addresses.get(0).street).isEqualTo("rue de la paix");
+		assertThat(decoded.addresses.get(0).number).isEqualTo(3);
+		assertThat(decoded.addresses.get(0).type).isSameAs(AddressType.HOME);
+		assertThat(decoded.addresses.get(1).since).isEqualTo(new Date(1000L));
+		assertThat(decoded.tags).containsKey("main");
+		assertThat(decoded.tags.get("main")).isSameAs(AddressType.HOME);
+		assertThat(decoded.balance).isEqualTo(new BigDecimal("12.50"));
+		assertThat(decoded.picture).isEqualTo(new byte[] { 1, 2, 3 });
+	}
+
+	@Test
+	public void should_be_smaller_than_json() throws Exception {
+		Address address = new Address();
+		address.street = "rue de la paix";
+		address.number = 3;
+		address.type = AddressType.HOME;
+		address.since = new Date();
+
+		assertThat(codec.encode(address, objectMapper).length()).isLessThan(objectMapper.writeValueAsString(address).length());
+	}
+
+	@Test
+	public void should_not_detect_json_as_binary() throws Exception {
+		assertThat(BinaryCodec.isBinaryEncoded("{\"name\":\"John\"}")).isFalse();
+		assertThat(BinaryCodec.isBinaryEncoded(null)).isFalse();
+	}
+
+	@Test
+	public void should_exception_when_unknown_version() throws Exception {
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Unsupported binary encoding header for value '#b9:AA=='");
+
+		codec.decode("#b9:AA==", UserBean.class, objectMapper);
+	}
+
+	@Test
+	public void should_bind_fields_by_name_when_field_layout_changed() throws Exception {
+		UserBean user = new UserBean();
+		user.setUserId(10L);
+		user.setName("John");
+		byte[] bytes = Base64.decodeBase64(codec.encode(user, objectMapper).substring(BinaryCodec.HEADER.length())
+				.getBytes("US-ASCII"));
+		bytes[1] = (byte) ~bytes[1];
+		String changedLayout = BinaryCodec.HEADER + new String(Base64.encodeBase64(bytes), "US-ASCII");
+
+		UserBean decoded = (UserBean) codec.decode(changedLayout, UserBean.class, objectMapper);
+
+		assertThat(decoded.getUserId()).isEqualTo(10L);
+		assertThat(decoded.getName()).isEqualTo("John");
+	}
+
+	@Test
+	public void should_convert_field_value_when_field_type_changed() throws Exception {
+		OldAddress oldAddress = new OldAddress();
+		oldAddress.number = 3;
+		oldAddress.street = "rue de la paix";
+		BinaryCodec oldCodec = new BinaryCodec(Collections.<Class<?>> singleton(OldAddress.class));
+
+		Address decoded = (Address) codec.decode(oldCodec.encode(oldAddress, objectMapper), Address.class,
+				objectMapper);
+
+		assertThat(decoded.getNumber()).isEqualTo(3);
+		assertThat(decoded.getStreet()).isEqualTo("rue de la paix");
+		assertThat(decoded.getType()).isNull();
+	}
+
+	@Test
+	public void should_exception_when_bean_type_no_longer_binary_encoded() throws Exception {
+		UserBean user = new UserBean();
+		user.setName("John");
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("cannot be read since this type is not binary encoded");
+
+		BinaryCodec.DEFAULT.decode(codec.encode(user, objectMapper), UserBean.class, objectMapper);
+	}
+
+	@Test
+	public void should_embed_bean_as_json_when_not_binary_encoded_type() throws Exception {
+		UserBean user = new UserBean();
+		user.setName("John");
+
+		String encoded = BinaryCodec.DEFAULT.encode(user, objectMapper);
+		String json = objectMapper.writeValueAsString(user);
+
+		assertThat(new String(Base64.decodeBase64(encoded.substring(BinaryCodec.HEADER.length()).getBytes("US-ASCII")),
+				"UTF-8")).contains(json);
+		assertThat(((UserBean) BinaryCodec.DEFAULT.decode(encoded, UserBean.class, objectMapper)).getName())
+				.isEqualTo("John");
+	}
+
+	@Test
+	public void should_exception_when_bean_type_without_default_constructor() throws Exception {
+		exception.expect(AchillesException.class);
+		exception.expectMessage("should have a default constructor");
+
+		new BinaryCodec(Collections.<Class<?>> singleton(Immutable.class));
+	}
+
+	@Test
+	public void should_exception_when_bean_type_uses_jackson_annotations() throws Exception {
+		exception.expect(AchillesException.class);
+		exception.expectMessage("should not use the Jackson annotation 'JsonProperty'");
+
+		new BinaryCodec(Collections.<Class<?>> singleton(Annotated.class));
+	}
+
+	public static enum AddressType {
+		HOME, OFFICE
+	}
+
+	public static class Address {
+		private String street;
+		private int number;
+		private AddressType type;
+		private Date since;
+
+		public String getStreet() {
+			return street;
+		}
+
+		public int getNumber() {
+			return number;
+		}
+
+		public AddressType getType() {
+			return type;
+		}
+
+		public Date getSince() {
+			return since;
+		}
+	}
+
+	public static class Person {
+		private UUID id;
+		private List<Address> addresses;
+		private Map<String, AddressType> tags;
+		private BigDecimal balance;
+		private byte[] picture;
+	}
+
+	public static class OldAddress {
+		private String street;
+		private long number;
+		private String country;
+	}
+
+	public static class Immutable {
+		private final String value;
+
+		public Immutable(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return value;
+		}
+	}
+
+	public static class Annotated {
+		@JsonProperty("n")
+		private String name;
+	}
+}
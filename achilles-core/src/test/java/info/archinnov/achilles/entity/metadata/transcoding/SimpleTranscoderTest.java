@@ -21,6 +21,9 @@ import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
+
+import java.util.Collections;
 
 import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.Test;
@@ -46,4 +49,85 @@ public class SimpleTranscoderTest {
 
 		assertThat(actual).isEqualTo("value");
 	}
+
+	@Test
+	public void should_encode_and_decode_with_binary_codec() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		SimpleTranscoder binaryTranscoder = new SimpleTranscoder(objectMapper);
+		binaryTranscoder.setBinaryCodec(new BinaryCodec(Collections.<Class<?>> singleton(UserBean.class)));
+		binaryTranscoder.setBinaryEncoding(true);
+		PropertyMeta pm = PropertyMetaTestBuilder.valueClass(UserBean.class).type(SIMPLE).build();
+
+		UserBean user = new UserBean();
+		user.setUserId(10L);
+		user.setName("John");
+
+		Object encoded = binaryTranscoder.encode(pm, user);
+		assertThat(BinaryCodec.isBinaryEncoded((String) encoded)).isTrue();
+
+		UserBean decoded = (UserBean) binaryTranscoder.decode(pm, encoded);
+		assertThat(decoded.getUserId()).isEqualTo(10L);
+		assertThat(decoded.getName()).isEqualTo("John");
+	}
+
+	@Test
+	public void should_decode_json_and_binary_values_with_binary_codec() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		SimpleTranscoder binaryTranscoder = new SimpleTranscoder(objectMapper);
+		binaryTranscoder.setBinaryCodec(new BinaryCodec(Collections.<Class<?>> singleton(UserBean.class)));
+		binaryTranscoder.setBinaryEncoding(true);
+
+		UserBean user = new UserBean();
+		user.setName("John");
+
+		String json = objectMapper.writeValueAsString(user);
+		String binary = binaryTranscoder.forceEncode(user);
+
+		assertThat(binaryTranscoder.forceDecode(json, UserBean.class).getName()).isEqualTo("John");
+		assertThat(binaryTranscoder.forceDecode(binary, UserBean.class).getName()).isEqualTo("John");
+		assertThat(binaryTranscoder.forceEncode(12L)).isEqualTo("12");
+	}
+
+	@Test
+	public void should_decode_binary_value_when_binary_encoding_disabled() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		BinaryCodec binaryCodec = new BinaryCodec(Collections.<Class<?>> singleton(UserBean.class));
+		SimpleTranscoder jsonTranscoder = new SimpleTranscoder(objectMapper);
+		jsonTranscoder.setBinaryCodec(binaryCodec);
+
+		UserBean user = new UserBean();
+		user.setName("John");
+		String binary = binaryCodec.encode(user, objectMapper);
+
+		assertThat(jsonTranscoder.forceEncode(user)).isEqualTo(objectMapper.writeValueAsString(user));
+		assertThat(jsonTranscoder.forceDecode(binary, UserBean.class).getName()).isEqualTo("John");
+	}
+
+	@Test
+	public void should_decode_binary_value_with_default_codec() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		SimpleTranscoder jsonTranscoder = new SimpleTranscoder(objectMapper);
+
+		UserBean user = new UserBean();
+		user.setName("John");
+		String binary = BinaryCodec.DEFAULT.encode(user, objectMapper);
+
+		assertThat(jsonTranscoder.forceDecode(binary, UserBean.class).getName()).isEqualTo("John");
+	}
+
+	@Test
+	public void should_reuse_json_reader_and_writer_per_type() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		SimpleTranscoder jsonTranscoder = new SimpleTranscoder(objectMapper);
+		jsonTranscoder.warmUp(UserBean.class, Long.class, null);
+
+		UserBean user = new UserBean();
+		user.setName("John");
+		String json = jsonTranscoder.forceEncodeToJSON(user);
+
+		assertThat(json).isEqualTo(objectMapper.writeValueAsString(user));
+		assertThat(jsonTranscoder.forceDecodeFromJSON(json, UserBean.class).getName()).isEqualTo("John");
+		assertThat(jsonTranscoder.readerFor(UserBean.class)).isSameAs(jsonTranscoder.readerFor(UserBean.class));
+		assertThat(jsonTranscoder.writerFor(UserBean.class)).isSameAs(jsonTranscoder.writerFor(UserBean.class));
+	}
 }
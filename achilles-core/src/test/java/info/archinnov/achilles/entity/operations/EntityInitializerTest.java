@@ -30,6 +30,8 @@ import info.archinnov.achilles.type.Counter;
 import info.archinnov.achilles.type.CounterBuilder;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -179,4 +181,58 @@ public class EntityInitializerTest {
 		assertThat(counterCaptor.getValue().get()).isEqualTo(10L);
 	}
 
+	@Test
+	public void should_initialize_entities_with_one_load_per_property() throws Exception {
+		Class<? extends CompleteBean> beanClass = bean.getClass();
+		CompleteBean otherBean = new CompleteBean();
+
+		PropertyMeta friendsMeta = new PropertyMeta();
+		friendsMeta.setEntityClassName("beanClass");
+		friendsMeta.setType(LAZY_LIST);
+		friendsMeta.setGetter(beanClass.getMethod("getFriends"));
+
+		PropertyMeta counterMeta = new PropertyMeta();
+		counterMeta.setEntityClassName("beanClass");
+		counterMeta.setType(COUNTER);
+		counterMeta.setGetter(beanClass.getMethod("getCount"));
+		counterMeta.setSetter(beanClass.getMethod("setCount", Counter.class));
+		counterMeta.setInvoker(invoker);
+
+		Map<String, PropertyMeta> allMetas = ImmutableMap.<String, PropertyMeta> of("friends", friendsMeta, "count",
+				counterMeta);
+
+		EntityMeta entityMeta = new EntityMeta();
+		entityMeta.setPropertyMetas(allMetas);
+
+		@SuppressWarnings("unchecked")
+		EntityInterceptor<PersistenceContext, CompleteBean> otherInterceptor = mock(EntityInterceptor.class);
+		PersistenceContext context = mock(PersistenceContext.class);
+		PersistenceContext otherContext = mock(PersistenceContext.class);
+
+		@SuppressWarnings("unchecked")
+		EntityLoader<PersistenceContext> loader = mock(EntityLoader.class);
+
+		when(interceptor.getContext()).thenReturn(context);
+		when(interceptor.getTarget()).thenReturn(bean);
+		when(interceptor.isLoaded(friendsMeta)).thenReturn(false);
+		when(otherInterceptor.getContext()).thenReturn(otherContext);
+		when(otherInterceptor.getTarget()).thenReturn(otherBean);
+		when(otherInterceptor.isLoaded(friendsMeta)).thenReturn(true);
+		when(loader.loadCounters(Arrays.asList(context, otherContext), counterMeta)).thenReturn(
+				Arrays.<Long> asList(10L, 11L));
+
+		List<EntityInterceptor<PersistenceContext, CompleteBean>> interceptors = Arrays.asList(interceptor,
+				otherInterceptor);
+		initializer.initializeEntities(Arrays.asList(bean, otherBean), entityMeta, interceptors, loader);
+
+		verify(loader).loadPropertyIntoObjects(Arrays.asList(context), Arrays.<Object> asList(bean), friendsMeta);
+		verify(interceptor).markLoaded(friendsMeta);
+		verify(otherInterceptor, never()).markLoaded(friendsMeta);
+
+		ArgumentCaptor<Counter> counterCaptor = ArgumentCaptor.forClass(Counter.class);
+		verify(invoker).setValueToField(eq(bean), eq(counterMeta.getSetter()), counterCaptor.capture());
+		verify(invoker).setValueToField(eq(otherBean), eq(counterMeta.getSetter()), counterCaptor.capture());
+		assertThat(counterCaptor.getAllValues().get(0).get()).isEqualTo(10L);
+		assertThat(counterCaptor.getAllValues().get(1).get()).isEqualTo(11L);
+	}
 }
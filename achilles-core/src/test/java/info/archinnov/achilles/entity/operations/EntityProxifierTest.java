@@ -16,18 +16,22 @@
  */
 package info.archinnov.achilles.entity.operations;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.proxy.EntityInterceptor;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -38,6 +42,7 @@ import java.util.Set;
 
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodProxy;
 import net.sf.cglib.proxy.NoOp;
 
 import org.junit.Before;
@@ -46,6 +51,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.collect.ImmutableMap;
+
 @RunWith(MockitoJUnitRunner.class)
 public class EntityProxifierTest {
 	@Mock
@@ -113,6 +120,77 @@ public class EntityProxifierTest {
 		assertThat(factory.getCallback(0)).isInstanceOf(EntityInterceptor.class);
 	}
 
+	@Test
+	public void should_reuse_proxy_class_when_building_proxies() throws Exception {
+		CompleteBean entity1 = CompleteBeanTestBuilder.builder().id(1L).buid();
+		CompleteBean entity2 = CompleteBeanTestBuilder.builder().id(2L).buid();
+
+		ConfigurationContext configContext = new ConfigurationContext();
+		configContext.setProxyFactories(EntityProxifier.createProxyFactories(ImmutableMap.<Class<?>, EntityMeta> of(
+				CompleteBean.class, new EntityMeta())));
+		when(context.getConfigContext()).thenReturn(configContext);
+		when(proxifier.buildInterceptor(eq(context), any(CompleteBean.class), any(HashSet.class))).thenReturn(
+				interceptor);
+		doCallRealMethod().when(proxifier).buildProxy(any(CompleteBean.class), eq(context));
+		doCallRealMethod().when(proxifier).buildProxy(any(CompleteBean.class), eq(context), any(HashSet.class));
+
+		CompleteBean proxy1 = proxifier.buildProxy(entity1, context);
+		CompleteBean proxy2 = proxifier.buildProxy(entity2, context);
+
+		assertThat(proxy1).isNotSameAs(proxy2);
+		Class<?> proxyClass1 = proxy1.getClass();
+		Class<?> proxyClass2 = proxy2.getClass();
+		Class<?> factoryClass = configContext.getProxyFactories().get(CompleteBean.class).getClass();
+		assertThat((Object) proxyClass1).isSameAs(proxyClass2);
+		assertThat((Object) proxyClass1).isSameAs(factoryClass);
+		assertThat(((Factory) proxy2).getCallback(0)).isSameAs(interceptor);
+	}
+
+	@Test
+	public void should_register_proxy_factories_and_ignore_non_proxiable_classes() throws Exception {
+		Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
+		entityMetaMap.put(UserBean.class, new EntityMeta());
+		entityMetaMap.put(Long.class, new EntityMeta());
+
+		Map<Class<?>, Factory> proxyFactories = EntityProxifier.createProxyFactories(entityMetaMap);
+
+		assertThat(proxyFactories).hasSize(1);
+		assertThat(proxyFactories.get(UserBean.class)).isInstanceOf(UserBean.class);
+	}
+
+	@Test
+	public void should_dispatch_property_accessors_on_ordinal() throws Throwable {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors()
+				.type(ID).build();
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.accessors().type(SIMPLE).build();
+		EntityMeta meta = new EntityMeta();
+		meta.setPropertyMetasByOrdinal(Arrays.asList(idMeta, nameMeta));
+
+		CompleteBean entity = CompleteBeanTestBuilder.builder().id(1L).buid();
+		when(context.getEntityMeta()).thenReturn(meta);
+		when(proxifier.buildInterceptor(eq(context), eq(entity), any(HashSet.class))).thenReturn(interceptor);
+		doCallRealMethod().when(proxifier).buildProxy(entity, context);
+		doCallRealMethod().when(proxifier).buildProxy(eq(entity), eq(context), any(HashSet.class));
+
+		CompleteBean proxy = proxifier.buildProxy(entity, context);
+		assertThat(((Factory) proxy).getCallbacks()).hasSize(5);
+
+		proxy.getName();
+		proxy.setName("name");
+		proxy.getId();
+		proxy.getFriends();
+
+		verify(interceptor).interceptGetter(eq(1), eq(nameMeta.getGetter()), any(Object[].class),
+				any(MethodProxy.class));
+		verify(interceptor).interceptSetter(eq(1), eq(nameMeta.getSetter()), any(Object[].class),
+				any(MethodProxy.class));
+		verify(interceptor).interceptGetter(eq(0), eq(idMeta.getGetter()), any(Object[].class),
+				any(MethodProxy.class));
+		verify(interceptor).intercept(any(), eq(CompleteBean.class.getMethod("getFriends")), any(Object[].class),
+				any(MethodProxy.class));
+	}
+
 	@Test
 	public void should_build_null_proxy() throws Exception {
 		doCallRealMethod().when(proxifier).buildProxy(null, context);
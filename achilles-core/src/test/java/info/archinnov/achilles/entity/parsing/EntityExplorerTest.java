@@ -17,16 +17,33 @@
 package info.archinnov.achilles.entity.parsing;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.test.more.entity.Entity3;
 import info.archinnov.achilles.test.sample.entity.Entity1;
 import info.archinnov.achilles.test.sample.entity.Entity2;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
 
 public class EntityExplorerTest {
+	private static final String SAMPLE_PACKAGE = "info.archinnov.achilles.test.sample.entity";
+	private static final String MORE_PACKAGE = "info.archinnov.achilles.test.more.entity";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	private EntityExplorer explorer = new EntityExplorer();
 
 	@Test
@@ -48,4 +65,80 @@ public class EntityExplorerTest {
 
 	}
 
+	@Test
+	public void should_load_indexed_entities_without_scanning() throws Exception {
+		EntityExplorer spy = Mockito.spy(explorer);
+		File root = indexedRoot(MORE_PACKAGE, Entity3.class.getName());
+		doReturn(classLoader(root)).when(spy).getClassLoader();
+
+		List<Class<?>> entities = spy.discoverEntities(Arrays.asList(MORE_PACKAGE));
+
+		assertThat(entities).containsExactly(Entity3.class);
+		verify(spy, never()).scanPackages(anyListOf(String.class));
+	}
+
+	@Test
+	public void should_scan_only_packages_without_indexed_entity() throws Exception {
+		EntityExplorer spy = Mockito.spy(explorer);
+		File root = indexedRoot(MORE_PACKAGE, Entity3.class.getName());
+		doReturn(classLoader(root)).when(spy).getClassLoader();
+
+		List<Class<?>> entities = spy.discoverEntities(Arrays.asList(SAMPLE_PACKAGE, MORE_PACKAGE));
+
+		assertThat(entities).hasSize(3);
+		verify(spy).scanPackages(Arrays.asList(SAMPLE_PACKAGE));
+	}
+
+	@Test
+	public void should_scan_package_when_index_is_stale() throws Exception {
+		EntityExplorer spy = Mockito.spy(explorer);
+		File root = indexedRoot(MORE_PACKAGE, Entity3.class.getName(), MORE_PACKAGE + ".RemovedEntity");
+		doReturn(classLoader(root)).when(spy).getClassLoader();
+
+		List<Class<?>> entities = spy.discoverEntities(Arrays.asList(MORE_PACKAGE));
+
+		assertThat(entities).containsExactly(Entity3.class);
+		verify(spy).scanPackages(Arrays.asList(MORE_PACKAGE));
+	}
+
+	@Test
+	public void should_scan_package_when_a_classpath_root_is_not_indexed() throws Exception {
+		EntityExplorer spy = Mockito.spy(explorer);
+		File indexedRoot = indexedRoot(MORE_PACKAGE, Entity3.class.getName());
+		File unindexedRoot = temporaryFolder.newFolder("unindexed");
+		new File(unindexedRoot, MORE_PACKAGE.replace('.', '/')).mkdirs();
+		doReturn(classLoader(indexedRoot, unindexedRoot)).when(spy).getClassLoader();
+
+		List<Class<?>> entities = spy.discoverEntities(Arrays.asList(MORE_PACKAGE));
+
+		assertThat(entities).containsExactly(Entity3.class);
+		verify(spy).scanPackages(Arrays.asList(MORE_PACKAGE));
+	}
+
+	private File indexedRoot(String packageName, String... indexedClasses) throws IOException {
+		File root = temporaryFolder.newFolder("indexed");
+		new File(root, packageName.replace('.', '/')).mkdirs();
+		File index = new File(root, EntityExplorer.ENTITY_INDEX);
+		index.getParentFile().mkdirs();
+		FileUtils.writeLines(index, "UTF-8", Arrays.asList(indexedClasses));
+		return root;
+	}
+
+	/**
+	 * Class loader seeing only the given roots as resources, classes are
+	 * still loaded from the test classpath
+	 */
+	private ClassLoader classLoader(File... roots) throws IOException {
+		URL[] urls = new URL[roots.length];
+		for (int i = 0; i < roots.length; i++) {
+			urls[i] = roots[i].toURI().toURL();
+		}
+		final URLClassLoader resourceLoader = new URLClassLoader(urls, null);
+		return new ClassLoader(getClass().getClassLoader()) {
+			@Override
+			public Enumeration<URL> getResources(String name) throws IOException {
+				return resourceLoader.getResources(name);
+			}
+		};
+	}
 }
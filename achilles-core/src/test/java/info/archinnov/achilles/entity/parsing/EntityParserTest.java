@@ -176,6 +176,10 @@ public class EntityParserTest {
 		assertThat(meta.getEagerGetters()).containsOnly(id.getGetter(), name.getGetter(), age.getGetter(),
 				followers.getGetter(), preferences.getGetter(), creator.getGetter());
 
+		assertThat(id.getAccessor()).isNotNull();
+		assertThat(friends.getAccessor()).isNotNull();
+		assertThat(creator.getAccessor()).isNotNull();
+
 		verify(policy).setConsistencyLevelForRead(ConsistencyLevel.ONE, meta.getTableName());
 		verify(policy).setConsistencyLevelForWrite(ConsistencyLevel.ALL, meta.getTableName());
 	}
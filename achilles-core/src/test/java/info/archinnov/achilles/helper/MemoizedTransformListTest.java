@@ -0,0 +1,66 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.helper;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.common.base.Function;
+
+public class MemoizedTransformListTest {
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final Function<Integer, String> function = new Function<Integer, String>() {
+		@Override
+		public String apply(Integer input) {
+			calls.incrementAndGet();
+			return "value" + input;
+		}
+	};
+
+	@Test
+	public void should_transform_each_element_once() throws Exception {
+		List<String> list = new MemoizedTransformList<Integer, String>(Arrays.asList(1, 2, 3), function);
+
+		assertThat(calls.get()).isEqualTo(0);
+		assertThat(list.get(1)).isEqualTo("value2");
+		assertThat(list.get(1)).isEqualTo("value2");
+		assertThat(calls.get()).isEqualTo(1);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(list).containsExactly("value1", "value2", "value3");
+		}
+		assertThat(calls.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void should_remove_element() throws Exception {
+		List<String> list = new MemoizedTransformList<Integer, String>(Arrays.asList(1, 2, 3), function);
+
+		assertThat(list.remove(0)).isEqualTo("value1");
+
+		assertThat(list).containsExactly("value2", "value3");
+		assertThat(list.size()).isEqualTo(2);
+		assertThat(calls.get()).isEqualTo(3);
+	}
+}
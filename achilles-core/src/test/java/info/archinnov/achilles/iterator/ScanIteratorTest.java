@@ -0,0 +1,107 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.iterator;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ScanIteratorTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	private AtomicInteger started = new AtomicInteger();
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void should_iterate_over_chunks_in_order() throws Exception {
+		List<Callable<List<Integer>>> tasks = new ArrayList<Callable<List<Integer>>>();
+		tasks.add(chunk(1, 2));
+		tasks.add(chunk());
+		tasks.add(chunk(3));
+		tasks.add(chunk(4, 5));
+
+		ScanIterator<Integer> iterator = new ScanIterator<Integer>(tasks.iterator(), executor, 2);
+
+		List<Integer> result = new ArrayList<Integer>();
+		while (iterator.hasNext()) {
+			result.add(iterator.next());
+		}
+		assertThat(result).containsExactly(1, 2, 3, 4, 5);
+		assertThat(started.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void should_not_submit_more_tasks_than_parallelism() throws Exception {
+		List<Callable<List<Integer>>> tasks = Arrays.asList(chunk(1), chunk(2), chunk(3), chunk(4), chunk(5));
+
+		ScanIterator<Integer> iterator = new ScanIterator<Integer>(tasks.iterator(), executor, 2);
+
+		assertThat(iterator.next()).isEqualTo(1);
+		iterator.close();
+
+		assertThat(started.get()).isLessThanOrEqualTo(3);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void should_propagate_task_exception() throws Exception {
+		Callable<List<Integer>> failing = new Callable<List<Integer>>() {
+			@Override
+			public List<Integer> call() throws Exception {
+				throw new IllegalStateException("boom");
+			}
+		};
+		List<Callable<List<Integer>>> tasks = Arrays.asList(chunk(1), failing);
+
+		ScanIterator<Integer> iterator = new ScanIterator<Integer>(tasks.iterator(), executor, 2);
+		assertThat(iterator.next()).isEqualTo(1);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Error while scanning entities : boom");
+		iterator.hasNext();
+	}
+
+	private Callable<List<Integer>> chunk(final Integer... values) {
+		return new Callable<List<Integer>>() {
+			@Override
+			public List<Integer> call() throws Exception {
+				started.incrementAndGet();
+				return Arrays.asList(values);
+			}
+		};
+	}
+}
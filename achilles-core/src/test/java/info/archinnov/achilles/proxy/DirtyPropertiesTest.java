@@ -0,0 +1,144 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import static info.archinnov.achilles.entity.metadata.EntityMetaBuilder.*;
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.*;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class DirtyPropertiesTest {
+
+	private PropertyMeta idMeta;
+	private PropertyMeta nameMeta;
+	private PropertyMeta friendsMeta;
+	private EntityMeta entityMeta;
+
+	@Before
+	public void setUp() throws Exception {
+		idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").type(ID).accessors().build();
+		nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name").type(SIMPLE)
+				.accessors().build();
+		friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends").type(LIST)
+				.accessors().build();
+
+		Map<String, PropertyMeta> propertyMetas = new LinkedHashMap<String, PropertyMeta>();
+		propertyMetas.put("id", idMeta);
+		propertyMetas.put("name", nameMeta);
+		propertyMetas.put("friends", friendsMeta);
+		entityMeta = entityMetaBuilder(idMeta).className("CompleteBean").columnFamilyName("cf")
+				.propertyMetas(propertyMetas).build();
+	}
+
+	@Test
+	public void should_flag_dirty_properties() throws Exception {
+		DirtyProperties dirtyMap = new DirtyProperties(entityMeta);
+
+		assertThat(dirtyMap.put(nameMeta.getSetter(), nameMeta)).isNull();
+		assertThat(dirtyMap.put(nameMeta.getSetter(), nameMeta)).isSameAs(nameMeta);
+		dirtyMap.put(friendsMeta.getSetter(), friendsMeta);
+
+		assertThat(dirtyMap).hasSize(2);
+		assertThat(dirtyMap.containsKey(nameMeta.getSetter())).isTrue();
+		assertThat(dirtyMap.containsKey(idMeta.getSetter())).isFalse();
+		assertThat(dirtyMap.get(friendsMeta.getSetter())).isSameAs(friendsMeta);
+		assertThat(dirtyMap.values()).containsOnly(nameMeta, friendsMeta);
+	}
+
+	@Test
+	public void should_iterate_entries_by_setter() throws Exception {
+		DirtyProperties dirtyMap = new DirtyProperties(entityMeta);
+		dirtyMap.put(friendsMeta.getSetter(), friendsMeta);
+
+		Iterator<Entry<Method, PropertyMeta>> iterator = dirtyMap.entrySet().iterator();
+		Entry<Method, PropertyMeta> entry = iterator.next();
+
+		assertThat(entry.getKey()).isEqualTo(friendsMeta.getSetter());
+		assertThat(entry.getValue()).isSameAs(friendsMeta);
+		assertThat(iterator.hasNext()).isFalse();
+
+		iterator.remove();
+		assertThat(dirtyMap.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void should_remove_and_clear() throws Exception {
+		DirtyProperties dirtyMap = new DirtyProperties(entityMeta);
+		dirtyMap.put(nameMeta.getSetter(), nameMeta);
+		dirtyMap.put(friendsMeta.getSetter(), friendsMeta);
+
+		assertThat(dirtyMap.remove(nameMeta.getSetter())).isSameAs(nameMeta);
+		assertThat(dirtyMap.remove(nameMeta.getSetter())).isNull();
+		assertThat(dirtyMap).hasSize(1);
+
+		dirtyMap.clear();
+		assertThat(dirtyMap).isEmpty();
+	}
+
+	@Test
+	public void should_merge_collection_deltas_of_same_kind() throws Exception {
+		DirtyProperties dirtyMap = new DirtyProperties(entityMeta);
+
+		dirtyMap.putDelta(friendsMeta, CollectionDelta.append(Arrays.asList("John")));
+		dirtyMap.putDelta(friendsMeta, CollectionDelta.append(Arrays.asList("Helen", "Paul")));
+
+		assertThat(dirtyMap.containsKey(friendsMeta.getSetter())).isTrue();
+		assertThat(dirtyMap.getDelta(friendsMeta).getElements()).containsExactly("John", "Helen", "Paul");
+
+		dirtyMap.putDelta(friendsMeta, CollectionDelta.prepend(Arrays.asList("Ringo")));
+		assertThat(dirtyMap.getDelta(friendsMeta)).isNull();
+		assertThat(dirtyMap).hasSize(1);
+	}
+
+	@Test
+	public void should_drop_collection_delta_on_full_write() throws Exception {
+		DirtyProperties dirtyMap = new DirtyProperties(entityMeta);
+
+		dirtyMap.putDelta(friendsMeta, CollectionDelta.prepend(Arrays.asList("John")));
+		dirtyMap.putDelta(friendsMeta, CollectionDelta.prepend(Arrays.asList("Helen")));
+		assertThat(dirtyMap.getDelta(friendsMeta).getElements()).containsExactly("Helen", "John");
+
+		dirtyMap.put(friendsMeta.getSetter(), friendsMeta);
+		assertThat(dirtyMap.getDelta(friendsMeta)).isNull();
+
+		dirtyMap.putDelta(friendsMeta, CollectionDelta.append(Arrays.asList("Paul")));
+		assertThat(dirtyMap.getDelta(friendsMeta)).isNull();
+
+		dirtyMap.clear();
+		dirtyMap.putDelta(friendsMeta, CollectionDelta.append(Arrays.asList("Paul")));
+		assertThat(dirtyMap.getDelta(friendsMeta).getElements()).containsExactly("Paul");
+	}
+
+	@Test
+	public void should_use_hash_map_when_entity_meta_has_no_ordinal() throws Exception {
+		assertThat(DirtyProperties.forEntity(new EntityMeta())).isInstanceOf(HashMap.class);
+		assertThat(DirtyProperties.forEntity(entityMeta)).isInstanceOf(DirtyProperties.class);
+	}
+}
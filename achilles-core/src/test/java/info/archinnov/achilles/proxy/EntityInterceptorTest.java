@@ -37,6 +37,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -76,8 +77,7 @@ public class EntityInterceptorTest {
 
 	private Object[] args = new Object[] {};
 
-	private Map<Method, PropertyMeta> getterMetas = new HashMap<Method, PropertyMeta>();
-	private Map<Method, PropertyMeta> setterMetas = new HashMap<Method, PropertyMeta>();
+	private List<PropertyMeta> propertyMetas = new ArrayList<PropertyMeta>();
 	private Set<Method> alreadyLoaded = new HashSet<Method>();
 	private Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
 	private CompleteBean bean;
@@ -90,14 +90,14 @@ public class EntityInterceptorTest {
 		doCallRealMethod().when(interceptor).setTarget(any(CompleteBean.class));
 		doCallRealMethod().when(interceptor).intercept(any(), any(Method.class), any(Object[].class),
 				any(MethodProxy.class));
-		doCallRealMethod().when(interceptor).setGetterMetas(getterMetas);
-		doCallRealMethod().when(interceptor).setSetterMetas(setterMetas);
-
-		getterMetas.clear();
-		setterMetas.clear();
-
-		interceptor.setGetterMetas(getterMetas);
-		interceptor.setSetterMetas(setterMetas);
+		doCallRealMethod().when(interceptor).isLoaded(any(PropertyMeta.class));
+		doCallRealMethod().when(interceptor).markLoaded(any(PropertyMeta.class));
+		doCallRealMethod().when(interceptor).interceptGetter(anyInt(), any(Method.class), any(Object[].class),
+				any(MethodProxy.class));
+		doCallRealMethod().when(interceptor).interceptSetter(anyInt(), any(Method.class), any(Object[].class),
+				any(MethodProxy.class));
+		doCallRealMethod().when(interceptor).setPropertyMetas(propertyMetas);
+		interceptor.setPropertyMetas(propertyMetas);
 
 		doCallRealMethod().when(interceptor).setLoader(loader);
 		interceptor.setLoader(loader);
@@ -125,23 +125,16 @@ public class EntityInterceptorTest {
 		doCallRealMethod().when(interceptor).setProxifier(proxifier);
 		interceptor.setProxifier(proxifier);
 
-		idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors().build();
+		idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors()
+				.type(PropertyType.ID).build();
 
-		doCallRealMethod().when(interceptor).setIdGetter(idMeta.getGetter());
-		doCallRealMethod().when(interceptor).setIdSetter(idMeta.getSetter());
-		interceptor.setIdGetter(idMeta.getGetter());
-		interceptor.setIdSetter(idMeta.getSetter());
+		propertyMetas.clear();
+		propertyMetas.add(idMeta);
 	}
 
 	@Test
 	public void should_return_key_when_invoking_id_getter() throws Throwable {
-		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors()
-				.build();
-
-		doCallRealMethod().when(interceptor).setIdGetter(idMeta.getGetter());
-		interceptor.setIdGetter(idMeta.getGetter());
-
-		Object id = interceptor.intercept(bean, idMeta.getGetter(), args, null);
+		Object id = interceptor.interceptGetter(0, idMeta.getGetter(), args, null);
 
 		assertThat(id).isEqualTo(key);
 	}
@@ -151,7 +144,18 @@ public class EntityInterceptorTest {
 		exception.expect(IllegalAccessException.class);
 		exception.expectMessage("Cannot change primary key value for existing entity ");
 
-		interceptor.intercept(null, idMeta.getSetter(), args, null);
+		interceptor.interceptSetter(0, idMeta.getSetter(), args, null);
+	}
+
+	@Test
+	public void should_invoke_unmapped_method_on_target() throws Throwable {
+		Method method = CompleteBean.class.getMethod("toString");
+		when(proxy.invoke(bean, args)).thenReturn(rawValue);
+
+		Object actual = interceptor.intercept(bean, method, args, proxy);
+
+		assertThat(actual).isSameAs(rawValue);
+		verifyZeroInteractions(loader);
 	}
 
 	@Test
@@ -160,9 +164,9 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
 				.accessors().type(PropertyType.LAZY_SIMPLE).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isEqualTo(rawValue);
 		verify(loader).loadPropertyIntoObject(context, bean, propertyMeta);
@@ -175,9 +179,9 @@ public class EntityInterceptorTest {
 				.accessors().type(PropertyType.LAZY_SIMPLE).build();
 
 		alreadyLoaded.add(propertyMeta.getGetter());
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isEqualTo(rawValue);
 		verifyZeroInteractions(loader);
@@ -189,10 +193,10 @@ public class EntityInterceptorTest {
 				.accessors().type(PropertyType.SIMPLE).build();
 
 		alreadyLoaded.add(propertyMeta.getGetter());
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isEqualTo(rawValue);
 		verifyZeroInteractions(loader);
@@ -203,12 +207,12 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, Counter.class).field("count")
 				.accessors().type(PropertyType.COUNTER).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		Counter counterWrapper = mock(Counter.class);
 		when(interceptor.buildCounterWrapper(propertyMeta)).thenReturn(counterWrapper);
 		when(proxy.invoke(bean, args)).thenReturn(counterWrapper);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isSameAs(counterWrapper);
 	}
@@ -218,11 +222,11 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
 				.accessors().type(PropertyType.LIST).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		rawValue = new ArrayList<String>();
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isInstanceOf(ListWrapper.class);
 	}
@@ -232,11 +236,11 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
 				.accessors().type(PropertyType.LAZY_LIST).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		rawValue = new ArrayList<String>();
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isInstanceOf(ListWrapper.class);
 	}
@@ -246,10 +250,10 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
 				.accessors().type(PropertyType.LIST).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		when(proxy.invoke(bean, args)).thenReturn(null);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isNull();
 	}
@@ -259,11 +263,11 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("followers")
 				.accessors().type(PropertyType.SET).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		rawValue = new HashSet<String>();
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isInstanceOf(SetWrapper.class);
 	}
@@ -273,11 +277,11 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("followers")
 				.accessors().type(PropertyType.LAZY_SET).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		rawValue = new HashSet<String>();
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isInstanceOf(SetWrapper.class);
 	}
@@ -287,10 +291,10 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("followers")
 				.accessors().type(PropertyType.SET).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		when(proxy.invoke(bean, args)).thenReturn(null);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isNull();
 	}
@@ -300,11 +304,11 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Integer.class, String.class)
 				.field("preferences").accessors().type(PropertyType.MAP).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		rawValue = new HashMap<Integer, String>();
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isInstanceOf(MapWrapper.class);
 	}
@@ -314,11 +318,11 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Integer.class, String.class)
 				.field("preferences").accessors().type(PropertyType.LAZY_MAP).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		rawValue = new HashMap<Integer, String>();
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isInstanceOf(MapWrapper.class);
 	}
@@ -328,10 +332,10 @@ public class EntityInterceptorTest {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Integer.class, String.class)
 				.field("preferences").accessors().type(PropertyType.MAP).build();
 
-		getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		when(proxy.invoke(bean, args)).thenReturn(null);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		Object actual = interceptor.interceptGetter(1, propertyMeta.getGetter(), args, proxy);
 
 		assertThat(actual).isNull();
 	}
@@ -342,11 +346,11 @@ public class EntityInterceptorTest {
 				.accessors().type(PropertyType.COUNTER).build();
 
 		// No setter, use getter to simulate setter
-		setterMetas.put(propertyMeta.getGetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		exception.expect(UnsupportedOperationException.class);
 		exception
 				.expectMessage("Cannot set value directly to a Counter type. Please call the getter first to get handle on the wrapper");
-		interceptor.intercept(bean, propertyMeta.getGetter(), args, proxy);
+		interceptor.interceptSetter(1, propertyMeta.getGetter(), args, proxy);
 
 	}
 
@@ -354,10 +358,10 @@ public class EntityInterceptorTest {
 	public void should_set_simple_value() throws Throwable {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
 				.accessors().type(PropertyType.SIMPLE).build();
-		setterMetas.put(propertyMeta.getSetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getSetter(), args, proxy);
+		Object actual = interceptor.interceptSetter(1, propertyMeta.getSetter(), args, proxy);
 
 		assertThat(alreadyLoaded).isEmpty();
 		assertThat(dirtyMap).containsKey(propertyMeta.getSetter());
@@ -369,10 +373,10 @@ public class EntityInterceptorTest {
 	public void should_set_lazy_value() throws Throwable {
 		PropertyMeta propertyMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
 				.accessors().type(PropertyType.LAZY_SIMPLE).build();
-		setterMetas.put(propertyMeta.getSetter(), propertyMeta);
+		propertyMetas.add(propertyMeta);
 		when(proxy.invoke(bean, args)).thenReturn(rawValue);
 
-		Object actual = interceptor.intercept(bean, propertyMeta.getSetter(), args, proxy);
+		Object actual = interceptor.interceptSetter(1, propertyMeta.getSetter(), args, proxy);
 
 		assertThat(alreadyLoaded).contains(propertyMeta.getGetter());
 		assertThat(dirtyMap).containsKey(propertyMeta.getSetter());
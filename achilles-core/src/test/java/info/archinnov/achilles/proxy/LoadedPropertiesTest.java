@@ -0,0 +1,118 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import static info.archinnov.achilles.entity.metadata.EntityMetaBuilder.*;
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.*;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.parser.entity.Bean;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+public class LoadedPropertiesTest {
+
+	private PropertyMeta idMeta;
+	private PropertyMeta nameMeta;
+	private PropertyMeta ageMeta;
+	private EntityMeta entityMeta;
+
+	@Before
+	public void setUp() throws Exception {
+		idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").type(ID).accessors().build();
+		nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name").type(SIMPLE)
+				.accessors().build();
+		ageMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age").type(LAZY_SIMPLE)
+				.accessors().build();
+
+		Map<String, PropertyMeta> propertyMetas = new LinkedHashMap<String, PropertyMeta>();
+		propertyMetas.put("id", idMeta);
+		propertyMetas.put("name", nameMeta);
+		propertyMetas.put("age", ageMeta);
+		entityMeta = entityMetaBuilder(idMeta).className("CompleteBean").columnFamilyName("cf")
+				.propertyMetas(propertyMetas).build();
+	}
+
+	@Test
+	public void should_add_and_check_getters_by_ordinal() throws Exception {
+		LoadedProperties loaded = new LoadedProperties(entityMeta);
+
+		assertThat(loaded.add(nameMeta.getGetter())).isTrue();
+		assertThat(loaded.add(nameMeta.getGetter())).isFalse();
+		loaded.addOrdinal(ageMeta.getOrdinal());
+
+		assertThat(loaded).hasSize(2);
+		assertThat(loaded.contains(nameMeta.getGetter())).isTrue();
+		assertThat(loaded.contains(idMeta.getGetter())).isFalse();
+		assertThat(loaded.containsOrdinal(ageMeta.getOrdinal())).isTrue();
+		assertThat(loaded).containsOnly(nameMeta.getGetter(), ageMeta.getGetter());
+	}
+
+	@Test
+	public void should_ignore_unmapped_getter() throws Exception {
+		LoadedProperties loaded = new LoadedProperties(entityMeta);
+		Method unmapped = Bean.class.getDeclaredMethod("getLabel");
+
+		assertThat(loaded.add(unmapped)).isFalse();
+		assertThat(loaded.contains(unmapped)).isFalse();
+		assertThat(loaded).isEmpty();
+	}
+
+	@Test
+	public void should_remove_with_iterator_and_clear() throws Exception {
+		LoadedProperties loaded = new LoadedProperties(entityMeta);
+		loaded.addAll(Sets.newHashSet(idMeta.getGetter(), nameMeta.getGetter(), ageMeta.getGetter()));
+
+		Iterator<Method> iterator = loaded.iterator();
+		iterator.next();
+		iterator.remove();
+		assertThat(loaded).hasSize(2);
+
+		loaded.clear();
+		assertThat(loaded).isEmpty();
+	}
+
+	@Test
+	public void should_seed_loaded_properties_for_entity() throws Exception {
+		Set<Method> alreadyLoaded = Sets.newHashSet(nameMeta.getGetter());
+
+		Set<Method> loaded = LoadedProperties.forEntity(entityMeta, alreadyLoaded);
+
+		assertThat(loaded).isInstanceOf(LoadedProperties.class);
+		assertThat(loaded).containsOnly(nameMeta.getGetter());
+	}
+
+	@Test
+	public void should_keep_plain_set_when_entity_meta_has_no_ordinal() throws Exception {
+		Set<Method> alreadyLoaded = new HashSet<Method>();
+
+		assertThat(LoadedProperties.forEntity(new EntityMeta(), alreadyLoaded)).isSameAs(alreadyLoaded);
+		assertThat(LoadedProperties.forEntity(new EntityMeta(), null)).isInstanceOf(HashSet.class);
+	}
+}
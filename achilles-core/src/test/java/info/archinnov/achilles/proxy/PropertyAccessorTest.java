@@ -0,0 +1,112 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.proxy;
+
+import static org.fest.assertions.api.Assertions.*;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.test.parser.entity.Bean;
+
+import java.lang.reflect.Method;
+
+import net.sf.cglib.reflect.FastClass;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PropertyAccessorTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private FastClass fastClass = PropertyAccessor.createFastClass(Bean.class);
+
+	@Test
+	public void should_get_value_with_generated_accessor() throws Exception {
+		Bean bean = new Bean();
+		bean.setName("name");
+
+		PropertyAccessor accessor = PropertyAccessor.create(fastClass, Bean.class.getMethod("getName"),
+				Bean.class.getMethod("setName", String.class));
+
+		assertThat(accessor.getValue(bean)).isEqualTo("name");
+	}
+
+	@Test
+	public void should_return_null_when_getting_value_from_null_target() throws Exception {
+		PropertyAccessor accessor = PropertyAccessor.create(fastClass, Bean.class.getMethod("getName"),
+				Bean.class.getMethod("setName", String.class));
+
+		assertThat(accessor.getValue(null)).isNull();
+	}
+
+	@Test
+	public void should_set_value_with_generated_accessor() throws Exception {
+		Bean bean = new Bean();
+		PropertyAccessor accessor = PropertyAccessor.create(fastClass, Bean.class.getMethod("getAge"),
+				Bean.class.getMethod("setAge", Long.class));
+
+		accessor.setValue(bean, 10L);
+
+		assertThat(bean.getAge()).isEqualTo(10L);
+	}
+
+	@Test
+	public void should_not_create_accessor_for_non_public_method() throws Exception {
+		Method getter = PropertyAccessorTest.class.getDeclaredMethod("getNonPublic");
+
+		assertThat(PropertyAccessor.create(fastClass, getter, Bean.class.getMethod("setName", String.class)))
+				.isNull();
+	}
+
+	@Test
+	public void should_not_create_accessor_without_fast_class() throws Exception {
+		assertThat(
+				PropertyAccessor.create(null, Bean.class.getMethod("getName"),
+						Bean.class.getMethod("setName", String.class))).isNull();
+	}
+
+	@Test
+	public void should_exception_when_setting_null_to_primitive() throws Exception {
+		FastClass primitiveFastClass = PropertyAccessor.createFastClass(BeanWithPrimitive.class);
+		PropertyAccessor accessor = PropertyAccessor.create(primitiveFastClass,
+				BeanWithPrimitive.class.getMethod("getCount"), BeanWithPrimitive.class.getMethod("setCount", int.class));
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot set null value to primitive type 'int' when invoking 'setCount' on instance of class'"
+				+ BeanWithPrimitive.class.getCanonicalName() + "'");
+
+		accessor.setValue(new BeanWithPrimitive(), null);
+	}
+
+	@SuppressWarnings("unused")
+	private String getNonPublic() {
+		return null;
+	}
+
+	public static class BeanWithPrimitive {
+		private int count;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+	}
+}
@@ -16,11 +16,15 @@
  */
 package info.archinnov.achilles.proxy.wrapper;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
+import info.archinnov.achilles.proxy.CollectionDelta;
+import info.archinnov.achilles.proxy.CollectionDelta.Operation;
+import info.archinnov.achilles.proxy.DirtyProperties;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
 import java.lang.reflect.Method;
@@ -34,6 +38,8 @@ import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -51,6 +57,12 @@ public class ListWrapperTest {
 	@Mock
 	private EntityProxifier<PersistenceContext> proxifier;
 
+	@Mock
+	private DirtyProperties dirtyProperties;
+
+	@Captor
+	private ArgumentCaptor<CollectionDelta> deltaCaptor;
+
 	@Before
 	public void setUp() throws Exception {
 		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
@@ -151,6 +163,56 @@ public class ListWrapperTest {
 		verify(dirtyMap).put(setter, propertyMeta);
 	}
 
+	@Test
+	public void should_record_prepend_delta_on_add_at_head() throws Exception {
+		ArrayList<String> target = new ArrayList<String>();
+		target.add("a");
+		ListWrapper listWrapper = prepareListWrapper(target);
+		listWrapper.setDirtyMap(dirtyProperties);
+		when(propertyMeta.type()).thenReturn(LIST);
+		when(proxifier.unwrap("b")).thenReturn("b");
+
+		listWrapper.add(0, "b");
+
+		assertThat(target).containsExactly("b", "a");
+		verify(dirtyProperties).putDelta(eq(propertyMeta), deltaCaptor.capture());
+		assertThat(deltaCaptor.getValue().getOperation()).isEqualTo(Operation.PREPEND);
+		assertThat(deltaCaptor.getValue().getElements()).containsExactly("b");
+	}
+
+	@Test
+	public void should_record_append_delta_on_add() throws Exception {
+		ArrayList<String> target = new ArrayList<String>();
+		target.add("a");
+		ListWrapper listWrapper = prepareListWrapper(target);
+		listWrapper.setDirtyMap(dirtyProperties);
+		when(propertyMeta.type()).thenReturn(LAZY_LIST);
+		when(proxifier.unwrap("b")).thenReturn("b");
+
+		listWrapper.add("b");
+
+		verify(dirtyProperties).putDelta(eq(propertyMeta), deltaCaptor.capture());
+		assertThat(deltaCaptor.getValue().getOperation()).isEqualTo(Operation.APPEND);
+		assertThat(deltaCaptor.getValue().getElements()).containsExactly("b");
+	}
+
+	@Test
+	public void should_mark_dirty_without_delta_on_sub_list_add() throws Exception {
+		ArrayList<String> target = new ArrayList<String>();
+		target.add("a");
+		target.add("b");
+		ListWrapper listWrapper = prepareListWrapper(target);
+		listWrapper.setDirtyMap(dirtyProperties);
+		when(propertyMeta.type()).thenReturn(LIST);
+		when(proxifier.unwrap("c")).thenReturn("c");
+
+		listWrapper.subList(0, 1).add("c");
+
+		assertThat(target).containsExactly("a", "c", "b");
+		verify(dirtyProperties).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).putDelta(any(PropertyMeta.class), any(CollectionDelta.class));
+	}
+
 	@Test
 	public void should_get_target() throws Exception {
 		ArrayList<String> target = new ArrayList<String>();
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.configuration;
 
 import static info.archinnov.achilles.configuration.CQLConfigurationParameters.*;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.validation.Validator;
 
 import java.util.Map;
@@ -134,4 +135,47 @@ public class CQLArgumentExtractor extends ArgumentExtractor {
 		return nativeSession;
 	}
 
+	public int initAsyncFlushMaxInFlight(Map<String, Object> configurationMap) {
+		Boolean asyncFlushEnabled = (Boolean) configurationMap.get(ASYNC_FLUSH_ENABLED);
+		if (asyncFlushEnabled == null || !asyncFlushEnabled) {
+			return 0;
+		}
+
+		Integer maxInFlight = (Integer) configurationMap.get(ASYNC_FLUSH_MAX_IN_FLIGHT);
+		if (maxInFlight == null) {
+			return DEFAULT_ASYNC_FLUSH_MAX_IN_FLIGHT;
+		}
+		Validator.validateTrue(maxInFlight > 0, "%s property should be strictly positive", ASYNC_FLUSH_MAX_IN_FLIGHT);
+		return maxInFlight;
+	}
+
+
+	public CQLBatchType initNativeBatchType(Map<String, Object> configurationMap) {
+		CQLBatchType batchType = (CQLBatchType) configurationMap.get(NATIVE_BATCH_TYPE);
+		return batchType == null ? CQLBatchType.NONE : batchType;
+	}
+
+	public int initNativeBatchMaxSize(Map<String, Object> configurationMap) {
+		Integer maxSize = (Integer) configurationMap.get(NATIVE_BATCH_MAX_SIZE);
+		if (maxSize == null) {
+			return DEFAULT_NATIVE_BATCH_MAX_SIZE;
+		}
+		Validator.validateTrue(maxSize > 0, "%s property should be strictly positive", NATIVE_BATCH_MAX_SIZE);
+		return maxSize;
+	}
+
+	public int initPrepareStatementsParallelism(Map<String, Object> configurationMap) {
+		Integer parallelism = (Integer) configurationMap.get(PREPARE_STATEMENTS_PARALLELISM);
+		if (parallelism == null) {
+			return DEFAULT_PREPARE_STATEMENTS_PARALLELISM;
+		}
+		Validator.validateTrue(parallelism > 0, "%s property should be strictly positive",
+				PREPARE_STATEMENTS_PARALLELISM);
+		return parallelism;
+	}
+
+	public boolean initPrepareStatementsLazy(Map<String, Object> configurationMap) {
+		Boolean lazy = (Boolean) configurationMap.get(PREPARE_STATEMENTS_LAZY);
+		return lazy != null && lazy;
+	}
 }
@@ -32,4 +32,19 @@ public interface CQLConfigurationParameters {
 	String DISABLE_METRICS = "achilles.cassandra.disable.metrics";
 	String SSL_ENABLED = "achilles.cassandra.ssl.enabled";
 	String SSL_OPTIONS = "achilles.cassandra.ssl.options";
+
+	String ASYNC_FLUSH_ENABLED = "achilles.cassandra.flush.async.enabled";
+	String ASYNC_FLUSH_MAX_IN_FLIGHT = "achilles.cassandra.flush.async.max.in.flight";
+
+	int DEFAULT_ASYNC_FLUSH_MAX_IN_FLIGHT = 32;
+
+	String NATIVE_BATCH_TYPE = "achilles.cassandra.batch.native.type";
+	String NATIVE_BATCH_MAX_SIZE = "achilles.cassandra.batch.native.max.size";
+
+	int DEFAULT_NATIVE_BATCH_MAX_SIZE = 100;
+
+	String PREPARE_STATEMENTS_PARALLELISM = "achilles.cassandra.prepare.statements.parallelism";
+	String PREPARE_STATEMENTS_LAZY = "achilles.cassandra.prepare.statements.lazy";
+
+	int DEFAULT_PREPARE_STATEMENTS_PARALLELISM = 8;
 }
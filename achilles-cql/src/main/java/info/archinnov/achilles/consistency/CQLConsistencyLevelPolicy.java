@@ -29,24 +29,6 @@ public class CQLConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy {
 				writeCfConsistencyLevels);
 	}
 
-	@Override
-	public void loadConsistencyLevelForRead(String columnFamily) {
-		// TODO Auto-generated method stub
-
-	}
-
-	@Override
-	public void loadConsistencyLevelForWrite(String columnFamily) {
-		// TODO Auto-generated method stub
-
-	}
-
-	@Override
-	public void reinitDefaultConsistencyLevels() {
-		// TODO Auto-generated method stub
-
-	}
-
 	@Override
 	public void reinitCurrentConsistencyLevels() {
 		// TODO Auto-generated method stub
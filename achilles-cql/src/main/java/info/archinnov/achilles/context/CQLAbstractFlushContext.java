@@ -17,18 +17,33 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.consistency.CQLConsistencyConvertor.getCQLLevel;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<T>> extends FlushContext<T> {
+	private static final Logger log = LoggerFactory.getLogger(CQLAbstractFlushContext.class);
+
+	private static final Object[] NO_VALUES = new Object[0];
+
 	protected CQLDaoContext daoContext;
 
 	protected List<BoundStatementWrapper> boundStatementWrappers = new ArrayList<BoundStatementWrapper>();
@@ -56,16 +71,130 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
 	}
 
 	protected void doFlush() {
+		if (daoContext.isAsyncFlushEnabled()) {
+			doAsyncFlush();
+		} else {
+			for (BoundStatementWrapper wrapper : boundStatementWrappers) {
+
+				daoContext.execute(wrapper.getBs(), wrapper.getValues());
+			}
+			for (Statement statement : statements) {
+				daoContext.execute(statement);
+			}
+
+			cleanUp();
+		}
+	}
+
+	/**
+	 * Send the pending statements with at most maxInFlight of them in flight.
+	 * A statement is sent only once the previous statements on the same
+	 * partition are completed, so that they are applied in order. Statements
+	 * without routing key wait for all the previous ones
+	 */
+	protected void doAsyncFlush() {
+		int maxInFlight = daoContext.getAsyncFlushMaxInFlight();
+		log.debug("Flush asynchronously all pending statements with at most {} statements in flight", maxInFlight);
+
+		LinkedList<SentQuery<ResultSetFuture>> inFlight = new LinkedList<SentQuery<ResultSetFuture>>();
+		List<Throwable> failures = new ArrayList<Throwable>();
+
 		for (BoundStatementWrapper wrapper : boundStatementWrappers) {
+			executeInOrder(wrapper.getBs(), wrapper.getValues(), inFlight, maxInFlight, failures);
+		}
+		for (Statement statement : statements) {
+			executeInOrder(statement, NO_VALUES, inFlight, maxInFlight, failures);
+		}
+		while (!inFlight.isEmpty()) {
+			waitForCompletion(inFlight.poll().future, failures);
+		}
+
+		cleanUp();
 
-			daoContext.execute(wrapper.getBs(), wrapper.getValues());
+		if (!failures.isEmpty()) {
+			StringBuilder message = new StringBuilder();
+			message.append(failures.size()).append(" statement(s) failed during asynchronous flush : ");
+			for (Throwable failure : failures) {
+				message.append("\n\t").append(failure.getMessage());
+			}
+			throw new AchillesException(message.toString(), failures.get(0));
+		}
+	}
+
+	/**
+	 * Send all pending statements without waiting for them. A statement on
+	 * the same partition as previous ones is chained to their completion,
+	 * failed or not, so that they are applied in order. The returned future
+	 * fails as soon as one of the statements fails
+	 */
+	public ListenableFuture<List<ResultSet>> flushAsync() {
+		log.debug("Flush asynchronously all pending statements without waiting for completion");
+
+		List<SentQuery<ListenableFuture<ResultSet>>> sent = new ArrayList<SentQuery<ListenableFuture<ResultSet>>>();
+		for (BoundStatementWrapper wrapper : boundStatementWrappers) {
+			sent.add(executeAfter(wrapper.getBs(), wrapper.getValues(), sent));
 		}
 		for (Statement statement : statements) {
-			daoContext.execute(statement);
+			sent.add(executeAfter(statement, NO_VALUES, sent));
 		}
 
 		cleanUp();
 
+		List<ListenableFuture<ResultSet>> futures = new ArrayList<ListenableFuture<ResultSet>>();
+		for (SentQuery<ListenableFuture<ResultSet>> query : sent) {
+			futures.add(query.future);
+		}
+		return Futures.allAsList(futures);
+	}
+
+	private void executeInOrder(Query query, Object[] values, LinkedList<SentQuery<ResultSetFuture>> inFlight,
+			int maxInFlight, List<Throwable> failures) {
+		ByteBuffer routingKey = query.getRoutingKey();
+		Iterator<SentQuery<ResultSetFuture>> iterator = inFlight.iterator();
+		while (iterator.hasNext()) {
+			SentQuery<ResultSetFuture> previous = iterator.next();
+			if (previous.conflictsWith(routingKey)) {
+				waitForCompletion(previous.future, failures);
+				iterator.remove();
+			}
+		}
+		if (inFlight.size() >= maxInFlight) {
+			waitForCompletion(inFlight.poll().future, failures);
+		}
+		inFlight.add(new SentQuery<ResultSetFuture>(routingKey, daoContext.executeAsync(query, values)));
+	}
+
+	private SentQuery<ListenableFuture<ResultSet>> executeAfter(final Query query, final Object[] values,
+			List<SentQuery<ListenableFuture<ResultSet>>> sent) {
+		ByteBuffer routingKey = query.getRoutingKey();
+		List<ListenableFuture<ResultSet>> previousFutures = new ArrayList<ListenableFuture<ResultSet>>();
+		for (SentQuery<ListenableFuture<ResultSet>> previous : sent) {
+			if (previous.conflictsWith(routingKey)) {
+				previousFutures.add(previous.future);
+			}
+		}
+		ListenableFuture<ResultSet> future;
+		if (previousFutures.isEmpty()) {
+			future = daoContext.executeAsync(query, values);
+		} else {
+			future = Futures.transform(Futures.successfulAsList(previousFutures),
+					new AsyncFunction<List<ResultSet>, ResultSet>() {
+						@Override
+						public ListenableFuture<ResultSet> apply(List<ResultSet> previousResults) {
+							return daoContext.executeAsync(query, values);
+						}
+					});
+		}
+		return new SentQuery<ListenableFuture<ResultSet>>(routingKey, future);
+	}
+
+	private void waitForCompletion(ResultSetFuture future, List<Throwable> failures) {
+		try {
+			future.getUninterruptibly();
+		} catch (RuntimeException e) {
+			log.error("Statement failed during asynchronous flush", e);
+			failures.add(e);
+		}
 	}
 
 	public void pushBoundStatement(BoundStatementWrapper bsWrapper, ConsistencyLevel writeConsistencyLevel) {
@@ -94,6 +223,12 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
 		return daoContext.execute(query, boundValues);
 	}
 
+	public ResultSetFuture executeImmediateAsyncWithConsistency(Query query, ConsistencyLevel readConsistencyLevel,
+			Object... boundValues) {
+		query.setConsistencyLevel(getCQLLevel(readConsistencyLevel));
+		return daoContext.executeAsync(query, boundValues);
+	}
+
 	public List<BoundStatementWrapper> getBoundStatementWrappers() {
 		return boundStatementWrappers;
 	}
@@ -108,4 +243,21 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
 		return consistencyLevel;
 	}
 
+	/**
+	 * Statement sent to Cassandra, with the partition it writes to. A null
+	 * routing key means an unknown partition
+	 */
+	private static class SentQuery<F extends ListenableFuture<ResultSet>> {
+		private final ByteBuffer routingKey;
+		private final F future;
+
+		private SentQuery(ByteBuffer routingKey, F future) {
+			this.routingKey = routingKey;
+			this.future = future;
+		}
+
+		private boolean conflictsWith(ByteBuffer otherRoutingKey) {
+			return routingKey == null || otherRoutingKey == null || routingKey.equals(otherRoutingKey);
+		}
+	}
 }
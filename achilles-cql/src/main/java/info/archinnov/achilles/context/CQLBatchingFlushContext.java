@@ -16,17 +16,32 @@
  */
 package info.archinnov.achilles.context;
 
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.ListenableFuture;
+
 public class CQLBatchingFlushContext extends CQLAbstractFlushContext<CQLBatchingFlushContext> {
 	private static final Logger log = LoggerFactory.getLogger(CQLBatchingFlushContext.class);
 
+	private static final String BEGIN_LOGGED_BATCH = "BEGIN BATCH ";
+	private static final String BEGIN_UNLOGGED_BATCH = "BEGIN UNLOGGED BATCH ";
+	private static final String BEGIN_COUNTER_BATCH = "BEGIN COUNTER BATCH ";
+	private static final String APPLY_BATCH = "APPLY BATCH";
+
 	public CQLBatchingFlushContext(CQLDaoContext daoContext, ConsistencyLevel consistencyLevel) {
 		super(daoContext, consistencyLevel);
 	}
@@ -47,10 +62,133 @@ public class CQLBatchingFlushContext extends CQLAbstractFlushContext<CQLBatching
 		log.debug("Flush called but do nothing. Flushing is done only at the end of the batch");
 	}
 
+	@Override
+	public ListenableFuture<List<ResultSet>> flushAsync() {
+		throw new AchillesException("Asynchronous operations are not supported by a batching PersistenceManager");
+	}
+
 	@Override
 	public void endBatch() {
 		log.debug("Ending current batch");
-		doFlush();
+		if (daoContext.isNativeBatchEnabled()) {
+			doNativeBatchFlush();
+		} else {
+			doFlush();
+		}
+	}
+
+	/**
+	 * Send the pending statements as CQL batches, in push order. A new batch
+	 * is started whenever the batch is full, the consistency level changes
+	 * or a counter statement follows a regular one (and vice versa)
+	 */
+	protected void doNativeBatchFlush() {
+		CQLBatchType batchType = daoContext.getNativeBatchType();
+		int maxSize = daoContext.getNativeBatchMaxSize();
+		log.debug("Flush all pending statements as {} CQL batches of at most {} statements", batchType, maxSize);
+
+		String batchHeader = batchType == CQLBatchType.UNLOGGED ? BEGIN_UNLOGGED_BATCH : BEGIN_LOGGED_BATCH;
+
+		List<BoundStatementWrapper> chunk = new ArrayList<BoundStatementWrapper>();
+		for (BoundStatementWrapper wrapper : boundStatementWrappers) {
+			if (!chunk.isEmpty() && !canJoinBatch(chunk, wrapper, maxSize)) {
+				executeBoundStatementsBatch(chunk.get(0).isCounter() ? BEGIN_COUNTER_BATCH : batchHeader, chunk);
+				chunk = new ArrayList<BoundStatementWrapper>();
+			}
+			chunk.add(wrapper);
+		}
+		if (!chunk.isEmpty()) {
+			executeBoundStatementsBatch(chunk.get(0).isCounter() ? BEGIN_COUNTER_BATCH : batchHeader, chunk);
+		}
+
+		List<Statement> statementChunk = new ArrayList<Statement>();
+		for (Statement statement : statements) {
+			if (!statementChunk.isEmpty()
+					&& (statementChunk.size() >= maxSize || statementChunk.get(0).getConsistencyLevel() != statement
+							.getConsistencyLevel())) {
+				executeStatementsBatch(batchHeader, statementChunk);
+				statementChunk = new ArrayList<Statement>();
+			}
+			statementChunk.add(statement);
+		}
+		if (!statementChunk.isEmpty()) {
+			executeStatementsBatch(batchHeader, statementChunk);
+		}
+
+		cleanUp();
+	}
+
+	/**
+	 * Execute the pushed counter statements as COUNTER batches of at most
+	 * nativeBatchMaxSize statements, whatever the native batch type
+	 */
+	void flushCounterBatches() {
+		int maxSize = daoContext.getNativeBatchMaxSize();
+		List<BoundStatementWrapper> chunk = new ArrayList<BoundStatementWrapper>();
+		for (BoundStatementWrapper wrapper : boundStatementWrappers) {
+			if (!chunk.isEmpty() && !canJoinBatch(chunk, wrapper, maxSize)) {
+				executeBoundStatementsBatch(BEGIN_COUNTER_BATCH, chunk);
+				chunk = new ArrayList<BoundStatementWrapper>();
+			}
+			chunk.add(wrapper);
+		}
+		if (!chunk.isEmpty()) {
+			executeBoundStatementsBatch(BEGIN_COUNTER_BATCH, chunk);
+		}
+		cleanUp();
+	}
+
+	private boolean canJoinBatch(List<BoundStatementWrapper> chunk, BoundStatementWrapper wrapper, int maxSize) {
+		BoundStatementWrapper first = chunk.get(0);
+		return chunk.size() < maxSize && first.isCounter() == wrapper.isCounter()
+				&& first.getBs().getConsistencyLevel() == wrapper.getBs().getConsistencyLevel();
+	}
+
+	private void executeBoundStatementsBatch(String batchHeader, List<BoundStatementWrapper> chunk) {
+		BoundStatement first = chunk.get(0).getBs();
+		if (chunk.size() == 1) {
+			daoContext.execute(first, chunk.get(0).getValues());
+			return;
+		}
+
+		StringBuilder batchQuery = new StringBuilder(batchHeader);
+		List<Object> values = new ArrayList<Object>();
+		for (BoundStatementWrapper wrapper : chunk) {
+			appendToBatch(batchQuery, wrapper.getBs().preparedStatement().getQueryString());
+			values.addAll(Arrays.asList(wrapper.getValues()));
+		}
+		batchQuery.append(APPLY_BATCH);
+
+		Object[] boundValues = values.toArray();
+		BoundStatement batch = daoContext.prepareBatch(batchQuery.toString()).bind(boundValues);
+		batch.setConsistencyLevel(first.getConsistencyLevel());
+		daoContext.execute(batch, boundValues);
+	}
+
+	private void executeStatementsBatch(String batchHeader, List<Statement> chunk) {
+		Statement first = chunk.get(0);
+		if (chunk.size() == 1) {
+			daoContext.execute(first);
+			return;
+		}
+
+		StringBuilder batchQuery = new StringBuilder(batchHeader);
+		for (Statement statement : chunk) {
+			appendToBatch(batchQuery, statement.getQueryString());
+		}
+		batchQuery.append(APPLY_BATCH);
+
+		SimpleStatement batch = new SimpleStatement(batchQuery.toString());
+		batch.setConsistencyLevel(first.getConsistencyLevel());
+		daoContext.execute(batch);
+	}
+
+	private void appendToBatch(StringBuilder batchQuery, String queryString) {
+		String query = queryString.trim();
+		if (query.endsWith(";")) {
+			query = query.substring(0, query.length() - 1);
+		}
+		batchQuery.append(query).append("; ");
 	}
 
 	@Override
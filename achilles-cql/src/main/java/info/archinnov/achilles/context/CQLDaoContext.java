@@ -17,21 +17,30 @@
 package info.archinnov.achilles.context;
 
 import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
+import static info.archinnov.achilles.configuration.CQLConfigurationParameters.DEFAULT_NATIVE_BATCH_MAX_SIZE;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
+import info.archinnov.achilles.counter.CQLCounterKey;
+import info.archinnov.achilles.counter.CounterAccumulator;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.proxy.CollectionDelta;
 import info.archinnov.achilles.statement.CQLStatementGenerator;
 import info.archinnov.achilles.statement.cache.CacheManager;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementBinder;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +49,7 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
@@ -48,11 +58,13 @@ import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 public class CQLDaoContext {
 	public static final String ACHILLES_DML_STATEMENT = "ACHILLES_DML_STATEMENT";
 
 	private static final Logger dmlLogger = LoggerFactory.getLogger(ACHILLES_DML_STATEMENT);
+	private static final Integer BATCH_PREPARED_STATEMENT_LRU_CACHE_SIZE = 1000;
 
 	private Map<Class<?>, PreparedStatement> insertPSs;
 	private Cache<StatementCacheKey, PreparedStatement> dynamicPSCache;
@@ -61,6 +73,12 @@ public class CQLDaoContext {
 	private Map<CQLQueryType, PreparedStatement> counterQueryMap;
 	private Map<Class<?>, Map<CQLQueryType, PreparedStatement>> clusteredCounterQueryMap;
 	private Session session;
+	private int asyncFlushMaxInFlight = 0;
+	private CQLBatchType nativeBatchType = CQLBatchType.NONE;
+	private int nativeBatchMaxSize = DEFAULT_NATIVE_BATCH_MAX_SIZE;
+	private CounterAccumulator<CQLCounterKey> counterAccumulator;
+	private Cache<String, PreparedStatement> batchPSCache = CacheBuilder.newBuilder()
+			.maximumSize(BATCH_PREPARED_STATEMENT_LRU_CACHE_SIZE).build();
 
 	private CQLPreparedStatementBinder binder = new CQLPreparedStatementBinder();
 	private CacheManager cacheManager = new CacheManager();
@@ -86,15 +104,17 @@ public class CQLDaoContext {
 		Optional<Integer> ttlO = context.getTtt();
 		Optional<Long> timestampO = context.getTimestamp();
 		ConsistencyLevel writeLevel = getWriteConsistencyLevel(context, entityMeta);
-		if (ttlO.isPresent() || timestampO.isPresent()) {
+		if (ttlO.isPresent() && !timestampO.isPresent()) {
+			PreparedStatement ps = cacheManager.getCacheForInsertWithTtl(session, dynamicPSCache, context, ttlO.get());
+			BoundStatementWrapper bsWrapper = binder.bindForInsert(ps, entityMeta, context.getEntity());
+			context.pushBoundStatement(bsWrapper, writeLevel);
+		} else if (timestampO.isPresent()) {
 			Insert insert = statementGenerator.generateInsert(context.getEntity(), entityMeta);
 			Insert.Options options = null;
 
-			if (ttlO.isPresent() && timestampO.isPresent())
+			if (ttlO.isPresent())
 				options = insert.using(ttl(ttlO.get())).and(timestamp(timestampO.get()));
-			else if (ttlO.isPresent())
-				options = insert.using(ttl(ttlO.get()));
-			else if (timestampO.isPresent())
+			else
 				options = insert.using(timestamp(timestampO.get()));
 
 			context.pushStatement(options, writeLevel);
@@ -110,15 +130,18 @@ public class CQLDaoContext {
 		Optional<Integer> ttlO = context.getTtt();
 		Optional<Long> timestampO = context.getTimestamp();
 		ConsistencyLevel writeLevel = getWriteConsistencyLevel(context, entityMeta);
-		if (ttlO.isPresent() || timestampO.isPresent()) {
+		if (ttlO.isPresent() && !timestampO.isPresent()) {
+			PreparedStatement ps = cacheManager.getCacheForFieldsUpdateWithTtl(session, dynamicPSCache, context, pms,
+					ttlO.get());
+			BoundStatementWrapper bsWrapper = binder.bindForUpdate(ps, entityMeta, pms, context.getEntity());
+			context.pushBoundStatement(bsWrapper, writeLevel);
+		} else if (timestampO.isPresent()) {
 			Assignments update = statementGenerator.generateUpdateFields(context.getEntity(), entityMeta, pms);
 			Update.Options options = null;
 
-			if (ttlO.isPresent() && timestampO.isPresent())
+			if (ttlO.isPresent())
 				options = update.using(ttl(ttlO.get())).and(timestamp(timestampO.get()));
-			else if (ttlO.isPresent())
-				options = update.using(ttl(ttlO.get()));
-			else if (timestampO.isPresent())
+			else
 				options = update.using(timestamp(timestampO.get()));
 
 			context.pushStatement(options, writeLevel);
@@ -129,6 +152,16 @@ public class CQLDaoContext {
 		}
 	}
 
+	public void pushCollectionDeltaStatement(CQLPersistenceContext context, PropertyMeta pm, CollectionDelta delta) {
+		EntityMeta entityMeta = context.getEntityMeta();
+		ConsistencyLevel writeLevel = getWriteConsistencyLevel(context, entityMeta);
+		PreparedStatement ps = cacheManager.getCacheForCollectionDelta(session, dynamicPSCache, context, pm,
+				delta.getOperation());
+		BoundStatementWrapper bsWrapper = binder.bindForCollectionDelta(ps, entityMeta, pm, delta,
+				context.getPrimaryKey());
+		context.pushBoundStatement(bsWrapper, writeLevel);
+	}
+
 	public Row loadProperty(CQLPersistenceContext context, PropertyMeta pm) {
 		PreparedStatement ps = cacheManager.getCacheForFieldSelect(session, dynamicPSCache, context, pm);
 		ConsistencyLevel readLevel = getReadConsistencyLevel(context, pm);
@@ -136,6 +169,14 @@ public class CQLDaoContext {
 		return returnFirstRowOrNull(rows);
 	}
 
+	public ResultSetFuture loadPropertyAsync(CQLPersistenceContext context, PropertyMeta pm) {
+		PreparedStatement ps = cacheManager.getCacheForFieldSelect(session, dynamicPSCache, context, pm);
+		ConsistencyLevel readLevel = getReadConsistencyLevel(context, pm);
+		BoundStatementWrapper bsWrapper = binder.bindStatementWithOnlyPKInWhereClause(ps, context.getEntityMeta(),
+				context.getPrimaryKey());
+		return context.executeImmediateAsyncWithConsistency(bsWrapper, readLevel);
+	}
+
 	public void bindForRemoval(CQLPersistenceContext context, String tableName) {
 		EntityMeta entityMeta = context.getEntityMeta();
 		Class<?> entityClass = context.getEntityClass();
@@ -170,6 +211,44 @@ public class CQLDaoContext {
 		context.executeImmediateWithConsistency(bsWrapper, consistencyLevel);
 	}
 
+	/**
+	 * Split the coalesced simple counter deltas into groups of at most
+	 * nativeBatchMaxSize deltas sharing the same write consistency level
+	 */
+	public List<Map<CQLCounterKey, Long>> splitSimpleCounterDeltas(Map<CQLCounterKey, Long> deltas) {
+		List<Map<CQLCounterKey, Long>> groups = new ArrayList<Map<CQLCounterKey, Long>>();
+		Map<ConsistencyLevel, Map<CQLCounterKey, Long>> currentGroups = new HashMap<ConsistencyLevel, Map<CQLCounterKey, Long>>();
+		for (Entry<CQLCounterKey, Long> entry : deltas.entrySet()) {
+			ConsistencyLevel writeLevel = entry.getKey().getWriteLevel();
+			Map<CQLCounterKey, Long> group = currentGroups.get(writeLevel);
+			if (group == null || group.size() >= nativeBatchMaxSize) {
+				group = new HashMap<CQLCounterKey, Long>();
+				currentGroups.put(writeLevel, group);
+				groups.add(group);
+			}
+			group.put(entry.getKey(), entry.getValue());
+		}
+		return groups;
+	}
+
+	/**
+	 * Write a group of simple counter deltas returned by
+	 * splitSimpleCounterDeltas as a single COUNTER batch
+	 */
+	public void writeSimpleCounterDeltas(Map<CQLCounterKey, Long> group) {
+		PreparedStatement ps = counterQueryMap.get(INCR);
+		ConsistencyLevel writeLevel = group.keySet().iterator().next().getWriteLevel();
+		CQLBatchingFlushContext batch = new CQLBatchingFlushContext(this, writeLevel);
+		for (Entry<CQLCounterKey, Long> entry : group.entrySet()) {
+			CQLCounterKey counterKey = entry.getKey();
+			BoundStatementWrapper bsWrapper = binder.bindForSimpleCounterIncrementDecrement(ps,
+					counterKey.getEntityMeta(), counterKey.getCounterMeta(), counterKey.getPrimaryKey(),
+					entry.getValue());
+			batch.pushBoundStatement(bsWrapper, writeLevel);
+		}
+		batch.flushCounterBatches();
+	}
+
 	public void decrementSimpleCounter(CQLPersistenceContext context, EntityMeta meta, PropertyMeta counterMeta,
 			Long decrement, ConsistencyLevel consistencyLevel) {
 		PreparedStatement ps = counterQueryMap.get(DECR);
@@ -188,6 +267,34 @@ public class CQLDaoContext {
 		return returnFirstRowOrNull(resultSet.all());
 	}
 
+	public ResultSetFuture getSimpleCounterAsync(CQLPersistenceContext context, PropertyMeta counterMeta,
+			ConsistencyLevel consistencyLevel) {
+		PreparedStatement ps = counterQueryMap.get(SELECT);
+		BoundStatementWrapper bsWrapper = binder.bindForSimpleCounterSelect(ps, context.getEntityMeta(), counterMeta,
+				context.getPrimaryKey());
+		return context.executeImmediateAsyncWithConsistency(bsWrapper, consistencyLevel);
+	}
+
+	/**
+	 * Read all the simple counters of the entity with one query on the
+	 * (fqcn, primary_key) partition of the counter table
+	 */
+	public List<Row> getSimpleCounters(CQLPersistenceContext context, ConsistencyLevel consistencyLevel) {
+		PreparedStatement ps = counterQueryMap.get(SELECT_ALL);
+		BoundStatementWrapper bsWrapper = binder.bindForSimpleCounterSelectAll(ps, context.getEntityMeta(),
+				context.getPrimaryKey());
+		ResultSet resultSet = context.executeImmediateWithConsistency(bsWrapper, consistencyLevel);
+
+		return resultSet.all();
+	}
+
+	public ResultSetFuture getSimpleCountersAsync(CQLPersistenceContext context, ConsistencyLevel consistencyLevel) {
+		PreparedStatement ps = counterQueryMap.get(SELECT_ALL);
+		BoundStatementWrapper bsWrapper = binder.bindForSimpleCounterSelectAll(ps, context.getEntityMeta(),
+				context.getPrimaryKey());
+		return context.executeImmediateAsyncWithConsistency(bsWrapper, consistencyLevel);
+	}
+
 	public void bindForSimpleCounterDelete(CQLPersistenceContext context, EntityMeta meta, PropertyMeta counterMeta,
 			Object primaryKey) {
 		PreparedStatement ps = counterQueryMap.get(DELETE);
@@ -234,6 +341,15 @@ public class CQLDaoContext {
 		return returnFirstRowOrNull(resultSet.all());
 	}
 
+	public ResultSetFuture getClusteredCounterAsync(CQLPersistenceContext context, PropertyMeta counterMeta,
+			ConsistencyLevel consistencyLevel) {
+		EntityMeta entityMeta = context.getEntityMeta();
+		PreparedStatement ps = clusteredCounterQueryMap.get(entityMeta.getEntityClass()).get(SELECT);
+		BoundStatementWrapper bsWrapper = binder.bindForClusteredCounterSelect(ps, entityMeta, counterMeta,
+				context.getPrimaryKey());
+		return context.executeImmediateAsyncWithConsistency(bsWrapper, consistencyLevel);
+	}
+
 	public void bindForClusteredCounterDelete(CQLPersistenceContext context, EntityMeta meta, PropertyMeta counterMeta,
 			Object primaryKey) {
 		PreparedStatement ps = clusteredCounterQueryMap.get(meta.getEntityClass()).get(DELETE);
@@ -252,6 +368,17 @@ public class CQLDaoContext {
 		return returnFirstRowOrNull(rows);
 	}
 
+	public ResultSetFuture eagerLoadEntityAsync(CQLPersistenceContext context) {
+		EntityMeta meta = context.getEntityMeta();
+		Class<?> entityClass = context.getEntityClass();
+		PreparedStatement ps = selectEagerPSs.get(entityClass);
+
+		ConsistencyLevel readLevel = getReadConsistencyLevel(context, meta);
+		BoundStatementWrapper bsWrapper = binder.bindStatementWithOnlyPKInWhereClause(ps, meta,
+				context.getPrimaryKey());
+		return context.executeImmediateAsyncWithConsistency(bsWrapper, readLevel);
+	}
+
 	private List<Row> executeReadWithConsistency(CQLPersistenceContext context, PreparedStatement ps,
 			ConsistencyLevel readLevel) {
 		EntityMeta entityMeta = context.getEntityMeta();
@@ -274,10 +401,24 @@ public class CQLDaoContext {
 		return session.execute(query);
 	}
 
+	public ResultSetFuture executeAsync(Query query, Object... boundValues) {
+		logDMLStatement(query, boundValues);
+		return session.executeAsync(query);
+	}
+
 	public PreparedStatement prepare(Statement statement) {
 		return session.prepare(statement.getQueryString());
 	}
 
+	public PreparedStatement prepareBatch(String batchQuery) {
+		PreparedStatement ps = batchPSCache.getIfPresent(batchQuery);
+		if (ps == null) {
+			ps = session.prepare(batchQuery);
+			batchPSCache.put(batchQuery, ps);
+		}
+		return ps;
+	}
+
 	public ResultSet bindAndExecute(PreparedStatement ps, Object... params) {
 		BoundStatement bs = ps.bind(params);
 
@@ -290,6 +431,47 @@ public class CQLDaoContext {
 		return session;
 	}
 
+	public boolean isAsyncFlushEnabled() {
+		return asyncFlushMaxInFlight > 0;
+	}
+
+	public int getAsyncFlushMaxInFlight() {
+		return asyncFlushMaxInFlight;
+	}
+
+	void setAsyncFlushMaxInFlight(int asyncFlushMaxInFlight) {
+		this.asyncFlushMaxInFlight = asyncFlushMaxInFlight;
+	}
+
+	public boolean isNativeBatchEnabled() {
+		return nativeBatchType != CQLBatchType.NONE;
+	}
+
+	public CQLBatchType getNativeBatchType() {
+		return nativeBatchType;
+	}
+
+	public int getNativeBatchMaxSize() {
+		return nativeBatchMaxSize;
+	}
+
+	public CounterAccumulator<CQLCounterKey> getCounterAccumulator() {
+		return counterAccumulator;
+	}
+
+	public void setCounterAccumulator(CounterAccumulator<CQLCounterKey> counterAccumulator) {
+		this.counterAccumulator = counterAccumulator;
+	}
+
+	void setNativeBatch(CQLBatchType nativeBatchType, int nativeBatchMaxSize) {
+		this.nativeBatchType = nativeBatchType;
+		this.nativeBatchMaxSize = nativeBatchMaxSize;
+	}
+
+	void compileBindPlans(Collection<EntityMeta> entityMetas) {
+		binder.compileBindPlans(entityMetas);
+	}
+
 	private void logDMLStatement(Query query, Object... boundValues) {
 		if (dmlLogger.isDebugEnabled()) {
 			String queryType;
@@ -16,14 +16,27 @@
  */
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.configuration.CQLConfigurationParameters.DEFAULT_NATIVE_BATCH_MAX_SIZE;
+import static info.archinnov.achilles.configuration.CQLConfigurationParameters.DEFAULT_PREPARE_STATEMENTS_PARALLELISM;
 import static info.archinnov.achilles.entity.metadata.EntityMeta.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
+import info.archinnov.achilles.type.CQLBatchType;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
@@ -31,11 +44,19 @@ import com.google.common.base.Function;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class CQLDaoContextBuilder {
+	private static final Logger log = LoggerFactory.getLogger(CQLDaoContextBuilder.class);
 	private static final Integer PREPARED_STATEMENT_LRU_CACHE_SIZE = 5000;
 	private CQLPreparedStatementGenerator queryGenerator = new CQLPreparedStatementGenerator();
 	private Session session;
+	private int asyncFlushMaxInFlight = 0;
+	private CQLBatchType nativeBatchType = CQLBatchType.NONE;
+	private int nativeBatchMaxSize = DEFAULT_NATIVE_BATCH_MAX_SIZE;
+	private int prepareParallelism = DEFAULT_PREPARE_STATEMENTS_PARALLELISM;
+	private boolean lazyPreparation = false;
 
 	private Function<EntityMeta, PreparedStatement> insertPSTransformer = new Function<EntityMeta, PreparedStatement>() {
 		@Override
@@ -74,15 +95,74 @@ public class CQLDaoContextBuilder {
 		this.session = session;
 	}
 
-	public CQLDaoContext build(Map<Class<?>, EntityMeta> entityMetaMap, boolean hasSimpleCounter) {
-		Map<Class<?>, PreparedStatement> insertPSMap = new HashMap<Class<?>, PreparedStatement>(Maps.transformValues(
-				Maps.filterValues(entityMetaMap, excludeClusteredCounterFilter), insertPSTransformer));
+	public CQLDaoContextBuilder withAsyncFlush(int maxInFlight) {
+		this.asyncFlushMaxInFlight = maxInFlight;
+		return this;
+	}
 
-		Map<Class<?>, PreparedStatement> selectEagerPSMap = new HashMap<Class<?>, PreparedStatement>(
-				Maps.transformValues(entityMetaMap, selectEagerPSTransformer));
+	public CQLDaoContextBuilder withNativeBatch(CQLBatchType batchType, int maxSize) {
+		this.nativeBatchType = batchType;
+		this.nativeBatchMaxSize = maxSize;
+		return this;
+	}
 
-		Map<Class<?>, Map<String, PreparedStatement>> removePSMap = new HashMap<Class<?>, Map<String, PreparedStatement>>(
-				Maps.transformValues(entityMetaMap, removePSTransformer));
+	/**
+	 * Prepare the statements of the entities with up to <em>parallelism</em>
+	 * concurrent requests, or on first use of each entity when <em>lazy</em>
+	 * is set
+	 */
+	public CQLDaoContextBuilder withStatementPreparation(int parallelism, boolean lazy) {
+		this.prepareParallelism = parallelism;
+		this.lazyPreparation = lazy;
+		return this;
+	}
+
+	public CQLDaoContext build(Map<Class<?>, EntityMeta> entityMetaMap, boolean hasSimpleCounter) {
+		Map<Class<?>, EntityMeta> excludeClusteredCounterMetas = Maps.filterValues(entityMetaMap,
+				excludeClusteredCounterFilter);
+		Map<Class<?>, EntityMeta> clusteredCounterMetas = Maps.filterValues(entityMetaMap, clusteredCounterFilter);
+
+		Map<Class<?>, PreparedStatement> insertPSMap;
+		Map<Class<?>, PreparedStatement> selectEagerPSMap;
+		Map<Class<?>, Map<String, PreparedStatement>> removePSMap;
+		Map<Class<?>, Map<CQLQueryType, PreparedStatement>> clusteredCounterQueriesMap;
+
+		if (lazyPreparation) {
+			log.info("Statements of {} entities will be prepared on first use", entityMetaMap.size());
+			insertPSMap = new LazyPreparedStatementMap<PreparedStatement>(excludeClusteredCounterMetas,
+					insertPSTransformer);
+			selectEagerPSMap = new LazyPreparedStatementMap<PreparedStatement>(entityMetaMap,
+					selectEagerPSTransformer);
+			removePSMap = new LazyPreparedStatementMap<Map<String, PreparedStatement>>(entityMetaMap,
+					removePSTransformer);
+			clusteredCounterQueriesMap = new LazyPreparedStatementMap<Map<CQLQueryType, PreparedStatement>>(
+					clusteredCounterMetas, clusteredCounterTransformer);
+		} else {
+			ExecutorService executor = null;
+			if (prepareParallelism > 1 && entityMetaMap.size() > 1) {
+				executor = Executors.newFixedThreadPool(prepareParallelism, new ThreadFactoryBuilder()
+						.setDaemon(true).setNameFormat("achilles-prepare-%d").build());
+			}
+			try {
+				Map<Class<?>, Future<PreparedStatement>> insertFutures = submit(executor,
+						excludeClusteredCounterMetas, insertPSTransformer);
+				Map<Class<?>, Future<PreparedStatement>> selectEagerFutures = submit(executor, entityMetaMap,
+						selectEagerPSTransformer);
+				Map<Class<?>, Future<Map<String, PreparedStatement>>> removeFutures = submit(executor,
+						entityMetaMap, removePSTransformer);
+				Map<Class<?>, Future<Map<CQLQueryType, PreparedStatement>>> clusteredCounterFutures = submit(
+						executor, clusteredCounterMetas, clusteredCounterTransformer);
+
+				insertPSMap = await(insertFutures);
+				selectEagerPSMap = await(selectEagerFutures);
+				removePSMap = await(removeFutures);
+				clusteredCounterQueriesMap = await(clusteredCounterFutures);
+			} finally {
+				if (executor != null) {
+					executor.shutdownNow();
+				}
+			}
+		}
 
 		Cache<StatementCacheKey, PreparedStatement> dynamicPSCache = CacheBuilder.newBuilder()
 				.maximumSize(PREPARED_STATEMENT_LRU_CACHE_SIZE).build();
@@ -94,11 +174,49 @@ public class CQLDaoContextBuilder {
 			counterQueryMap = new HashMap<CQLQueryType, PreparedStatement>();
 		}
 
-		Map<Class<?>, Map<CQLQueryType, PreparedStatement>> clusteredCounterQueriesMap = new HashMap<Class<?>, Map<CQLQueryType, PreparedStatement>>(
-				Maps.transformValues(Maps.filterValues(entityMetaMap, clusteredCounterFilter),
-						clusteredCounterTransformer));
+		CQLDaoContext daoContext = new CQLDaoContext(insertPSMap, dynamicPSCache, selectEagerPSMap, removePSMap,
+				counterQueryMap, clusteredCounterQueriesMap, session);
+		daoContext.setAsyncFlushMaxInFlight(asyncFlushMaxInFlight);
+		daoContext.setNativeBatch(nativeBatchType, nativeBatchMaxSize);
+		daoContext.compileBindPlans(excludeClusteredCounterMetas.values());
+		return daoContext;
+	}
 
-		return new CQLDaoContext(insertPSMap, dynamicPSCache, selectEagerPSMap, removePSMap, counterQueryMap,
-				clusteredCounterQueriesMap, session);
+	private <V> Map<Class<?>, Future<V>> submit(ExecutorService executor, Map<Class<?>, EntityMeta> entityMetaMap,
+			final Function<EntityMeta, V> transformer) {
+		Map<Class<?>, Future<V>> futures = new HashMap<Class<?>, Future<V>>();
+		for (Entry<Class<?>, EntityMeta> entry : entityMetaMap.entrySet()) {
+			final EntityMeta meta = entry.getValue();
+			if (executor == null) {
+				futures.put(entry.getKey(), Futures.immediateFuture(transformer.apply(meta)));
+			} else {
+				futures.put(entry.getKey(), executor.submit(new Callable<V>() {
+					@Override
+					public V call() throws Exception {
+						return transformer.apply(meta);
+					}
+				}));
+			}
+		}
+		return futures;
+	}
+
+	private <V> Map<Class<?>, V> await(Map<Class<?>, Future<V>> futures) {
+		Map<Class<?>, V> result = new HashMap<Class<?>, V>();
+		for (Entry<Class<?>, Future<V>> entry : futures.entrySet()) {
+			try {
+				result.put(entry.getKey(), entry.getValue().get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new AchillesException("Interrupted while preparing statements", e);
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new AchillesException("Error while preparing statements : " + cause.getMessage(), cause);
+			}
+		}
+		return result;
 	}
 }
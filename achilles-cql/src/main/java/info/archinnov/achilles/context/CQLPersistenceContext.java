@@ -17,6 +17,8 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.counter.AchillesCounter.*;
+import info.archinnov.achilles.counter.CQLCounterKey;
+import info.archinnov.achilles.counter.CounterAccumulator;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.CQLEntityLoader;
@@ -25,26 +27,49 @@ import info.archinnov.achilles.entity.operations.CQLEntityPersister;
 import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
+import info.archinnov.achilles.proxy.CollectionDelta;
 import info.archinnov.achilles.proxy.EntityInterceptor;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
+import com.google.common.base.Function;
+import com.google.common.base.Functions;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 public class CQLPersistenceContext extends PersistenceContext {
+	/**
+	 * The collaborators are stateless, they are shared by all the contexts so
+	 * that a context only holds the state of its operation
+	 */
+	private static final CQLEntityLoader LOADER = new CQLEntityLoader();
+	private static final CQLEntityPersister PERSISTER = new CQLEntityPersister();
+	private static final CQLEntityMerger MERGER = new CQLEntityMerger();
+	private static final CQLEntityProxifier PROXIFIER = new CQLEntityProxifier();
+	private static final EntityRefresher<CQLPersistenceContext> REFRESHER = new EntityRefresher<CQLPersistenceContext>(
+			LOADER, PROXIFIER);
+
 	private CQLDaoContext daoContext;
 	private CQLAbstractFlushContext<?> flushContext;
-	private CQLEntityLoader loader = new CQLEntityLoader();
-	private CQLEntityPersister persister = new CQLEntityPersister();
-	private CQLEntityMerger merger = new CQLEntityMerger();
-	private CQLEntityProxifier proxifier = new CQLEntityProxifier();
-	private EntityRefresher<CQLPersistenceContext> refresher;
+	private CQLEntityLoader loader = LOADER;
+	private CQLEntityPersister persister = PERSISTER;
+	private CQLEntityMerger merger = MERGER;
+	private CQLEntityProxifier proxifier = PROXIFIER;
+	private EntityRefresher<CQLPersistenceContext> refresher = REFRESHER;
+
+	private Map<String, Long> counterSnapshot;
+	private ConsistencyLevel counterSnapshotLevel;
 
 	public CQLPersistenceContext(EntityMeta entityMeta, ConfigurationContext configContext, CQLDaoContext daoContext,
 			CQLAbstractFlushContext<?> flushContext, Class<?> entityClass, Object primaryKey, Options options) {
@@ -59,7 +84,6 @@ public class CQLPersistenceContext extends PersistenceContext {
 	}
 
 	private void initCollaborators(CQLDaoContext daoContext, CQLAbstractFlushContext<?> flushContext) {
-		this.refresher = new EntityRefresher<CQLPersistenceContext>(loader, proxifier);
 		this.daoContext = daoContext;
 		this.flushContext = flushContext;
 	}
@@ -74,10 +98,18 @@ public class CQLPersistenceContext extends PersistenceContext {
 		return daoContext.eagerLoadEntity(this);
 	}
 
+	public ResultSetFuture eagerLoadEntityAsync() {
+		return daoContext.eagerLoadEntityAsync(this);
+	}
+
 	public Row loadProperty(PropertyMeta pm) {
 		return daoContext.loadProperty(this, pm);
 	}
 
+	public ResultSetFuture loadPropertyAsync(PropertyMeta pm) {
+		return daoContext.loadPropertyAsync(this, pm);
+	}
+
 	public void pushInsertStatement() {
 		daoContext.pushInsertStatement(this);
 	}
@@ -86,32 +118,77 @@ public class CQLPersistenceContext extends PersistenceContext {
 		daoContext.pushUpdateStatement(this, pms);
 	}
 
+	public void pushCollectionDeltaStatement(PropertyMeta pm, CollectionDelta delta) {
+		daoContext.pushCollectionDeltaStatement(this, pm, delta);
+	}
+
 	public void bindForRemoval(String tableName) {
 		daoContext.bindForRemoval(this, tableName);
 	}
 
 	// Simple counter
 	public void bindForSimpleCounterIncrement(PropertyMeta counterMeta, Long increment) {
+		clearCounterSnapshot();
 		daoContext.bindForSimpleCounterIncrement(this, entityMeta, counterMeta, increment);
 	}
 
 	public void incrementSimpleCounter(PropertyMeta counterMeta, Long increment, ConsistencyLevel consistency) {
-		daoContext.incrementSimpleCounter(this, entityMeta, counterMeta, increment, consistency);
+		clearCounterSnapshot();
+		CounterAccumulator<CQLCounterKey> counterAccumulator = daoContext.getCounterAccumulator();
+		if (counterAccumulator != null) {
+			counterAccumulator.add(new CQLCounterKey(entityMeta, counterMeta, primaryKey, consistency), increment);
+		} else {
+			daoContext.incrementSimpleCounter(this, entityMeta, counterMeta, increment, consistency);
+		}
 	}
 
 	public void decrementSimpleCounter(PropertyMeta counterMeta, Long decrement, ConsistencyLevel consistency) {
-		daoContext.decrementSimpleCounter(this, entityMeta, counterMeta, decrement, consistency);
+		clearCounterSnapshot();
+		CounterAccumulator<CQLCounterKey> counterAccumulator = daoContext.getCounterAccumulator();
+		if (counterAccumulator != null) {
+			counterAccumulator.add(new CQLCounterKey(entityMeta, counterMeta, primaryKey, consistency), -decrement);
+		} else {
+			daoContext.decrementSimpleCounter(this, entityMeta, counterMeta, decrement, consistency);
+		}
 	}
 
+	/**
+	 * The first read loads all the simple counters of the entity at once, the
+	 * next reads with the same consistency level are served from this
+	 * snapshot until a counter of the entity is written or the entity is
+	 * refreshed
+	 */
 	public Long getSimpleCounter(PropertyMeta counterMeta, ConsistencyLevel consistency) {
-		Row row = daoContext.getSimpleCounter(this, counterMeta, consistency);
-		if (row != null) {
-			return row.getLong(CQL_COUNTER_VALUE);
+		if (!hasCounterSnapshot(consistency)) {
+			takeCounterSnapshot(daoContext.getSimpleCounters(this, consistency), consistency);
 		}
-		return null;
+		return counterSnapshot.get(counterMeta.getPropertyName());
+	}
+
+	/**
+	 * Start the read of all the simple counters of the entity, or return null
+	 * when the snapshot for this consistency level is already held. The read
+	 * is then given to
+	 * {@link #getSimpleCounter(PropertyMeta, ConsistencyLevel, ResultSetFuture)}
+	 * , so that the snapshots of several entities are taken in parallel
+	 */
+	public ResultSetFuture getSimpleCountersAsync(ConsistencyLevel consistency) {
+		if (hasCounterSnapshot(consistency)) {
+			return null;
+		}
+		return daoContext.getSimpleCountersAsync(this, consistency);
+	}
+
+	public Long getSimpleCounter(PropertyMeta counterMeta, ConsistencyLevel consistency,
+			ResultSetFuture simpleCountersFuture) {
+		if (simpleCountersFuture != null) {
+			takeCounterSnapshot(simpleCountersFuture.getUninterruptibly().all(), consistency);
+		}
+		return getSimpleCounter(counterMeta, consistency);
 	}
 
 	public void bindForSimpleCounterRemoval(PropertyMeta counterMeta) {
+		clearCounterSnapshot();
 		daoContext.bindForSimpleCounterDelete(this, entityMeta, counterMeta, primaryKey);
 	}
 
@@ -129,7 +206,18 @@ public class CQLPersistenceContext extends PersistenceContext {
 	}
 
 	public Long getClusteredCounter(PropertyMeta counterMeta, ConsistencyLevel readLevel) {
-		Row row = daoContext.getClusteredCounter(this, counterMeta, readLevel);
+		return clusteredCounterValue(daoContext.getClusteredCounter(this, counterMeta, readLevel), counterMeta);
+	}
+
+	public ResultSetFuture getClusteredCounterAsync(PropertyMeta counterMeta, ConsistencyLevel readLevel) {
+		return daoContext.getClusteredCounterAsync(this, counterMeta, readLevel);
+	}
+
+	public Long getClusteredCounter(PropertyMeta counterMeta, ResultSetFuture clusteredCounterFuture) {
+		return clusteredCounterValue(clusteredCounterFuture.getUninterruptibly().one(), counterMeta);
+	}
+
+	private Long clusteredCounterValue(Row row, PropertyMeta counterMeta) {
 		if (row != null) {
 			return row.getLong(counterMeta.getPropertyName());
 		}
@@ -158,6 +246,12 @@ public class CQLPersistenceContext extends PersistenceContext {
 				bsWrapper.getValues());
 	}
 
+	public ResultSetFuture executeImmediateAsyncWithConsistency(BoundStatementWrapper bsWrapper,
+			ConsistencyLevel readConsistencyLevel) {
+		return flushContext.executeImmediateAsyncWithConsistency(bsWrapper.getBs(), readConsistencyLevel,
+				bsWrapper.getValues());
+	}
+
 	@Override
 	public void persist() {
 		persister.persist(this);
@@ -187,6 +281,77 @@ public class CQLPersistenceContext extends PersistenceContext {
 		return entity;
 	}
 
+	@Override
+	public ListenableFuture<Void> persistAsync() {
+		persister.persist(this);
+		return flushAsync();
+	}
+
+	@Override
+	public <T> ListenableFuture<T> mergeAsync(T entity) {
+		T merged = merger.merge(this, entity);
+		return Futures.transform(flushAsync(), Functions.constant(merged));
+	}
+
+	@Override
+	public ListenableFuture<Void> removeAsync() {
+		persister.remove(this);
+		return flushAsync();
+	}
+
+	/**
+	 * The row is mapped to a managed entity in the callback of the read
+	 */
+	@Override
+	public <T> ListenableFuture<T> findAsync(final Class<T> entityClass) {
+		ResultSetFuture resultSetFuture;
+		if (entityMeta.isClusteredCounter()) {
+			PropertyMeta counterMeta = entityMeta.getFirstMeta();
+			ConsistencyLevel readLevel = getConsistencyLevel().isPresent() ? getConsistencyLevel().get()
+					: counterMeta.getReadConsistencyLevel();
+			resultSetFuture = daoContext.getClusteredCounterAsync(this, counterMeta, readLevel);
+		} else {
+			resultSetFuture = eagerLoadEntityAsync();
+		}
+		return Futures.transform(resultSetFuture, new Function<ResultSet, T>() {
+			@Override
+			public T apply(ResultSet resultSet) {
+				return findFromRow(entityClass, resultSet.one());
+			}
+		});
+	}
+
+	private boolean hasCounterSnapshot(ConsistencyLevel consistency) {
+		return counterSnapshot != null && counterSnapshotLevel == consistency;
+	}
+
+	private void takeCounterSnapshot(List<Row> rows, ConsistencyLevel consistency) {
+		Map<String, Long> snapshot = new HashMap<String, Long>();
+		for (Row row : rows) {
+			snapshot.put(row.getString(CQL_COUNTER_PROPERTY_NAME), row.getLong(CQL_COUNTER_VALUE));
+		}
+		counterSnapshot = snapshot;
+		counterSnapshotLevel = consistency;
+	}
+
+	private void clearCounterSnapshot() {
+		counterSnapshot = null;
+		counterSnapshotLevel = null;
+	}
+
+	private ListenableFuture<Void> flushAsync() {
+		return Futures.transform(flushContext.flushAsync(), Functions.<Void> constant(null));
+	}
+
+	public <T> T findFromRow(Class<T> entityClass, Row row) {
+		T entity = loader.<T> loadFromRow(this, entityClass, row);
+
+		if (entity != null) {
+			entity = proxifier.buildProxy(entity, this);
+		}
+		return entity;
+	}
+
 	@Override
 	public <T> T getReference(Class<T> entityClass) {
 		setLoadEagerFields(false);
@@ -195,6 +360,7 @@ public class CQLPersistenceContext extends PersistenceContext {
 
 	@Override
 	public void refresh() throws AchillesStaleObjectStateException {
+		clearCounterSnapshot();
 		refresher.refresh(this);
 	}
 
@@ -204,4 +370,14 @@ public class CQLPersistenceContext extends PersistenceContext {
 		initializer.initializeEntity(entity, entityMeta, interceptor);
 		return entity;
 	}
+
+	@Override
+	public <T> List<T> initialize(List<T> entities) {
+		List<EntityInterceptor<CQLPersistenceContext, T>> interceptors = new ArrayList<EntityInterceptor<CQLPersistenceContext, T>>();
+		for (T entity : entities) {
+			interceptors.add(proxifier.getInterceptor(entity));
+		}
+		initializer.initializeEntities(entities, entityMeta, interceptors, loader);
+		return entities;
+	}
 }
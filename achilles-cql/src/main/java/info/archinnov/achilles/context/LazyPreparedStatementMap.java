@@ -0,0 +1,78 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.context;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Function;
+
+/**
+ * Map preparing the statements of an entity on first lookup and keeping them
+ * for later lookups. Iterating over the entries prepares the statements of
+ * all the remaining entities
+ */
+class LazyPreparedStatementMap<V> extends AbstractMap<Class<?>, V> {
+	private final Map<Class<?>, EntityMeta> entityMetaMap;
+	private final Function<EntityMeta, V> transformer;
+	private final ConcurrentMap<Class<?>, V> prepared = new ConcurrentHashMap<Class<?>, V>();
+
+	LazyPreparedStatementMap(Map<Class<?>, EntityMeta> entityMetaMap, Function<EntityMeta, V> transformer) {
+		this.entityMetaMap = entityMetaMap;
+		this.transformer = transformer;
+	}
+
+	@Override
+	public V get(Object key) {
+		V value = prepared.get(key);
+		if (value == null) {
+			EntityMeta meta = entityMetaMap.get(key);
+			if (meta == null) {
+				return null;
+			}
+			value = transformer.apply(meta);
+			V existing = prepared.putIfAbsent((Class<?>) key, value);
+			if (existing != null) {
+				value = existing;
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return entityMetaMap.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return entityMetaMap.size();
+	}
+
+	@Override
+	public Set<Entry<Class<?>, V>> entrySet() {
+		for (Class<?> entityClass : entityMetaMap.keySet()) {
+			get(entityClass);
+		}
+		return prepared.entrySet();
+	}
+}
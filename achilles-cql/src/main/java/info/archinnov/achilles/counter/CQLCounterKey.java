@@ -0,0 +1,74 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import com.google.common.base.Objects;
+
+/**
+ * Simple counter coalesced by the counter accumulator, identified by its
+ * entity class, primary key, property and write consistency level
+ */
+public class CQLCounterKey {
+	private final EntityMeta entityMeta;
+	private final PropertyMeta counterMeta;
+	private final Object primaryKey;
+	private final ConsistencyLevel writeLevel;
+
+	public CQLCounterKey(EntityMeta entityMeta, PropertyMeta counterMeta, Object primaryKey,
+			ConsistencyLevel writeLevel) {
+		this.entityMeta = entityMeta;
+		this.counterMeta = counterMeta;
+		this.primaryKey = primaryKey;
+		this.writeLevel = writeLevel;
+	}
+
+	public EntityMeta getEntityMeta() {
+		return entityMeta;
+	}
+
+	public PropertyMeta getCounterMeta() {
+		return counterMeta;
+	}
+
+	public Object getPrimaryKey() {
+		return primaryKey;
+	}
+
+	public ConsistencyLevel getWriteLevel() {
+		return writeLevel;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(entityMeta.getClassName(), counterMeta.getPropertyName(), primaryKey, writeLevel);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof CQLCounterKey)) {
+			return false;
+		}
+		CQLCounterKey other = (CQLCounterKey) obj;
+		return Objects.equal(entityMeta.getClassName(), other.entityMeta.getClassName())
+				&& Objects.equal(counterMeta.getPropertyName(), other.counterMeta.getPropertyName())
+				&& Objects.equal(primaryKey, other.primaryKey) && writeLevel == other.writeLevel;
+	}
+}
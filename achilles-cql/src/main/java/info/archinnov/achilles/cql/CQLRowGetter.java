@@ -0,0 +1,161 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.cql;
+
+import com.datastax.driver.core.Row;
+
+/**
+ * Typed getter of a {@link Row} column, by position or by name
+ */
+public enum CQLRowGetter {
+	BOOL {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getBool(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getBool(name);
+		}
+	},
+	INT {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getInt(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getInt(name);
+		}
+	},
+	LONG {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getLong(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getLong(name);
+		}
+	},
+	DATE {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getDate(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getDate(name);
+		}
+	},
+	FLOAT {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getFloat(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getFloat(name);
+		}
+	},
+	DOUBLE {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getDouble(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getDouble(name);
+		}
+	},
+	BYTES {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getBytes(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getBytes(name);
+		}
+	},
+	STRING {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getString(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getString(name);
+		}
+	},
+	VARINT {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getVarint(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getVarint(name);
+		}
+	},
+	DECIMAL {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getDecimal(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getDecimal(name);
+		}
+	},
+	UUID {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getUUID(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getUUID(name);
+		}
+	},
+	INET {
+		@Override
+		public Object get(Row row, int index) {
+			return row.getInet(index);
+		}
+
+		@Override
+		public Object get(Row row, String name) {
+			return row.getInet(name);
+		}
+	};
+
+	public abstract Object get(Row row, int index);
+
+	public abstract Object get(Row row, String name);
+}
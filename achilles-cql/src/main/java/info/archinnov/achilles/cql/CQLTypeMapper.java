@@ -18,11 +18,9 @@ package info.archinnov.achilles.cql;
 
 import static com.datastax.driver.core.DataType.Name.*;
 import info.archinnov.achilles.entity.metadata.InternalTimeUUID;
-import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.helper.PropertyHelper;
 import info.archinnov.achilles.type.Counter;
 
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
@@ -36,13 +34,12 @@ import java.util.UUID;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
-import com.datastax.driver.core.Row;
 
 public class CQLTypeMapper {
 
 	private static final Map<Class<?>, Name> java2CQL = new HashMap<Class<?>, Name>();
 	private static final Map<Name, Class<?>> cql2Java = new HashMap<Name, Class<?>>();
-	private static final Map<Class<?>, Method> rowPropertyInvoker = new HashMap<Class<?>, Method>();
+	private static final Map<Class<?>, CQLRowGetter> rowGetters = new HashMap<Class<?>, CQLRowGetter>();
 
 	static {
 		java2CQL.put(String.class, TEXT);
@@ -89,40 +86,34 @@ public class CQLTypeMapper {
 		cql2Java.put(MAP, Map.class);
 		cql2Java.put(CUSTOM, ByteBuffer.class);
 
-		try {
-			rowPropertyInvoker.put(Boolean.class, Row.class.getDeclaredMethod("getBool", String.class));
-			rowPropertyInvoker.put(boolean.class, Row.class.getDeclaredMethod("getBool", String.class));
+		rowGetters.put(Boolean.class, CQLRowGetter.BOOL);
+		rowGetters.put(boolean.class, CQLRowGetter.BOOL);
 
-			rowPropertyInvoker.put(Integer.class, Row.class.getDeclaredMethod("getInt", String.class));
-			rowPropertyInvoker.put(int.class, Row.class.getDeclaredMethod("getInt", String.class));
+		rowGetters.put(Integer.class, CQLRowGetter.INT);
+		rowGetters.put(int.class, CQLRowGetter.INT);
 
-			rowPropertyInvoker.put(Long.class, Row.class.getDeclaredMethod("getLong", String.class));
-			rowPropertyInvoker.put(long.class, Row.class.getDeclaredMethod("getLong", String.class));
+		rowGetters.put(Long.class, CQLRowGetter.LONG);
+		rowGetters.put(long.class, CQLRowGetter.LONG);
 
-			rowPropertyInvoker.put(Date.class, Row.class.getDeclaredMethod("getDate", String.class));
+		rowGetters.put(Date.class, CQLRowGetter.DATE);
 
-			rowPropertyInvoker.put(Float.class, Row.class.getDeclaredMethod("getFloat", String.class));
-			rowPropertyInvoker.put(float.class, Row.class.getDeclaredMethod("getFloat", String.class));
+		rowGetters.put(Float.class, CQLRowGetter.FLOAT);
+		rowGetters.put(float.class, CQLRowGetter.FLOAT);
 
-			rowPropertyInvoker.put(Double.class, Row.class.getDeclaredMethod("getDouble", String.class));
-			rowPropertyInvoker.put(double.class, Row.class.getDeclaredMethod("getDouble", String.class));
+		rowGetters.put(Double.class, CQLRowGetter.DOUBLE);
+		rowGetters.put(double.class, CQLRowGetter.DOUBLE);
 
-			rowPropertyInvoker.put(ByteBuffer.class, Row.class.getDeclaredMethod("getBytes", String.class));
+		rowGetters.put(ByteBuffer.class, CQLRowGetter.BYTES);
 
-			rowPropertyInvoker.put(String.class, Row.class.getDeclaredMethod("getString", String.class));
+		rowGetters.put(String.class, CQLRowGetter.STRING);
 
-			rowPropertyInvoker.put(BigInteger.class, Row.class.getDeclaredMethod("getVarint", String.class));
+		rowGetters.put(BigInteger.class, CQLRowGetter.VARINT);
 
-			rowPropertyInvoker.put(BigDecimal.class, Row.class.getDeclaredMethod("getDecimal", String.class));
+		rowGetters.put(BigDecimal.class, CQLRowGetter.DECIMAL);
 
-			rowPropertyInvoker.put(UUID.class, Row.class.getDeclaredMethod("getUUID", String.class));
-
-			rowPropertyInvoker.put(InetAddress.class, Row.class.getDeclaredMethod("getInet", String.class));
-
-		} catch (Exception e) {
-			throw new AchillesException("Cannot find getter in '" + Row.class.getCanonicalName() + "' ", e);
-		}
+		rowGetters.put(UUID.class, CQLRowGetter.UUID);
 
+		rowGetters.put(InetAddress.class, CQLRowGetter.INET);
 	}
 
 	public static DataType.Name toCQLType(Class<?> javaType) {
@@ -140,14 +131,14 @@ public class CQLTypeMapper {
 		return cql2Java.get(cqlType);
 	}
 
-	public static Method getRowMethod(Class<?> javaType) {
-		Method method = rowPropertyInvoker.get(javaType);
+	public static CQLRowGetter getRowGetter(Class<?> javaType) {
+		CQLRowGetter getter = rowGetters.get(javaType);
 
 		// Custom object will be JSON serialized
-		if (method == null) {
-			method = rowPropertyInvoker.get(String.class);
+		if (getter == null) {
+			getter = CQLRowGetter.STRING;
 		}
-		return method;
+		return getter;
 	}
 
 	public static Class<?> toCompatibleJavaType(Class<?> originalClass) {
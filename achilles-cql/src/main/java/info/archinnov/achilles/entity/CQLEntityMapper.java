@@ -21,19 +21,50 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.helper.EntityMapper;
 import info.archinnov.achilles.proxy.CQLRowMethodInvoker;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import com.datastax.driver.core.ColumnDefinitions;
-import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.Row;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
+/**
+ * Map CQL rows to entities. Rows from the same result set share their column
+ * definitions, so the column index of each property is resolved once per
+ * result set and the values are read by position
+ */
 public class CQLEntityMapper extends EntityMapper {
 
 	private CQLRowMethodInvoker cqlRowInvoker = new CQLRowMethodInvoker();
 
+	private final Cache<ColumnDefinitions, CQLRowDecoder> decoders = CacheBuilder.newBuilder().weakKeys().build();
+
 	public void setEagerPropertiesToEntity(Row row, EntityMeta entityMeta, Object entity) {
-		for (PropertyMeta pm : entityMeta.getEagerMetas()) {
-			setPropertyToEntity(row, pm, entity);
+		ColumnDefinitions columnDefinitions = row != null ? row.getColumnDefinitions() : null;
+		if (columnDefinitions == null) {
+			for (PropertyMeta pm : entityMeta.getEagerMetas()) {
+				setPropertyToEntity(row, pm, entity);
+			}
+			return;
+		}
+
+		CQLRowDecoder decoder = getEagerDecoder(columnDefinitions, entityMeta);
+		for (int i = 0; i < decoder.size(); i++) {
+			PropertyMeta pm = decoder.getMeta(i);
+			int index = decoder.getIndex(i);
+			if (index < 0) {
+				setPropertyToEntity(row, pm, entity);
+			} else if (!row.isNull(index)) {
+				Object value = cqlRowInvoker.invokeOnRowForFields(row, pm, index);
+				pm.setValueToField(entity, value);
+			}
+		}
+		PropertyMeta embeddedIdMeta = decoder.getEmbeddedIdMeta();
+		if (embeddedIdMeta != null) {
+			Object compoundKey = cqlRowInvoker.extractCompoundPrimaryKeyFromRow(row, embeddedIdMeta,
+					decoder.getComponentIndexes(), true);
+			embeddedIdMeta.setValueToField(entity, compoundKey);
 		}
 	}
 
@@ -58,20 +89,52 @@ public class CQLEntityMapper extends EntityMapper {
 		ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
 		if (columnDefinitions != null) {
 			entity = meta.<T> instanciate();
-			for (Definition column : columnDefinitions) {
-				String columnName = column.getName();
-				PropertyMeta pm = propertiesMap.get(columnName);
-				if (pm != null) {
-					Object value = cqlRowInvoker.invokeOnRowForFields(row, pm);
+			CQLRowDecoder decoder = getColumnsDecoder(columnDefinitions, meta, propertiesMap);
+			for (int i = 0; i < decoder.size(); i++) {
+				int index = decoder.getIndex(i);
+				if (index >= 0) {
+					PropertyMeta pm = decoder.getMeta(i);
+					Object value = cqlRowInvoker.invokeOnRowForFields(row, pm, index);
 					pm.setValueToField(entity, value);
 				}
 			}
-			PropertyMeta idMeta = meta.getIdMeta();
-			if (idMeta.isEmbeddedId()) {
-				Object compoundKey = cqlRowInvoker.extractCompoundPrimaryKeyFromRow(row, idMeta, isEntityManaged);
+			PropertyMeta idMeta = decoder.getEmbeddedIdMeta();
+			if (idMeta != null) {
+				Object compoundKey = cqlRowInvoker.extractCompoundPrimaryKeyFromRow(row, idMeta,
+						decoder.getComponentIndexes(), isEntityManaged);
 				idMeta.setValueToField(entity, compoundKey);
 			}
 		}
 		return entity;
 	}
+
+	private CQLRowDecoder getEagerDecoder(ColumnDefinitions columnDefinitions, EntityMeta entityMeta) {
+		CQLRowDecoder decoder = decoders.getIfPresent(columnDefinitions);
+		if (decoder == null || !decoder.isFor(entityMeta)) {
+			Map<String, PropertyMeta> columnMetas = new HashMap<String, PropertyMeta>();
+			PropertyMeta embeddedIdMeta = null;
+			for (PropertyMeta pm : entityMeta.getEagerMetas()) {
+				if (pm.isEmbeddedId()) {
+					embeddedIdMeta = pm;
+				} else {
+					columnMetas.put(pm.getPropertyName().toLowerCase(), pm);
+				}
+			}
+			decoder = new CQLRowDecoder(entityMeta, columnDefinitions, columnMetas, embeddedIdMeta);
+			decoders.put(columnDefinitions, decoder);
+		}
+		return decoder;
+	}
+
+	private CQLRowDecoder getColumnsDecoder(ColumnDefinitions columnDefinitions, EntityMeta meta,
+			Map<String, PropertyMeta> propertiesMap) {
+		CQLRowDecoder decoder = decoders.getIfPresent(columnDefinitions);
+		if (decoder == null || !decoder.isFor(propertiesMap)) {
+			PropertyMeta idMeta = meta.getIdMeta();
+			PropertyMeta embeddedIdMeta = idMeta.isEmbeddedId() ? idMeta : null;
+			decoder = new CQLRowDecoder(propertiesMap, columnDefinitions, propertiesMap, embeddedIdMeta);
+			decoders.put(columnDefinitions, decoder);
+		}
+		return decoder;
+	}
 }
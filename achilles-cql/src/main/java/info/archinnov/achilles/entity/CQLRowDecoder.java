@@ -0,0 +1,105 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity;
+
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnDefinitions.Definition;
+
+/**
+ * Column indexes of the properties mapped from the rows of a result set,
+ * resolved once from the column definitions shared by these rows. A property
+ * whose column is not selected has the index -1
+ */
+class CQLRowDecoder {
+	private final Object source;
+	private final PropertyMeta[] metas;
+	private final int[] indexes;
+	private final PropertyMeta embeddedIdMeta;
+	private final int[] componentIndexes;
+
+	CQLRowDecoder(Object source, ColumnDefinitions columnDefinitions, Map<String, PropertyMeta> columnMetas,
+			PropertyMeta embeddedIdMeta) {
+		this.source = source;
+		this.embeddedIdMeta = embeddedIdMeta;
+
+		Map<String, Integer> columnIndexes = new HashMap<String, Integer>();
+		int columnIndex = 0;
+		for (Definition column : columnDefinitions) {
+			columnIndexes.put(column.getName(), columnIndex++);
+		}
+
+		List<Entry<String, PropertyMeta>> entries = new ArrayList<Entry<String, PropertyMeta>>();
+		for (Entry<String, PropertyMeta> entry : columnMetas.entrySet()) {
+			if (!entry.getValue().isEmbeddedId()) {
+				entries.add(entry);
+			}
+		}
+		metas = new PropertyMeta[entries.size()];
+		indexes = new int[entries.size()];
+		for (int i = 0; i < entries.size(); i++) {
+			metas[i] = entries.get(i).getValue();
+			indexes[i] = indexOf(columnIndexes, entries.get(i).getKey());
+		}
+
+		if (embeddedIdMeta != null) {
+			List<String> componentNames = embeddedIdMeta.getCQLComponentNames();
+			componentIndexes = new int[componentNames.size()];
+			for (int i = 0; i < componentNames.size(); i++) {
+				componentIndexes[i] = indexOf(columnIndexes, componentNames.get(i));
+			}
+		} else {
+			componentIndexes = null;
+		}
+	}
+
+	boolean isFor(Object source) {
+		return this.source == source;
+	}
+
+	int size() {
+		return metas.length;
+	}
+
+	PropertyMeta getMeta(int i) {
+		return metas[i];
+	}
+
+	int getIndex(int i) {
+		return indexes[i];
+	}
+
+	PropertyMeta getEmbeddedIdMeta() {
+		return embeddedIdMeta;
+	}
+
+	int[] getComponentIndexes() {
+		return componentIndexes;
+	}
+
+	private int indexOf(Map<String, Integer> columnIndexes, String columnName) {
+		Integer index = columnIndexes.get(columnName);
+		return index == null ? -1 : index;
+	}
+}
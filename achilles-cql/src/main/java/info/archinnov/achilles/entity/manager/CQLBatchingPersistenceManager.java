@@ -27,6 +27,7 @@ import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -50,6 +51,7 @@ public class CQLBatchingPersistenceManager extends CQLPersistenceManager {
 	public void startBatch() {
 		log.debug("Starting batch mode");
 		flushContext.startBatch();
+		clearPendingEvictions();
 	}
 
 	/**
@@ -67,6 +69,10 @@ public class CQLBatchingPersistenceManager extends CQLPersistenceManager {
 	 * 
 	 * Do nothing if there is no pending statement
 	 * 
+	 * When a native batch type is configured, pending statements are sent as
+	 * CQL BATCH requests, counter statements being grouped in COUNTER batches.
+	 * All mutations of a CQL BATCH share the same timestamp
+	 * 
 	 */
 	public void endBatch() {
 		log.debug("Ending batch mode");
@@ -74,6 +80,7 @@ public class CQLBatchingPersistenceManager extends CQLPersistenceManager {
 			flushContext.endBatch();
 		} finally {
 			flushContext.cleanUp();
+			evictPendingFromCache();
 		}
 	}
 
@@ -83,6 +90,7 @@ public class CQLBatchingPersistenceManager extends CQLPersistenceManager {
 	public void cleanBatch() {
 		log.debug("Cleaning all pending statements");
 		flushContext.cleanUp();
+		clearPendingEvictions();
 	}
 
 	@Override
@@ -129,6 +137,17 @@ public class CQLBatchingPersistenceManager extends CQLPersistenceManager {
 		}
 	}
 
+	@Override
+	public <K, T> Map<K, T> find(final Class<T> entityClass, Collection<K> primaryKeys, ConsistencyLevel readLevel) {
+		if (readLevel != null) {
+			flushContext.cleanUp();
+			throw new AchillesException(
+					"Runtime custom Consistency Level cannot be set for batch mode. Please set the Consistency Levels at batch start with 'startBatch(readLevel,writeLevel)'");
+		} else {
+			return super.find(entityClass, primaryKeys, null);
+		}
+	}
+
 	@Override
 	public <T> T getReference(final Class<T> entityClass, final Object primaryKey, ConsistencyLevel readLevel) {
 		if (readLevel != null) {
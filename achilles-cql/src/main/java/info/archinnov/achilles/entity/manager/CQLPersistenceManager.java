@@ -23,6 +23,7 @@ import info.archinnov.achilles.context.CQLPersistenceContextFactory;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
+import info.archinnov.achilles.entity.operations.CQLEntityScanner;
 import info.archinnov.achilles.entity.operations.CQLSliceQueryExecutor;
 import info.archinnov.achilles.entity.operations.EntityValidator;
 import info.archinnov.achilles.query.cql.CQLNativeQueryBuilder;
@@ -33,13 +34,21 @@ import info.archinnov.achilles.type.IndexCondition;
 import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
 
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 
 public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceContext> {
 	private CQLCompoundKeyValidator compoundKeyValidator = new CQLCompoundKeyValidator();
 	private CQLSliceQueryExecutor sliceQueryExecutor;
+	private CQLEntityScanner entityScanner;
 	private CQLPersistenceContextFactory contextFactory;
 	protected CQLDaoContext daoContext;
 
@@ -53,6 +62,7 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 		super.entityValidator = new EntityValidator<CQLPersistenceContext>(proxifier);
 		this.contextFactory = contextFactory;
 		this.sliceQueryExecutor = new CQLSliceQueryExecutor(contextFactory, configContext, daoContext);
+		this.entityScanner = new CQLEntityScanner(contextFactory, configContext, daoContext);
 	}
 
 	@Override
@@ -165,6 +175,34 @@ public class CQLPersistenceManager extends PersistenceManager<CQLPersistenceCont
 		return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, false, true);
 	}
 
+	@Override
+	protected <T> Iterator<Callable<List<T>>> scanTasks(Class<T> entityClass, EntityMeta entityMeta) {
+		return entityScanner.scanTasks(entityClass, entityMeta);
+	}
+
+	@Override
+	protected <K, T> Map<K, T> findAll(Class<T> entityClass, Map<K, CQLPersistenceContext> contexts) {
+		EntityMeta entityMeta = entityMetaMap.get(entityClass);
+		if (entityMeta.isClusteredCounter()) {
+			return super.findAll(entityClass, contexts);
+		}
+
+		Map<K, ResultSetFuture> futures = new LinkedHashMap<K, ResultSetFuture>();
+		for (Entry<K, CQLPersistenceContext> entry : contexts.entrySet()) {
+			futures.put(entry.getKey(), entry.getValue().eagerLoadEntityAsync());
+		}
+
+		Map<K, T> entities = new LinkedHashMap<K, T>();
+		for (Entry<K, ResultSetFuture> entry : futures.entrySet()) {
+			Row row = entry.getValue().getUninterruptibly().one();
+			T entity = contexts.get(entry.getKey()).findFromRow(entityClass, row);
+			if (entity != null) {
+				entities.put(entry.getKey(), entity);
+			}
+		}
+		return entities;
+	}
+
 	@Override
 	protected CQLPersistenceContext initPersistenceContext(Object entity, Options options) {
 		return contextFactory.newContext(entity, options);
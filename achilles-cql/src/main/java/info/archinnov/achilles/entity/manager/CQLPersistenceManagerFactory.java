@@ -26,9 +26,12 @@ import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.context.CQLDaoContextBuilder;
 import info.archinnov.achilles.context.CQLPersistenceContextFactory;
 import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.counter.CQLCounterKey;
+import info.archinnov.achilles.counter.CounterAccumulator.Flusher;
 import info.archinnov.achilles.table.CQLTableCreator;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
@@ -65,12 +68,43 @@ public class CQLPersistenceManagerFactory extends PersistenceManagerFactory {
 			hasSimpleCounter = bootstrap();
 		}
 
+		long start = System.nanoTime();
 		new CQLTableCreator(cluster, session, (String) configurationMap.get(KEYSPACE_NAME_PARAM))
 				.validateOrCreateTables(entityMetaMap, configContext, hasSimpleCounter);
-
-		daoContext = CQLDaoContextBuilder.builder(session).build(entityMetaMap, hasSimpleCounter);
+		recordBootstrapPhase("table validation", start);
+
+		start = System.nanoTime();
+		daoContext = CQLDaoContextBuilder.builder(session)
+				.withAsyncFlush(extractor.initAsyncFlushMaxInFlight(configurationMap))
+				.withNativeBatch(extractor.initNativeBatchType(configurationMap),
+						extractor.initNativeBatchMaxSize(configurationMap))
+				.withStatementPreparation(extractor.initPrepareStatementsParallelism(configurationMap),
+						extractor.initPrepareStatementsLazy(configurationMap))
+				.build(entityMetaMap, hasSimpleCounter);
+		recordBootstrapPhase("statement preparation", start);
+		daoContext.setCounterAccumulator(initCounterAccumulator(configurationMap, extractor,
+				new Flusher<CQLCounterKey>() {
+					@Override
+					public List<Map<CQLCounterKey, Long>> split(Map<CQLCounterKey, Long> deltas) {
+						return daoContext.splitSimpleCounterDeltas(deltas);
+					}
+
+					@Override
+					public void write(Map<CQLCounterKey, Long> group) {
+						daoContext.writeSimpleCounterDeltas(group);
+					}
+				}));
 		contextFactory = new CQLPersistenceContextFactory(daoContext, configContext, entityMetaMap);
-		registerShutdownHook(cluster);
+		registerShutdownHook();
+	}
+
+	/**
+	 * Write the pending counter updates then shut the cluster down
+	 */
+	@Override
+	public void shutdown() {
+		super.shutdown();
+		cluster.shutdown();
 	}
 
 	/**
@@ -113,11 +147,11 @@ public class CQLPersistenceManagerFactory extends PersistenceManagerFactory {
 				readConsistencyMap, writeConsistencyMap);
 	}
 
-	private void registerShutdownHook(final Cluster cluster) {
+	private void registerShutdownHook() {
 		Runtime.getRuntime().addShutdownHook(new Thread() {
 			@Override
 			public void run() {
-				cluster.shutdown();
+				shutdown();
 			}
 		});
 	}
@@ -23,7 +23,15 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.impl.CQLLoaderImpl;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import com.datastax.driver.core.Row;
+import com.google.common.collect.Lists;
+
 public class CQLEntityLoader implements EntityLoader<CQLPersistenceContext> {
+	private static final int ASYNC_READS_CHUNK_SIZE = 100;
+
 	private CQLLoaderImpl loaderImpl = new CQLLoaderImpl();
 
 	@Override
@@ -48,6 +56,25 @@ public class CQLEntityLoader implements EntityLoader<CQLPersistenceContext> {
 		return entity;
 	}
 
+	public <T> T loadFromRow(CQLPersistenceContext context, Class<T> entityClass, Row row) {
+		EntityMeta entityMeta = context.getEntityMeta();
+		Validator
+				.validateNotNull(entityMeta, "Entity meta for '%s' should not be null", entityClass.getCanonicalName());
+
+		T entity = null;
+		if (entityMeta.isClusteredCounter()) {
+			if (row != null) {
+				entity = entityMeta.<T> instanciate();
+			}
+		} else {
+			entity = loaderImpl.mapRowToEntity(entityMeta, row);
+		}
+		if (entity != null) {
+			entityMeta.getIdMeta().setValueToField(entity, context.getPrimaryKey());
+		}
+		return entity;
+	}
+
 	@Override
 	public <V> void loadPropertyIntoObject(CQLPersistenceContext context, Object realObject, PropertyMeta pm) {
 		PropertyType type = pm.type();
@@ -56,4 +83,24 @@ public class CQLEntityLoader implements EntityLoader<CQLPersistenceContext> {
 		}
 	}
 
+	@Override
+	public void loadPropertyIntoObjects(List<CQLPersistenceContext> contexts, List<Object> realObjects,
+			PropertyMeta pm) {
+		if (!pm.type().isCounter()) {
+			for (int from = 0; from < contexts.size(); from += ASYNC_READS_CHUNK_SIZE) {
+				int to = Math.min(from + ASYNC_READS_CHUNK_SIZE, contexts.size());
+				loaderImpl.loadPropertyIntoEntities(contexts.subList(from, to), pm, realObjects.subList(from, to));
+			}
+		}
+	}
+
+	@Override
+	public List<Long> loadCounters(List<CQLPersistenceContext> contexts, PropertyMeta counterMeta) {
+		List<Long> counterValues = new ArrayList<Long>(contexts.size());
+		for (List<CQLPersistenceContext> chunk : Lists.partition(contexts, ASYNC_READS_CHUNK_SIZE)) {
+			counterValues.addAll(loaderImpl.loadCounters(chunk, counterMeta));
+		}
+		return counterValues;
+	}
+
 }
@@ -0,0 +1,163 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.operations;
+
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.context.CQLPersistenceContextFactory;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.entity.CQLEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
+
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.SimpleStatement;
+import com.google.common.collect.AbstractIterator;
+
+/**
+ * Full table scan of a non clustered entity. The ring is split into token
+ * ranges, each range being read by pages of at most pageSize partitions: the
+ * page boundary is found with a query on the partition key tokens only, then
+ * the page rows are loaded by one task
+ */
+public class CQLEntityScanner {
+	private static final Logger log = LoggerFactory.getLogger(CQLEntityScanner.class);
+
+	static final String MURMUR3_PARTITIONER = "org.apache.cassandra.dht.Murmur3Partitioner";
+	static final String RANDOM_PARTITIONER = "org.apache.cassandra.dht.RandomPartitioner";
+
+	static final int SCAN_PAGE_SIZE = 100;
+
+	private static final BigInteger MURMUR3_MIN_TOKEN = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger MURMUR3_MAX_TOKEN = BigInteger.valueOf(Long.MAX_VALUE);
+	private static final BigInteger RANDOM_MIN_TOKEN = BigInteger.ONE.negate();
+	private static final BigInteger RANDOM_MAX_TOKEN = BigInteger.ONE.shiftLeft(127);
+
+	private CQLPreparedStatementGenerator generator = new CQLPreparedStatementGenerator();
+	private CQLEntityMapper mapper = new CQLEntityMapper();
+	private CQLEntityProxifier proxifier = new CQLEntityProxifier();
+
+	private CQLDaoContext daoContext;
+	private CQLPersistenceContextFactory contextFactory;
+	private int tokenRanges;
+	private int pageSize = SCAN_PAGE_SIZE;
+	private volatile String partitioner;
+
+	public CQLEntityScanner(CQLPersistenceContextFactory contextFactory, ConfigurationContext configContext,
+			CQLDaoContext daoContext) {
+		this.contextFactory = contextFactory;
+		this.daoContext = daoContext;
+		this.tokenRanges = configContext.getScanTokenRanges();
+	}
+
+	public <T> Iterator<Callable<List<T>>> scanTasks(final Class<T> entityClass, final EntityMeta entityMeta) {
+		final PreparedStatement ps = generator.prepareScanPS(daoContext.getSession(), entityMeta);
+		final PreparedStatement tokensPS = generator.prepareScanTokensPS(daoContext.getSession(), entityMeta,
+				pageSize);
+		final Set<Method> alreadyLoaded = new HashSet<Method>(entityMeta.getEagerGetters());
+		final boolean murmur3 = MURMUR3_PARTITIONER.equals(getPartitioner());
+		final Iterator<Object[]> ranges = splitTokenRanges(getPartitioner(), tokenRanges).iterator();
+
+		log.debug("Scan table {} with {} token ranges", entityMeta.getTableName(), tokenRanges);
+		return new AbstractIterator<Callable<List<T>>>() {
+			private Object[] range;
+
+			@Override
+			protected Callable<List<T>> computeNext() {
+				while (range != null || ranges.hasNext()) {
+					if (range == null) {
+						range = ranges.next();
+					}
+					List<Row> tokens = daoContext.bindAndExecute(tokensPS, range).all();
+					if (tokens.isEmpty()) {
+						range = null;
+						continue;
+					}
+					Row last = tokens.get(tokens.size() - 1);
+					final Object[] page = new Object[] { range[0], murmur3 ? last.getLong(0) : last.getVarint(0) };
+					range = tokens.size() < pageSize ? null : new Object[] { page[1], range[1] };
+					return new Callable<List<T>>() {
+						@Override
+						public List<T> call() throws Exception {
+							return loadTokenRange(entityMeta, ps, alreadyLoaded, page);
+						}
+					};
+				}
+				return endOfData();
+			}
+		};
+	}
+
+	/**
+	 * Split the whole ring into ]start, end] ranges with bound values typed
+	 * for the partitioner tokens (bigint or varint)
+	 */
+	List<Object[]> splitTokenRanges(String partitioner, int count) {
+		boolean murmur3 = MURMUR3_PARTITIONER.equals(partitioner);
+		if (!murmur3 && !RANDOM_PARTITIONER.equals(partitioner)) {
+			throw new AchillesException("Full table scan is not supported for partitioner '" + partitioner + "'");
+		}
+		BigInteger min = murmur3 ? MURMUR3_MIN_TOKEN : RANDOM_MIN_TOKEN;
+		BigInteger max = murmur3 ? MURMUR3_MAX_TOKEN : RANDOM_MAX_TOKEN;
+		BigInteger width = max.subtract(min).divide(BigInteger.valueOf(count));
+
+		List<Object[]> ranges = new ArrayList<Object[]>(count);
+		BigInteger start = min;
+		for (int i = 1; i <= count; i++) {
+			BigInteger end = i == count ? max : min.add(width.multiply(BigInteger.valueOf(i)));
+			if (murmur3) {
+				ranges.add(new Object[] { start.longValue(), end.longValue() });
+			} else {
+				ranges.add(new Object[] { start, end });
+			}
+			start = end;
+		}
+		return ranges;
+	}
+
+	private <T> List<T> loadTokenRange(EntityMeta entityMeta, PreparedStatement ps, Set<Method> alreadyLoaded,
+			Object[] range) {
+		List<T> entities = new ArrayList<T>();
+		for (Row row : daoContext.bindAndExecute(ps, range).all()) {
+			T entity = entityMeta.<T> instanciate();
+			mapper.setEagerPropertiesToEntity(row, entityMeta, entity);
+			entities.add(proxifier.buildProxy(entity, contextFactory.newContext(entity), alreadyLoaded));
+		}
+		return entities;
+	}
+
+	private String getPartitioner() {
+		if (partitioner == null) {
+			Row row = daoContext.execute(new SimpleStatement("SELECT partitioner FROM system.local")).one();
+			partitioner = row.getString("partitioner");
+		}
+		return partitioner;
+	}
+}
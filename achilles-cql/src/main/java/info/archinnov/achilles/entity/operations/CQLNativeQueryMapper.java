@@ -43,13 +43,24 @@ public class CQLNativeQueryMapper {
 		return result;
 	}
 
-	private void mapRow(List<Map<String, Object>> result, Row row) {
+	/**
+	 * Map a single row, returning null when it has no column definitions
+	 */
+	public Map<String, Object> mapRow(Row row) {
 		ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
-		if (columnDefinitions != null) {
-			Map<String, Object> line = new LinkedHashMap<String, Object>();
-			for (Definition column : columnDefinitions) {
-				mapColumn(row, line, column);
-			}
+		if (columnDefinitions == null) {
+			return null;
+		}
+		Map<String, Object> line = new LinkedHashMap<String, Object>();
+		for (Definition column : columnDefinitions) {
+			mapColumn(row, line, column);
+		}
+		return line;
+	}
+
+	private void mapRow(List<Map<String, Object>> result, Row row) {
+		Map<String, Object> line = mapRow(row);
+		if (line != null) {
 			result.add(line);
 		}
 	}
@@ -22,6 +22,7 @@ import info.archinnov.achilles.context.CQLPersistenceContextFactory;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.CQLEntityMapper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.helper.MemoizedTransformList;
 import info.archinnov.achilles.iterator.CQLSliceQueryIterator;
 import info.archinnov.achilles.query.SliceQuery;
 import info.archinnov.achilles.query.slice.CQLSliceQuery;
@@ -35,7 +36,6 @@ import java.util.List;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.Row;
-import com.google.common.collect.Lists;
 
 public class CQLSliceQueryExecutor extends SliceQueryExecutor<CQLPersistenceContext> {
 
@@ -69,7 +69,8 @@ public class CQLSliceQueryExecutor extends SliceQueryExecutor<CQLPersistenceCont
 			clusteredEntities.add(clusteredEntity);
 		}
 
-		return Lists.transform(clusteredEntities, getProxyTransformer(sliceQuery, meta.getEagerGetters()));
+		return new MemoizedTransformList<T, T>(clusteredEntities, getProxyTransformer(sliceQuery,
+				meta.getEagerGetters()));
 	}
 
 	@Override
@@ -22,6 +22,10 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 
 public class CQLLoaderImpl {
@@ -42,10 +46,16 @@ public class CQLLoaderImpl {
 			}
 		} else {
 			Row row = context.eagerLoadEntity();
-			if (row != null) {
-				entity = entityMeta.<T> instanciate();
-				mapper.setEagerPropertiesToEntity(row, entityMeta, entity);
-			}
+			entity = mapRowToEntity(entityMeta, row);
+		}
+		return entity;
+	}
+
+	public <T> T mapRowToEntity(EntityMeta entityMeta, Row row) {
+		T entity = null;
+		if (row != null) {
+			entity = entityMeta.<T> instanciate();
+			mapper.setEagerPropertiesToEntity(row, entityMeta, entity);
 		}
 		return entity;
 	}
@@ -54,4 +64,54 @@ public class CQLLoaderImpl {
 		Row row = context.loadProperty(pm);
 		mapper.setPropertyToEntity(row, pm, entity);
 	}
+
+	/**
+	 * Load a property for several entities with one asynchronous select per
+	 * entity, all of them being sent before waiting for the first result
+	 */
+	public void loadPropertyIntoEntities(List<CQLPersistenceContext> contexts, PropertyMeta pm, List<Object> entities) {
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(contexts.size());
+		for (CQLPersistenceContext context : contexts) {
+			futures.add(context.loadPropertyAsync(pm));
+		}
+		for (int i = 0; i < futures.size(); i++) {
+			Row row = futures.get(i).getUninterruptibly().one();
+			mapper.setPropertyToEntity(row, pm, entities.get(i));
+		}
+	}
+
+	/**
+	 * Read a counter property of several entities through the counter read
+	 * path of each context, the reads of all entities being sent at once.
+	 * Simple counters are served from the counter snapshot of each context,
+	 * taken with one read of the counter partition when not held yet
+	 */
+	public List<Long> loadCounters(List<CQLPersistenceContext> contexts, PropertyMeta counterMeta) {
+		boolean clusteredCounter = contexts.get(0).getEntityMeta().isClusteredCounter();
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(contexts.size());
+		for (CQLPersistenceContext context : contexts) {
+			ConsistencyLevel readLevel = readLevel(context, counterMeta);
+			if (clusteredCounter) {
+				futures.add(context.getClusteredCounterAsync(counterMeta, readLevel));
+			} else {
+				futures.add(context.getSimpleCountersAsync(readLevel));
+			}
+		}
+		List<Long> counterValues = new ArrayList<Long>(contexts.size());
+		for (int i = 0; i < contexts.size(); i++) {
+			CQLPersistenceContext context = contexts.get(i);
+			if (clusteredCounter) {
+				counterValues.add(context.getClusteredCounter(counterMeta, futures.get(i)));
+			} else {
+				ConsistencyLevel readLevel = readLevel(context, counterMeta);
+				counterValues.add(context.getSimpleCounter(counterMeta, readLevel, futures.get(i)));
+			}
+		}
+		return counterValues;
+	}
+
+	private ConsistencyLevel readLevel(CQLPersistenceContext context, PropertyMeta counterMeta) {
+		return context.getConsistencyLevel().isPresent() ? context.getConsistencyLevel().get() : counterMeta
+				.getReadConsistencyLevel();
+	}
 }
@@ -18,6 +18,8 @@ package info.archinnov.achilles.entity.operations.impl;
 
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.CollectionDelta;
+import info.archinnov.achilles.proxy.DirtyProperties;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -32,13 +34,36 @@ public class CQLMergerImpl implements Merger<CQLPersistenceContext> {
 	@Override
 	public void merge(CQLPersistenceContext context, Map<Method, PropertyMeta> dirtyMap) {
 		if (dirtyMap.size() > 0) {
-			List<PropertyMeta> sortedDirtyMetas = new ArrayList<PropertyMeta>(dirtyMap.values());
-			Collections.sort(sortedDirtyMetas, comparator);
-			context.pushUpdateStatement(sortedDirtyMetas);
+			List<PropertyMeta> sortedDirtyMetas = new ArrayList<PropertyMeta>();
+			for (PropertyMeta pm : dirtyMap.values()) {
+				CollectionDelta delta = extractDelta(context, dirtyMap, pm);
+				if (delta != null) {
+					context.pushCollectionDeltaStatement(pm, delta);
+				} else {
+					sortedDirtyMetas.add(pm);
+				}
+			}
+			if (!sortedDirtyMetas.isEmpty()) {
+				Collections.sort(sortedDirtyMetas, comparator);
+				context.pushUpdateStatement(sortedDirtyMetas);
+			}
 			dirtyMap.clear();
 		}
 	}
 
+	/**
+	 * Collection deltas are only pushed without ttl nor timestamp, otherwise
+	 * the whole collection is written
+	 */
+	private CollectionDelta extractDelta(CQLPersistenceContext context, Map<Method, PropertyMeta> dirtyMap,
+			PropertyMeta pm) {
+		if (dirtyMap instanceof DirtyProperties && !context.getTtt().isPresent()
+				&& !context.getTimestamp().isPresent()) {
+			return ((DirtyProperties) dirtyMap).getDelta(pm);
+		}
+		return null;
+	}
+
 	public static class PropertyMetaComparator implements Comparator<PropertyMeta> {
 		@Override
 		public int compare(PropertyMeta arg0, PropertyMeta arg1) {
@@ -18,12 +18,9 @@ package info.archinnov.achilles.proxy;
 
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
-import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -33,7 +30,7 @@ public class CQLEntityInterceptorBuilder<T> {
 	private static final Logger log = LoggerFactory.getLogger(CQLEntityInterceptorBuilder.class);
 
 	private T target;
-	private Set<Method> alreadyLoaded = new HashSet<Method>();
+	private Set<Method> alreadyLoaded;
 	private CQLPersistenceContext context;
 
 	public static <T> CQLEntityInterceptorBuilder<T> builder(CQLPersistenceContext context, T entity) {
@@ -64,16 +61,14 @@ public class CQLEntityInterceptorBuilder<T> {
 
 		interceptor.setTarget(target);
 		interceptor.setContext(context);
-		interceptor.setGetterMetas(entityMeta.getGetterMetas());
-		interceptor.setSetterMetas(entityMeta.getSetterMetas());
-		interceptor.setIdGetter(entityMeta.getIdMeta().getGetter());
-		interceptor.setIdSetter(entityMeta.getIdMeta().getSetter());
+		interceptor.setPropertyMetas(entityMeta.getPropertyMetasByOrdinal());
 
-		if (context.isLoadEagerFields() && alreadyLoaded.isEmpty()) {
-			alreadyLoaded.addAll(entityMeta.getEagerGetters());
+		Set<Method> loaded = LoadedProperties.forEntity(entityMeta, alreadyLoaded);
+		if (context.isLoadEagerFields() && loaded.isEmpty()) {
+			loaded.addAll(entityMeta.getEagerGetters());
 		}
-		interceptor.setAlreadyLoaded(alreadyLoaded);
-		interceptor.setDirtyMap(new HashMap<Method, PropertyMeta>());
+		interceptor.setAlreadyLoaded(loaded);
+		interceptor.setDirtyMap(DirtyProperties.forEntity(entityMeta));
 		interceptor.setPrimaryKey(context.getPrimaryKey());
 
 		return interceptor;
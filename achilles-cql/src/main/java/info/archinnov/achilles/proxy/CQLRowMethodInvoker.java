@@ -22,7 +22,7 @@ import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.validation.Validator;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -63,21 +63,77 @@ public class CQLRowMethodInvoker {
 		return value;
 	}
 
+	/**
+	 * Decode the column at <em>index</em> of the row, resolved beforehand from
+	 * the column definitions of its result set
+	 */
+	public Object invokeOnRowForFields(Row row, PropertyMeta pm, int index) {
+		Object value = null;
+		if (row != null && !row.isNull(index)) {
+			try {
+				switch (pm.type()) {
+				case LIST:
+				case LAZY_LIST:
+					value = pm.decode(row.getList(index, toCompatibleJavaType(pm.getValueClass())));
+					break;
+				case SET:
+				case LAZY_SET:
+					value = pm.decode(row.getSet(index, toCompatibleJavaType(pm.getValueClass())));
+					break;
+				case MAP:
+				case LAZY_MAP:
+					value = pm.decode(row.getMap(index, toCompatibleJavaType(pm.getKeyClass()),
+							toCompatibleJavaType(pm.getValueClass())));
+					break;
+				case ID:
+				case SIMPLE:
+				case LAZY_SIMPLE:
+					value = pm.decode(getRowGetter(pm.getValueClass()).get(row, index));
+					break;
+				default:
+					break;
+				}
+			} catch (Exception e) {
+				throw new AchillesException("Cannot retrieve property '" + pm.getPropertyName()
+						+ "' for entity class '" + pm.getEntityClassName() + "' from CQL Row", e);
+			}
+		}
+		return value;
+	}
+
 	public Object extractCompoundPrimaryKeyFromRow(Row row, PropertyMeta pm, boolean isManagedEntity) {
 		List<String> componentNames = pm.getCQLComponentNames();
+		int[] componentIndexes = new int[componentNames.size()];
+		Arrays.fill(componentIndexes, -1);
+
+		int columnIndex = 0;
+		for (Definition column : row.getColumnDefinitions()) {
+			int index = componentNames.indexOf(column.getName());
+			if (index >= 0) {
+				componentIndexes[index] = columnIndex;
+			}
+			columnIndex++;
+		}
+		return extractCompoundPrimaryKeyFromRow(row, pm, componentIndexes, isManagedEntity);
+	}
+
+	/**
+	 * Decode the compound primary key from the columns at
+	 * <em>componentIndexes</em>, -1 standing for a component not selected
+	 */
+	public Object extractCompoundPrimaryKeyFromRow(Row row, PropertyMeta pm, int[] componentIndexes,
+			boolean isManagedEntity) {
+		List<String> componentNames = pm.getCQLComponentNames();
 		List<Class<?>> componentClasses = pm.getComponentClasses();
-		List<Object> rawValues = new ArrayList<Object>(Collections.nCopies(componentNames.size(), null));
+		List<Object> rawValues = new ArrayList<Object>(componentIndexes.length);
 
 		try {
-			for (Definition column : row.getColumnDefinitions()) {
-				String columnName = column.getName();
-				int index = componentNames.indexOf(columnName);
+			for (int i = 0; i < componentIndexes.length; i++) {
 				Object rawValue = null;
-				if (index >= 0) {
-					Class<?> componentClass = componentClasses.get(index);
-					rawValue = getRowMethod(componentClass).invoke(row, columnName);
-					rawValues.set(index, rawValue);
+				if (componentIndexes[i] >= 0) {
+					rawValue = getRowGetter(componentClasses.get(i)).get(row, componentIndexes[i]);
 				}
+				rawValues.add(rawValue);
 			}
 			if (isManagedEntity) {
 				for (int i = 0; i < componentNames.size(); i++) {
@@ -95,7 +151,7 @@ public class CQLRowMethodInvoker {
 
 	private Object invokeOnRowForProperty(Row row, PropertyMeta pm, String propertyName, Class<?> valueClass) {
 		try {
-			Object rawValue = getRowMethod(valueClass).invoke(row, propertyName);
+			Object rawValue = getRowGetter(valueClass).get(row, propertyName);
 			return pm.decode(rawValue);
 		} catch (Exception e) {
 			throw new AchillesException("Cannot retrieve property '" + propertyName + "' for entity class '"
@@ -137,7 +193,7 @@ public class CQLRowMethodInvoker {
 
 	public Object invokeOnRowForType(Row row, Class<?> type, String name) {
 		try {
-			return getRowMethod(type).invoke(row, name);
+			return getRowGetter(type).get(row, name);
 		} catch (Exception e) {
 			throw new AchillesException("Cannot retrieve column '" + name + "' of type '" + type.getCanonicalName()
 					+ "' from CQL Row", e);
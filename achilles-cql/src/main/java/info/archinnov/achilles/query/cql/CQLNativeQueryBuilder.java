@@ -19,11 +19,15 @@ package info.archinnov.achilles.query.cql;
 import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.entity.operations.CQLNativeQueryMapper;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SimpleStatement;
+import com.google.common.base.Function;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterators;
 
 public class CQLNativeQueryBuilder {
 
@@ -58,11 +62,28 @@ public class CQLNativeQueryBuilder {
 	 * @return Map<String, Object>
 	 */
 	public Map<String, Object> first() {
-		List<Row> rows = daoContext.execute(new SimpleStatement(queryString)).all();
-		List<Map<String, Object>> result = mapper.mapRows(rows);
-		if (result.isEmpty())
+		Row row = daoContext.execute(new SimpleStatement(queryString)).one();
+		if (row == null)
 			return null;
 		else
-			return result.get(0);
+			return mapper.mapRow(row);
+	}
+
+	/**
+	 * Return an iterator over found rows. Each row is mapped to a (column
+	 * name, column value) map only when it is pulled from the iterator, no
+	 * list of all the rows is built
+	 * 
+	 * @return Iterator<Map<String, Object>>
+	 */
+	public Iterator<Map<String, Object>> iterator() {
+		Iterator<Row> rows = daoContext.execute(new SimpleStatement(queryString)).iterator();
+		Iterator<Map<String, Object>> lines = Iterators.transform(rows, new Function<Row, Map<String, Object>>() {
+			@Override
+			public Map<String, Object> apply(Row row) {
+				return mapper.mapRow(row);
+			}
+		});
+		return Iterators.filter(lines, Predicates.notNull());
 	}
 }
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -38,6 +39,9 @@ import java.util.regex.Pattern;
 
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SimpleStatement;
+import com.google.common.base.Function;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterators;
 
 public class CQLTypedQueryBuilder<T> {
 
@@ -86,17 +90,35 @@ public class CQLTypedQueryBuilder<T> {
 		List<T> result = new ArrayList<T>();
 		List<Row> rows = daoContext.execute(new SimpleStatement(normalizedQuery)).all();
 		for (Row row : rows) {
-			T entity = mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertiesMap, managed);
+			T entity = mapRow(row);
 			if (entity != null) {
-				if (managed) {
-					entity = buildProxy(entity);
-				}
 				result.add(entity);
 			}
 		}
 		return result;
 	}
 
+	/**
+	 * Executes the query and returns an iterator over entities
+	 * 
+	 * Each CQL row is mapped to an entity only when it is pulled from the
+	 * iterator, no list of all the entities is built. Null or empty rows are
+	 * skipped as with get()
+	 * 
+	 * @return Iterator<T> iterator over found entities
+	 * 
+	 */
+	public Iterator<T> iterator() {
+		Iterator<Row> rows = daoContext.execute(new SimpleStatement(normalizedQuery)).iterator();
+		Iterator<T> entities = Iterators.transform(rows, new Function<Row, T>() {
+			@Override
+			public T apply(Row row) {
+				return mapRow(row);
+			}
+		});
+		return Iterators.filter(entities, Predicates.notNull());
+	}
+
 	/**
 	 * Executes the query and returns first entity
 	 * 
@@ -110,10 +132,15 @@ public class CQLTypedQueryBuilder<T> {
 		T entity = null;
 		Row row = daoContext.execute(new SimpleStatement(normalizedQuery)).one();
 		if (row != null) {
-			entity = mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertiesMap, managed);
-			if (entity != null && managed) {
-				entity = buildProxy(entity);
-			}
+			entity = mapRow(row);
+		}
+		return entity;
+	}
+
+	private T mapRow(Row row) {
+		T entity = mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertiesMap, managed);
+		if (entity != null && managed) {
+			entity = buildProxy(entity);
 		}
 		return entity;
 	}
@@ -19,6 +19,7 @@ package info.archinnov.achilles.statement.cache;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.CollectionDelta.Operation;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
 
 import java.util.HashSet;
@@ -73,6 +74,62 @@ public class CacheManager {
 		return ps;
 	}
 
+	public PreparedStatement getCacheForInsertWithTtl(Session session,
+			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache, CQLPersistenceContext context, int ttl) {
+		Class<?> entityClass = context.getEntityClass();
+		EntityMeta entityMeta = context.getEntityMeta();
+		StatementCacheKey cacheKey = new StatementCacheKey(CacheType.INSERT_TTL, entityMeta.getTableName(),
+				new HashSet<String>(), entityClass, ttl);
+		PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+		if (ps == null) {
+			ps = generator.prepareInsertPS(session, entityMeta, ttl);
+			dynamicPSCache.put(cacheKey, ps);
+		}
+		return ps;
+	}
+
+	public PreparedStatement getCacheForFieldsUpdateWithTtl(Session session,
+			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache, CQLPersistenceContext context,
+			List<PropertyMeta> pms, int ttl) {
+		Class<?> entityClass = context.getEntityClass();
+		EntityMeta entityMeta = context.getEntityMeta();
+		Set<String> fields = new HashSet<String>(Collections2.transform(pms, propertyExtractor));
+		StatementCacheKey cacheKey = new StatementCacheKey(CacheType.UPDATE_FIELDS_TTL, entityMeta.getTableName(),
+				fields, entityClass, ttl);
+		PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+		if (ps == null) {
+			ps = generator.prepareUpdateFields(session, entityMeta, pms, ttl);
+			dynamicPSCache.put(cacheKey, ps);
+		}
+		return ps;
+	}
+
+	public PreparedStatement getCacheForCollectionDelta(Session session,
+			Cache<StatementCacheKey, PreparedStatement> dynamicPSCache, CQLPersistenceContext context,
+			PropertyMeta pm, Operation operation) {
+		Class<?> entityClass = context.getEntityClass();
+		EntityMeta entityMeta = context.getEntityMeta();
+		StatementCacheKey cacheKey = new StatementCacheKey(cacheTypeFor(operation), entityMeta.getTableName(),
+				Sets.newHashSet(pm.getPropertyName()), entityClass);
+		PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+		if (ps == null) {
+			ps = generator.prepareCollectionDelta(session, entityMeta, pm, operation);
+			dynamicPSCache.put(cacheKey, ps);
+		}
+		return ps;
+	}
+
+	private CacheType cacheTypeFor(Operation operation) {
+		switch (operation) {
+			case PREPEND:
+				return CacheType.COLLECTION_PREPEND;
+			case REMOVE:
+				return CacheType.COLLECTION_REMOVE;
+			default:
+				return CacheType.COLLECTION_APPEND;
+		}
+	}
+
 	private Set<String> extractClusteredFieldsIfNecessary(PropertyMeta pm) {
 		if (pm.isEmbeddedId()) {
 			return new HashSet<String>(pm.getComponentNames());
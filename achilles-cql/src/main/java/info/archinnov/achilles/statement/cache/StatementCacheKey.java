@@ -27,6 +27,8 @@ public class StatementCacheKey {
 
 	private Class<?> entityClass;
 
+	private Integer ttl;
+
 	public StatementCacheKey(CacheType type, String tableName, Set<String> fields, Class<?> entityClass) {
 		this.type = type;
 		this.entityClass = entityClass;
@@ -34,6 +36,11 @@ public class StatementCacheKey {
 		this.fields = fields;
 	}
 
+	public StatementCacheKey(CacheType type, String tableName, Set<String> fields, Class<?> entityClass, Integer ttl) {
+		this(type, tableName, fields, entityClass);
+		this.ttl = ttl;
+	}
+
 	public CacheType getType() {
 		return type;
 	}
@@ -50,6 +57,10 @@ public class StatementCacheKey {
 		return entityClass;
 	}
 
+	public Integer getTtl() {
+		return ttl;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -57,6 +68,7 @@ public class StatementCacheKey {
 		result = prime * result + ((fields == null) ? 0 : fields.hashCode());
 		result = prime * result + ((tableName == null) ? 0 : tableName.hashCode());
 		result = prime * result + ((type == null) ? 0 : type.hashCode());
+		result = prime * result + ((ttl == null) ? 0 : ttl.hashCode());
 		return result;
 	}
 
@@ -81,6 +93,11 @@ public class StatementCacheKey {
 			return false;
 		if (type != other.type)
 			return false;
+		if (ttl == null) {
+			if (other.ttl != null)
+				return false;
+		} else if (!ttl.equals(other.ttl))
+			return false;
 		return true;
 	}
 }
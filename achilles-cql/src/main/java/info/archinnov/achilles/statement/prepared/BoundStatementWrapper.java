@@ -24,9 +24,16 @@ public class BoundStatementWrapper {
 
 	private Object[] values;
 
+	private boolean counter;
+
 	public BoundStatementWrapper(BoundStatement bs, Object[] values) {
+		this(bs, values, false);
+	}
+
+	public BoundStatementWrapper(BoundStatement bs, Object[] values, boolean counter) {
 		this.bs = bs;
 		this.values = values;
+		this.counter = counter;
 	}
 
 	public BoundStatement getBs() {
@@ -37,4 +44,8 @@ public class BoundStatementWrapper {
 		return values;
 	}
 
+	public boolean isCounter() {
+		return counter;
+	}
+
 }
@@ -0,0 +1,129 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.statement.prepared;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.excludeCounterType;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.FluentIterable;
+
+/**
+ * Binding steps of an entity, computed once: the properties bound by the
+ * insert statement, in statement order, with the encoder of each of them
+ */
+public class CQLBindPlan {
+	private final PropertyMeta idMeta;
+	private final PropertyMeta[] insertMetas;
+	private final ValueEncoder[] insertEncoders;
+
+	public CQLBindPlan(EntityMeta entityMeta) {
+		this.idMeta = entityMeta.getIdMeta();
+
+		List<PropertyMeta> metas = FluentIterable.from(entityMeta.getAllMetasExceptIdMeta())
+				.filter(excludeCounterType).toImmutableList();
+		this.insertMetas = metas.toArray(new PropertyMeta[metas.size()]);
+		this.insertEncoders = new ValueEncoder[insertMetas.length];
+		for (int i = 0; i < insertMetas.length; i++) {
+			insertEncoders[i] = ValueEncoder.forType(insertMetas[i].type());
+		}
+	}
+
+	public PropertyMeta getIdMeta() {
+		return idMeta;
+	}
+
+	public int getInsertValuesCount() {
+		return insertMetas.length;
+	}
+
+	/**
+	 * Write the encoded insert values of the entity into <em>values</em>,
+	 * starting at <em>offset</em>
+	 */
+	public void bindInsertValues(Object entity, Object[] values, int offset) {
+		for (int i = 0; i < insertMetas.length; i++) {
+			PropertyMeta pm = insertMetas[i];
+			values[offset + i] = insertEncoders[i].encode(pm, pm.getValueFromField(entity));
+		}
+	}
+
+	public static enum ValueEncoder {
+		SIMPLE {
+			@Override
+			protected Object encodeNonNull(PropertyMeta pm, Object value) {
+				return pm.encode(value);
+			}
+		},
+		LIST {
+			@Override
+			protected Object encodeNonNull(PropertyMeta pm, Object value) {
+				return pm.encode((List<?>) value);
+			}
+		},
+		SET {
+			@Override
+			protected Object encodeNonNull(PropertyMeta pm, Object value) {
+				return pm.encode((Set<?>) value);
+			}
+		},
+		MAP {
+			@Override
+			protected Object encodeNonNull(PropertyMeta pm, Object value) {
+				return pm.encode((Map<?, ?>) value);
+			}
+		},
+		UNSUPPORTED {
+			@Override
+			protected Object encodeNonNull(PropertyMeta pm, Object value) {
+				throw new AchillesException("Cannot encode value '" + value + "' for Cassandra for property '"
+						+ pm.getPropertyName() + "' of type '" + pm.type().name() + "'");
+			}
+		};
+
+		public Object encode(PropertyMeta pm, Object value) {
+			return value == null ? null : encodeNonNull(pm, value);
+		}
+
+		protected abstract Object encodeNonNull(PropertyMeta pm, Object value);
+
+		public static ValueEncoder forType(PropertyType type) {
+			switch (type) {
+			case SIMPLE:
+			case LAZY_SIMPLE:
+				return SIMPLE;
+			case LIST:
+			case LAZY_LIST:
+				return LIST;
+			case SET:
+			case LAZY_SET:
+				return SET;
+			case MAP:
+			case LAZY_MAP:
+				return MAP;
+			default:
+				return UNSUPPORTED;
+			}
+		}
+	}
+}
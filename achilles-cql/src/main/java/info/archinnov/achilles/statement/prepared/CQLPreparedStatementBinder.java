@@ -19,67 +19,83 @@ package info.archinnov.achilles.statement.prepared;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
-import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.proxy.CollectionDelta;
+import info.archinnov.achilles.proxy.CollectionDelta.Operation;
+import info.archinnov.achilles.statement.prepared.CQLBindPlan.ValueEncoder;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.ArrayUtils;
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
-import com.google.common.collect.FluentIterable;
 
+/**
+ * Bind the values of the prepared statements. The insert values of an entity
+ * are read with its {@link CQLBindPlan}, computed on first use or up front by
+ * {@link #compileBindPlans(Collection)}
+ */
 public class CQLPreparedStatementBinder {
 
+	private final ConcurrentMap<EntityMeta, CQLBindPlan> bindPlans = new ConcurrentHashMap<EntityMeta, CQLBindPlan>();
+
+	public void compileBindPlans(Collection<EntityMeta> entityMetas) {
+		for (EntityMeta entityMeta : entityMetas) {
+			bindPlans.put(entityMeta, new CQLBindPlan(entityMeta));
+		}
+	}
+
 	public BoundStatementWrapper bindForInsert(PreparedStatement ps, EntityMeta entityMeta, Object entity) {
-		List<Object> values = new ArrayList<Object>();
+		CQLBindPlan plan = getBindPlan(entityMeta);
+		int valuesCount = plan.getInsertValuesCount();
 		Object primaryKey = entityMeta.getPrimaryKey(entity);
-		values.addAll(bindPrimaryKey(primaryKey, entityMeta.getIdMeta()));
 
-		List<PropertyMeta> nonProxyMetas = FluentIterable.from(entityMeta.getAllMetasExceptIdMeta())
-				.filter(PropertyType.excludeCounterType).toImmutableList();
+		Object[] boundValues = bindPrimaryKey(primaryKey, plan.getIdMeta(), 0, valuesCount);
+		plan.bindInsertValues(entity, boundValues, boundValues.length - valuesCount);
+		BoundStatement bs = ps.bind(boundValues);
 
-		List<PropertyMeta> fieldMetas = new ArrayList<PropertyMeta>(nonProxyMetas);
+		return new BoundStatementWrapper(bs, boundValues);
+	}
 
-		for (PropertyMeta pm : fieldMetas) {
-			Object value = pm.getValueFromField(entity);
-			value = encodeValueForCassandra(pm, value);
-			values.add(value);
+	public BoundStatementWrapper bindForUpdate(PreparedStatement ps, EntityMeta entityMeta, List<PropertyMeta> pms,
+			Object entity) {
+		Object primaryKey = entityMeta.getPrimaryKey(entity);
+		Object[] boundValues = bindPrimaryKey(primaryKey, entityMeta.getIdMeta(), pms.size(), 0);
+		for (int i = 0; i < pms.size(); i++) {
+			PropertyMeta pm = pms.get(i);
+			boundValues[i] = encodeValueForCassandra(pm, pm.getValueFromField(entity));
 		}
-
-		Object[] boundValues = new Object[values.size()];
-		BoundStatement bs = ps.bind(values.toArray(boundValues));
+		BoundStatement bs = ps.bind(boundValues);
 
 		return new BoundStatementWrapper(bs, boundValues);
 	}
 
-	public BoundStatementWrapper bindForUpdate(PreparedStatement ps, EntityMeta entityMeta, List<PropertyMeta> pms,
-			Object entity) {
-		List<Object> values = new ArrayList<Object>();
-		for (PropertyMeta pm : pms) {
-			Object value = pm.getValueFromField(entity);
-			value = encodeValueForCassandra(pm, value);
-			values.add(value);
+	public BoundStatementWrapper bindForCollectionDelta(PreparedStatement ps, EntityMeta entityMeta, PropertyMeta pm,
+			CollectionDelta delta, Object primaryKey) {
+		Object value;
+		if (delta.getOperation() == Operation.PUT) {
+			value = delta.getEntries();
+		} else if (pm.type() == PropertyType.SET || pm.type() == PropertyType.LAZY_SET) {
+			value = new LinkedHashSet<Object>(delta.getElements());
+		} else {
+			value = delta.getElements();
 		}
-		Object primaryKey = entityMeta.getPrimaryKey(entity);
-		values.addAll(bindPrimaryKey(primaryKey, entityMeta.getIdMeta()));
 
-		Object[] boundValues = new Object[values.size()];
-		BoundStatement bs = ps.bind(values.toArray(boundValues));
+		Object[] boundValues = bindPrimaryKey(primaryKey, entityMeta.getIdMeta(), 1, 0);
+		boundValues[0] = encodeValueForCassandra(pm, value);
+		BoundStatement bs = ps.bind(boundValues);
 
 		return new BoundStatementWrapper(bs, boundValues);
 	}
 
 	public BoundStatementWrapper bindStatementWithOnlyPKInWhereClause(PreparedStatement ps, EntityMeta entityMeta,
 			Object primaryKey) {
-		PropertyMeta idMeta = entityMeta.getIdMeta();
-		List<Object> values = bindPrimaryKey(primaryKey, idMeta);
-
-		Object[] boundValues = new Object[values.size()];
-		BoundStatement bs = ps.bind(values.toArray(boundValues));
+		Object[] boundValues = bindPrimaryKey(primaryKey, entityMeta.getIdMeta(), 0, 0);
+		BoundStatement bs = ps.bind(boundValues);
 
 		return new BoundStatementWrapper(bs, boundValues);
 	}
@@ -91,7 +107,7 @@ public class CQLPreparedStatementBinder {
 
 		BoundStatement bs = ps.bind(boundValues);
 
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, true);
 
 	}
 
@@ -102,27 +118,35 @@ public class CQLPreparedStatementBinder {
 		return new BoundStatementWrapper(bs, boundValues);
 	}
 
+	public BoundStatementWrapper bindForSimpleCounterSelectAll(PreparedStatement ps, EntityMeta entityMeta,
+			Object primaryKey) {
+		String fqcn = entityMeta.getClassName();
+		String primaryKeyAsString = entityMeta.getIdMeta().forceEncodeToJSON(primaryKey);
+		Object[] boundValues = new Object[] { fqcn, primaryKeyAsString };
+		BoundStatement bs = ps.bind(boundValues);
+		return new BoundStatementWrapper(bs, boundValues);
+	}
+
 	public BoundStatementWrapper bindForSimpleCounterDelete(PreparedStatement ps, EntityMeta entityMeta,
 			PropertyMeta pm, Object primaryKey) {
 		Object[] boundValues = extractValuesForSimpleCounterBinding(entityMeta, pm, primaryKey);
 		BoundStatement bs = ps.bind(boundValues);
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, true);
 	}
 
 	public BoundStatementWrapper bindForClusteredCounterIncrementDecrement(PreparedStatement ps, EntityMeta entityMeta,
 			PropertyMeta pm, Object primaryKey, Long increment) {
-		List<Object> primarykeys = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
-		Object[] keys = ArrayUtils.add(primarykeys.toArray(new Object[primarykeys.size()]), 0, increment);
+		Object[] keys = bindPrimaryKey(primaryKey, entityMeta.getIdMeta(), 1, 0);
+		keys[0] = increment;
 
 		BoundStatement bs = ps.bind(keys);
 
-		return new BoundStatementWrapper(bs, keys);
+		return new BoundStatementWrapper(bs, keys, true);
 	}
 
 	public BoundStatementWrapper bindForClusteredCounterSelect(PreparedStatement ps, EntityMeta entityMeta,
 			PropertyMeta pm, Object primaryKey) {
-		List<Object> primarykeys = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
-		Object[] boundValues = primarykeys.toArray(new Object[primarykeys.size()]);
+		Object[] boundValues = bindPrimaryKey(primaryKey, entityMeta.getIdMeta(), 0, 0);
 
 		BoundStatement bs = ps.bind(boundValues);
 
@@ -131,44 +155,45 @@ public class CQLPreparedStatementBinder {
 
 	public BoundStatementWrapper bindForClusteredCounterDelete(PreparedStatement ps, EntityMeta entityMeta,
 			PropertyMeta pm, Object primaryKey) {
-		List<Object> primarykeys = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
-		Object[] boundValues = primarykeys.toArray(new Object[primarykeys.size()]);
+		Object[] boundValues = bindPrimaryKey(primaryKey, entityMeta.getIdMeta(), 0, 0);
 		BoundStatement bs = ps.bind(boundValues);
 
-		return new BoundStatementWrapper(bs, boundValues);
+		return new BoundStatementWrapper(bs, boundValues, true);
 	}
 
-	private List<Object> bindPrimaryKey(Object primaryKey, PropertyMeta idMeta) {
-		List<Object> values = new ArrayList<Object>();
+	private CQLBindPlan getBindPlan(EntityMeta entityMeta) {
+		CQLBindPlan plan = bindPlans.get(entityMeta);
+		if (plan == null) {
+			plan = new CQLBindPlan(entityMeta);
+			CQLBindPlan existing = bindPlans.putIfAbsent(entityMeta, plan);
+			if (existing != null) {
+				plan = existing;
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * Allocate the bound values with the encoded primary key written after
+	 * <em>valuesBefore</em> slots and followed by <em>valuesAfter</em> slots
+	 */
+	private Object[] bindPrimaryKey(Object primaryKey, PropertyMeta idMeta, int valuesBefore, int valuesAfter) {
+		Object[] values;
 		if (idMeta.isEmbeddedId()) {
-			values.addAll(idMeta.encodeToComponents(primaryKey));
+			List<Object> components = idMeta.encodeToComponents(primaryKey);
+			values = new Object[valuesBefore + components.size() + valuesAfter];
+			for (int i = 0; i < components.size(); i++) {
+				values[valuesBefore + i] = components.get(i);
+			}
 		} else {
-			values.add(idMeta.encode(primaryKey));
+			values = new Object[valuesBefore + 1 + valuesAfter];
+			values[valuesBefore] = idMeta.encode(primaryKey);
 		}
 		return values;
 	}
 
 	private Object encodeValueForCassandra(PropertyMeta pm, Object value) {
-		if (value != null) {
-			switch (pm.type()) {
-			case SIMPLE:
-			case LAZY_SIMPLE:
-				return pm.encode(value);
-			case LIST:
-			case LAZY_LIST:
-				return pm.encode((List<?>) value);
-			case SET:
-			case LAZY_SET:
-				return pm.encode((Set<?>) value);
-			case MAP:
-			case LAZY_MAP:
-				return pm.encode((Map<?, ?>) value);
-			default:
-				throw new AchillesException("Cannot encode value '" + value + "' for Cassandra for property '"
-						+ pm.getPropertyName() + "' of type '" + pm.type().name() + "'");
-			}
-		}
-		return value;
+		return ValueEncoder.forType(pm.type()).encode(pm, value);
 	}
 
 	private Object[] extractValuesForSimpleCounterBinding(EntityMeta entityMeta, PropertyMeta pm, Object primaryKey) {
@@ -24,8 +24,10 @@ import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.CollectionDelta.Operation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +46,21 @@ import com.google.common.collect.FluentIterable;
 
 public class CQLPreparedStatementGenerator {
 	public PreparedStatement prepareInsertPS(Session session, EntityMeta entityMeta) {
+		return session.prepare(generateInsert(entityMeta).getQueryString());
+	}
+
+	/**
+	 * Cassandra 1.2 does not accept bind markers in the USING clause so the
+	 * ttl is written as a literal and the statement is prepared once per ttl
+	 * value
+	 */
+	public PreparedStatement prepareInsertPS(Session session, EntityMeta entityMeta, int ttl) {
+		Insert insert = generateInsert(entityMeta);
+		insert.using(ttl(ttl));
+		return session.prepare(insert.getQueryString());
+	}
+
+	private Insert generateInsert(EntityMeta entityMeta) {
 		PropertyMeta idMeta = entityMeta.getIdMeta();
 		Insert insert = insertInto(entityMeta.getTableName());
 		prepareInsertPrimaryKey(idMeta, insert);
@@ -57,7 +74,7 @@ public class CQLPreparedStatementGenerator {
 		for (PropertyMeta pm : fieldMetas) {
 			insert.value(pm.getPropertyName(), bindMarker());
 		}
-		return session.prepare(insert.getQueryString());
+		return insert;
 	}
 
 	public PreparedStatement prepareInsertPSForClusteredCounter(Session session, EntityMeta entityMeta) {
@@ -93,7 +110,20 @@ public class CQLPreparedStatementGenerator {
 	}
 
 	public PreparedStatement prepareUpdateFields(Session session, EntityMeta entityMeta, List<PropertyMeta> pms) {
-		PropertyMeta idMeta = entityMeta.getIdMeta();
+		Assignments assignments = generateUpdateFields(entityMeta, pms);
+		Statement statement = prepareWhereClauseForUpdate(entityMeta.getIdMeta(), assignments);
+		return session.prepare(statement.getQueryString());
+	}
+
+	public PreparedStatement prepareUpdateFields(Session session, EntityMeta entityMeta, List<PropertyMeta> pms,
+			int ttl) {
+		Assignments assignments = generateUpdateFields(entityMeta, pms);
+		assignments.using(ttl(ttl));
+		Statement statement = prepareWhereClauseForUpdate(entityMeta.getIdMeta(), assignments);
+		return session.prepare(statement.getQueryString());
+	}
+
+	private Assignments generateUpdateFields(EntityMeta entityMeta, List<PropertyMeta> pms) {
 		Update update = update(entityMeta.getTableName());
 
 		int i = 0;
@@ -106,8 +136,75 @@ public class CQLPreparedStatementGenerator {
 			}
 			i++;
 		}
-		Statement statement = prepareWhereClauseForUpdate(idMeta, assignments);
-		return session.prepare(statement.getQueryString());
+		return assignments;
+	}
+
+	/**
+	 * In place mutation of a collection column: "col=col+?" to append to a list
+	 * or set and to put entries into a map, "col=?+col" to prepend to a list
+	 * and "col=col-?" to remove elements from a set
+	 */
+	public PreparedStatement prepareCollectionDelta(Session session, EntityMeta entityMeta, PropertyMeta pm,
+			Operation operation) {
+		String column = pm.getPropertyName();
+		StringBuilder query = new StringBuilder();
+		query.append("UPDATE ").append(entityMeta.getTableName()).append(" ");
+		query.append("SET ").append(column).append("=");
+		switch (operation) {
+			case PREPEND:
+				query.append("?+").append(column);
+				break;
+			case REMOVE:
+				query.append(column).append("-?");
+				break;
+			default:
+				query.append(column).append("+?");
+		}
+
+		PropertyMeta idMeta = entityMeta.getIdMeta();
+		List<String> idColumns = idMeta.isEmbeddedId() ? idMeta.getComponentNames() : Arrays.asList(idMeta
+				.getPropertyName());
+		query.append(" WHERE ");
+		for (int i = 0; i < idColumns.size(); i++) {
+			if (i > 0) {
+				query.append(" AND ");
+			}
+			query.append(idColumns.get(i)).append("=?");
+		}
+		query.append(";");
+		return session.prepare(query.toString());
+	}
+
+	/**
+	 * Select of the eager columns for the rows whose partition key token is
+	 * in the ]?, ?] range
+	 */
+	public PreparedStatement prepareScanPS(Session session, EntityMeta entityMeta) {
+		Selection select = select();
+		for (PropertyMeta pm : entityMeta.getEagerMetas()) {
+			select = prepareSelectField(pm, select);
+		}
+		String selectQuery = select.from(entityMeta.getTableName()).getQueryString().trim();
+		String token = "token(" + entityMeta.getIdMeta().getPropertyName() + ")";
+
+		StringBuilder query = new StringBuilder();
+		query.append(selectQuery.substring(0, selectQuery.lastIndexOf(';')));
+		query.append(" WHERE ").append(token).append(">? AND ").append(token).append("<=?;");
+		return session.prepare(query.toString());
+	}
+
+	/**
+	 * Select of the first partition key tokens in the ]?, ?] range, at most
+	 * limit of them
+	 */
+	public PreparedStatement prepareScanTokensPS(Session session, EntityMeta entityMeta, int limit) {
+		String token = "token(" + entityMeta.getIdMeta().getPropertyName() + ")";
+
+		StringBuilder query = new StringBuilder();
+		query.append("SELECT ").append(token).append(" FROM ").append(entityMeta.getTableName());
+		query.append(" WHERE ").append(token).append(">? AND ").append(token).append("<=?");
+		query.append(" LIMIT ").append(limit).append(";");
+		return session.prepare(query.toString());
 	}
 
 	public PreparedStatement prepareSelectEagerPS(Session session, EntityMeta entityMeta) {
@@ -148,6 +245,13 @@ public class CQLPreparedStatementGenerator {
 		select.append("AND ").append(CQL_COUNTER_PRIMARY_KEY).append(" = ? ");
 		select.append("AND ").append(CQL_COUNTER_PROPERTY_NAME).append(" = ?");
 
+		StringBuilder selectAll = new StringBuilder();
+		selectAll.append("SELECT ").append(CQL_COUNTER_PROPERTY_NAME).append(", ");
+		selectAll.append(CQL_COUNTER_VALUE).append(" ");
+		selectAll.append("FROM ").append(CQL_COUNTER_TABLE).append(" ");
+		selectAll.append("WHERE ").append(CQL_COUNTER_FQCN).append(" = ? ");
+		selectAll.append("AND ").append(CQL_COUNTER_PRIMARY_KEY).append(" = ?");
+
 		StringBuilder delete = new StringBuilder();
 		delete.append("DELETE FROM ").append(CQL_COUNTER_TABLE).append(" ");
 		delete.append("WHERE ").append(CQL_COUNTER_FQCN).append(" = ? ");
@@ -159,6 +263,7 @@ public class CQLPreparedStatementGenerator {
 		counterPSMap.put(DECR, session.prepare(decr.toString()));
 		counterPSMap.put(SELECT, session.prepare(select.toString()));
 		counterPSMap.put(DELETE, session.prepare(delete.toString()));
+		counterPSMap.put(SELECT_ALL, session.prepare(selectAll.toString()));
 
 		return counterPSMap;
 	}
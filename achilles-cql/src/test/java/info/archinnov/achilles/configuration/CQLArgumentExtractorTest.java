@@ -20,6 +20,7 @@ import static info.archinnov.achilles.configuration.CQLConfigurationParameters.*
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.type.CQLBatchType;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -141,4 +142,65 @@ public class CQLArgumentExtractorTest {
 
 		assertThat(actual).isSameAs(session);
 	}
+
+	@Test
+	public void should_disable_async_flush_by_default() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+
+		assertThat(extractor.initAsyncFlushMaxInFlight(params)).isEqualTo(0);
+	}
+
+	@Test
+	public void should_init_async_flush_with_default_max_in_flight() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(ASYNC_FLUSH_ENABLED, true);
+
+		assertThat(extractor.initAsyncFlushMaxInFlight(params)).isEqualTo(DEFAULT_ASYNC_FLUSH_MAX_IN_FLIGHT);
+	}
+
+	@Test
+	public void should_init_async_flush_with_max_in_flight() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(ASYNC_FLUSH_ENABLED, true);
+		params.put(ASYNC_FLUSH_MAX_IN_FLIGHT, 8);
+
+		assertThat(extractor.initAsyncFlushMaxInFlight(params)).isEqualTo(8);
+	}
+
+	@Test
+	public void should_init_native_batch_type_to_none_by_default() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+
+		assertThat(extractor.initNativeBatchType(params)).isEqualTo(CQLBatchType.NONE);
+		assertThat(extractor.initNativeBatchMaxSize(params)).isEqualTo(DEFAULT_NATIVE_BATCH_MAX_SIZE);
+	}
+
+	@Test
+	public void should_init_native_batch_type_and_max_size() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(NATIVE_BATCH_TYPE, CQLBatchType.UNLOGGED);
+		params.put(NATIVE_BATCH_MAX_SIZE, 50);
+
+		assertThat(extractor.initNativeBatchType(params)).isEqualTo(CQLBatchType.UNLOGGED);
+		assertThat(extractor.initNativeBatchMaxSize(params)).isEqualTo(50);
+	}
+
+	@Test
+	public void should_init_statement_preparation_with_defaults() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+
+		assertThat(extractor.initPrepareStatementsParallelism(params)).isEqualTo(
+				DEFAULT_PREPARE_STATEMENTS_PARALLELISM);
+		assertThat(extractor.initPrepareStatementsLazy(params)).isFalse();
+	}
+
+	@Test
+	public void should_init_statement_preparation() throws Exception {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(PREPARE_STATEMENTS_PARALLELISM, 16);
+		params.put(PREPARE_STATEMENTS_LAZY, true);
+
+		assertThat(extractor.initPrepareStatementsParallelism(params)).isEqualTo(16);
+		assertThat(extractor.initPrepareStatementsLazy(params)).isTrue();
+	}
 }
@@ -18,20 +18,34 @@ package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.FlushContext.FlushType;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.CQLBatchType;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Query;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLBatchingFlushContextTest {
 
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
 	private CQLBatchingFlushContext context;
 
 	@Mock
@@ -77,6 +91,180 @@ public class CQLBatchingFlushContextTest {
 		assertThat(context.consistencyLevel).isNull();
 	}
 
+	@Test
+	public void should_end_batch_with_native_logged_batch() throws Exception {
+		BoundStatementWrapper bsWrapper2 = mock(BoundStatementWrapper.class);
+		BoundStatement bs1 = mock(BoundStatement.class);
+		BoundStatement bs2 = mock(BoundStatement.class);
+		PreparedStatement ps1 = mock(PreparedStatement.class);
+		PreparedStatement ps2 = mock(PreparedStatement.class);
+		PreparedStatement batchPs = mock(PreparedStatement.class);
+		BoundStatement batchBs = mock(BoundStatement.class);
+
+		when(daoContext.isNativeBatchEnabled()).thenReturn(true);
+		when(daoContext.getNativeBatchType()).thenReturn(CQLBatchType.LOGGED);
+		when(daoContext.getNativeBatchMaxSize()).thenReturn(10);
+
+		when(bsWrapper.getBs()).thenReturn(bs1);
+		when(bsWrapper.getValues()).thenReturn(new Object[] { 10L, "name" });
+		when(bs1.preparedStatement()).thenReturn(ps1);
+		when(bs1.getConsistencyLevel()).thenReturn(com.datastax.driver.core.ConsistencyLevel.EACH_QUORUM);
+		when(ps1.getQueryString()).thenReturn("INSERT INTO table(id,name) VALUES (?,?);");
+
+		when(bsWrapper2.getBs()).thenReturn(bs2);
+		when(bsWrapper2.getValues()).thenReturn(new Object[] { 11L });
+		when(bs2.preparedStatement()).thenReturn(ps2);
+		when(bs2.getConsistencyLevel()).thenReturn(com.datastax.driver.core.ConsistencyLevel.EACH_QUORUM);
+		when(ps2.getQueryString()).thenReturn("DELETE FROM table WHERE id=?");
+
+		when(daoContext.prepareBatch("BEGIN BATCH INSERT INTO table(id,name) VALUES (?,?); DELETE FROM table WHERE id=?; APPLY BATCH"))
+				.thenReturn(batchPs);
+		when(batchPs.bind(10L, "name", 11L)).thenReturn(batchBs);
+
+		context.boundStatementWrappers.add(bsWrapper);
+		context.boundStatementWrappers.add(bsWrapper2);
+
+		context.endBatch();
+
+		verify(batchBs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.EACH_QUORUM);
+		verify(daoContext).execute(batchBs, 10L, "name", 11L);
+		assertThat(context.boundStatementWrappers).isEmpty();
+	}
+
+	@Test
+	public void should_end_batch_with_counter_batch_for_counter_statements() throws Exception {
+		BoundStatementWrapper counterWrapper = mock(BoundStatementWrapper.class);
+		BoundStatementWrapper counterWrapper2 = mock(BoundStatementWrapper.class);
+		BoundStatement bs = mock(BoundStatement.class);
+		PreparedStatement ps = mock(PreparedStatement.class);
+		PreparedStatement batchPs = mock(PreparedStatement.class);
+		BoundStatement batchBs = mock(BoundStatement.class);
+
+		when(daoContext.isNativeBatchEnabled()).thenReturn(true);
+		when(daoContext.getNativeBatchType()).thenReturn(CQLBatchType.UNLOGGED);
+		when(daoContext.getNativeBatchMaxSize()).thenReturn(10);
+
+		when(counterWrapper.isCounter()).thenReturn(true);
+		when(counterWrapper.getBs()).thenReturn(bs);
+		when(counterWrapper.getValues()).thenReturn(new Object[] { 1L, 10L });
+		when(counterWrapper2.isCounter()).thenReturn(true);
+		when(counterWrapper2.getBs()).thenReturn(bs);
+		when(counterWrapper2.getValues()).thenReturn(new Object[] { 2L, 11L });
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(ps.getQueryString()).thenReturn("UPDATE counter SET value=value+? WHERE id=?");
+
+		when(daoContext.prepareBatch("BEGIN COUNTER BATCH UPDATE counter SET value=value+? WHERE id=?; UPDATE counter SET value=value+? WHERE id=?; APPLY BATCH"))
+				.thenReturn(batchPs);
+		when(batchPs.bind(1L, 10L, 2L, 11L)).thenReturn(batchBs);
+
+		context.boundStatementWrappers.add(counterWrapper);
+		context.boundStatementWrappers.add(counterWrapper2);
+
+		context.endBatch();
+
+		verify(daoContext).execute(batchBs, 1L, 10L, 2L, 11L);
+	}
+
+	@Test
+	public void should_split_native_batch_by_max_size() throws Exception {
+		BoundStatementWrapper bsWrapper2 = mock(BoundStatementWrapper.class);
+		BoundStatement bs1 = mock(BoundStatement.class);
+		BoundStatement bs2 = mock(BoundStatement.class);
+		Object[] values1 = new Object[] { 10L };
+		Object[] values2 = new Object[] { 11L };
+
+		when(daoContext.isNativeBatchEnabled()).thenReturn(true);
+		when(daoContext.getNativeBatchType()).thenReturn(CQLBatchType.LOGGED);
+		when(daoContext.getNativeBatchMaxSize()).thenReturn(1);
+
+		when(bsWrapper.getBs()).thenReturn(bs1);
+		when(bsWrapper.getValues()).thenReturn(values1);
+		when(bsWrapper2.getBs()).thenReturn(bs2);
+		when(bsWrapper2.getValues()).thenReturn(values2);
+
+		context.boundStatementWrappers.add(bsWrapper);
+		context.boundStatementWrappers.add(bsWrapper2);
+
+		context.endBatch();
+
+		verify(daoContext).execute(bs1, values1);
+		verify(daoContext).execute(bs2, values2);
+		verify(daoContext, never()).prepareBatch(anyString());
+	}
+
+	@Test
+	public void should_keep_push_order_and_split_native_batch_on_counter_or_consistency_change() throws Exception {
+		BoundStatementWrapper counterWrapper = mock(BoundStatementWrapper.class);
+		BoundStatementWrapper bsWrapper3 = mock(BoundStatementWrapper.class);
+		BoundStatement bs1 = mock(BoundStatement.class);
+		BoundStatement counterBs = mock(BoundStatement.class);
+		BoundStatement bs3 = mock(BoundStatement.class);
+		Object[] values1 = new Object[] { 10L };
+		Object[] counterValues = new Object[] { 1L, 10L };
+		Object[] values3 = new Object[] { 10L };
+
+		when(daoContext.isNativeBatchEnabled()).thenReturn(true);
+		when(daoContext.getNativeBatchType()).thenReturn(CQLBatchType.LOGGED);
+		when(daoContext.getNativeBatchMaxSize()).thenReturn(10);
+
+		when(bsWrapper.getBs()).thenReturn(bs1);
+		when(bsWrapper.getValues()).thenReturn(values1);
+		when(bs1.getConsistencyLevel()).thenReturn(com.datastax.driver.core.ConsistencyLevel.ONE);
+		when(counterWrapper.isCounter()).thenReturn(true);
+		when(counterWrapper.getBs()).thenReturn(counterBs);
+		when(counterWrapper.getValues()).thenReturn(counterValues);
+		when(counterBs.getConsistencyLevel()).thenReturn(com.datastax.driver.core.ConsistencyLevel.ONE);
+		when(bsWrapper3.getBs()).thenReturn(bs3);
+		when(bsWrapper3.getValues()).thenReturn(values3);
+		when(bs3.getConsistencyLevel()).thenReturn(com.datastax.driver.core.ConsistencyLevel.QUORUM);
+
+		context.boundStatementWrappers.add(bsWrapper);
+		context.boundStatementWrappers.add(counterWrapper);
+		context.boundStatementWrappers.add(bsWrapper3);
+
+		context.endBatch();
+
+		InOrder inOrder = inOrder(daoContext);
+		inOrder.verify(daoContext).execute(bs1, values1);
+		inOrder.verify(daoContext).execute(counterBs, counterValues);
+		inOrder.verify(daoContext).execute(bs3, values3);
+		verify(daoContext, never()).prepareBatch(anyString());
+	}
+
+	@Test
+	public void should_end_batch_with_native_batch_for_simple_statements() throws Exception {
+		Statement statement1 = mock(Statement.class);
+		Statement statement2 = mock(Statement.class);
+
+		when(daoContext.isNativeBatchEnabled()).thenReturn(true);
+		when(daoContext.getNativeBatchType()).thenReturn(CQLBatchType.UNLOGGED);
+		when(daoContext.getNativeBatchMaxSize()).thenReturn(10);
+		when(statement1.getQueryString()).thenReturn("INSERT INTO table(id) VALUES (10) USING TTL 10;");
+		when(statement2.getQueryString()).thenReturn("INSERT INTO table(id) VALUES (11) USING TTL 10;");
+
+		context.statements.add(statement1);
+		context.statements.add(statement2);
+
+		context.endBatch();
+
+		ArgumentCaptor<SimpleStatement> batchCaptor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(daoContext).execute(batchCaptor.capture());
+		assertThat(batchCaptor.getValue().getQueryString()).isEqualTo(
+				"BEGIN UNLOGGED BATCH INSERT INTO table(id) VALUES (10) USING TTL 10; "
+						+ "INSERT INTO table(id) VALUES (11) USING TTL 10; APPLY BATCH");
+		assertThat(context.statements).isEmpty();
+	}
+
+	@Test
+	public void should_exception_when_flushing_asynchronously() throws Exception {
+		context.boundStatementWrappers.add(bsWrapper);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Asynchronous operations are not supported by a batching PersistenceManager");
+
+		context.flushAsync();
+	}
+
 	@Test
 	public void should_get_type() throws Exception {
 		assertThat(context.type()).isSameAs(FlushType.BATCH);
@@ -17,16 +17,21 @@
 package info.archinnov.achilles.context;
 
 import static org.fest.assertions.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
+import info.archinnov.achilles.statement.prepared.CQLBindPlan;
+import info.archinnov.achilles.statement.prepared.CQLPreparedStatementBinder;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -83,6 +88,7 @@ public class CQLDaoContextBuilderTest {
 				.type(PropertyType.SIMPLE).build();
 
 		meta.setPropertyMetas(ImmutableMap.of("name", nameMeta));
+		meta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta));
 		entityMetaMap.put(CompleteBean.class, meta);
 
 		when(queryGenerator.prepareInsertPS(session, meta)).thenReturn(insertPS);
@@ -104,5 +110,61 @@ public class CQLDaoContextBuilderTest {
 
 		assertThat((Map<CQLQueryType, PreparedStatement>) Whitebox.getInternalState(actual, "counterQueryMap"))
 				.isSameAs(counterQueryMap);
+
+		CQLPreparedStatementBinder binder = Whitebox.getInternalState(actual, CQLPreparedStatementBinder.class);
+		Map<EntityMeta, CQLBindPlan> bindPlans = Whitebox.getInternalState(binder, "bindPlans");
+		assertThat(bindPlans.get(meta).getInsertValuesCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_prepare_statements_concurrently() throws Exception {
+		Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
+		EntityMeta meta = new EntityMeta();
+		meta.setPropertyMetas(new HashMap<String, PropertyMeta>());
+		meta.setAllMetasExceptIdMeta(new ArrayList<PropertyMeta>());
+		EntityMeta userMeta = new EntityMeta();
+		userMeta.setPropertyMetas(new HashMap<String, PropertyMeta>());
+		userMeta.setAllMetasExceptIdMeta(new ArrayList<PropertyMeta>());
+		entityMetaMap.put(CompleteBean.class, meta);
+		entityMetaMap.put(UserBean.class, userMeta);
+
+		PreparedStatement userInsertPS = mock(PreparedStatement.class);
+		when(queryGenerator.prepareInsertPS(session, meta)).thenReturn(insertPS);
+		when(queryGenerator.prepareInsertPS(session, userMeta)).thenReturn(userInsertPS);
+		when(queryGenerator.prepareSelectEagerPS(session, meta)).thenReturn(selectEagerPS);
+		when(queryGenerator.prepareRemovePSs(session, meta)).thenReturn(removePSs);
+
+		CQLDaoContext actual = builder.withStatementPreparation(4, false).build(entityMetaMap, false);
+
+		Map<Class<?>, PreparedStatement> insertPSs = Whitebox.getInternalState(actual, "insertPSs");
+		assertThat(insertPSs.get(CompleteBean.class)).isSameAs(insertPS);
+		assertThat(insertPSs.get(UserBean.class)).isSameAs(userInsertPS);
+		assertThat((Map<Class<?>, PreparedStatement>) Whitebox.getInternalState(actual, "selectEagerPSs")).hasSize(2);
+		assertThat((Map<Class<?>, Map<String, PreparedStatement>>) Whitebox.getInternalState(actual, "removePSs"))
+				.hasSize(2);
+	}
+
+	@Test
+	public void should_prepare_statements_on_first_use() throws Exception {
+		Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
+		EntityMeta meta = new EntityMeta();
+		meta.setPropertyMetas(new HashMap<String, PropertyMeta>());
+		meta.setAllMetasExceptIdMeta(new ArrayList<PropertyMeta>());
+		entityMetaMap.put(CompleteBean.class, meta);
+
+		when(queryGenerator.prepareInsertPS(session, meta)).thenReturn(insertPS);
+
+		CQLDaoContext actual = builder.withStatementPreparation(4, true).build(entityMetaMap, false);
+
+		verify(queryGenerator, never()).prepareInsertPS(session, meta);
+		verify(queryGenerator, never()).prepareSelectEagerPS(session, meta);
+
+		Map<Class<?>, PreparedStatement> insertPSs = Whitebox.getInternalState(actual, "insertPSs");
+		assertThat(insertPSs.get(CompleteBean.class)).isSameAs(insertPS);
+		assertThat(insertPSs.get(CompleteBean.class)).isSameAs(insertPS);
+		assertThat(insertPSs.get(UserBean.class)).isNull();
+
+		verify(queryGenerator, times(1)).prepareInsertPS(session, meta);
+		verify(queryGenerator, never()).prepareSelectEagerPS(session, meta);
 	}
 }
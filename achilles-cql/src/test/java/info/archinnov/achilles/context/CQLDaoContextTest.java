@@ -20,6 +20,7 @@ import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
+import info.archinnov.achilles.counter.CQLCounterKey;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.exception.AchillesException;
@@ -55,6 +56,7 @@ import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
@@ -65,6 +67,7 @@ import com.datastax.driver.core.querybuilder.Update.Assignments;
 import com.datastax.driver.core.querybuilder.Using;
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
@@ -144,7 +147,8 @@ public class CQLDaoContextTest {
 		Whitebox.setInternalState(daoContext, CQLPreparedStatementBinder.class, binder);
 		Whitebox.setInternalState(daoContext, CacheManager.class, cacheManager);
 		Whitebox.setInternalState(daoContext, "insertPSs", insertPSs);
-		Whitebox.setInternalState(daoContext, Cache.class, dynamicPSCache);
+		Whitebox.setInternalState(daoContext, "dynamicPSCache", dynamicPSCache);
+		Whitebox.setInternalState(daoContext, "batchPSCache", CacheBuilder.newBuilder().build());
 		Whitebox.setInternalState(daoContext, "selectEagerPSs", selectEagerPSs);
 		Whitebox.setInternalState(daoContext, "removePSs", removePSs);
 		Whitebox.setInternalState(daoContext, "counterQueryMap", counterQueryMap);
@@ -191,12 +195,12 @@ public class CQLDaoContextTest {
 
 		entityMeta.setConsistencyLevels(Pair.create(ONE, ALL));
 
-		when(statementGenerator.generateInsert(entity, entityMeta)).thenReturn(insert);
-		when(insert.using(usingCaptor.capture())).thenReturn(insertOptions);
+		when(cacheManager.getCacheForInsertWithTtl(session, dynamicPSCache, context, ttl)).thenReturn(ps);
+		when(binder.bindForInsert(ps, entityMeta, entity)).thenReturn(bsWrapper);
 
 		daoContext.pushInsertStatement(context);
-		verify(context).pushStatement(insertOptions, ALL);
-		assertThat(Whitebox.getInternalState(usingCaptor.getValue(), "value")).isEqualTo(new Long(ttl));
+		verify(context).pushBoundStatement(bsWrapper, ALL);
+		verifyZeroInteractions(statementGenerator);
 	}
 
 	@Test
@@ -271,12 +275,12 @@ public class CQLDaoContextTest {
 		when(context.getEntity()).thenReturn(entity);
 		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(EACH_QUORUM));
 
-		when(statementGenerator.generateUpdateFields(entity, entityMeta, pms)).thenReturn(update);
-		when(update.using(usingCaptor.capture())).thenReturn(updateOptions);
+		when(cacheManager.getCacheForFieldsUpdateWithTtl(session, dynamicPSCache, context, pms, ttl)).thenReturn(ps);
+		when(binder.bindForUpdate(ps, entityMeta, pms, entity)).thenReturn(bsWrapper);
 
 		daoContext.pushUpdateStatement(context, pms);
-		verify(context).pushStatement(updateOptions, EACH_QUORUM);
-		assertThat(Whitebox.getInternalState(usingCaptor.getValue(), "value")).isEqualTo(new Long(ttl));
+		verify(context).pushBoundStatement(bsWrapper, EACH_QUORUM);
+		verifyZeroInteractions(statementGenerator);
 	}
 
 	@Test
@@ -411,6 +415,28 @@ public class CQLDaoContextTest {
 		assertThat(actual).isSameAs(resultSet);
 	}
 
+	@Test
+	public void should_execute_query_asynchronously() throws Exception {
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		when(session.executeAsync(bs)).thenReturn(future);
+		when(bs.preparedStatement()).thenReturn(ps);
+
+		ResultSetFuture actual = daoContext.executeAsync(bs, boundValues);
+
+		assertThat(actual).isSameAs(future);
+	}
+
+	@Test
+	public void should_prepare_batch_once() throws Exception {
+		String batchQuery = "BEGIN BATCH DELETE FROM table WHERE id=?; DELETE FROM table WHERE id=?; APPLY BATCH";
+		when(session.prepare(batchQuery)).thenReturn(ps);
+
+		assertThat(daoContext.prepareBatch(batchQuery)).isSameAs(ps);
+		assertThat(daoContext.prepareBatch(batchQuery)).isSameAs(ps);
+
+		verify(session, times(1)).prepare(batchQuery);
+	}
+
 	// Simple counter
 	@Test
 	public void should_bind_simple_counter_increment() throws Exception {
@@ -455,6 +481,45 @@ public class CQLDaoContextTest {
 		verify(context).executeImmediateWithConsistency(bsWrapper, EACH_QUORUM);
 	}
 
+	@Test
+	public void should_split_simple_counter_deltas_by_write_level_and_max_size() throws Exception {
+		Whitebox.setInternalState(daoContext, "nativeBatchMaxSize", 2);
+		PropertyMeta pm = PropertyMetaTestBuilder.valueClass(String.class).field("name").build();
+		Map<CQLCounterKey, Long> deltas = new HashMap<CQLCounterKey, Long>();
+		deltas.put(new CQLCounterKey(entityMeta, pm, 1L, ONE), 1L);
+		deltas.put(new CQLCounterKey(entityMeta, pm, 2L, ONE), 2L);
+		deltas.put(new CQLCounterKey(entityMeta, pm, 3L, ONE), 3L);
+		deltas.put(new CQLCounterKey(entityMeta, pm, 4L, QUORUM), 4L);
+
+		List<Map<CQLCounterKey, Long>> groups = daoContext.splitSimpleCounterDeltas(deltas);
+
+		assertThat(groups).hasSize(3);
+		Map<CQLCounterKey, Long> merged = new HashMap<CQLCounterKey, Long>();
+		for (Map<CQLCounterKey, Long> group : groups) {
+			assertThat(group.size()).isLessThanOrEqualTo(2);
+			ConsistencyLevel writeLevel = group.keySet().iterator().next().getWriteLevel();
+			for (CQLCounterKey counterKey : group.keySet()) {
+				assertThat(counterKey.getWriteLevel()).isEqualTo(writeLevel);
+			}
+			merged.putAll(group);
+		}
+		assertThat(merged).isEqualTo(deltas);
+	}
+
+	@Test
+	public void should_write_simple_counter_deltas_group() throws Exception {
+		PropertyMeta pm = PropertyMetaTestBuilder.valueClass(String.class).field("name").build();
+		when(counterQueryMap.get(CQLQueryType.INCR)).thenReturn(ps);
+		when(binder.bindForSimpleCounterIncrementDecrement(ps, entityMeta, pm, 1L, 5L)).thenReturn(bsWrapper);
+		when(bs.preparedStatement()).thenReturn(ps);
+		when(session.execute(bs)).thenReturn(mock(ResultSet.class));
+
+		daoContext.writeSimpleCounterDeltas(ImmutableMap.of(new CQLCounterKey(entityMeta, pm, 1L, QUORUM), 5L));
+
+		verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.QUORUM);
+		verify(session).execute(bs);
+	}
+
 	@Test
 	public void should_decrement_simple_counter() throws Exception {
 		Long counterValue = RandomUtils.nextLong();
@@ -486,6 +551,21 @@ public class CQLDaoContextTest {
 		assertThat(actual).isSameAs(row);
 	}
 
+	@Test
+	public void should_get_all_simple_counters() throws Exception {
+		when(counterQueryMap.get(CQLQueryType.SELECT_ALL)).thenReturn(ps);
+		when(binder.bindForSimpleCounterSelectAll(ps, entityMeta, entity.getId())).thenReturn(bsWrapper);
+
+		ResultSet resultSet = mock(ResultSet.class);
+		Row row = mock(Row.class);
+		when(context.executeImmediateWithConsistency(bsWrapper, EACH_QUORUM)).thenReturn(resultSet);
+		when(resultSet.all()).thenReturn(Arrays.<Row> asList(row));
+
+		List<Row> actual = daoContext.getSimpleCounters(context, EACH_QUORUM);
+
+		assertThat(actual).containsExactly(row);
+	}
+
 	@Test
 	public void should_bind_simple_counter_delete() throws Exception {
 		PropertyMeta pm = PropertyMetaTestBuilder.valueClass(String.class).field("name")
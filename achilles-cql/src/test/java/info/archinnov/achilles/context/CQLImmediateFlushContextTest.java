@@ -17,17 +17,23 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
-import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.*;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.FlushContext.FlushType;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
@@ -35,7 +41,9 @@ import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.ListenableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLImmediateFlushContextTest {
@@ -145,6 +153,170 @@ public class CQLImmediateFlushContextTest {
 		assertThat(statements).isEmpty();
 	}
 
+	@Test
+	public void should_flush_asynchronously() throws Exception {
+		List<BoundStatementWrapper> boundStatementWrappers = new ArrayList<BoundStatementWrapper>();
+		boundStatementWrappers.add(bsWrapper);
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(statement);
+
+		Object[] boundValues = new Object[1];
+		ResultSetFuture bsFuture = mock(ResultSetFuture.class);
+		ResultSetFuture statementFuture = mock(ResultSetFuture.class);
+
+		when(bsWrapper.getValues()).thenReturn(boundValues);
+		when(daoContext.isAsyncFlushEnabled()).thenReturn(true);
+		when(daoContext.getAsyncFlushMaxInFlight()).thenReturn(1);
+		when(daoContext.executeAsync(bs, boundValues)).thenReturn(bsFuture);
+		when(daoContext.executeAsync(statement)).thenReturn(statementFuture);
+		Whitebox.setInternalState(context, "boundStatementWrappers", boundStatementWrappers);
+		Whitebox.setInternalState(context, "statements", statements);
+
+		context.flush();
+
+		verify(bsFuture).getUninterruptibly();
+		verify(statementFuture).getUninterruptibly();
+		verify(daoContext, never()).execute(bs, boundValues);
+		assertThat(boundStatementWrappers).isEmpty();
+		assertThat(statements).isEmpty();
+	}
+
+	@Test
+	public void should_send_pending_statements_without_waiting() throws Exception {
+		List<BoundStatementWrapper> boundStatementWrappers = new ArrayList<BoundStatementWrapper>();
+		boundStatementWrappers.add(bsWrapper);
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(statement);
+
+		Object[] boundValues = new Object[1];
+		ResultSetFuture bsFuture = mock(ResultSetFuture.class);
+		ResultSetFuture statementFuture = mock(ResultSetFuture.class);
+
+		when(bsWrapper.getValues()).thenReturn(boundValues);
+		when(bs.getRoutingKey()).thenReturn(routingKey(1));
+		when(statement.getRoutingKey()).thenReturn(routingKey(2));
+		when(daoContext.executeAsync(bs, boundValues)).thenReturn(bsFuture);
+		when(daoContext.executeAsync(statement)).thenReturn(statementFuture);
+		Whitebox.setInternalState(context, "boundStatementWrappers", boundStatementWrappers);
+		Whitebox.setInternalState(context, "statements", statements);
+
+		ListenableFuture<List<ResultSet>> future = context.flushAsync();
+
+		assertThat(future.isDone()).isFalse();
+		verify(daoContext).executeAsync(statement);
+		verify(bsFuture, never()).getUninterruptibly();
+		verify(statementFuture, never()).getUninterruptibly();
+		verify(daoContext, never()).execute(bs, boundValues);
+		assertThat(boundStatementWrappers).isEmpty();
+		assertThat(statements).isEmpty();
+	}
+
+	@Test
+	public void should_chain_statements_on_same_partition_without_waiting() throws Exception {
+		List<BoundStatementWrapper> boundStatementWrappers = new ArrayList<BoundStatementWrapper>();
+		boundStatementWrappers.add(bsWrapper);
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(statement);
+
+		Object[] boundValues = new Object[1];
+		ResultSetFuture bsFuture = mock(ResultSetFuture.class);
+		ResultSetFuture statementFuture = mock(ResultSetFuture.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+		when(bsWrapper.getValues()).thenReturn(boundValues);
+		when(bs.getRoutingKey()).thenReturn(routingKey(1));
+		when(statement.getRoutingKey()).thenReturn(routingKey(1));
+		when(daoContext.executeAsync(bs, boundValues)).thenReturn(bsFuture);
+		when(daoContext.executeAsync(statement)).thenReturn(statementFuture);
+		Whitebox.setInternalState(context, "boundStatementWrappers", boundStatementWrappers);
+		Whitebox.setInternalState(context, "statements", statements);
+
+		context.flushAsync();
+
+		verify(daoContext, never()).executeAsync(statement);
+		verify(bsFuture, atLeastOnce()).addListener(listenerCaptor.capture(), any(Executor.class));
+
+		when(bsFuture.isDone()).thenReturn(true);
+		when(bsFuture.get()).thenReturn(resultSet);
+		for (Runnable listener : listenerCaptor.getAllValues()) {
+			listener.run();
+		}
+
+		verify(daoContext).executeAsync(statement);
+	}
+
+	@Test
+	public void should_wait_for_statements_on_same_partition_when_flushing_asynchronously() throws Exception {
+		List<BoundStatementWrapper> boundStatementWrappers = new ArrayList<BoundStatementWrapper>();
+		boundStatementWrappers.add(bsWrapper);
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(statement);
+		Statement otherStatement = mock(Statement.class);
+		statements.add(otherStatement);
+
+		Object[] boundValues = new Object[1];
+		ResultSetFuture bsFuture = mock(ResultSetFuture.class);
+		ResultSetFuture statementFuture = mock(ResultSetFuture.class);
+		ResultSetFuture otherStatementFuture = mock(ResultSetFuture.class);
+
+		when(bsWrapper.getValues()).thenReturn(boundValues);
+		when(bs.getRoutingKey()).thenReturn(routingKey(1));
+		when(statement.getRoutingKey()).thenReturn(routingKey(2));
+		when(otherStatement.getRoutingKey()).thenReturn(routingKey(1));
+		when(daoContext.isAsyncFlushEnabled()).thenReturn(true);
+		when(daoContext.getAsyncFlushMaxInFlight()).thenReturn(10);
+		when(daoContext.executeAsync(bs, boundValues)).thenReturn(bsFuture);
+		when(daoContext.executeAsync(statement)).thenReturn(statementFuture);
+		when(daoContext.executeAsync(otherStatement)).thenReturn(otherStatementFuture);
+		Whitebox.setInternalState(context, "boundStatementWrappers", boundStatementWrappers);
+		Whitebox.setInternalState(context, "statements", statements);
+
+		context.flush();
+
+		InOrder inOrder = inOrder(daoContext, bsFuture, statementFuture, otherStatementFuture);
+		inOrder.verify(daoContext).executeAsync(bs, boundValues);
+		inOrder.verify(daoContext).executeAsync(statement);
+		inOrder.verify(bsFuture).getUninterruptibly();
+		inOrder.verify(daoContext).executeAsync(otherStatement);
+		inOrder.verify(statementFuture).getUninterruptibly();
+		inOrder.verify(otherStatementFuture).getUninterruptibly();
+	}
+
+	@Test
+	public void should_aggregate_failures_when_flushing_asynchronously() throws Exception {
+		List<BoundStatementWrapper> boundStatementWrappers = new ArrayList<BoundStatementWrapper>();
+		boundStatementWrappers.add(bsWrapper);
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(statement);
+
+		Object[] boundValues = new Object[1];
+		ResultSetFuture bsFuture = mock(ResultSetFuture.class);
+		ResultSetFuture statementFuture = mock(ResultSetFuture.class);
+		RuntimeException failure = new RuntimeException("write timeout");
+
+		when(bsWrapper.getValues()).thenReturn(boundValues);
+		when(daoContext.isAsyncFlushEnabled()).thenReturn(true);
+		when(daoContext.getAsyncFlushMaxInFlight()).thenReturn(10);
+		when(daoContext.executeAsync(bs, boundValues)).thenReturn(bsFuture);
+		when(daoContext.executeAsync(statement)).thenReturn(statementFuture);
+		when(bsFuture.getUninterruptibly()).thenThrow(failure);
+		Whitebox.setInternalState(context, "boundStatementWrappers", boundStatementWrappers);
+		Whitebox.setInternalState(context, "statements", statements);
+
+		try {
+			context.flush();
+			fail("Expected AchillesException");
+		} catch (AchillesException e) {
+			assertThat(e.getCause()).isSameAs(failure);
+			assertThat(e.getMessage()).contains("1 statement(s) failed").contains("write timeout");
+		}
+
+		verify(statementFuture).getUninterruptibly();
+		assertThat(boundStatementWrappers).isEmpty();
+		assertThat(statements).isEmpty();
+	}
+
 	@Test
 	public void should_duplicate() throws Exception {
 		context = new CQLImmediateFlushContext(daoContext, LOCAL_QUORUM);
@@ -162,4 +334,8 @@ public class CQLImmediateFlushContextTest {
 	public void should_exception_when_calling_end_batch() throws Exception {
 		context.endBatch();
 	}
+
+	private ByteBuffer routingKey(int partition) {
+		return ByteBuffer.wrap(new byte[] { (byte) partition });
+	}
 }
@@ -36,10 +36,13 @@ import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.OptionsBuilder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Before;
@@ -47,14 +50,20 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.powermock.reflect.Whitebox;
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CQLPersistenceContextTest {
@@ -132,6 +141,23 @@ public class CQLPersistenceContextTest {
 		assertThat(duplicateContext.getPrimaryKey()).isSameAs(primaryKey);
 	}
 
+	@Test
+	public void should_share_stateless_collaborators_between_contexts() throws Exception {
+		CQLPersistenceContext duplicate1 = context.duplicate(entity);
+		CQLPersistenceContext duplicate2 = context.duplicate(entity);
+
+		assertThat(Whitebox.getInternalState(duplicate1, CQLEntityLoader.class)).isSameAs(
+				Whitebox.getInternalState(duplicate2, CQLEntityLoader.class));
+		assertThat(Whitebox.getInternalState(duplicate1, CQLEntityPersister.class)).isSameAs(
+				Whitebox.getInternalState(duplicate2, CQLEntityPersister.class));
+		assertThat(Whitebox.getInternalState(duplicate1, CQLEntityMerger.class)).isSameAs(
+				Whitebox.getInternalState(duplicate2, CQLEntityMerger.class));
+		assertThat(Whitebox.getInternalState(duplicate1, CQLEntityProxifier.class)).isSameAs(
+				Whitebox.getInternalState(duplicate2, CQLEntityProxifier.class));
+		assertThat(Whitebox.getInternalState(duplicate1, EntityRefresher.class)).isSameAs(
+				Whitebox.getInternalState(duplicate2, EntityRefresher.class));
+	}
+
 	@Test
 	public void should_eager_load_entity() throws Exception {
 		Row row = mock(Row.class);
@@ -212,9 +238,11 @@ public class CQLPersistenceContextTest {
 	@Test
 	public void should_get_simple_counter() throws Exception {
 		PropertyMeta counterMeta = new PropertyMeta();
+		counterMeta.setPropertyName("count");
 
 		Row row = mock(Row.class);
-		when(daoContext.getSimpleCounter(context, counterMeta, LOCAL_QUORUM)).thenReturn(row);
+		when(daoContext.getSimpleCounters(context, LOCAL_QUORUM)).thenReturn(Arrays.asList(row));
+		when(row.getString(CQL_COUNTER_PROPERTY_NAME)).thenReturn("count");
 		when(row.getLong(CQL_COUNTER_VALUE)).thenReturn(11L);
 		Long counterValue = context.getSimpleCounter(counterMeta, LOCAL_QUORUM);
 
@@ -224,12 +252,91 @@ public class CQLPersistenceContextTest {
 	@Test
 	public void should_return_null_when_no_simple_counter_value() throws Exception {
 		PropertyMeta counterMeta = new PropertyMeta();
+		counterMeta.setPropertyName("count");
 
-		when(daoContext.getSimpleCounter(context, counterMeta, LOCAL_QUORUM)).thenReturn(null);
+		when(daoContext.getSimpleCounters(context, LOCAL_QUORUM)).thenReturn(new ArrayList<Row>());
 
 		assertThat(context.getSimpleCounter(counterMeta, LOCAL_QUORUM)).isNull();
 	}
 
+	@Test
+	public void should_get_all_simple_counters_with_one_read() throws Exception {
+		PropertyMeta countMeta = new PropertyMeta();
+		countMeta.setPropertyName("count");
+		PropertyMeta visitsMeta = new PropertyMeta();
+		visitsMeta.setPropertyName("visits");
+
+		Row countRow = mock(Row.class);
+		when(countRow.getString(CQL_COUNTER_PROPERTY_NAME)).thenReturn("count");
+		when(countRow.getLong(CQL_COUNTER_VALUE)).thenReturn(11L);
+		Row visitsRow = mock(Row.class);
+		when(visitsRow.getString(CQL_COUNTER_PROPERTY_NAME)).thenReturn("visits");
+		when(visitsRow.getLong(CQL_COUNTER_VALUE)).thenReturn(12L);
+		when(daoContext.getSimpleCounters(context, LOCAL_QUORUM)).thenReturn(Arrays.asList(countRow, visitsRow));
+
+		assertThat(context.getSimpleCounter(countMeta, LOCAL_QUORUM)).isEqualTo(11L);
+		assertThat(context.getSimpleCounter(visitsMeta, LOCAL_QUORUM)).isEqualTo(12L);
+
+		verify(daoContext, times(1)).getSimpleCounters(context, LOCAL_QUORUM);
+	}
+
+	@Test
+	public void should_take_simple_counters_snapshot_from_async_read() throws Exception {
+		PropertyMeta countMeta = new PropertyMeta();
+		countMeta.setPropertyName("count");
+		PropertyMeta visitsMeta = new PropertyMeta();
+		visitsMeta.setPropertyName("visits");
+
+		Row countRow = mock(Row.class);
+		when(countRow.getString(CQL_COUNTER_PROPERTY_NAME)).thenReturn("count");
+		when(countRow.getLong(CQL_COUNTER_VALUE)).thenReturn(11L);
+		Row visitsRow = mock(Row.class);
+		when(visitsRow.getString(CQL_COUNTER_PROPERTY_NAME)).thenReturn("visits");
+		when(visitsRow.getLong(CQL_COUNTER_VALUE)).thenReturn(12L);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.all()).thenReturn(Arrays.asList(countRow, visitsRow));
+		ResultSetFuture future = completedFuture(resultSet);
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		when(daoContext.getSimpleCountersAsync(context, LOCAL_QUORUM)).thenReturn(future);
+
+		ResultSetFuture actualFuture = context.getSimpleCountersAsync(LOCAL_QUORUM);
+
+		assertThat(actualFuture).isSameAs(future);
+		assertThat(context.getSimpleCounter(countMeta, LOCAL_QUORUM, actualFuture)).isEqualTo(11L);
+		assertThat(context.getSimpleCounter(visitsMeta, LOCAL_QUORUM)).isEqualTo(12L);
+		assertThat(context.getSimpleCountersAsync(LOCAL_QUORUM)).isNull();
+
+		verify(daoContext, never()).getSimpleCounters(context, LOCAL_QUORUM);
+	}
+
+	@Test
+	public void should_reload_simple_counters_after_increment() throws Exception {
+		PropertyMeta counterMeta = new PropertyMeta();
+		counterMeta.setPropertyName("count");
+
+		when(daoContext.getSimpleCounters(context, LOCAL_QUORUM)).thenReturn(new ArrayList<Row>());
+
+		context.getSimpleCounter(counterMeta, LOCAL_QUORUM);
+		context.incrementSimpleCounter(counterMeta, 1L, LOCAL_QUORUM);
+		context.getSimpleCounter(counterMeta, LOCAL_QUORUM);
+
+		verify(daoContext, times(2)).getSimpleCounters(context, LOCAL_QUORUM);
+	}
+
+	@Test
+	public void should_reload_simple_counters_for_other_consistency_level() throws Exception {
+		PropertyMeta counterMeta = new PropertyMeta();
+		counterMeta.setPropertyName("count");
+
+		when(daoContext.getSimpleCounters(eq(context), any(ConsistencyLevel.class))).thenReturn(new ArrayList<Row>());
+
+		context.getSimpleCounter(counterMeta, LOCAL_QUORUM);
+		context.getSimpleCounter(counterMeta, ONE);
+
+		verify(daoContext).getSimpleCounters(context, LOCAL_QUORUM);
+		verify(daoContext).getSimpleCounters(context, ONE);
+	}
+
 	@Test
 	public void should_bind_for_simple_counter_removal() throws Exception {
 		PropertyMeta counterMeta = new PropertyMeta();
@@ -367,6 +474,47 @@ public class CQLPersistenceContextTest {
 		assertThat(found).isSameAs(entity);
 	}
 
+	@Test
+	public void should_persist_async() throws Exception {
+		SettableFuture<List<ResultSet>> flushed = SettableFuture.create();
+		when(flushContext.flushAsync()).thenReturn(flushed);
+
+		ListenableFuture<Void> future = context.persistAsync();
+
+		verify(persister).persist(context);
+		verify(flushContext, never()).flush();
+		assertThat(future.isDone()).isFalse();
+		flushed.set(Arrays.<ResultSet> asList());
+		assertThat(future.isDone()).isTrue();
+	}
+
+	@Test
+	public void should_merge_async() throws Exception {
+		when(merger.merge(context, entity)).thenReturn(entity);
+		when(flushContext.flushAsync()).thenReturn(Futures.immediateFuture(Arrays.<ResultSet> asList()));
+
+		ListenableFuture<CompleteBean> merged = context.mergeAsync(entity);
+
+		assertThat(merged.get()).isSameAs(entity);
+		verify(flushContext, never()).flush();
+	}
+
+	@Test
+	public void should_find_async() throws Exception {
+		Row row = mock(Row.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.one()).thenReturn(row);
+		ResultSetFuture resultSetFuture = completedFuture(resultSet);
+		when(daoContext.eagerLoadEntityAsync(context)).thenReturn(resultSetFuture);
+		when(loader.loadFromRow(context, CompleteBean.class, row)).thenReturn(entity);
+		when(proxifier.buildProxy(entity, context)).thenReturn(entity);
+
+		CompleteBean found = context.findAsync(CompleteBean.class).get();
+
+		assertThat(found).isSameAs(entity);
+		verify(daoContext, never()).eagerLoadEntity(context);
+	}
+
 	@Test
 	public void should_return_null_when_not_found() throws Exception {
 		when(loader.load(context, CompleteBean.class)).thenReturn(null);
@@ -407,4 +555,18 @@ public class CQLPersistenceContextTest {
 
 		verify(initializer).initializeEntity(entity, meta, interceptor);
 	}
+
+	private ResultSetFuture completedFuture(ResultSet resultSet) throws Exception {
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		when(future.get()).thenReturn(resultSet);
+		when(future.isDone()).thenReturn(true);
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(future).addListener(any(Runnable.class), any(Executor.class));
+		return future;
+	}
 }
@@ -25,7 +25,6 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.type.Counter;
 
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
@@ -106,9 +105,7 @@ public class CQLTypeMapperTest {
 		Row row = mock(Row.class);
 		when(row.getString("name")).thenReturn("value");
 
-		Method method = getRowMethod(String.class);
-
-		assertThat(method.invoke(row, "name")).isEqualTo("value");
+		assertThat(getRowGetter(String.class).get(row, "name")).isEqualTo("value");
 	}
 
 	@Test
@@ -116,9 +113,15 @@ public class CQLTypeMapperTest {
 		Row row = mock(Row.class);
 		when(row.getString("object")).thenReturn("object_value");
 
-		Method method = getRowMethod(UserBean.class);
+		assertThat(getRowGetter(UserBean.class).get(row, "object")).isEqualTo("object_value");
+	}
+
+	@Test
+	public void should_get_long_value_from_row_by_index() throws Exception {
+		Row row = mock(Row.class);
+		when(row.getLong(2)).thenReturn(10L);
 
-		assertThat(method.invoke(row, "object")).isEqualTo("object_value");
+		assertThat(getRowGetter(long.class).get(row, 2)).isEqualTo(10L);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -114,6 +114,48 @@ public class CQLEntityMapperTest {
 		verifyZeroInteractions(cqlRowInvoker);
 	}
 
+	@Test
+	public void should_set_eager_properties_to_entity_by_column_index() throws Exception {
+		PropertyMeta idMeta = mock(PropertyMeta.class);
+		when(idMeta.isEmbeddedId()).thenReturn(true);
+		when(idMeta.getCQLComponentNames()).thenReturn(Arrays.asList("id", "name"));
+
+		PropertyMeta valueMeta = mock(PropertyMeta.class);
+		when(valueMeta.getPropertyName()).thenReturn("Value");
+
+		when(entityMeta.getEagerMetas()).thenReturn(Arrays.asList(idMeta, valueMeta));
+
+		ColumnIdentifier iden1 = new ColumnIdentifier(UTF8Type.instance.decompose("id"), UTF8Type.instance);
+		ColumnSpecification spec1 = new ColumnSpecification("keyspace", "id", iden1, LongType.instance);
+		ColumnIdentifier iden2 = new ColumnIdentifier(UTF8Type.instance.decompose("value"), UTF8Type.instance);
+		ColumnSpecification spec2 = new ColumnSpecification("keyspace", "value", iden2, UTF8Type.instance);
+		ColumnIdentifier iden3 = new ColumnIdentifier(UTF8Type.instance.decompose("name"), UTF8Type.instance);
+		ColumnSpecification spec3 = new ColumnSpecification("keyspace", "name", iden3, UTF8Type.instance);
+
+		def1 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec1);
+		def2 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec2);
+		Definition def3 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec3);
+
+		Row otherRow = mock(Row.class);
+		when(row.getColumnDefinitions()).thenReturn(columnDefs);
+		when(otherRow.getColumnDefinitions()).thenReturn(columnDefs);
+		when(columnDefs.iterator()).thenReturn(Arrays.asList(def1, def2, def3).iterator());
+
+		EmbeddedKey embeddedKey = new EmbeddedKey();
+		when(cqlRowInvoker.extractCompoundPrimaryKeyFromRow(row, idMeta, new int[] { 0, 2 }, true)).thenReturn(
+				embeddedKey);
+		when(cqlRowInvoker.invokeOnRowForFields(row, valueMeta, 1)).thenReturn("value");
+		when(otherRow.isNull(1)).thenReturn(true);
+
+		entityMapper.setEagerPropertiesToEntity(row, entityMeta, entity);
+		entityMapper.setEagerPropertiesToEntity(otherRow, entityMeta, entity);
+
+		verify(idMeta).setValueToField(entity, embeddedKey);
+		verify(valueMeta).setValueToField(entity, "value");
+		verify(cqlRowInvoker, never()).invokeOnRowForFields(otherRow, valueMeta, 1);
+		verify(columnDefs, times(1)).iterator();
+	}
+
 	@Test
 	public void should_do_nothing_when_null_row() throws Exception {
 		PropertyMeta pm = mock(PropertyMeta.class);
@@ -160,8 +202,8 @@ public class CQLEntityMapperTest {
 
 		when(entityMeta.getIdMeta()).thenReturn(idMeta);
 		when(entityMeta.instanciate()).thenReturn(entity);
-		when(cqlRowInvoker.invokeOnRowForFields(row, idMeta)).thenReturn(id);
-		when(cqlRowInvoker.invokeOnRowForFields(row, valueMeta)).thenReturn("value");
+		when(cqlRowInvoker.invokeOnRowForFields(row, idMeta, 0)).thenReturn(id);
+		when(cqlRowInvoker.invokeOnRowForFields(row, valueMeta, 1)).thenReturn("value");
 		when(entityMeta.instanciate()).thenReturn(entity);
 
 		CompleteBean actual = entityMapper.mapRowToEntityWithPrimaryKey(CompleteBean.class, entityMeta, row,
@@ -186,7 +228,8 @@ public class CQLEntityMapperTest {
 		when(columnDefs.iterator()).thenReturn(Arrays.<Definition> asList().iterator());
 		when(entityMeta.instanciate()).thenReturn(entity);
 		when(entityMeta.getIdMeta()).thenReturn(idMeta);
-		when(cqlRowInvoker.extractCompoundPrimaryKeyFromRow(row, idMeta, true)).thenReturn(embeddedKey);
+		when(cqlRowInvoker.extractCompoundPrimaryKeyFromRow(eq(row), eq(idMeta), any(int[].class), eq(true)))
+				.thenReturn(embeddedKey);
 
 		ClusteredEntity actual = entityMapper.mapRowToEntityWithPrimaryKey(ClusteredEntity.class, entityMeta, row,
 				propertiesMap, true);
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.manager;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.compound.CompoundKeyValidator;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
@@ -38,8 +39,10 @@ import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -50,6 +53,9 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.google.common.base.Optional;
 
@@ -177,6 +183,37 @@ public class CQLPersistenceManagerTest {
 		assertThat(Whitebox.getInternalState(builder, Class.class)).isEqualTo(CompleteBean.class);
 	}
 
+	@Test
+	public void should_find_entities_with_concurrent_async_reads() throws Exception {
+		CQLPersistenceContext context1 = mock(CQLPersistenceContext.class);
+		CQLPersistenceContext context2 = mock(CQLPersistenceContext.class);
+		ResultSetFuture future1 = mock(ResultSetFuture.class);
+		ResultSetFuture future2 = mock(ResultSetFuture.class);
+		ResultSet resultSet1 = mock(ResultSet.class);
+		ResultSet resultSet2 = mock(ResultSet.class);
+		Row row1 = mock(Row.class);
+		CompleteBean found = CompleteBeanTestBuilder.builder().id(10L).buid();
+
+		when(contextFactory.newContext(eq(CompleteBean.class), eq(10L), any(Options.class))).thenReturn(context1);
+		when(contextFactory.newContext(eq(CompleteBean.class), eq(11L), any(Options.class))).thenReturn(context2);
+		when(context1.getIdMeta()).thenReturn(idMeta);
+		when(context2.getIdMeta()).thenReturn(idMeta);
+		when(context1.eagerLoadEntityAsync()).thenReturn(future1);
+		when(context2.eagerLoadEntityAsync()).thenReturn(future2);
+		when(future1.getUninterruptibly()).thenReturn(resultSet1);
+		when(future2.getUninterruptibly()).thenReturn(resultSet2);
+		when(resultSet1.one()).thenReturn(row1);
+		when(resultSet2.one()).thenReturn(null);
+		when(context1.findFromRow(CompleteBean.class, row1)).thenReturn(found);
+		when(context2.findFromRow(CompleteBean.class, null)).thenReturn(null);
+
+		Map<Long, CompleteBean> actual = manager.find(CompleteBean.class, Arrays.asList(10L, 11L));
+
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get(10L)).isSameAs(found);
+		verify(context1, never()).find(CompleteBean.class);
+	}
+
 	@Test
 	public void should_get_native_session() throws Exception {
 		Session session = mock(Session.class);
@@ -0,0 +1,200 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.entity.operations;
+
+import static info.archinnov.achilles.entity.operations.CQLEntityScanner.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.context.CQLPersistenceContext;
+import info.archinnov.achilles.context.CQLPersistenceContextFactory;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.entity.CQLEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
+import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CQLEntityScannerTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Mock
+	private CQLPersistenceContextFactory contextFactory;
+
+	@Mock
+	private ConfigurationContext configContext;
+
+	@Mock
+	private CQLDaoContext daoContext;
+
+	@Mock
+	private CQLPreparedStatementGenerator generator;
+
+	@Mock
+	private CQLEntityMapper mapper;
+
+	@Mock
+	private CQLEntityProxifier proxifier;
+
+	@Mock
+	private EntityMeta entityMeta;
+
+	@Mock
+	private PreparedStatement ps;
+
+	@Mock
+	private PreparedStatement tokensPS;
+
+	private CQLEntityScanner scanner;
+
+	@Before
+	public void setUp() {
+		when(configContext.getScanTokenRanges()).thenReturn(4);
+		scanner = new CQLEntityScanner(contextFactory, configContext, daoContext);
+		Whitebox.setInternalState(scanner, "generator", generator);
+		Whitebox.setInternalState(scanner, "mapper", mapper);
+		Whitebox.setInternalState(scanner, "proxifier", proxifier);
+	}
+
+	@Test
+	public void should_load_token_range_page_by_page() throws Exception {
+		Whitebox.setInternalState(scanner, "tokenRanges", 1);
+		Whitebox.setInternalState(scanner, "pageSize", 2);
+		Whitebox.setInternalState(scanner, "partitioner", MURMUR3_PARTITIONER);
+
+		ResultSet firstTokens = resultSet(tokenRow(10L), tokenRow(20L));
+		ResultSet lastTokens = resultSet(tokenRow(30L));
+		ResultSet noTokens = resultSet();
+		Row entityRow = mock(Row.class);
+		ResultSet firstPage = resultSet(entityRow);
+		CompleteBean entity = CompleteBeanTestBuilder.builder().id(10L).buid();
+		CompleteBean proxy = CompleteBeanTestBuilder.builder().id(10L).buid();
+		CQLPersistenceContext context = mock(CQLPersistenceContext.class);
+
+		when(generator.prepareScanPS(daoContext.getSession(), entityMeta)).thenReturn(ps);
+		when(generator.prepareScanTokensPS(daoContext.getSession(), entityMeta, 2)).thenReturn(tokensPS);
+		when(entityMeta.getEagerGetters()).thenReturn(Collections.<Method> emptyList());
+		when(daoContext.bindAndExecute(tokensPS, Long.MIN_VALUE, Long.MAX_VALUE)).thenReturn(firstTokens);
+		when(daoContext.bindAndExecute(tokensPS, 20L, Long.MAX_VALUE)).thenReturn(lastTokens);
+		when(daoContext.bindAndExecute(ps, Long.MIN_VALUE, 20L)).thenReturn(firstPage);
+		when(daoContext.bindAndExecute(ps, 20L, 30L)).thenReturn(noTokens);
+		when(entityMeta.<CompleteBean> instanciate()).thenReturn(entity);
+		when(contextFactory.newContext(entity)).thenReturn(context);
+		when(proxifier.buildProxy(eq(entity), eq(context), anySetOf(Method.class))).thenReturn(proxy);
+
+		Iterator<Callable<List<CompleteBean>>> tasks = scanner.scanTasks(CompleteBean.class, entityMeta);
+
+		assertThat(tasks.hasNext()).isTrue();
+		assertThat(tasks.next().call()).containsExactly(proxy);
+		verify(mapper).setEagerPropertiesToEntity(entityRow, entityMeta, entity);
+
+		assertThat(tasks.hasNext()).isTrue();
+		assertThat(tasks.next().call()).isEmpty();
+		verify(daoContext).bindAndExecute(ps, 20L, 30L);
+
+		assertThat(tasks.hasNext()).isFalse();
+	}
+
+	@Test
+	public void should_skip_token_range_without_rows() throws Exception {
+		Whitebox.setInternalState(scanner, "tokenRanges", 2);
+		Whitebox.setInternalState(scanner, "partitioner", MURMUR3_PARTITIONER);
+		List<Object[]> ranges = scanner.splitTokenRanges(MURMUR3_PARTITIONER, 2);
+		ResultSet noTokens = resultSet();
+
+		when(generator.prepareScanTokensPS(daoContext.getSession(), entityMeta, SCAN_PAGE_SIZE)).thenReturn(tokensPS);
+		when(entityMeta.getEagerGetters()).thenReturn(Collections.<Method> emptyList());
+		when(daoContext.bindAndExecute(tokensPS, ranges.get(0))).thenReturn(noTokens);
+		when(daoContext.bindAndExecute(tokensPS, ranges.get(1))).thenReturn(noTokens);
+
+		Iterator<Callable<List<CompleteBean>>> tasks = scanner.scanTasks(CompleteBean.class, entityMeta);
+
+		assertThat(tasks.hasNext()).isFalse();
+		verify(daoContext, times(2)).bindAndExecute(eq(tokensPS), Matchers.<Object> anyVararg());
+	}
+
+	@Test
+	public void should_split_murmur3_ring() throws Exception {
+		List<Object[]> ranges = scanner.splitTokenRanges(MURMUR3_PARTITIONER, 4);
+
+		assertThat(ranges).hasSize(4);
+		assertThat(ranges.get(0)[0]).isEqualTo(Long.MIN_VALUE);
+		for (int i = 0; i < 3; i++) {
+			assertThat((Long) ranges.get(i)[1]).isGreaterThan((Long) ranges.get(i)[0]);
+			assertThat(ranges.get(i)[1]).isEqualTo(ranges.get(i + 1)[0]);
+		}
+		assertThat(ranges.get(3)[1]).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	public void should_split_random_ring() throws Exception {
+		List<Object[]> ranges = scanner.splitTokenRanges(RANDOM_PARTITIONER, 2);
+
+		assertThat(ranges).hasSize(2);
+		assertThat(ranges.get(0)[0]).isEqualTo(BigInteger.ONE.negate());
+		assertThat(ranges.get(0)[1]).isEqualTo(ranges.get(1)[0]);
+		assertThat(ranges.get(1)[1]).isEqualTo(BigInteger.ONE.shiftLeft(127));
+	}
+
+	@Test
+	public void should_not_split_ordered_ring() throws Exception {
+		exception.expect(AchillesException.class);
+		exception
+				.expectMessage("Full table scan is not supported for partitioner 'org.apache.cassandra.dht.ByteOrderedPartitioner'");
+
+		scanner.splitTokenRanges("org.apache.cassandra.dht.ByteOrderedPartitioner", 4);
+	}
+
+	private Row tokenRow(long token) {
+		Row row = mock(Row.class);
+		when(row.getLong(0)).thenReturn(token);
+		return row;
+	}
+
+	private ResultSet resultSet(Row... rows) {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.all()).thenReturn(Arrays.asList(rows));
+		return resultSet;
+	}
+}
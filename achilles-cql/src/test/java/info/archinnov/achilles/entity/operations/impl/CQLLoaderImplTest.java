@@ -18,6 +18,7 @@ package info.archinnov.achilles.entity.operations.impl;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.*;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.CQLEntityMapper;
@@ -32,6 +33,7 @@ import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,10 +45,12 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.google.common.base.Optional;
 
@@ -185,4 +189,46 @@ public class CQLLoaderImplTest {
 
 		verify(mapper).setPropertyToEntity(row, pm, entity);
 	}
+
+	@Test
+	public void should_load_simple_counters_through_context_snapshots() throws Exception {
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("count")
+				.type(PropertyType.COUNTER).consistencyLevels(Pair.create(ONE, ONE)).build();
+		CQLPersistenceContext otherContext = mock(CQLPersistenceContext.class);
+		ResultSetFuture future = mock(ResultSetFuture.class);
+
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(null));
+		when(otherContext.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(null));
+		when(context.getSimpleCountersAsync(ONE)).thenReturn(future);
+		when(otherContext.getSimpleCountersAsync(ONE)).thenReturn(null);
+		when(context.getSimpleCounter(counterMeta, ONE, future)).thenReturn(11L);
+		when(otherContext.getSimpleCounter(counterMeta, ONE, null)).thenReturn(12L);
+
+		List<Long> actual = loaderImpl.loadCounters(Arrays.asList(context, otherContext), counterMeta);
+
+		assertThat(actual).containsExactly(11L, 12L);
+
+		InOrder inOrder = inOrder(context, otherContext);
+		inOrder.verify(context).getSimpleCountersAsync(ONE);
+		inOrder.verify(otherContext).getSimpleCountersAsync(ONE);
+		inOrder.verify(context).getSimpleCounter(counterMeta, ONE, future);
+		inOrder.verify(otherContext).getSimpleCounter(counterMeta, ONE, null);
+	}
+
+	@Test
+	public void should_load_clustered_counters_through_context() throws Exception {
+		PropertyMeta counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("count")
+				.type(PropertyType.COUNTER).build();
+		ResultSetFuture future = mock(ResultSetFuture.class);
+
+		when(entityMeta.isClusteredCounter()).thenReturn(true);
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(EACH_QUORUM));
+		when(context.getClusteredCounter(counterMeta, future)).thenReturn(11L);
+		when(context.getClusteredCounterAsync(counterMeta, EACH_QUORUM)).thenReturn(future);
+
+		List<Long> actual = loaderImpl.loadCounters(Arrays.asList(context), counterMeta);
+
+		assertThat(actual).containsExactly(11L);
+		verify(context, never()).getSimpleCountersAsync(any(ConsistencyLevel.class));
+	}
 }
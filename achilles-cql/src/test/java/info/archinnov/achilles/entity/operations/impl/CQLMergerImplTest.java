@@ -16,19 +16,25 @@
  */
 package info.archinnov.achilles.entity.operations.impl;
 
+import static info.archinnov.achilles.entity.metadata.EntityMetaBuilder.*;
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.CQLEntityMerger;
+import info.archinnov.achilles.proxy.CollectionDelta;
+import info.archinnov.achilles.proxy.DirtyProperties;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +47,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.base.Optional;
+
 @RunWith(MockitoJUnitRunner.class)
 public class CQLMergerImplTest {
 	@InjectMocks
@@ -90,6 +98,44 @@ public class CQLMergerImplTest {
 		assertThat(pmCaptor.getValue()).containsExactly(ageMeta, idMeta);
 	}
 
+	@Test
+	public void should_push_collection_delta() throws Exception {
+		PropertyMeta ageMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age").type(SIMPLE)
+				.accessors().build();
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(LIST).accessors().build();
+		DirtyProperties dirtyMap = prepareDirtyProperties(ageMeta, friendsMeta);
+
+		CollectionDelta delta = CollectionDelta.append(Arrays.asList("George"));
+		dirtyMap.put(ageMeta.getSetter(), ageMeta);
+		dirtyMap.putDelta(friendsMeta, delta);
+		when(context.getTtt()).thenReturn(Optional.<Integer> absent());
+		when(context.getTimestamp()).thenReturn(Optional.<Long> absent());
+
+		mergerImpl.merge(context, dirtyMap);
+
+		assertThat(dirtyMap).isEmpty();
+		verify(context).pushCollectionDeltaStatement(friendsMeta, delta);
+		verify(context).pushUpdateStatement(pmCaptor.capture());
+		assertThat(pmCaptor.getValue()).containsExactly(ageMeta);
+	}
+
+	@Test
+	public void should_write_whole_collection_when_ttl() throws Exception {
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(LIST).accessors().build();
+		DirtyProperties dirtyMap = prepareDirtyProperties(friendsMeta);
+
+		dirtyMap.putDelta(friendsMeta, CollectionDelta.append(Arrays.asList("George")));
+		when(context.getTtt()).thenReturn(Optional.fromNullable(10));
+
+		mergerImpl.merge(context, dirtyMap);
+
+		verify(context, never()).pushCollectionDeltaStatement(any(PropertyMeta.class), any(CollectionDelta.class));
+		verify(context).pushUpdateStatement(pmCaptor.capture());
+		assertThat(pmCaptor.getValue()).containsExactly(friendsMeta);
+	}
+
 	@Test
 	public void should_not_merge_when_empty_dirty_map() throws Exception {
 		Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
@@ -97,4 +143,16 @@ public class CQLMergerImplTest {
 
 		verifyZeroInteractions(context);
 	}
+
+	private DirtyProperties prepareDirtyProperties(PropertyMeta... pms) throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").type(ID)
+				.accessors().build();
+		Map<String, PropertyMeta> propertyMetas = new LinkedHashMap<String, PropertyMeta>();
+		propertyMetas.put("id", idMeta);
+		for (PropertyMeta pm : pms) {
+			propertyMetas.put(pm.getPropertyName(), pm);
+		}
+		return new DirtyProperties(entityMetaBuilder(idMeta).className("CompleteBean").columnFamilyName("cf")
+				.propertyMetas(propertyMetas).build());
+	}
 }
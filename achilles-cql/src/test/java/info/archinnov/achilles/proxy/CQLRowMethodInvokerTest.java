@@ -147,6 +147,45 @@ public class CQLRowMethodInvokerTest {
 		assertThat(actual).isEqualTo("value");
 	}
 
+	@Test
+	public void should_get_simple_value_from_row_by_index() throws Exception {
+		when(pm.type()).thenReturn(PropertyType.SIMPLE);
+		when((Class) pm.getValueClass()).thenReturn(Long.class);
+
+		when(row.getLong(3)).thenReturn(10L);
+		when(pm.decode(10L)).thenReturn(10L);
+
+		Object actual = invoker.invokeOnRowForFields(row, pm, 3);
+
+		assertThat(actual).isEqualTo(10L);
+		verify(row, never()).getLong("property");
+	}
+
+	@Test
+	public void should_return_null_when_no_value_at_index() throws Exception {
+		when(pm.type()).thenReturn(PropertyType.SIMPLE);
+		when(row.isNull(3)).thenReturn(true);
+
+		assertThat(invoker.invokeOnRowForFields(row, pm, 3)).isNull();
+	}
+
+	@Test
+	public void should_extract_compound_primary_key_by_column_index() throws Exception {
+		compNames.add("id");
+		compNames.add("name");
+		compClasses.add(Long.class);
+		compClasses.add(String.class);
+		when(pm.getCQLComponentNames()).thenReturn(compNames);
+
+		when(row.getLong(0)).thenReturn(10L);
+		when(row.getString(2)).thenReturn("name");
+		when(pm.decodeFromComponents(Arrays.<Object> asList(10L, "name"))).thenReturn("compoundKey");
+
+		Object actual = invoker.extractCompoundPrimaryKeyFromRow(row, pm, new int[] { 0, 2 }, true);
+
+		assertThat(actual).isEqualTo("compoundKey");
+	}
+
 	@Test
 	public void should_return_null_when_no_value() throws Exception {
 		when(pm.type()).thenReturn(PropertyType.SIMPLE);
@@ -18,12 +18,13 @@ package info.archinnov.achilles.query.cql;
 
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.entity.operations.CQLNativeQueryMapper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -78,14 +79,10 @@ public class CQLNativeQueryBuilderTest {
 
 	@Test
 	public void should_get_one() throws Exception {
+		when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(row);
 
-		List<Row> rows = Arrays.asList(row);
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(rows);
-
-		List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
 		Map<String, Object> line = new LinkedHashMap<String, Object>();
-		result.add(line);
-		when(mapper.mapRows(rows)).thenReturn(result);
+		when(mapper.mapRow(row)).thenReturn(line);
 
 		Map<String, Object> actual = query.first();
 		assertThat(actual).isSameAs(line);
@@ -93,15 +90,27 @@ public class CQLNativeQueryBuilderTest {
 
 	@Test
 	public void should_return_null_when_no_row() throws Exception {
-
-		List<Row> rows = Arrays.asList(row);
-		when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(rows);
-
-		List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
-		when(mapper.mapRows(rows)).thenReturn(result);
+		when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(null);
 
 		Map<String, Object> actual = query.first();
 		assertThat(actual).isNull();
 	}
 
+	@Test
+	public void should_iterate_over_mapped_rows() throws Exception {
+		Row emptyRow = mock(Row.class);
+		when(daoContext.execute(any(SimpleStatement.class)).iterator()).thenReturn(
+				Arrays.asList(row, emptyRow).iterator());
+
+		Map<String, Object> line = new LinkedHashMap<String, Object>();
+		when(mapper.mapRow(row)).thenReturn(line);
+		when(mapper.mapRow(emptyRow)).thenReturn(null);
+
+		Iterator<Map<String, Object>> iterator = query.iterator();
+		verifyZeroInteractions(mapper);
+
+		assertThat(iterator.next()).isSameAs(line);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
 }
@@ -35,6 +35,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -157,6 +158,25 @@ public class CQLTypedQueryBuilderTest {
 		assertThat(actual).isEmpty();
 	}
 
+	@Test
+	public void should_iterate_lazily_skipping_null_entity() throws Exception {
+		EntityMeta meta = mock(EntityMeta.class);
+		Map<String, PropertyMeta> propertyMetas = new HashMap<String, PropertyMeta>();
+		initBuilder("select * from test", meta, propertyMetas, false);
+
+		Row emptyRow = mock(Row.class);
+		when(daoContext.execute(any(SimpleStatement.class)).iterator()).thenReturn(
+				Arrays.asList(emptyRow, row).iterator());
+		when(mapper.mapRowToEntityWithPrimaryKey(entityClass, meta, row, propertyMetas, false)).thenReturn(entity);
+
+		Iterator<CompleteBean> iterator = builder.iterator();
+		verifyZeroInteractions(mapper);
+
+		assertThat(iterator.hasNext()).isTrue();
+		assertThat(iterator.next()).isSameAs(entity);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
 	@Test
 	public void should_get_all_raw_entities() throws Exception {
 
@@ -22,6 +22,7 @@ import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.CollectionDelta.Operation;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -178,4 +179,71 @@ public class CacheManagerTest {
 		assertThat(cacheKey.getType()).isEqualTo(CacheType.UPDATE_FIELDS);
 		assertThat(cacheKey.getFields()).containsOnly("name", "age");
 	}
+
+	@Test
+	public void should_generate_insert_with_ttl_prepared_statement_when_not_found_in_cache() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+
+		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+		when(context.getEntityMeta()).thenReturn(meta);
+		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+		when(generator.prepareInsertPS(session, meta, 3600)).thenReturn(ps);
+
+		PreparedStatement actual = manager.getCacheForInsertWithTtl(session, cache, context, 3600);
+
+		assertThat(actual).isSameAs(ps);
+		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+		assertThat(cacheKey.getType()).isEqualTo(CacheType.INSERT_TTL);
+		assertThat(cacheKey.getTtl()).isEqualTo(3600);
+		verify(cache).put(cacheKey, ps);
+	}
+
+	@Test
+	public void should_get_cache_for_fields_update_with_ttl() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.SIMPLE).build();
+
+		List<PropertyMeta> pms = Arrays.asList(nameMeta);
+
+		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+		when(context.getEntityMeta()).thenReturn(meta);
+		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = manager.getCacheForFieldsUpdateWithTtl(session, cache, context, pms, 10);
+
+		assertThat(actual).isSameAs(ps);
+		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+		assertThat(cacheKey.getType()).isEqualTo(CacheType.UPDATE_FIELDS_TTL);
+		assertThat(cacheKey.getFields()).containsOnly("name");
+		assertThat(cacheKey).isNotEqualTo(
+				new StatementCacheKey(CacheType.UPDATE_FIELDS_TTL, "table", cacheKey.getFields(), CompleteBean.class,
+						20));
+	}
+
+	@Test
+	public void should_generate_collection_delta_prepared_statement_when_not_found_in_cache() throws Exception {
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(PropertyType.LIST).build();
+
+		when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+		when(context.getEntityMeta()).thenReturn(meta);
+		when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+		when(generator.prepareCollectionDelta(session, meta, friendsMeta, Operation.PREPEND)).thenReturn(ps);
+
+		PreparedStatement actual = manager.getCacheForCollectionDelta(session, cache, context, friendsMeta,
+				Operation.PREPEND);
+
+		assertThat(actual).isSameAs(ps);
+		StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+		assertThat(cacheKey.getType()).isEqualTo(CacheType.COLLECTION_PREPEND);
+		assertThat(cacheKey.getFields()).containsOnly("friends");
+		verify(cache).put(cacheKey, ps);
+	}
 }
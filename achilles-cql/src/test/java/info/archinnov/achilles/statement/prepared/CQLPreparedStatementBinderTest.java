@@ -200,6 +200,39 @@ public class CQLPreparedStatementBinderTest {
 				preferences);
 	}
 
+	@Test
+	public void should_bind_for_insert_with_compiled_plan() throws Exception {
+		long primaryKey = RandomUtils.nextLong();
+		String name = "name";
+
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors()
+				.type(ID).transcoder(transcoder).invoker(invoker).build();
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(SIMPLE).accessors().transcoder(transcoder).invoker(invoker).build();
+
+		PropertyMeta ageMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age").type(SIMPLE)
+				.accessors().transcoder(transcoder).invoker(invoker).build();
+
+		entityMeta.setIdMeta(idMeta);
+		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta));
+		binder.compileBindPlans(Arrays.asList(entityMeta));
+		entityMeta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta, ageMeta));
+
+		when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
+		when(invoker.getValueFromField(entity, nameMeta.getGetter())).thenReturn(name);
+
+		when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
+		when(transcoder.encode(nameMeta, name)).thenReturn(name);
+
+		when(ps.bind(Matchers.<Object> anyVararg())).thenReturn(bs);
+
+		BoundStatementWrapper actual = binder.bindForInsert(ps, entityMeta, entity);
+
+		assertThat(Arrays.asList(actual.getValues())).containsExactly(primaryKey, name);
+		verify(invoker, never()).getValueFromField(entity, ageMeta.getGetter());
+	}
+
 	@Test
 	public void should_bind_with_only_pk_in_where_clause() throws Exception {
 		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").accessors()
@@ -300,6 +333,26 @@ public class CQLPreparedStatementBinderTest {
 		assertThat(Arrays.asList(actual.getValues())).containsExactly("CompleteBean", primaryKey.toString(), "counter");
 	}
 
+	@Test
+	public void should_bind_for_simple_counter_select_all() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.transcoder(transcoder).invoker(invoker).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setClassName("CompleteBean");
+		meta.setIdMeta(idMeta);
+
+		Long primaryKey = RandomUtils.nextLong();
+
+		when(transcoder.forceEncodeToJSON(primaryKey)).thenReturn(primaryKey.toString());
+		when(ps.bind("CompleteBean", primaryKey.toString())).thenReturn(bs);
+
+		BoundStatementWrapper actual = binder.bindForSimpleCounterSelectAll(ps, meta, primaryKey);
+
+		assertThat(actual.getBs()).isSameAs(bs);
+		assertThat(Arrays.asList(actual.getValues())).containsExactly("CompleteBean", primaryKey.toString());
+	}
+
 	@Test
 	public void should_bind_for_simple_counter_delete() throws Exception {
 		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
@@ -371,6 +424,7 @@ public class CQLPreparedStatementBinderTest {
 
 		assertThat(actual.getBs()).isSameAs(bs);
 		assertThat(Arrays.asList(actual.getValues())).containsExactly(primaryKey);
+		assertThat(actual.isCounter()).isFalse();
 
 	}
 
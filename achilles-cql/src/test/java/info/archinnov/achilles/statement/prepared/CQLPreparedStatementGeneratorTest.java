@@ -25,6 +25,7 @@ import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.CollectionDelta.Operation;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 
 import java.util.ArrayList;
@@ -89,6 +90,26 @@ public class CQLPreparedStatementGeneratorTest {
 		assertThat(queryCaptor.getValue()).isEqualTo("INSERT INTO table(id,name) VALUES (?,?);");
 	}
 
+	@Test
+	public void should_prepare_insert_ps_with_ttl() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.SIMPLE).build();
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.SIMPLE).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setIdMeta(idMeta);
+		meta.setTableName("table");
+		meta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta));
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareInsertPS(session, meta, 3600);
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo("INSERT INTO table(id,name) VALUES (?,?) USING TTL 3600;");
+	}
+
 	@Test
 	public void should_prepare_insert_ps_with_clustered_id() throws Exception {
 		List<PropertyMeta> allMetas = new ArrayList<PropertyMeta>();
@@ -178,6 +199,110 @@ public class CQLPreparedStatementGeneratorTest {
 		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET name=?,age=? WHERE id=?;");
 	}
 
+	@Test
+	public void should_prepare_update_fields_ps_with_ttl() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.SIMPLE).build();
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.SIMPLE).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareUpdateFields(session, meta, Arrays.asList(nameMeta), 3600);
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table USING TTL 3600 SET name=? WHERE id=?;");
+	}
+
+	@Test
+	public void should_prepare_scan_ps() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.ID).build();
+
+		PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+				.type(PropertyType.SIMPLE).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+		meta.setEagerMetas(Arrays.asList(idMeta, nameMeta));
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareScanPS(session, meta);
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo(
+				"SELECT id,name FROM table WHERE token(id)>? AND token(id)<=?;");
+	}
+
+	@Test
+	public void should_prepare_scan_tokens_ps() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.ID).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		PreparedStatement actual = generator.prepareScanTokensPS(session, meta, 100);
+
+		assertThat(actual).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo(
+				"SELECT token(id) FROM table WHERE token(id)>? AND token(id)<=? LIMIT 100;");
+	}
+
+	@Test
+	public void should_prepare_collection_delta_ps() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.type(PropertyType.SIMPLE).build();
+
+		PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends")
+				.type(PropertyType.LIST).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		assertThat(generator.prepareCollectionDelta(session, meta, friendsMeta, Operation.APPEND)).isSameAs(ps);
+		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET friends=friends+? WHERE id=?;");
+
+		generator.prepareCollectionDelta(session, meta, friendsMeta, Operation.PREPEND);
+		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET friends=?+friends WHERE id=?;");
+
+		generator.prepareCollectionDelta(session, meta, friendsMeta, Operation.REMOVE);
+		assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET friends=friends-? WHERE id=?;");
+	}
+
+	@Test
+	public void should_prepare_collection_delta_with_clustered_id_ps() throws Exception {
+		PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+				.compNames("id", "a", "b").type(PropertyType.EMBEDDED_ID).build();
+
+		PropertyMeta preferencesMeta = PropertyMetaTestBuilder.completeBean(Integer.class, String.class)
+				.field("preferences").type(PropertyType.MAP).build();
+
+		EntityMeta meta = new EntityMeta();
+		meta.setTableName("table");
+		meta.setIdMeta(idMeta);
+
+		when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+		generator.prepareCollectionDelta(session, meta, preferencesMeta, Operation.PUT);
+
+		assertThat(queryCaptor.getValue()).isEqualTo(
+				"UPDATE table SET preferences=preferences+? WHERE id=? AND a=? AND b=?;");
+	}
+
 	@Test
 	public void should_prepare_update_fields_with_clustered_id_ps() throws Exception {
 
@@ -343,8 +468,9 @@ public class CQLPreparedStatementGeneratorTest {
 		PreparedStatement decrPs = mock(PreparedStatement.class);
 		PreparedStatement selectPs = mock(PreparedStatement.class);
 		PreparedStatement deletePs = mock(PreparedStatement.class);
+		PreparedStatement selectAllPs = mock(PreparedStatement.class);
 
-		when(session.prepare(queryCaptor.capture())).thenReturn(incrPs, decrPs, selectPs, deletePs);
+		when(session.prepare(queryCaptor.capture())).thenReturn(incrPs, decrPs, selectPs, deletePs, selectAllPs);
 
 		Map<CQLQueryType, PreparedStatement> actual = generator.prepareSimpleCounterQueryMap(session);
 
@@ -352,10 +478,11 @@ public class CQLPreparedStatementGeneratorTest {
 		assertThat(actual.get(DECR)).isSameAs(decrPs);
 		assertThat(actual.get(SELECT)).isSameAs(selectPs);
 		assertThat(actual.get(DELETE)).isSameAs(deletePs);
+		assertThat(actual.get(SELECT_ALL)).isSameAs(selectAllPs);
 
 		List<String> queries = queryCaptor.getAllValues();
 
-		assertThat(queries).hasSize(4);
+		assertThat(queries).hasSize(5);
 		assertThat(queries.get(0)).isEqualTo(
 				"UPDATE " + CQL_COUNTER_TABLE + " SET " + CQL_COUNTER_VALUE + " = " + CQL_COUNTER_VALUE + " + ? WHERE "
 						+ CQL_COUNTER_FQCN + " = ? AND " + CQL_COUNTER_PRIMARY_KEY + " = ? AND "
@@ -370,6 +497,9 @@ public class CQLPreparedStatementGeneratorTest {
 		assertThat(queries.get(3)).isEqualTo(
 				"DELETE FROM " + CQL_COUNTER_TABLE + " WHERE " + CQL_COUNTER_FQCN + " = ? AND "
 						+ CQL_COUNTER_PRIMARY_KEY + " = ? AND " + CQL_COUNTER_PROPERTY_NAME + " = ?");
+		assertThat(queries.get(4)).isEqualTo(
+				"SELECT " + CQL_COUNTER_PROPERTY_NAME + ", " + CQL_COUNTER_VALUE + " FROM " + CQL_COUNTER_TABLE
+						+ " WHERE " + CQL_COUNTER_FQCN + " = ? AND " + CQL_COUNTER_PRIMARY_KEY + " = ?");
 
 	}
 
@@ -39,4 +39,10 @@ public @interface Entity {
 	 * default table name is "UserEntity"
 	 */
 	String table() default "";
+
+	/**
+	 * (Optional) Whether eagerly loaded instances of this entity are kept in
+	 * the entity cache shared by all PersistenceManagers. Defaults to false
+	 */
+	boolean cacheable() default false;
 }
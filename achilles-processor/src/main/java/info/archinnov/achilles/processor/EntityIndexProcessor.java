@@ -0,0 +1,125 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.processor;
+
+import info.archinnov.achilles.annotations.Entity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing the binary names of all the classes annotated
+ * with @Entity to META-INF/achilles/entities, one per line.
+ * 
+ * When this index is found on the classpath, the PersistenceManagerFactory
+ * loads the entity classes directly instead of scanning the entity packages.
+ * Add achilles-processor as a <em>provided</em> dependency of the module
+ * declaring the entities to enable it.
+ * 
+ * An incremental compilation only processes the recompiled classes, so the
+ * entries of the previous index whose class is still an @Entity are kept
+ */
+@SupportedAnnotationTypes("info.archinnov.achilles.annotations.Entity")
+public class EntityIndexProcessor extends AbstractProcessor {
+	public static final String ENTITY_INDEX = "META-INF/achilles/entities";
+
+	private final Set<String> entityClassNames = new TreeSet<String>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeIndex();
+		} else {
+			for (Element element : roundEnv.getElementsAnnotatedWith(Entity.class)) {
+				if (element.getKind() == ElementKind.CLASS) {
+					TypeElement entityElement = (TypeElement) element;
+					entityClassNames.add(processingEnv.getElementUtils().getBinaryName(entityElement).toString());
+				}
+			}
+		}
+		return false;
+	}
+
+	private void writeIndex() {
+		if (entityClassNames.isEmpty()) {
+			return;
+		}
+		entityClassNames.addAll(readPreviousIndex());
+		try {
+			FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					ENTITY_INDEX);
+			Writer writer = index.openWriter();
+			try {
+				for (String entityClassName : entityClassNames) {
+					writer.write(entityClassName);
+					writer.write("\n");
+				}
+			} finally {
+				writer.close();
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Cannot write Achilles entity index " + ENTITY_INDEX + " : " + e.getMessage());
+		}
+	}
+
+	private Set<String> readPreviousIndex() {
+		Set<String> previousEntries = new TreeSet<String>();
+		try {
+			FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", ENTITY_INDEX);
+			BufferedReader reader = new BufferedReader(index.openReader(true));
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					String entityClassName = line.trim();
+					if (entityClassName.length() > 0 && isStillEntity(entityClassName)) {
+						previousEntries.add(entityClassName);
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (IOException e) {
+			// no previous index, this is a full compilation
+		}
+		return previousEntries;
+	}
+
+	private boolean isStillEntity(String entityClassName) {
+		TypeElement element = processingEnv.getElementUtils().getTypeElement(entityClassName.replace('$', '.'));
+		return element != null && element.getAnnotation(Entity.class) != null;
+	}
+}
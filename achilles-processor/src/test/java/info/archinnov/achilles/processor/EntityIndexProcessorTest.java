@@ -0,0 +1,129 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.processor;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EntityIndexProcessorTest {
+
+	private File outputDir;
+
+	@Before
+	public void setUp() {
+		outputDir = new File(System.getProperty("java.io.tmpdir"), "achilles-processor-" + System.nanoTime());
+		outputDir.mkdirs();
+	}
+
+	@After
+	public void tearDown() {
+		FileUtils.deleteQuietly(outputDir);
+	}
+
+	@Test
+	public void should_write_index_of_entity_classes() throws Exception {
+		boolean success = compile(
+				source("com.example.User", "package com.example;\n"
+						+ "@info.archinnov.achilles.annotations.Entity\n"
+						+ "public class User {\n"
+						+ "  @info.archinnov.achilles.annotations.Entity\n"
+						+ "  public static class Address {}\n"
+						+ "}"),
+				source("com.example.Helper", "package com.example;\n public class Helper {}"));
+
+		assertThat(success).isTrue();
+		List<String> lines = FileUtils.readLines(new File(outputDir, EntityIndexProcessor.ENTITY_INDEX), "UTF-8");
+		assertThat(lines).containsExactly("com.example.User", "com.example.User$Address");
+	}
+
+	@Test
+	public void should_not_write_index_without_entity() throws Exception {
+		boolean success = compile(source("com.example.Helper", "package com.example;\n public class Helper {}"));
+
+		assertThat(success).isTrue();
+		assertThat(new File(outputDir, EntityIndexProcessor.ENTITY_INDEX).exists()).isFalse();
+	}
+
+	@Test
+	public void should_keep_entities_of_previous_index_on_incremental_compilation() throws Exception {
+		compile(source("com.example.User", "package com.example;\n"
+				+ "@info.archinnov.achilles.annotations.Entity\n"
+				+ "public class User {}"),
+				source("com.example.Tweet", "package com.example;\n"
+						+ "@info.archinnov.achilles.annotations.Entity\n"
+						+ "public class Tweet {}"));
+
+		boolean success = compile(source("com.example.Order", "package com.example;\n"
+				+ "@info.archinnov.achilles.annotations.Entity\n"
+				+ "public class Order {}"));
+
+		assertThat(success).isTrue();
+		List<String> lines = FileUtils.readLines(new File(outputDir, EntityIndexProcessor.ENTITY_INDEX), "UTF-8");
+		assertThat(lines).containsExactly("com.example.Order", "com.example.Tweet", "com.example.User");
+	}
+
+	@Test
+	public void should_drop_previous_entries_no_longer_entities() throws Exception {
+		compile(source("com.example.User", "package com.example;\n"
+				+ "@info.archinnov.achilles.annotations.Entity\n"
+				+ "public class User {}"));
+		FileUtils.writeLines(new File(outputDir, EntityIndexProcessor.ENTITY_INDEX), "UTF-8",
+				Arrays.asList("com.example.User", "com.example.Deleted"));
+
+		boolean success = compile(source("com.example.User", "package com.example;\n public class User {}"),
+				source("com.example.Order", "package com.example;\n"
+						+ "@info.archinnov.achilles.annotations.Entity\n"
+						+ "public class Order {}"));
+
+		assertThat(success).isTrue();
+		List<String> lines = FileUtils.readLines(new File(outputDir, EntityIndexProcessor.ENTITY_INDEX), "UTF-8");
+		assertThat(lines).containsExactly("com.example.Order");
+	}
+
+	private boolean compile(JavaFileObject... sources) {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		String classpath = System.getProperty("java.class.path") + File.pathSeparator + outputDir.getAbsolutePath();
+		List<String> options = Arrays.asList("-d", outputDir.getAbsolutePath(), "-classpath", classpath);
+		JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, Arrays.asList(sources));
+		task.setProcessors(Arrays.asList(new EntityIndexProcessor()));
+		return task.call();
+	}
+
+	private JavaFileObject source(String className, final String code) {
+		return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+				JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return code;
+			}
+		};
+	}
+}
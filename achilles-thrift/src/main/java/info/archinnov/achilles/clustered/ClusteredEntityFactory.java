@@ -51,7 +51,7 @@ public class ClusteredEntityFactory {
 			function = transformer.clusteredEntityTransformer(entityClass, context);
 		}
 
-		return Lists.transform(hColumns, function);
+		return Lists.newArrayList(Lists.transform(hColumns, function));
 	}
 
 	public <T> List<T> buildCounterClusteredEntities(Class<T> entityClass, ThriftPersistenceContext context,
@@ -59,6 +59,6 @@ public class ClusteredEntityFactory {
 		Function<HCounterColumn<Composite>, T> function = transformer.counterClusteredEntityTransformer(entityClass,
 				context);
 
-		return Lists.transform(hColumns, function);
+		return Lists.newArrayList(Lists.transform(hColumns, function));
 	}
 }
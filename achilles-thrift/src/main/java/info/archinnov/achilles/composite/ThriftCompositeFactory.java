@@ -21,11 +21,12 @@ import info.archinnov.achilles.compound.CompoundKeyValidator;
 import info.archinnov.achilles.compound.ThriftCompoundKeyMapper;
 import info.archinnov.achilles.compound.ThriftCompoundKeyValidator;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.type.BoundingMode;
 import info.archinnov.achilles.type.OrderingMode;
 
-import java.text.DecimalFormat;
+import java.util.Collection;
 import java.util.List;
 
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
@@ -42,6 +43,19 @@ public class ThriftCompositeFactory {
 	private ThriftCompoundKeyMapper compoundKeyMapper = new ThriftCompoundKeyMapper();
 	private CompoundKeyValidator compoundKeyValidator = new ThriftCompoundKeyValidator();
 
+	/**
+	 * Serialize the column names of all properties of the given entities once,
+	 * at bootstrap. Each template is kept on its PropertyMeta so that it lives
+	 * as long as the metadata of the PersistenceManagerFactory
+	 */
+	public static void buildTemplates(Collection<EntityMeta> entityMetas) {
+		for (EntityMeta entityMeta : entityMetas) {
+			for (PropertyMeta propertyMeta : entityMeta.getPropertyMetas().values()) {
+				propertyMeta.setColumnNameTemplate(new ThriftCompositeTemplate(propertyMeta));
+			}
+		}
+	}
+
 	public <T> Composite createCompositeForClusteringComponents(ThriftPersistenceContext context) {
 
 		PropertyMeta idMeta = context.getIdMeta();
@@ -79,12 +93,7 @@ public class ThriftCompositeFactory {
 
 	public Composite createBaseForGet(PropertyMeta propertyMeta) {
 		log.trace("Creating base composite for propertyMeta {} get", propertyMeta.getPropertyName());
-
-		Composite composite = new Composite();
-		composite.addComponent(0, propertyMeta.type().flag(), ComponentEquality.EQUAL);
-		composite.addComponent(1, propertyMeta.getPropertyName(), ComponentEquality.EQUAL);
-		composite.addComponent(2, "0", ComponentEquality.EQUAL);
-		return composite;
+		return template(propertyMeta).singleValue();
 	}
 
 	public Composite createBaseForClusteredGet(Object compoundKey, PropertyMeta idMeta) {
@@ -93,67 +102,59 @@ public class ThriftCompositeFactory {
 
 	public Composite createBaseForCounterGet(PropertyMeta propertyMeta) {
 		log.trace("Creating base composite for propertyMeta {} get", propertyMeta.getPropertyName());
-
-		Composite composite = new Composite();
-		composite.addComponent(0, propertyMeta.getPropertyName(), ComponentEquality.EQUAL);
-		return composite;
+		return template(propertyMeta).counter();
 	}
 
 	public Composite createBaseForQuery(PropertyMeta propertyMeta, ComponentEquality equality) {
 		log.trace("Creating base composite for propertyMeta {} query and equality {}", propertyMeta.getPropertyName(),
 				equality.name());
 
-		Composite composite = new Composite();
-		composite.addComponent(0, propertyMeta.type().flag(), ComponentEquality.EQUAL);
-		composite.addComponent(1, propertyMeta.getPropertyName(), equality);
+		Composite composite = template(propertyMeta).query(equality);
+		if (composite == null) {
+			composite = new Composite();
+			composite.addComponent(0, propertyMeta.type().flag(), ComponentEquality.EQUAL);
+			composite.addComponent(1, propertyMeta.getPropertyName(), equality);
+		}
 		return composite;
 	}
 
 	public Composite createForBatchInsertSingleValue(PropertyMeta propertyMeta) {
 		log.trace("Creating base composite for propertyMeta {} for single value batch insert",
 				propertyMeta.getPropertyName());
-
-		Composite composite = new Composite();
-		composite.setComponent(0, propertyMeta.type().flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName());
-		composite.setComponent(1, propertyMeta.getPropertyName(), STRING_SRZ, STRING_SRZ.getComparatorType()
-				.getTypeName());
-		composite.setComponent(2, "0", STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
-		return composite;
+		return template(propertyMeta).singleValue();
 	}
 
 	public Composite createForBatchInsertSingleCounter(PropertyMeta propertyMeta) {
 		log.trace("Creating base composite for propertyMeta {} for single counter value batch insert",
 				propertyMeta.getPropertyName());
-
-		Composite composite = new Composite();
-		composite.setComponent(0, propertyMeta.getPropertyName(), STRING_SRZ, STRING_SRZ.getComparatorType()
-				.getTypeName());
-		return composite;
+		return template(propertyMeta).counter();
 	}
 
 	public Composite createForBatchInsertList(PropertyMeta propertyMeta, int position) {
 		log.trace("Creating base composite for propertyMeta {} for list value batch insert with position {}",
 				propertyMeta.getPropertyName(), position);
-
-		Composite composite = new Composite();
-		composite.setComponent(0, propertyMeta.type().flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName());
-		composite.setComponent(1, propertyMeta.getPropertyName(), STRING_SRZ, STRING_SRZ.getComparatorType()
-				.getTypeName());
-		String positionString = new DecimalFormat(numberFormat).format(position);
-		composite.setComponent(2, positionString, STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
-		return composite;
+		return template(propertyMeta).withLastComponent(formatPosition(position));
 	}
 
 	public Composite createForBatchInsertSetOrMap(PropertyMeta propertyMeta, String valueOrKey) {
 		log.trace("Creating base composite for propertyMeta {} for set/map value batch insert {}",
 				propertyMeta.getPropertyName(), valueOrKey);
+		return template(propertyMeta).withLastComponent(valueOrKey);
+	}
 
-		Composite composite = new Composite();
-		composite.setComponent(0, propertyMeta.type().flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName());
-		composite.setComponent(1, propertyMeta.getPropertyName(), STRING_SRZ, STRING_SRZ.getComparatorType()
-				.getTypeName());
-		composite.setComponent(2, valueOrKey, STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
-		return composite;
+	private ThriftCompositeTemplate template(PropertyMeta propertyMeta) {
+		ThriftCompositeTemplate template = (ThriftCompositeTemplate) propertyMeta.getColumnNameTemplate();
+		if (template == null) {
+			// PropertyMeta not bootstrapped by a ThriftPersistenceManagerFactory
+			template = new ThriftCompositeTemplate(propertyMeta);
+			propertyMeta.setColumnNameTemplate(template);
+		}
+		return template;
+	}
+
+	private String formatPosition(int position) {
+		String digits = Integer.toString(position);
+		return digits.length() < numberFormat.length() ? numberFormat.substring(digits.length()) + digits : digits;
 	}
 
 }
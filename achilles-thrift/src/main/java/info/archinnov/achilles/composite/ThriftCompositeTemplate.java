@@ -0,0 +1,96 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.composite;
+
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SRZ;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.nio.ByteBuffer;
+
+import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
+import me.prettyprint.hector.api.beans.Composite;
+
+/**
+ * Serialized column names of a property, computed once. The fixed names are
+ * copied as is and the names ending with a list position or a set/map key
+ * are built by appending only the last component to the serialized prefix
+ */
+class ThriftCompositeTemplate {
+	private static final byte END_OF_COMPONENT = ComponentEquality.EQUAL.toByte();
+
+	private final ByteBuffer prefix;
+	private final ByteBuffer singleValue;
+	private final ByteBuffer queryStart;
+	private final ByteBuffer queryEnd;
+	private final ByteBuffer counter;
+
+	ThriftCompositeTemplate(PropertyMeta propertyMeta) {
+		byte[] flag = propertyMeta.type().flag();
+		String propertyName = propertyMeta.getPropertyName();
+
+		Composite composite = new Composite();
+		composite.addComponent(0, flag, ComponentEquality.EQUAL);
+		composite.addComponent(1, propertyName, ComponentEquality.EQUAL);
+		prefix = composite.serialize();
+		queryStart = prefix;
+
+		composite = new Composite();
+		composite.addComponent(0, flag, ComponentEquality.EQUAL);
+		composite.addComponent(1, propertyName, ComponentEquality.EQUAL);
+		composite.addComponent(2, "0", ComponentEquality.EQUAL);
+		singleValue = composite.serialize();
+
+		composite = new Composite();
+		composite.addComponent(0, flag, ComponentEquality.EQUAL);
+		composite.addComponent(1, propertyName, ComponentEquality.GREATER_THAN_EQUAL);
+		queryEnd = composite.serialize();
+
+		composite = new Composite();
+		composite.addComponent(0, propertyName, ComponentEquality.EQUAL);
+		counter = composite.serialize();
+	}
+
+	Composite singleValue() {
+		return Composite.fromByteBuffer(singleValue.duplicate());
+	}
+
+	Composite query(ComponentEquality equality) {
+		switch (equality) {
+		case EQUAL:
+			return Composite.fromByteBuffer(queryStart.duplicate());
+		case GREATER_THAN_EQUAL:
+			return Composite.fromByteBuffer(queryEnd.duplicate());
+		default:
+			return null;
+		}
+	}
+
+	Composite counter() {
+		return Composite.fromByteBuffer(counter.duplicate());
+	}
+
+	Composite withLastComponent(String lastComponent) {
+		ByteBuffer encoded = STRING_SRZ.toByteBuffer(lastComponent);
+		ByteBuffer bytes = ByteBuffer.allocate(prefix.remaining() + 2 + encoded.remaining() + 1);
+		bytes.put(prefix.duplicate());
+		bytes.putShort((short) encoded.remaining());
+		bytes.put(encoded);
+		bytes.put(END_OF_COMPONENT);
+		bytes.flip();
+		return Composite.fromByteBuffer(bytes);
+	}
+}
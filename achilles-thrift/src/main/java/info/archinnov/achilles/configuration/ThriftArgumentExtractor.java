@@ -23,11 +23,17 @@ import info.archinnov.achilles.validation.Validator;
 import java.util.Map;
 
 import me.prettyprint.cassandra.service.CassandraHostConfigurator;
+import me.prettyprint.cassandra.service.FailoverPolicy;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.factory.HFactory;
 
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ThriftArgumentExtractor extends ArgumentExtractor {
+	private static final Logger log = LoggerFactory.getLogger(ThriftArgumentExtractor.class);
 
 	public Cluster initCluster(Map<String, Object> configurationMap) {
 
@@ -61,6 +67,19 @@ public class ThriftArgumentExtractor extends ArgumentExtractor {
 			keyspace = HFactory.createKeyspace(keyspaceName, cluster);
 		}
 		keyspace.setConsistencyLevelPolicy(consistencyPolicy);
+
+		String keyspaceName = keyspace.getKeyspaceName();
+		if (StringUtils.isNotBlank(keyspaceName)) {
+			consistencyPolicy.bindKeyspaces(cluster, keyspaceName, initFailoverPolicy(configurationMap),
+					cluster.getCredentials());
+		} else {
+			log.warn("The provided keyspace has no name, no keyspace is bound per consistency level");
+		}
 		return keyspace;
 	}
+
+	public FailoverPolicy initFailoverPolicy(Map<String, Object> configurationMap) {
+		FailoverPolicy failoverPolicy = (FailoverPolicy) configurationMap.get(FAILOVER_POLICY_PARAM);
+		return failoverPolicy != null ? failoverPolicy : FailoverPolicy.ON_FAIL_TRY_ALL_AVAILABLE;
+	}
 }
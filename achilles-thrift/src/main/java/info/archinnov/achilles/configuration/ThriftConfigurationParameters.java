@@ -25,4 +25,6 @@ public interface ThriftConfigurationParameters extends ConfigurationParameters {
 	String CLUSTER_PARAM = "achilles.cassandra.cluster";
 	String KEYSPACE_PARAM = "achilles.cassandra.keyspace";
 
+	String FAILOVER_POLICY_PARAM = "achilles.cassandra.failover.policy";
+
 }
@@ -18,13 +18,14 @@ package info.archinnov.achilles.consistency;
 
 import info.archinnov.achilles.type.ConsistencyLevel;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 import me.prettyprint.hector.api.HConsistencyLevel;
 
 public class ThriftConsistencyConvertor {
-	private final static Map<ConsistencyLevel, HConsistencyLevel> fromAchillesToHector = new HashMap<ConsistencyLevel, HConsistencyLevel>();
+	private final static Map<ConsistencyLevel, HConsistencyLevel> fromAchillesToHector = new EnumMap<ConsistencyLevel, HConsistencyLevel>(
+			ConsistencyLevel.class);
 
 	static {
 		fromAchillesToHector.put(ConsistencyLevel.ANY, HConsistencyLevel.ANY);
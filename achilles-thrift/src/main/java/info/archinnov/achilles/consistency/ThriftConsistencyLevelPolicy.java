@@ -19,23 +19,44 @@ package info.archinnov.achilles.consistency;
 import static info.archinnov.achilles.consistency.ThriftConsistencyConvertor.getHectorLevel;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import me.prettyprint.cassandra.model.ConfigurableConsistencyLevel;
+import me.prettyprint.cassandra.service.FailoverPolicy;
 import me.prettyprint.cassandra.service.OperationType;
+import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.ConsistencyLevelPolicy;
 import me.prettyprint.hector.api.HConsistencyLevel;
+import me.prettyprint.hector.api.Keyspace;
+import me.prettyprint.hector.api.factory.HFactory;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Resolves the Hector consistency level of each operation from the runtime
+ * level of the current persistence operation, then the level of the column
+ * family, then the global default.
+ * 
+ * Once keyspaces are bound, each Hector level maps to a keyspace with a fixed
+ * policy. Queries and mutators created on that keyspace carry their level
+ * with them, whatever the thread executing them
+ */
 public class ThriftConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy implements ConsistencyLevelPolicy {
 	private static final Logger log = LoggerFactory.getLogger(ThriftConsistencyLevelPolicy.class);
 
-	static final ThreadLocal<HConsistencyLevel> defaultReadConsistencyLevelTL = new ThreadLocal<HConsistencyLevel>();
-	static final ThreadLocal<HConsistencyLevel> defaultWriteConsistencyLevelTL = new ThreadLocal<HConsistencyLevel>();
 	static final ThreadLocal<ConsistencyLevel> currentReadConsistencyLevel = new ThreadLocal<ConsistencyLevel>();
 	static final ThreadLocal<ConsistencyLevel> currentWriteConsistencyLevel = new ThreadLocal<ConsistencyLevel>();
 
+	private final ConcurrentMap<String, HConsistencyLevel> readLevels = new ConcurrentHashMap<String, HConsistencyLevel>();
+	private final ConcurrentMap<String, HConsistencyLevel> writeLevels = new ConcurrentHashMap<String, HConsistencyLevel>();
+	private volatile Map<HConsistencyLevel, Keyspace> keyspaces = new EnumMap<HConsistencyLevel, Keyspace>(
+			HConsistencyLevel.class);
+
 	public ThriftConsistencyLevelPolicy(ConsistencyLevel defaultReadLevel, ConsistencyLevel defaultWriteLevel,
 			Map<String, ConsistencyLevel> readConsistencyMap, Map<String, ConsistencyLevel> writeConsistencyMap) {
 		super(defaultReadLevel, defaultWriteLevel, readConsistencyMap, writeConsistencyMap);
@@ -44,29 +65,53 @@ public class ThriftConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy
 				"Initializing Achilles Configurable Consistency Level Policy with default read/write levels {}/{} and read/write level maps {}/{}",
 				defaultReadLevel, defaultWriteLevel, readConsistencyMap, writeConsistencyMap);
 
+		for (Entry<String, ConsistencyLevel> entry : readConsistencyMap.entrySet()) {
+			readLevels.put(entry.getKey(), getHectorLevel(entry.getValue()));
+		}
+		for (Entry<String, ConsistencyLevel> entry : writeConsistencyMap.entrySet()) {
+			writeLevels.put(entry.getKey(), getHectorLevel(entry.getValue()));
+		}
+	}
+
+	/**
+	 * Create one keyspace per Hector consistency level. They share the
+	 * connection pool of the cluster and use the given failover policy and
+	 * credentials
+	 */
+	public void bindKeyspaces(Cluster cluster, String keyspaceName, FailoverPolicy failoverPolicy,
+			Map<String, String> credentials) {
+		log.debug("Binding one keyspace per consistency level for keyspace {}", keyspaceName);
+		Map<HConsistencyLevel, Keyspace> levelKeyspaces = new EnumMap<HConsistencyLevel, Keyspace>(
+				HConsistencyLevel.class);
+		for (HConsistencyLevel level : HConsistencyLevel.values()) {
+			ConfigurableConsistencyLevel levelPolicy = new ConfigurableConsistencyLevel();
+			levelPolicy.setDefaultReadConsistencyLevel(level);
+			levelPolicy.setDefaultWriteConsistencyLevel(level);
+			if (credentials != null) {
+				levelKeyspaces.put(level,
+						HFactory.createKeyspace(keyspaceName, cluster, levelPolicy, failoverPolicy, credentials));
+			} else {
+				levelKeyspaces.put(level, HFactory.createKeyspace(keyspaceName, cluster, levelPolicy, failoverPolicy));
+			}
+		}
+		keyspaces = levelKeyspaces;
 	}
 
 	@Override
 	public HConsistencyLevel get(OperationType op) {
 		HConsistencyLevel result;
-		HConsistencyLevel defaultRead = ThriftConsistencyConvertor.getHectorLevel(defaultGlobalReadConsistencyLevel);
-		HConsistencyLevel defaultWrite = ThriftConsistencyConvertor.getHectorLevel(defaultGlobalWriteConsistencyLevel);
-
 		switch (op) {
 		case READ:
-			result = defaultReadConsistencyLevelTL.get() != null ? defaultReadConsistencyLevelTL.get() : defaultRead;
-			log.trace("Set default read consistency level to {} in the thread {}", result.name(),
-					Thread.currentThread());
+			ConsistencyLevel currentRead = currentReadConsistencyLevel.get();
+			result = getHectorLevel(currentRead != null ? currentRead : defaultGlobalReadConsistencyLevel);
 			break;
 		case WRITE:
-			result = defaultWriteConsistencyLevelTL.get() != null ? defaultWriteConsistencyLevelTL.get() : defaultWrite;
-			log.trace("Set default write consistency level to {} in the thread {}", result.name(),
-					Thread.currentThread());
+			ConsistencyLevel currentWrite = currentWriteConsistencyLevel.get();
+			result = getHectorLevel(currentWrite != null ? currentWrite : defaultGlobalWriteConsistencyLevel);
 			break;
 		default:
 			result = HConsistencyLevel.ONE;
 		}
-
 		return result;
 	}
 
@@ -75,16 +120,10 @@ public class ThriftConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy
 		HConsistencyLevel result;
 		switch (op) {
 		case READ:
-			result = defaultReadConsistencyLevelTL.get() != null ? defaultReadConsistencyLevelTL.get()
-					: getHectorLevel(getConsistencyLevelForRead(columnFamily));
-			log.trace("Set default read consistency of column family {} level to {} in the thread {}", result.name(),
-					columnFamily, Thread.currentThread());
+			result = getReadLevel(columnFamily);
 			break;
 		case WRITE:
-			result = defaultWriteConsistencyLevelTL.get() != null ? defaultWriteConsistencyLevelTL.get()
-					: getHectorLevel(getConsistencyLevelForWrite(columnFamily));
-			log.trace("Set default write consistency of column family {} level to {} in the thread {}", result.name(),
-					columnFamily, Thread.currentThread());
+			result = getWriteLevel(columnFamily);
 			break;
 		default:
 			result = HConsistencyLevel.ONE;
@@ -92,38 +131,54 @@ public class ThriftConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy
 		return result;
 	}
 
-	public void loadConsistencyLevelForRead(String columnFamily) {
+	public HConsistencyLevel getReadLevel(String columnFamily) {
 		ConsistencyLevel currentLevel = currentReadConsistencyLevel.get();
 		if (currentLevel != null) {
-			defaultReadConsistencyLevelTL.set(getHectorLevel(currentLevel));
-			log.trace("Load default read consistency of column family {} level to {} in the thread {}",
-					currentLevel.name(), columnFamily, Thread.currentThread());
-		} else {
-			HConsistencyLevel level = this.get(OperationType.READ, columnFamily);
-			defaultReadConsistencyLevelTL.set(level);
-			log.trace("Load default read consistency of column family {} level to {} in the thread {}", level.name(),
-					columnFamily, Thread.currentThread());
+			return getHectorLevel(currentLevel);
 		}
+		HConsistencyLevel level = readLevels.get(columnFamily);
+		return level != null ? level : getHectorLevel(defaultGlobalReadConsistencyLevel);
 	}
 
-	public void loadConsistencyLevelForWrite(String columnFamily) {
+	public HConsistencyLevel getWriteLevel(String columnFamily) {
 		ConsistencyLevel currentLevel = currentWriteConsistencyLevel.get();
 		if (currentLevel != null) {
-			defaultWriteConsistencyLevelTL.set(getHectorLevel(currentLevel));
-			log.trace("Load default write consistency of column family {} level to {} in the thread {}",
-					currentLevel.name(), columnFamily, Thread.currentThread());
-		} else {
-			HConsistencyLevel level = this.get(OperationType.WRITE, columnFamily);
-			defaultWriteConsistencyLevelTL.set(level);
-			log.trace("Load default write consistency of column family {} level to {} in the thread {}", level.name(),
-					columnFamily, Thread.currentThread());
+			return getHectorLevel(currentLevel);
 		}
+		HConsistencyLevel level = writeLevels.get(columnFamily);
+		return level != null ? level : getHectorLevel(defaultGlobalWriteConsistencyLevel);
 	}
 
-	public void reinitDefaultConsistencyLevels() {
-		log.trace("Reinit defaut read/write consistency levels in the thread {}", Thread.currentThread());
-		defaultReadConsistencyLevelTL.remove();
-		defaultWriteConsistencyLevelTL.remove();
+	/**
+	 * Keyspace reading the column family at its resolved read level, null
+	 * when no keyspace has been bound
+	 */
+	public Keyspace getReadKeyspace(String columnFamily) {
+		return keyspaces.get(getReadLevel(columnFamily));
+	}
+
+	/**
+	 * Keyspace writing the column family at its resolved write level, null
+	 * when no keyspace has been bound
+	 */
+	public Keyspace getWriteKeyspace(String columnFamily) {
+		return keyspaces.get(getWriteLevel(columnFamily));
+	}
+
+	public Keyspace getKeyspace(ConsistencyLevel level) {
+		return keyspaces.get(getHectorLevel(level));
+	}
+
+	@Override
+	public void setConsistencyLevelForRead(ConsistencyLevel consistencyLevel, String columnFamily) {
+		super.setConsistencyLevelForRead(consistencyLevel, columnFamily);
+		readLevels.put(columnFamily, getHectorLevel(consistencyLevel));
+	}
+
+	@Override
+	public void setConsistencyLevelForWrite(ConsistencyLevel consistencyLevel, String columnFamily) {
+		super.setConsistencyLevelForWrite(consistencyLevel, columnFamily);
+		writeLevels.put(columnFamily, getHectorLevel(consistencyLevel));
 	}
 
 	public void reinitCurrentConsistencyLevels() {
@@ -83,7 +83,6 @@ public class ThriftConsistencyContext {
 
 	public void reinitConsistencyLevels() {
 		policy.reinitCurrentConsistencyLevels();
-		policy.reinitDefaultConsistencyLevels();
 	}
 
 	public ConsistencyLevel getConsistencyLevel() {
@@ -95,7 +94,6 @@ public class ThriftConsistencyContext {
 			return context.execute();
 		} finally {
 			policy.reinitCurrentConsistencyLevels();
-			policy.reinitDefaultConsistencyLevels();
 		}
 	}
 
@@ -16,6 +16,8 @@
  */
 package info.archinnov.achilles.context;
 
+import info.archinnov.achilles.counter.CounterAccumulator;
+import info.archinnov.achilles.counter.ThriftCounterKey;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
@@ -26,6 +28,7 @@ public class ThriftDaoContext {
 	private final Map<String, ThriftGenericEntityDao> entityDaosMap;
 	private final Map<String, ThriftGenericWideRowDao> wideRowDaosMap;
 	private final ThriftCounterDao thriftCounterDao;
+	private CounterAccumulator<ThriftCounterKey> counterAccumulator;
 
 	public ThriftDaoContext(Map<String, ThriftGenericEntityDao> entityDaosMap,
 			Map<String, ThriftGenericWideRowDao> wideRowDaosMap, ThriftCounterDao thriftCounterDao) {
@@ -38,6 +41,14 @@ public class ThriftDaoContext {
 		return thriftCounterDao;
 	}
 
+	public CounterAccumulator<ThriftCounterKey> getCounterAccumulator() {
+		return counterAccumulator;
+	}
+
+	public void setCounterAccumulator(CounterAccumulator<ThriftCounterKey> counterAccumulator) {
+		this.counterAccumulator = counterAccumulator;
+	}
+
 	public ThriftGenericEntityDao findEntityDao(String columnFamilyName) {
 		return entityDaosMap.get(columnFamilyName);
 	}
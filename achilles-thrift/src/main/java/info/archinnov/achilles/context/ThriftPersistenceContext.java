@@ -17,6 +17,8 @@
 package info.archinnov.achilles.context;
 
 import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.CounterAccumulator;
+import info.archinnov.achilles.counter.ThriftCounterKey;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
@@ -30,19 +32,40 @@ import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.proxy.EntityInterceptor;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.mutation.Mutator;
 
+import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ListenableFuture;
+
 public class ThriftPersistenceContext extends PersistenceContext {
 	private static final Logger log = LoggerFactory.getLogger(ThriftPersistenceContext.class);
 
-	private ThriftEntityPersister persister = new ThriftEntityPersister();
-	private ThriftEntityLoader loader = new ThriftEntityLoader();
-	private ThriftEntityMerger merger = new ThriftEntityMerger();
-	private ThriftEntityProxifier proxifier = new ThriftEntityProxifier();
-	private EntityRefresher<ThriftPersistenceContext> refresher;
+	/**
+	 * The collaborators are stateless, they are shared by all the contexts so
+	 * that a context only holds the state of its operation
+	 */
+	private static final ThriftEntityPersister PERSISTER = new ThriftEntityPersister();
+	private static final ThriftEntityLoader LOADER = new ThriftEntityLoader();
+	private static final ThriftEntityMerger MERGER = new ThriftEntityMerger();
+	private static final ThriftEntityProxifier PROXIFIER = new ThriftEntityProxifier();
+	private static final EntityRefresher<ThriftPersistenceContext> REFRESHER = new EntityRefresher<ThriftPersistenceContext>(
+			LOADER, PROXIFIER);
+
+	private ThriftEntityPersister persister = PERSISTER;
+	private ThriftEntityLoader loader = LOADER;
+	private ThriftEntityMerger merger = MERGER;
+	private ThriftEntityProxifier proxifier = PROXIFIER;
+	private EntityRefresher<ThriftPersistenceContext> refresher = REFRESHER;
 
 	private ThriftDaoContext daoContext;
 	private ThriftGenericEntityDao entityDao;
@@ -69,7 +92,6 @@ public class ThriftPersistenceContext extends PersistenceContext {
 	}
 
 	private void initCollaborators(ThriftDaoContext thriftDaoContext, ThriftAbstractFlushContext<?> flushContext) {
-		refresher = new EntityRefresher<ThriftPersistenceContext>(loader, proxifier);
 		this.daoContext = thriftDaoContext;
 		this.flushContext = flushContext;
 	}
@@ -142,6 +164,71 @@ public class ThriftPersistenceContext extends PersistenceContext {
 		return entity;
 	}
 
+	/**
+	 * Hector has no asynchronous API, the asynchronous operations run the
+	 * blocking ones on the bounded executor of the factory
+	 */
+	@Override
+	public ListenableFuture<Void> persistAsync() {
+		return configContext.getAsyncExecutor().submit(new Callable<Void>() {
+			@Override
+			public Void call() {
+				persist();
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public <T> ListenableFuture<T> mergeAsync(final T entity) {
+		return configContext.getAsyncExecutor().submit(new Callable<T>() {
+			@Override
+			public T call() {
+				return merge(entity);
+			}
+		});
+	}
+
+	@Override
+	public ListenableFuture<Void> removeAsync() {
+		return configContext.getAsyncExecutor().submit(new Callable<Void>() {
+			@Override
+			public Void call() {
+				remove();
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public <T> ListenableFuture<T> findAsync(final Class<T> entityClass) {
+		return configContext.getAsyncExecutor().submit(new Callable<T>() {
+			@Override
+			public T call() {
+				return find(entityClass);
+			}
+		});
+	}
+
+	public Map<Object, List<Pair<Composite, String>>> eagerFetchEntities(final List<?> primaryKeys) {
+		return flushContext.getConsistencyContext().executeWithReadConsistencyLevel(
+				new SafeExecutionContext<Map<Object, List<Pair<Composite, String>>>>() {
+					@Override
+					public Map<Object, List<Pair<Composite, String>>> execute() {
+						return entityDao.eagerFetchEntities(new ArrayList<Object>(primaryKeys));
+					}
+				});
+	}
+
+	public <T> T findFromColumns(Class<T> entityClass, List<Pair<Composite, String>> columns) {
+		T entity = loader.<T> loadFromColumns(this, entityClass, columns);
+
+		if (entity != null) {
+			entity = proxifier.buildProxy(entity, this);
+		}
+		return entity;
+	}
+
 	@Override
 	public <T> T getReference(Class<T> entityClass) {
 		setLoadEagerFields(false);
@@ -180,6 +267,36 @@ public class ThriftPersistenceContext extends PersistenceContext {
 		return entity;
 	}
 
+	@Override
+	public <T> List<T> initialize(final List<T> entities) {
+		log.debug("Force lazy fields initialization for {} entities", entities.size());
+		final List<EntityInterceptor<ThriftPersistenceContext, T>> interceptors = new ArrayList<EntityInterceptor<ThriftPersistenceContext, T>>();
+		for (T entity : entities) {
+			interceptors.add(proxifier.getInterceptor(entity));
+		}
+
+		flushContext.getConsistencyContext().executeWithReadConsistencyLevel(new SafeExecutionContext<Void>() {
+			@Override
+			public Void execute() {
+				initializer.initializeEntities(entities, entityMeta, interceptors, loader);
+				return null;
+			}
+		});
+
+		return entities;
+	}
+
+	public Map<Object, List<Pair<Composite, String>>> fetchColumnsRange(final List<?> rowKeys, final Composite start,
+			final Composite end) {
+		return flushContext.getConsistencyContext().executeWithReadConsistencyLevel(
+				new SafeExecutionContext<Map<Object, List<Pair<Composite, String>>>>() {
+					@Override
+					public Map<Object, List<Pair<Composite, String>>> execute() {
+						return entityDao.multiFindColumnsRange(new ArrayList<Object>(rowKeys), start, end);
+					}
+				});
+	}
+
 	public <T> T executeWithReadConsistencyLevel(SafeExecutionContext<T> context, ConsistencyLevel readLevel) {
 		return flushContext.getConsistencyContext().executeWithReadConsistencyLevel(context, readLevel);
 	}
@@ -204,6 +321,10 @@ public class ThriftPersistenceContext extends PersistenceContext {
 		return daoContext.getCounterDao();
 	}
 
+	public CounterAccumulator<ThriftCounterKey> getCounterAccumulator() {
+		return daoContext.getCounterAccumulator();
+	}
+
 	public Mutator<Object> getEntityMutator(String tableName) {
 		return flushContext.getEntityMutator(tableName);
 	}
@@ -0,0 +1,72 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.COMPOSITE_SRZ;
+import info.archinnov.achilles.counter.CounterAccumulator.Flusher;
+import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import me.prettyprint.cassandra.model.HCounterColumnImpl;
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+import org.apache.cassandra.utils.Pair;
+
+/**
+ * Write the coalesced counter deltas with one batch mutation per column
+ * family and write consistency level
+ */
+public class ThriftCounterFlusher implements Flusher<ThriftCounterKey> {
+
+	@Override
+	public List<Map<ThriftCounterKey, Long>> split(Map<ThriftCounterKey, Long> deltas) {
+		Map<Pair<ThriftAbstractDao, ConsistencyLevel>, Map<ThriftCounterKey, Long>> groups = new HashMap<Pair<ThriftAbstractDao, ConsistencyLevel>, Map<ThriftCounterKey, Long>>();
+		for (Entry<ThriftCounterKey, Long> entry : deltas.entrySet()) {
+			ThriftCounterKey counterKey = entry.getKey();
+			Pair<ThriftAbstractDao, ConsistencyLevel> batchKey = Pair.create(counterKey.getCounterDao(),
+					counterKey.getWriteLevel());
+
+			Map<ThriftCounterKey, Long> group = groups.get(batchKey);
+			if (group == null) {
+				group = new HashMap<ThriftCounterKey, Long>();
+				groups.put(batchKey, group);
+			}
+			group.put(counterKey, entry.getValue());
+		}
+		return new ArrayList<Map<ThriftCounterKey, Long>>(groups.values());
+	}
+
+	@Override
+	public void write(Map<ThriftCounterKey, Long> group) {
+		ThriftCounterKey first = group.keySet().iterator().next();
+		ThriftAbstractDao counterDao = first.getCounterDao();
+		Mutator<Object> mutator = counterDao.buildMutator(first.getWriteLevel());
+		for (Entry<ThriftCounterKey, Long> entry : group.entrySet()) {
+			ThriftCounterKey counterKey = entry.getKey();
+			mutator.addCounter(counterKey.getRowKey(), counterDao.getColumnFamily(), new HCounterColumnImpl<Composite>(
+					counterKey.getColumnName(), entry.getValue(), COMPOSITE_SRZ));
+		}
+		counterDao.executeMutator(mutator);
+	}
+}
@@ -0,0 +1,82 @@
+/**
+ *
+ * Copyright (C) 2012-2013 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.nio.ByteBuffer;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import com.google.common.base.Objects;
+
+/**
+ * Counter column coalesced by the counter accumulator. Composites are
+ * compared on their serialized form
+ */
+public class ThriftCounterKey {
+	private final ThriftAbstractDao counterDao;
+	private final Object rowKey;
+	private final Composite columnName;
+	private final ConsistencyLevel writeLevel;
+
+	private final Object comparableRowKey;
+	private final ByteBuffer comparableColumnName;
+
+	public ThriftCounterKey(ThriftAbstractDao counterDao, Object rowKey, Composite columnName,
+			ConsistencyLevel writeLevel) {
+		this.counterDao = counterDao;
+		this.rowKey = rowKey;
+		this.columnName = columnName;
+		this.writeLevel = writeLevel;
+		this.comparableRowKey = rowKey instanceof Composite ? ((Composite) rowKey).serialize() : rowKey;
+		this.comparableColumnName = columnName.serialize();
+	}
+
+	public ThriftAbstractDao getCounterDao() {
+		return counterDao;
+	}
+
+	public Object getRowKey() {
+		return rowKey;
+	}
+
+	public Composite getColumnName() {
+		return columnName;
+	}
+
+	public ConsistencyLevel getWriteLevel() {
+		return writeLevel;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(System.identityHashCode(counterDao), comparableRowKey, comparableColumnName,
+				writeLevel);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof ThriftCounterKey)) {
+			return false;
+		}
+		ThriftCounterKey other = (ThriftCounterKey) obj;
+		return counterDao == other.counterDao && Objects.equal(comparableRowKey, other.comparableRowKey)
+				&& Objects.equal(comparableColumnName, other.comparableColumnName) && writeLevel == other.writeLevel;
+	}
+}
@@ -19,15 +19,20 @@ package info.archinnov.achilles.dao;
 import static info.archinnov.achilles.logger.ThriftLoggerHelper.*;
 import static me.prettyprint.hector.api.factory.HFactory.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.counter.AchillesCounter;
 import info.archinnov.achilles.iterator.ThriftCounterSliceIterator;
 import info.archinnov.achilles.iterator.ThriftSliceIterator;
 import info.archinnov.achilles.serializer.ThriftSerializerTypeInferer;
 import info.archinnov.achilles.serializer.ThriftSerializerUtils;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import me.prettyprint.cassandra.model.HCounterColumnImpl;
 import me.prettyprint.cassandra.model.thrift.ThriftCounterColumnQuery;
@@ -35,6 +40,8 @@ import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.Serializer;
 import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.CounterRow;
+import me.prettyprint.hector.api.beans.CounterRows;
 import me.prettyprint.hector.api.beans.HColumn;
 import me.prettyprint.hector.api.beans.HCounterColumn;
 import me.prettyprint.hector.api.beans.Rows;
@@ -61,7 +68,7 @@ public abstract class ThriftAbstractDao {
 	protected Cluster cluster;
 	protected Serializer<Composite> columnNameSerializer;
 	protected String columnFamily;
-	protected AchillesConsistencyLevelPolicy policy;
+	protected ThriftConsistencyLevelPolicy policy;
 	protected Pair<?, ?> rowkeyAndValueClasses;
 
 	public static int DEFAULT_LENGTH = 100;
@@ -77,17 +84,28 @@ public abstract class ThriftAbstractDao {
 		this.cluster = cluster;
 		this.keyspace = keyspace;
 		this.columnFamily = cf;
-		this.policy = policy;
+		this.policy = (ThriftConsistencyLevelPolicy) policy;
 		this.rowkeyAndValueClasses = rowkeyAndValueClasses;
 	}
 
-	private <T> T reinitConsistencyLevels(SafeExecutionContext<T> context) {
-		log.trace("Execute safely and reinit consistency level in thread {}", Thread.currentThread());
-		try {
-			return context.execute();
-		} finally {
-			this.policy.reinitDefaultConsistencyLevels();
-		}
+	/**
+	 * Keyspace bound to the read consistency level resolved for the column
+	 * family at the time of the call
+	 */
+	protected Keyspace readKeyspace() {
+		return orMainKeyspace(policy != null ? policy.getReadKeyspace(columnFamily) : null);
+	}
+
+	/**
+	 * Keyspace bound to the write consistency level resolved for the column
+	 * family at the time of the call
+	 */
+	protected Keyspace writeKeyspace() {
+		return orMainKeyspace(policy != null ? policy.getWriteKeyspace(columnFamily) : null);
+	}
+
+	private Keyspace orMainKeyspace(Keyspace levelKeyspace) {
+		return levelKeyspace != null ? levelKeyspace : keyspace;
 	}
 
 	protected <V> Function<HColumn<Composite, V>, V> getHColumnToValueFn() {
@@ -148,22 +166,14 @@ public abstract class ThriftAbstractDao {
 					format(name));
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<HColumn<Composite, V>>() {
-			@Override
-			public HColumn<Composite, V> execute() {
-				return HFactory
-						.createColumnQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer,
-								ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
-						.setName(name).execute().get();
-			}
-		});
+		return HFactory.createColumnQuery(readKeyspace(), this.<K> rowSrz(), columnNameSerializer, this.<V> valSrz())
+				.setColumnFamily(columnFamily).setKey(key).setName(name).execute().get();
 	}
 
 	public <K, V> void setValue(K key, Composite name, V value) {
 		log.trace("Set value {} to column family {} with key {} , column name {}", value, columnFamily, key, name);
 
-		Mutator<K> mutator = HFactory.createMutator(keyspace, this.<K> rowSrz());
+		Mutator<K> mutator = this.<K> buildMutator();
 		this.setValueBatch(key, name, value, Optional.<Integer> absent(), Optional.<Long> absent(), mutator);
 		this.executeMutator(mutator);
 	}
@@ -212,8 +222,8 @@ public abstract class ThriftAbstractDao {
 					"Remove {} columns slice within range having inclusive start/end {}/{} column names as batch mutation from column family {} with key {} and reserver {}",
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
-		List<HColumn<Composite, V>> columns = createSliceQuery(keyspace, this.<K> rowSrz(), columnNameSerializer,
-				this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key).setRange(start, end, reverse, count)
+		List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(), this.<K> rowSrz(),
+				columnNameSerializer, this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key).setRange(start, end, reverse, count)
 				.execute().get().getColumns();
 
 		for (HColumn<Composite, V> column : columns) {
@@ -228,15 +238,9 @@ public abstract class ThriftAbstractDao {
 					"Find {} values slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {}",
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		List<HColumn<Composite, V>> columns = reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>() {
-			@Override
-			public List<HColumn<Composite, V>> execute() {
-				return createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer,
-						ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
-						.setRange(start, end, reverse, count).execute().get().getColumns();
-			}
-		});
+		List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(), this.<K> rowSrz(),
+				columnNameSerializer, this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
+				.setRange(start, end, reverse, count).execute().get().getColumns();
 		return Lists.transform(columns, this.<V> getHColumnToValueFn());
 	}
 
@@ -247,15 +251,9 @@ public abstract class ThriftAbstractDao {
 					"Find {} columns slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {}",
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		List<HColumn<Composite, V>> columns = reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>() {
-			@Override
-			public List<HColumn<Composite, V>> execute() {
-				return createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer,
-						ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
-						.setRange(start, end, reverse, count).execute().get().getColumns();
-			}
-		});
+		List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(), this.<K> rowSrz(),
+				columnNameSerializer, this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key)
+				.setRange(start, end, reverse, count).execute().get().getColumns();
 		return Lists.transform(columns, this.<V> getHColumnToPairFn());
 	}
 
@@ -267,17 +265,9 @@ public abstract class ThriftAbstractDao {
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>() {
-			@Override
-			public List<HColumn<Composite, V>> execute() {
-				List<HColumn<Composite, V>> columns = createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-						columnNameSerializer, ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily)
-						.setKey(key).setRange(start, end, reverse, count).execute().get().getColumns();
-
-				return columns;
-			}
-		});
+		return createSliceQuery(readKeyspace(), this.<K> rowSrz(), columnNameSerializer, this.<V> valSrz())
+				.setColumnFamily(columnFamily).setKey(key).setRange(start, end, reverse, count).execute().get()
+				.getColumns();
 	}
 
 	public <K, V> List<HCounterColumn<Composite>> findCounterColumnsRange(final K key, final Composite start,
@@ -288,16 +278,9 @@ public abstract class ThriftAbstractDao {
 					count, format(start), format(end), columnFamily, key, reverse);
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<List<HCounterColumn<Composite>>>() {
-			@Override
-			public List<HCounterColumn<Composite>> execute() {
-				return HFactory
-						.createCounterSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer)
-						.setColumnFamily(columnFamily).setKey(key).setRange(start, end, reverse, count).execute().get()
-						.getColumns();
-			}
-		});
+		return HFactory.createCounterSliceQuery(readKeyspace(), this.<K> rowSrz(), columnNameSerializer)
+				.setColumnFamily(columnFamily).setKey(key).setRange(start, end, reverse, count).execute().get()
+				.getColumns();
 	}
 
 	public <K, V> ThriftSliceIterator<K, V> getColumnsIterator(K key, Composite start, Composite end, boolean reverse,
@@ -308,8 +291,8 @@ public abstract class ThriftAbstractDao {
 					format(start), format(end), columnFamily, key, reverse, length);
 		}
 
-		SliceQuery<K, Composite, V> query = createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-				columnNameSerializer, ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key);
+		SliceQuery<K, Composite, V> query = createSliceQuery(readKeyspace(), this.<K> rowSrz(), columnNameSerializer,
+				this.<V> valSrz()).setColumnFamily(columnFamily).setKey(key);
 
 		return new ThriftSliceIterator<K, V>(policy, columnFamily, query, start, end, reverse, length);
 	}
@@ -322,8 +305,7 @@ public abstract class ThriftAbstractDao {
 					format(start), format(end), columnFamily, key, reverse, length);
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		SliceCounterQuery<K, Composite> query = createCounterSliceQuery(keyspace, this.<K> rowSrz(),
+		SliceCounterQuery<K, Composite> query = createCounterSliceQuery(readKeyspace(), this.<K> rowSrz(),
 				columnNameSerializer).setColumnFamily(columnFamily).setKey(key);
 
 		return new ThriftCounterSliceIterator<K>(policy, columnFamily, query, start, end, reverse, length);
@@ -337,16 +319,9 @@ public abstract class ThriftAbstractDao {
 					format(start), format(end), columnFamily, StringUtils.join(keys, ","), reverse, size);
 		}
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<Rows<K, Composite, V>>() {
-			@Override
-			public Rows<K, Composite, V> execute() {
-				return HFactory
-						.createMultigetSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(), columnNameSerializer,
-								ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(columnFamily).setKeys(keys)
-						.setRange(start, end, reverse, size).execute().get();
-			}
-		});
+		return HFactory
+				.createMultigetSliceQuery(readKeyspace(), this.<K> rowSrz(), columnNameSerializer, this.<V> valSrz())
+				.setColumnFamily(columnFamily).setKeys(keys).setRange(start, end, reverse, size).execute().get();
 	}
 
 	public <K> void removeRowBatch(K key, Mutator<K> mutator) {
@@ -391,21 +366,45 @@ public abstract class ThriftAbstractDao {
 		return counterValue;
 	}
 
+	/**
+	 * Read the same counter column of several rows with one multi-get. Values
+	 * are aligned with keys, null for missing counters
+	 */
+	public <K> List<Long> getCounterValues(List<K> keys, Composite name) {
+		if (log.isTraceEnabled()) {
+			log.trace("Get counter values column {} with keys {} from column family {}", format(name),
+					StringUtils.join(keys, ","), columnFamily);
+		}
+
+		Serializer<K> keySrz = this.<K> rowSrz();
+		CounterRows<K, Composite> rows = HFactory
+				.createMultigetSliceCounterQuery(readKeyspace(), keySrz, columnNameSerializer)
+				.setColumnFamily(columnFamily).setKeys(keys).setColumnNames(name).execute().get();
+
+		Map<ByteBuffer, Long> valuesByKey = new HashMap<ByteBuffer, Long>();
+		for (CounterRow<K, Composite> row : rows) {
+			List<HCounterColumn<Composite>> columns = row.getColumnSlice().getColumns();
+			if (!columns.isEmpty()) {
+				valuesByKey.put(keySrz.toByteBuffer(row.getKey()), columns.get(0).getValue());
+			}
+		}
+
+		List<Long> values = new ArrayList<Long>(keys.size());
+		for (K key : keys) {
+			values.add(valuesByKey.get(keySrz.toByteBuffer(key)));
+		}
+		return values;
+	}
+
 	public <K> HCounterColumn<Composite> getCounterColumn(K key, Composite name) {
 		if (log.isTraceEnabled()) {
 			log.trace("Get counter  column {} with key {} from column family {}", format(name), key, columnFamily);
 		}
 
-		final CounterQuery<K, Composite> counter = new ThriftCounterColumnQuery<K, Composite>(keyspace,
+		CounterQuery<K, Composite> counter = new ThriftCounterColumnQuery<K, Composite>(readKeyspace(),
 				this.<K> rowSrz(), columnNameSerializer).setColumnFamily(columnFamily).setKey(key).setName(name);
 
-		this.policy.loadConsistencyLevelForRead(columnFamily);
-		return reinitConsistencyLevels(new SafeExecutionContext<HCounterColumn<Composite>>() {
-			@Override
-			public HCounterColumn<Composite> execute() {
-				return counter.execute().get();
-			}
-		});
+		return counter.execute().get();
 	}
 
 	public <K> void removeCounterBatch(K key, Composite name, Mutator<K> mutator) {
@@ -421,7 +420,7 @@ public abstract class ThriftAbstractDao {
 		log.trace("Remove counter row as batch mutation with key {} from column family {}", key, columnFamily);
 
 		SliceCounterQuery<K, Composite> query = HFactory
-				.createCounterSliceQuery(keyspace, this.<K> rowSrz(), columnNameSerializer)
+				.createCounterSliceQuery(readKeyspace(), this.<K> rowSrz(), columnNameSerializer)
 				.setColumnFamily(columnFamily).setKey(key);
 
 		ThriftCounterSliceIterator<K> iterator = new ThriftCounterSliceIterator<K>(policy, columnFamily, query,
@@ -441,22 +440,29 @@ public abstract class ThriftAbstractDao {
 		cluster.truncate(keyspace.getKeyspaceName(), AchillesCounter.THRIFT_COUNTER_CF);
 	}
 
+	/**
+	 * Build a mutator writing at the consistency level resolved for the column
+	 * family now, not when it is executed
+	 */
 	public <K> Mutator<K> buildMutator() {
-		return HFactory.createMutator(this.keyspace, this.<K> rowSrz());
+		return HFactory.createMutator(writeKeyspace(), this.<K> rowSrz());
 	}
 
-	public <K> void executeMutator(final Mutator<K> mutator) {
-		log.trace("Execute safely mutator with {} mutations for column family {}", mutator.getPendingMutationCount(),
-				columnFamily);
+	/**
+	 * Build a mutator writing at the given consistency level, or at the level
+	 * resolved for the column family when it is null
+	 */
+	public <K> Mutator<K> buildMutator(ConsistencyLevel writeLevel) {
+		if (writeLevel == null) {
+			return buildMutator();
+		}
+		return HFactory.createMutator(orMainKeyspace(policy.getKeyspace(writeLevel)), this.<K> rowSrz());
+	}
 
-		this.policy.loadConsistencyLevelForWrite(this.columnFamily);
-		reinitConsistencyLevels(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				mutator.execute();
-				return null;
-			}
-		});
+	public <K> void executeMutator(Mutator<K> mutator) {
+		log.trace("Execute mutator with {} mutations for column family {}", mutator.getPendingMutationCount(),
+				columnFamily);
+		mutator.execute();
 	}
 
 	public String getColumnFamily() {
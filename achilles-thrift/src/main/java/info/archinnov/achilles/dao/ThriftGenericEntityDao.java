@@ -29,8 +29,10 @@ import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.beans.OrderedRows;
 import me.prettyprint.hector.api.beans.Row;
 import me.prettyprint.hector.api.beans.Rows;
+import me.prettyprint.hector.api.factory.HFactory;
 
 import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
@@ -75,10 +77,17 @@ public class ThriftGenericEntityDao extends ThriftAbstractDao {
 	public <K> Map<K, List<Pair<Composite, String>>> eagerFetchEntities(List<K> keys) {
 		log.trace("Eager fetching properties for multiple entities in column family {} ", columnFamily);
 
+		return multiFindColumnsRange(keys, startCompositeForEagerFetch, endCompositeForEagerFetch);
+	}
+
+	/**
+	 * Fetch the same column range for several row keys with one multi-get
+	 */
+	public <K> Map<K, List<Pair<Composite, String>>> multiFindColumnsRange(List<K> keys, Composite start,
+			Composite end) {
 		Map<K, List<Pair<Composite, String>>> map = new HashMap<K, List<Pair<Composite, String>>>();
 
-		Rows<K, Composite, String> rows = this.multiGetSliceRange(keys, startCompositeForEagerFetch,
-				endCompositeForEagerFetch, false, Integer.MAX_VALUE);
+		Rows<K, Composite, String> rows = this.multiGetSliceRange(keys, start, end, false, Integer.MAX_VALUE);
 
 		for (Row<K, Composite, String> row : rows) {
 			List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
@@ -92,6 +101,26 @@ public class ThriftGenericEntityDao extends ThriftAbstractDao {
 		return map;
 	}
 
+	/**
+	 * Return at most 'count' row keys in token order, starting at startKey
+	 * inclusive or at the beginning of the ring when startKey is null
+	 */
+	public <K> List<K> findRowKeysRange(K startKey, int count) {
+		log.trace("Range slice of {} row keys from column family {} starting at key {}", count, columnFamily,
+				startKey);
+
+		OrderedRows<K, Composite, String> rows = HFactory
+				.createRangeSlicesQuery(readKeyspace(), this.<K> rowSrz(), COMPOSITE_SRZ, STRING_SRZ)
+				.setColumnFamily(columnFamily).setKeys(startKey, null).setRowCount(count).setReturnKeysOnly()
+				.execute().get();
+
+		List<K> keys = new ArrayList<K>();
+		for (Row<K, Composite, String> row : rows) {
+			keys.add(row.getKey());
+		}
+		return keys;
+	}
+
 	private void initComposites() {
 		startCompositeForEagerFetch = new Composite();
 		startCompositeForEagerFetch.addComponent(0, START_EAGER, ComponentEquality.EQUAL);
@@ -57,10 +57,10 @@ public class ThriftEntityMapper extends EntityMapper {
 
 				switch (propertyMeta.type()) {
 				case SIMPLE:
-					propertyMeta.setValueToField(entity, propertyMeta.forceDecodeFromJSON(pair.right));
+					propertyMeta.setValueToField(entity, propertyMeta.forceDecode(pair.right));
 					break;
 				case LIST:
-					addToList(listProperties, propertyMeta, propertyMeta.forceDecodeFromJSON(pair.right));
+					addToList(listProperties, propertyMeta, propertyMeta.forceDecode(pair.right));
 					break;
 				case SET:
 					addToSet(setProperties, propertyMeta, propertyMeta.decode(pair.left.get(2, STRING_SRZ)));
@@ -27,6 +27,7 @@ import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -50,6 +51,7 @@ public class ThriftBatchingPersistenceManager extends ThriftPersistenceManager {
 	public void startBatch() {
 		log.debug("Starting batch mode");
 		flushContext.startBatch();
+		clearPendingEvictions();
 	}
 
 	/**
@@ -71,7 +73,11 @@ public class ThriftBatchingPersistenceManager extends ThriftPersistenceManager {
 	 */
 	public void endBatch() {
 		log.debug("Ending batch mode");
-		flushContext.endBatch();
+		try {
+			flushContext.endBatch();
+		} finally {
+			evictPendingFromCache();
+		}
 	}
 
 	/**
@@ -80,6 +86,7 @@ public class ThriftBatchingPersistenceManager extends ThriftPersistenceManager {
 	public void cleanBatch() {
 		log.debug("Cleaning all pending mutations");
 		flushContext.cleanUp();
+		clearPendingEvictions();
 	}
 
 	@Override
@@ -126,6 +133,17 @@ public class ThriftBatchingPersistenceManager extends ThriftPersistenceManager {
 		}
 	}
 
+	@Override
+	public <K, T> Map<K, T> find(final Class<T> entityClass, Collection<K> primaryKeys, ConsistencyLevel readLevel) {
+		if (readLevel != null) {
+			flushContext.cleanUp();
+			throw new AchillesException(
+					"Runtime custom Consistency Level cannot be set for batch mode. Please set the Consistency Levels at batch start with 'startBatch(readLevel,writeLevel)'");
+		} else {
+			return super.find(entityClass, primaryKeys, null);
+		}
+	}
+
 	@Override
 	public <T> T getReference(final Class<T> entityClass, final Object primaryKey, ConsistencyLevel readLevel) {
 		if (readLevel != null) {
@@ -21,6 +21,7 @@ import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.ThriftDaoContext;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
+import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.operations.EntityValidator;
 import info.archinnov.achilles.entity.operations.ThriftEntityProxifier;
@@ -29,13 +30,25 @@ import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Lists;
+
 public class ThriftPersistenceManager extends PersistenceManager<ThriftPersistenceContext> {
 	private static final Logger log = LoggerFactory.getLogger(ThriftPersistenceManager.class);
+	private static final int MULTI_GET_KEYS_CHUNK_SIZE = 100;
 
 	protected ThriftDaoContext daoContext;
 	protected ThriftPersistenceContextFactory contextFactory;
@@ -77,6 +90,69 @@ public class ThriftPersistenceManager extends PersistenceManager<ThriftPersisten
 				entityClass, meta);
 	}
 
+	@Override
+	protected <K, T> Map<K, T> findAll(Class<T> entityClass, Map<K, ThriftPersistenceContext> contexts) {
+		EntityMeta entityMeta = entityMetaMap.get(entityClass);
+		if (entityMeta.isClusteredEntity() || contexts.isEmpty()) {
+			return super.findAll(entityClass, contexts);
+		}
+
+		Map<K, T> entities = new LinkedHashMap<K, T>();
+		for (List<K> primaryKeys : Lists.partition(new ArrayList<K>(contexts.keySet()), MULTI_GET_KEYS_CHUNK_SIZE)) {
+			log.trace("Multi get entities of class {} for primary keys {}", entityClass, primaryKeys);
+
+			ThriftPersistenceContext firstContext = contexts.get(primaryKeys.get(0));
+			Map<Object, List<Pair<Composite, String>>> rows = firstContext.eagerFetchEntities(primaryKeys);
+			for (K primaryKey : primaryKeys) {
+				List<Pair<Composite, String>> columns = rows.get(primaryKey);
+				T entity = contexts.get(primaryKey).findFromColumns(entityClass, columns);
+				if (entity != null) {
+					entities.put(primaryKey, entity);
+				}
+			}
+		}
+		return entities;
+	}
+
+	/**
+	 * Row keys are paged sequentially with range slices, each page of keys
+	 * being then loaded as one task with a multi get
+	 */
+	@Override
+	protected <T> Iterator<Callable<List<T>>> scanTasks(final Class<T> entityClass, EntityMeta entityMeta) {
+		final ThriftGenericEntityDao entityDao = daoContext.findEntityDao(entityMeta.getTableName());
+		return new AbstractIterator<Callable<List<T>>>() {
+			private Object startKey;
+			private boolean lastPage;
+
+			@Override
+			protected Callable<List<T>> computeNext() {
+				if (lastPage) {
+					return endOfData();
+				}
+				List<Object> keys = entityDao.findRowKeysRange(startKey, MULTI_GET_KEYS_CHUNK_SIZE + 1);
+				lastPage = keys.size() <= MULTI_GET_KEYS_CHUNK_SIZE;
+				if (startKey != null && !keys.isEmpty() && keys.get(0).equals(startKey)) {
+					keys = keys.subList(1, keys.size());
+				} else if (keys.size() > MULTI_GET_KEYS_CHUNK_SIZE) {
+					keys = keys.subList(0, MULTI_GET_KEYS_CHUNK_SIZE);
+				}
+				if (keys.isEmpty()) {
+					return endOfData();
+				}
+				startKey = keys.get(keys.size() - 1);
+
+				final List<Object> primaryKeys = new ArrayList<Object>(keys);
+				return new Callable<List<T>>() {
+					@Override
+					public List<T> call() throws Exception {
+						return new ArrayList<T>(find(entityClass, primaryKeys).values());
+					}
+				};
+			}
+		};
+	}
+
 	@Override
 	protected ThriftPersistenceContext initPersistenceContext(Class<?> entityClass, Object primaryKey, Options options) {
 		return contextFactory.newContext(entityClass, primaryKey, options);
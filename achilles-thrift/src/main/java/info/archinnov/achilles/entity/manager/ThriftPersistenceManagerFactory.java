@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.manager;
 
 import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
+import info.archinnov.achilles.composite.ThriftCompositeFactory;
 import info.archinnov.achilles.configuration.ArgumentExtractor;
 import info.archinnov.achilles.configuration.ThriftArgumentExtractor;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
@@ -25,12 +26,16 @@ import info.archinnov.achilles.context.ConfigurationContext.Impl;
 import info.archinnov.achilles.context.ThriftDaoContext;
 import info.archinnov.achilles.context.ThriftDaoContextBuilder;
 import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
+import info.archinnov.achilles.counter.ThriftCounterFlusher;
 import info.archinnov.achilles.table.ThriftColumnFamilyCreator;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
@@ -38,6 +43,10 @@ import me.prettyprint.hector.api.Keyspace;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 public class ThriftPersistenceManagerFactory extends PersistenceManagerFactory {
 
 	private static final Logger log = LoggerFactory.getLogger(ThriftPersistenceManagerFactory.class);
@@ -73,11 +82,21 @@ public class ThriftPersistenceManagerFactory extends PersistenceManagerFactory {
 				cluster.getName(), keyspace.getKeyspaceName());
 
 		boolean hasSimpleCounter = bootstrap();
+		ThriftCompositeFactory.buildTemplates(entityMetaMap.values());
+		long start = System.nanoTime();
 		new ThriftColumnFamilyCreator(cluster, keyspace).validateOrCreateTables(entityMetaMap, configContext,
 				hasSimpleCounter);
+		recordBootstrapPhase("table validation", start);
+
+		start = System.nanoTime();
 		daoContext = new ThriftDaoContextBuilder().buildDao(cluster, keyspace, entityMetaMap, configContext,
 				hasSimpleCounter);
+		recordBootstrapPhase("dao creation", start);
+		daoContext.setCounterAccumulator(initCounterAccumulator(configurationMap, thriftArgumentExtractor,
+				new ThriftCounterFlusher()));
+		configContext.setAsyncExecutor(initAsyncExecutor(configurationMap, thriftArgumentExtractor));
 		contextFactory = new ThriftPersistenceContextFactory(daoContext, configContext, entityMetaMap);
+		registerShutdownHook();
 
 	}
 
@@ -125,6 +144,48 @@ public class ThriftPersistenceManagerFactory extends PersistenceManagerFactory {
 		return policy;
 	}
 
+	/**
+	 * Stop the executor of asynchronous operations once the pending
+	 * operations are done
+	 */
+	@Override
+	public void shutdown() {
+		ListeningExecutorService asyncExecutor = configContext.getAsyncExecutor();
+		if (asyncExecutor != null) {
+			asyncExecutor.shutdown();
+		}
+		super.shutdown();
+	}
+
+	/**
+	 * Executor running the asynchronous operations. Its queue is bounded so
+	 * that a burst of asynchronous calls fails fast with a
+	 * RejectedExecutionException instead of piling up in memory
+	 */
+	private ListeningExecutorService initAsyncExecutor(Map<String, Object> configurationMap,
+			ThriftArgumentExtractor argumentExtractor) {
+		int threads = argumentExtractor.initAsyncThreads(configurationMap);
+		int queueSize = argumentExtractor.initAsyncQueueSize(configurationMap);
+		log.info("Running asynchronous operations on {} threads with a queue of {} tasks", threads, queueSize);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(queueSize), new ThreadFactoryBuilder().setDaemon(true)
+						.setNameFormat("achilles-async-%d").build());
+		executor.allowCoreThreadTimeOut(true);
+		return MoreExecutors.listeningDecorator(executor);
+	}
+
+	private void registerShutdownHook() {
+		if (counterAccumulator != null) {
+			Runtime.getRuntime().addShutdownHook(new Thread() {
+				@Override
+				public void run() {
+					shutdown();
+				}
+			});
+		}
+	}
+
 	protected void setThriftDaoContext(ThriftDaoContext thriftDaoContext) {
 		this.daoContext = thriftDaoContext;
 	}
@@ -23,12 +23,22 @@ import info.archinnov.achilles.entity.operations.impl.ThriftLoaderImpl;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.validation.Validator;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
+
 public class ThriftEntityLoader implements EntityLoader<ThriftPersistenceContext> {
 	private static final Logger log = LoggerFactory.getLogger(ThriftEntityLoader.class);
 
+	private static final int MULTI_GET_KEYS_CHUNK_SIZE = 100;
+
 	private ThriftLoaderImpl loaderImpl = new ThriftLoaderImpl();
 
 	@Override
@@ -60,6 +70,16 @@ public class ThriftEntityLoader implements EntityLoader<ThriftPersistenceContext
 		return entity;
 	}
 
+	public <T> T loadFromColumns(ThriftPersistenceContext context, Class<T> entityClass,
+			List<Pair<Composite, String>> columns) {
+		log.debug("Mapping fetched columns to entity of class {} with primary key {}", context.getEntityClass()
+				.getCanonicalName(), context.getPrimaryKey());
+
+		Validator.validateNotNull(context.getEntityMeta(), "Entity meta for '%s' should not be null",
+				entityClass.getCanonicalName());
+		return loaderImpl.mapColumnsToEntity(context, columns);
+	}
+
 	@Override
 	public <V> void loadPropertyIntoObject(ThriftPersistenceContext context, Object realObject,
 			PropertyMeta propertyMeta) {
@@ -90,6 +110,33 @@ public class ThriftEntityLoader implements EntityLoader<ThriftPersistenceContext
 		propertyMeta.setValueToField(realObject, value);
 	}
 
+	@Override
+	public void loadPropertyIntoObjects(List<ThriftPersistenceContext> contexts, List<Object> realObjects,
+			PropertyMeta propertyMeta) {
+		log.debug("Loading property {} into {} entities of class {}", propertyMeta.getPropertyName(),
+				contexts.size(), propertyMeta.getEntityClassName());
+
+		int offset = 0;
+		for (List<ThriftPersistenceContext> chunk : Lists.partition(contexts, MULTI_GET_KEYS_CHUNK_SIZE)) {
+			List<Object> values = loaderImpl.loadProperties(chunk, propertyMeta);
+			for (Object value : values) {
+				propertyMeta.setValueToField(realObjects.get(offset++), value);
+			}
+		}
+	}
+
+	@Override
+	public List<Long> loadCounters(List<ThriftPersistenceContext> contexts, PropertyMeta counterMeta) {
+		log.debug("Loading counter {} for {} entities of class {}", counterMeta.getPropertyName(), contexts.size(),
+				counterMeta.getEntityClassName());
+
+		List<Long> counterValues = new ArrayList<Long>(contexts.size());
+		for (List<ThriftPersistenceContext> chunk : Lists.partition(contexts, MULTI_GET_KEYS_CHUNK_SIZE)) {
+			counterValues.addAll(loaderImpl.loadCounters(chunk, counterMeta));
+		}
+		return counterValues;
+	}
+
 	protected Object loadPrimaryKey(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 		return loaderImpl.loadSimpleProperty(context, propertyMeta);
 	}
@@ -24,6 +24,7 @@ import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.impl.ThriftQueryExecutorImpl;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.helper.MemoizedTransformList;
 import info.archinnov.achilles.iterator.ThriftClusteredEntityIterator;
 import info.archinnov.achilles.iterator.ThriftCounterClusteredEntityIterator;
 import info.archinnov.achilles.iterator.ThriftCounterSliceIterator;
@@ -40,8 +41,6 @@ import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.beans.HColumn;
 import me.prettyprint.hector.api.beans.HCounterColumn;
 
-import com.google.common.collect.Lists;
-
 public class ThriftSliceQueryExecutor extends SliceQueryExecutor<ThriftPersistenceContext> {
 
 	private AchillesConsistencyLevelPolicy consistencyPolicy;
@@ -79,7 +78,7 @@ public class ThriftSliceQueryExecutor extends SliceQueryExecutor<ThriftPersisten
 					+ "' and clustered entity class '" + sliceQuery.getEntityClass().getCanonicalName() + "'");
 		}
 
-		return Lists.transform(clusteredEntities, getProxyTransformer(sliceQuery, getters));
+		return new MemoizedTransformList<T, T>(clusteredEntities, getProxyTransformer(sliceQuery, getters));
 	}
 
 	@Override
@@ -22,9 +22,14 @@ import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEqualit
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
 import info.archinnov.achilles.composite.ThriftCompositeTransformer;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.dao.ThriftCounterDao;
+import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.entity.ThriftEntityMapper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.CounterProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -59,12 +64,19 @@ public class ThriftLoaderImpl {
 		} else {
 			Object rowKey = buildRowKey(context);
 			List<Pair<Composite, String>> columns = context.getEntityDao().eagerFetchEntity(rowKey);
-			if (columns.size() > 0) {
-				log.trace("Mapping data from Cassandra columns to entity");
+			entity = mapColumnsToEntity(context, columns);
+		}
+		return entity;
+	}
 
-				entity = entityMeta.<T> instanciate();
-				mapper.setEagerPropertiesToEntity(primaryKey, columns, entityMeta, entity);
-			}
+	public <T> T mapColumnsToEntity(ThriftPersistenceContext context, List<Pair<Composite, String>> columns) {
+		T entity = null;
+		if (columns != null && columns.size() > 0) {
+			log.trace("Mapping data from Cassandra columns to entity");
+
+			EntityMeta entityMeta = context.getEntityMeta();
+			entity = entityMeta.<T> instanciate();
+			mapper.setEagerPropertiesToEntity(context.getPrimaryKey(), columns, entityMeta, entity);
 		}
 		return entity;
 	}
@@ -92,7 +104,7 @@ public class ThriftLoaderImpl {
 						propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta()
 								.getTableName(), context.getPrimaryKey(), format(composite));
 			}
-			return propertyMeta.forceDecodeFromJSON((String) context.getEntityDao().getValue(rowKey, composite));
+			return propertyMeta.forceDecode((String) context.getEntityDao().getValue(rowKey, composite));
 		}
 	}
 
@@ -100,7 +112,135 @@ public class ThriftLoaderImpl {
 		log.trace("Loading list property {} of class {} from column family {} with primary key {}", propertyMeta
 				.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta().getTableName(), context
 				.getPrimaryKey());
-		List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+		return decodeList(fetchColumns(context, propertyMeta), propertyMeta);
+	}
+
+	public Set<Object> loadSetProperty(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
+		log.trace("Loading set property {} of class {} from column family {} with primary key {}", propertyMeta
+				.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta().getTableName(), context
+				.getPrimaryKey());
+		return decodeSet(fetchColumns(context, propertyMeta), propertyMeta);
+	}
+
+	public Map<Object, Object> loadMapProperty(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
+		log.trace("Loading map property {} of class {} from column family {} with primary key {}", propertyMeta
+				.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta().getTableName(), context
+				.getPrimaryKey());
+		return decodeMap(fetchColumns(context, propertyMeta), propertyMeta);
+	}
+
+	/**
+	 * Load a simple, list, set or map property for several entities of the
+	 * same class with one multi-get, the values being aligned with contexts
+	 */
+	public List<Object> loadProperties(List<ThriftPersistenceContext> contexts, PropertyMeta propertyMeta) {
+		ThriftPersistenceContext firstContext = contexts.get(0);
+		log.trace("Loading property {} of class {} from column family {} for {} entities",
+				propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), firstContext.getEntityMeta()
+						.getTableName(), contexts.size());
+
+		Composite start;
+		Composite end;
+		switch (propertyMeta.type()) {
+		case SIMPLE:
+		case LAZY_SIMPLE:
+			start = compositeFactory.createBaseForGet(propertyMeta);
+			end = start;
+			break;
+		default:
+			start = compositeFactory.createBaseForQuery(propertyMeta, EQUAL);
+			end = compositeFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL);
+		}
+
+		List<Object> rowKeys = new ArrayList<Object>(contexts.size());
+		for (ThriftPersistenceContext context : contexts) {
+			rowKeys.add(buildRowKey(context));
+		}
+		Map<Object, List<Pair<Composite, String>>> columnsByRowKey = firstContext.fetchColumnsRange(rowKeys, start,
+				end);
+
+		List<Object> values = new ArrayList<Object>(contexts.size());
+		for (Object rowKey : rowKeys) {
+			List<Pair<Composite, String>> columns = columnsByRowKey.get(rowKey);
+			if (columns == null) {
+				columns = new ArrayList<Pair<Composite, String>>();
+			}
+			values.add(decode(columns, propertyMeta));
+		}
+		return values;
+	}
+
+	/**
+	 * Read a counter property for several entities of the same class, the
+	 * values being aligned with contexts. The counters are read from the same
+	 * columns as the counter wrapper of each entity. Thrift contexts hold no
+	 * counter value, so simple counters are read with one multi-get
+	 */
+	public List<Long> loadCounters(List<ThriftPersistenceContext> contexts, PropertyMeta counterMeta) {
+		ThriftPersistenceContext firstContext = contexts.get(0);
+		log.trace("Loading counter {} of class {} for {} entities", counterMeta.getPropertyName(),
+				counterMeta.getEntityClassName(), contexts.size());
+
+		ConsistencyLevel readLevel = firstContext.getConsistencyLevel().isPresent() ? firstContext
+				.getConsistencyLevel().get() : counterMeta.getReadConsistencyLevel();
+
+		if (firstContext.isClusteredEntity()) {
+			return loadClusteredCounters(contexts, counterMeta, readLevel);
+		}
+
+		CounterProperties counterProperties = counterMeta.getCounterProperties();
+		PropertyMeta idMeta = counterProperties.getIdMeta();
+		final List<Composite> rowKeys = new ArrayList<Composite>(contexts.size());
+		for (ThriftPersistenceContext context : contexts) {
+			rowKeys.add(compositeFactory.createRowKeyForCounter(counterProperties.getFqcn(),
+					context.getPrimaryKey(), idMeta));
+		}
+		final Composite name = compositeFactory.createBaseForCounterGet(counterMeta);
+		final ThriftCounterDao counterDao = firstContext.getCounterDao();
+
+		return firstContext.executeWithReadConsistencyLevel(new SafeExecutionContext<List<Long>>() {
+			@Override
+			public List<Long> execute() {
+				return counterDao.getCounterValues(rowKeys, name);
+			}
+		}, readLevel);
+	}
+
+	private List<Long> loadClusteredCounters(List<ThriftPersistenceContext> contexts, PropertyMeta counterMeta,
+			ConsistencyLevel readLevel) {
+		final PropertyMeta idMeta = counterMeta.getCounterProperties().getIdMeta();
+		List<Long> counterValues = new ArrayList<Long>(contexts.size());
+		for (ThriftPersistenceContext context : contexts) {
+			final Object primaryKey = context.getPrimaryKey();
+			final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+			counterValues.add(context.executeWithReadConsistencyLevel(new SafeExecutionContext<Long>() {
+				@Override
+				public Long execute() {
+					return wideRowDao.getCounterValue(idMeta.getPartitionKey(primaryKey),
+							compositeFactory.createBaseForClusteredGet(primaryKey, idMeta));
+				}
+			}, readLevel));
+		}
+		return counterValues;
+	}
+
+	private Object decode(List<Pair<Composite, String>> columns, PropertyMeta propertyMeta) {
+		switch (propertyMeta.type()) {
+		case LIST:
+		case LAZY_LIST:
+			return decodeList(columns, propertyMeta);
+		case SET:
+		case LAZY_SET:
+			return decodeSet(columns, propertyMeta);
+		case MAP:
+		case LAZY_MAP:
+			return decodeMap(columns, propertyMeta);
+		default:
+			return propertyMeta.forceDecode(columns.isEmpty() ? null : columns.get(0).right);
+		}
+	}
+
+	private List<Object> decodeList(List<Pair<Composite, String>> columns, PropertyMeta propertyMeta) {
 		List<Object> list = null;
 		if (columns.size() > 0) {
 			list = new ArrayList<Object>();
@@ -112,11 +252,7 @@ public class ThriftLoaderImpl {
 		return list;
 	}
 
-	public Set<Object> loadSetProperty(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
-		log.trace("Loading set property {} of class {} from column family {} with primary key {}", propertyMeta
-				.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta().getTableName(), context
-				.getPrimaryKey());
-		List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+	private Set<Object> decodeSet(List<Pair<Composite, String>> columns, PropertyMeta propertyMeta) {
 		Set<Object> set = null;
 		if (columns.size() > 0) {
 			set = new HashSet<Object>();
@@ -127,11 +263,7 @@ public class ThriftLoaderImpl {
 		return set;
 	}
 
-	public Map<Object, Object> loadMapProperty(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
-		log.trace("Loading map property {} of class {} from column family {} with primary key {}", propertyMeta
-				.getPropertyName(), propertyMeta.getEntityClassName(), context.getEntityMeta().getTableName(), context
-				.getPrimaryKey());
-		List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+	private Map<Object, Object> decodeMap(List<Pair<Composite, String>> columns, PropertyMeta propertyMeta) {
 		Map<Object, Object> map = null;
 		if (columns.size() > 0) {
 			map = new HashMap<Object, Object>();
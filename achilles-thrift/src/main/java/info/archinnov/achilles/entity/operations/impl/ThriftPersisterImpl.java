@@ -48,7 +48,7 @@ public class ThriftPersisterImpl {
 
 	public void batchPersistSimpleProperty(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 		Composite name = compositeFactory.createForBatchInsertSingleValue(propertyMeta);
-		String value = propertyMeta.forceEncodeToJSON(propertyMeta.getValueFromField(context.getEntity()));
+		String value = propertyMeta.forceEncode(propertyMeta.getValueFromField(context.getEntity()));
 		if (value != null) {
 			if (log.isTraceEnabled()) {
 				log.trace(
@@ -90,7 +90,7 @@ public class ThriftPersisterImpl {
 	public <V> void batchPersistList(List<V> list, ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 		int count = 0;
 		for (V value : list) {
-			String stringValue = propertyMeta.forceEncodeToJSON(value);
+			String stringValue = propertyMeta.forceEncode(value);
 			if (stringValue != null) {
 				Composite name = compositeFactory.createForBatchInsertList(propertyMeta, count);
 				if (log.isTraceEnabled()) {
@@ -110,7 +110,7 @@ public class ThriftPersisterImpl {
 	public <V> void batchPersistSet(Set<V> set, ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 		for (V value : set) {
 
-			String valueAsString = propertyMeta.forceEncodeToJSON(value);
+			String valueAsString = propertyMeta.forceEncode(value);
 			if (valueAsString != null) {
 				Composite name = compositeFactory.createForBatchInsertSetOrMap(propertyMeta, valueAsString);
 				if (log.isTraceEnabled()) {
@@ -130,7 +130,7 @@ public class ThriftPersisterImpl {
 		for (Entry<?, ?> entry : map.entrySet()) {
 
 			String keyAsString = propertyMeta.forceEncodeToJSON(entry.getKey());
-			String valueAsString = propertyMeta.forceEncodeToJSON(entry.getValue());
+			String valueAsString = propertyMeta.forceEncode(entry.getValue());
 
 			Composite name = compositeFactory.createForBatchInsertSetOrMap(propertyMeta, keyAsString);
 
@@ -75,24 +75,16 @@ public class ThriftQueryExecutorImpl {
 		}, query.getConsistencyLevel());
 	}
 
-	public void removeColumns(List<HColumn<Composite, Object>> columns, final ConsistencyLevel consistencyLevel,
-			final ThriftPersistenceContext context) {
-		final Object rowKey = compositeFactory.buildRowKey(context);
+	public void removeColumns(List<HColumn<Composite, Object>> columns, ConsistencyLevel consistencyLevel,
+			ThriftPersistenceContext context) {
+		Object rowKey = compositeFactory.buildRowKey(context);
 
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
-		final Mutator<Object> mutator = wideRowDao.buildMutator();
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		Mutator<Object> mutator = wideRowDao.buildMutator(consistencyLevel);
 		for (HColumn<Composite, Object> column : columns) {
 			wideRowDao.removeColumnBatch(rowKey, column.getName(), mutator);
 		}
-
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				wideRowDao.executeMutator(mutator);
-				return null;
-			}
-		}, consistencyLevel);
-
+		wideRowDao.executeMutator(mutator);
 	}
 
 	public <T> List<HCounterColumn<Composite>> findCounterColumns(final SliceQuery<T> query,
@@ -134,36 +126,22 @@ public class ThriftQueryExecutorImpl {
 	}
 
 	public void removeCounterColumns(List<HCounterColumn<Composite>> counterColumns,
-			final ConsistencyLevel consistencyLevel, final ThriftPersistenceContext context) {
-		final Object rowKey = compositeFactory.buildRowKey(context);
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
-		final Mutator<Object> mutator = wideRowDao.buildMutator();
+			ConsistencyLevel consistencyLevel, ThriftPersistenceContext context) {
+		Object rowKey = compositeFactory.buildRowKey(context);
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		Mutator<Object> mutator = wideRowDao.buildMutator(consistencyLevel);
 		for (HCounterColumn<Composite> counterColumn : counterColumns) {
 			wideRowDao.removeCounterBatch(rowKey, counterColumn.getName(), mutator);
 		}
-
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				wideRowDao.executeMutator(mutator);
-				return null;
-			}
-		}, consistencyLevel);
-
+		wideRowDao.executeMutator(mutator);
 	}
 
-	public void removeRow(final Object partitionKey, ThriftPersistenceContext context, ConsistencyLevel consistencyLevel) {
-		final ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
-		final Mutator<Object> mutator = wideRowDao.buildMutator();
-		final Object rowKey = compositeFactory.buildRowKey(context);
+	public void removeRow(Object partitionKey, ThriftPersistenceContext context, ConsistencyLevel consistencyLevel) {
+		ThriftGenericWideRowDao wideRowDao = context.getWideRowDao();
+		Mutator<Object> mutator = wideRowDao.buildMutator(consistencyLevel);
+		Object rowKey = compositeFactory.buildRowKey(context);
 		wideRowDao.removeRowBatch(rowKey, mutator);
-		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
-			@Override
-			public Void execute() {
-				wideRowDao.executeMutator(mutator);
-				return null;
-			}
-		}, consistencyLevel);
+		wideRowDao.executeMutator(mutator);
 	}
 
 }
@@ -118,34 +118,14 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
 
 	public abstract IteratorType type();
 
-	protected <T> T executeWithInitialConsistencyLevel(SafeExecutionContext<T> context) {
+	/**
+	 * The query has been created on the keyspace of the read level resolved
+	 * at initialization, every batch is fetched at this level
+	 */
+	protected void logFetch() {
 		log.trace("Fetching next {} elements with consistency level {} from {}", count,
-				readConsistencyLevelAtInitialization != null ? readConsistencyLevelAtInitialization.name() : "QUORUM",
+				readConsistencyLevelAtInitialization != null ? readConsistencyLevelAtInitialization.name() : "default",
 				type());
-
-		T result = null;
-		if (readConsistencyLevelAtInitialization != null) {
-			log.trace("Save current consistency level {} by {}", policy.getCurrentReadLevel(), type());
-			ConsistencyLevel currentReadLevel = policy.getCurrentReadLevel();
-			policy.setCurrentReadLevel(readConsistencyLevelAtInitialization);
-			policy.loadConsistencyLevelForRead(columnFamily);
-			try {
-				result = context.execute();
-				policy.setCurrentReadLevel(currentReadLevel);
-				log.trace("Restore current consistency level {} by {}", currentReadLevel, type());
-			} catch (Throwable throwable) {
-				policy.reinitCurrentConsistencyLevels();
-				policy.reinitDefaultConsistencyLevels();
-				log.trace(
-						"Exception occurred while fetching next {} elements with consistency level {} in {}. Reset consistency levels",
-						count, readConsistencyLevelAtInitialization.name(), type());
-				throw new AchillesException(throwable);
-			}
-		} else {
-			result = context.execute();
-		}
-		return result;
-
 	}
 
 	private <T> T executeSafely(SafeExecutionContext<T> context) {
@@ -153,10 +133,9 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
 			return context.execute();
 		} catch (Exception e) {
 			policy.reinitCurrentConsistencyLevels();
-			policy.reinitDefaultConsistencyLevels();
 			log.trace(
 					"Exception occurred while fetching next {} elements with consistency level {} in {}. Reset consistency levels",
-					count, readConsistencyLevelAtInitialization.name(), type());
+					count, readConsistencyLevelAtInitialization, type());
 			throw new AchillesException(e);
 		}
 	}
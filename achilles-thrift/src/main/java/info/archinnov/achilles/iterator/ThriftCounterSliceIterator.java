@@ -19,7 +19,6 @@ package info.archinnov.achilles.iterator;
 import static info.archinnov.achilles.dao.ThriftAbstractDao.DEFAULT_LENGTH;
 import static info.archinnov.achilles.iterator.ThriftAbstractSliceIterator.IteratorType.THRIFT_COUNTER_SLICE_ITERATOR;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 
 import java.util.Iterator;
 
@@ -27,11 +26,7 @@ import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.beans.HCounterColumn;
 import me.prettyprint.hector.api.query.SliceCounterQuery;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 public class ThriftCounterSliceIterator<K> extends ThriftAbstractSliceIterator<HCounterColumn<Composite>> {
-	private static final Logger log = LoggerFactory.getLogger(ThriftCounterSliceIterator.class);
 
 	private SliceCounterQuery<K, Composite> query;
 
@@ -72,13 +67,8 @@ public class ThriftCounterSliceIterator<K> extends ThriftAbstractSliceIterator<H
 
 	@Override
 	protected Iterator<HCounterColumn<Composite>> fetchData() {
-		return executeWithInitialConsistencyLevel(new SafeExecutionContext<Iterator<HCounterColumn<Composite>>>() {
-			@Override
-			public Iterator<HCounterColumn<Composite>> execute() {
-				log.trace("Fetching next {} counter columns", count);
-				return query.execute().get().getColumns().iterator();
-			}
-		});
+		logFetch();
+		return query.execute().get().getColumns().iterator();
 	}
 
 	@Override
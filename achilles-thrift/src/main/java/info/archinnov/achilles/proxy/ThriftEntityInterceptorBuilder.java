@@ -22,8 +22,6 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -33,7 +31,7 @@ public class ThriftEntityInterceptorBuilder<T> {
 	private static final Logger log = LoggerFactory.getLogger(ThriftEntityInterceptorBuilder.class);
 
 	private T target;
-	private Set<Method> alreadyLoaded = new HashSet<Method>();
+	private Set<Method> alreadyLoaded;
 	private ThriftPersistenceContext context;
 
 	public static <T> ThriftEntityInterceptorBuilder<T> builder(ThriftPersistenceContext context, T entity) {
@@ -71,17 +69,15 @@ public class ThriftEntityInterceptorBuilder<T> {
 
 		interceptor.setTarget(target);
 		interceptor.setContext(context);
-		interceptor.setGetterMetas(entityMeta.getGetterMetas());
-		interceptor.setSetterMetas(entityMeta.getSetterMetas());
-		interceptor.setIdGetter(idMeta.getGetter());
-		interceptor.setIdSetter(idMeta.getSetter());
+		interceptor.setPropertyMetas(entityMeta.getPropertyMetasByOrdinal());
 
+		Set<Method> loaded = LoadedProperties.forEntity(entityMeta, alreadyLoaded);
 		if (context.isLoadEagerFields()) {
-			alreadyLoaded.addAll(entityMeta.getEagerGetters());
+			loaded.addAll(entityMeta.getEagerGetters());
 		}
 
-		interceptor.setAlreadyLoaded(alreadyLoaded);
-		interceptor.setDirtyMap(new HashMap<Method, PropertyMeta>());
+		interceptor.setAlreadyLoaded(loaded);
+		interceptor.setDirtyMap(DirtyProperties.forEntity(entityMeta));
 
 		interceptor.setPrimaryKey(context.getPrimaryKey());
 
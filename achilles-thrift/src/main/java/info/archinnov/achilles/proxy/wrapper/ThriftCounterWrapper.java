@@ -19,6 +19,8 @@ package info.archinnov.achilles.proxy.wrapper;
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SRZ;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.CounterAccumulator;
+import info.archinnov.achilles.counter.ThriftCounterKey;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Counter;
@@ -36,6 +38,7 @@ public class ThriftCounterWrapper implements Counter {
 	private ThriftAbstractDao counterDao;
 	private ThriftPersistenceContext context;
 	private ConsistencyLevel consistencyLevel;
+	private CounterAccumulator<ThriftCounterKey> counterAccumulator;
 
 	public ThriftCounterWrapper(ThriftPersistenceContext context) {
 		this.context = context;
@@ -73,6 +76,9 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Increment counter value for property {} of entity {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName());
 
+		if (coalesce(1L, consistencyLevel)) {
+			return;
+		}
 		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
 			@Override
 			public Void execute() {
@@ -89,6 +95,9 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Increment counter value for property {} of entity {} with consistency {}",
 				columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(), writeLevel);
 
+		if (coalesce(1L, writeLevel)) {
+			return;
+		}
 		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
 			@Override
 			public Void execute() {
@@ -104,6 +113,9 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Increment counter value for property {} of entity {} of {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName(), increment);
 
+		if (coalesce(increment, consistencyLevel)) {
+			return;
+		}
 		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
 			@Override
 			public Void execute() {
@@ -120,6 +132,9 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Increment counter value for property {} of entity {} of {}  with consistency {}",
 				columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(), increment, writeLevel);
 
+		if (coalesce(increment, writeLevel)) {
+			return;
+		}
 		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
 			@Override
 			public Void execute() {
@@ -134,6 +149,9 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Decrement counter value for property {} of entity {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName());
 
+		if (coalesce(-1L, consistencyLevel)) {
+			return;
+		}
 		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
 			@Override
 			public Void execute() {
@@ -151,6 +169,9 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Decrement counter value for property {} of entity {} with consistency {}",
 				columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(), writeLevel);
 
+		if (coalesce(-1L, writeLevel)) {
+			return;
+		}
 		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
 			@Override
 			public Void execute() {
@@ -165,6 +186,9 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Decrement counter value for property {} of entity {} of {}", columnName.get(0, STRING_SRZ), context
 				.getEntityClass().getCanonicalName(), decrement);
 
+		if (coalesce(-decrement, consistencyLevel)) {
+			return;
+		}
 		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
 			@Override
 			public Void execute() {
@@ -181,6 +205,9 @@ public class ThriftCounterWrapper implements Counter {
 		log.trace("Decrement counter value for property {} of entity {} pof {} with consistency {}",
 				columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(), decrement, writeLevel);
 
+		if (coalesce(-decrement, writeLevel)) {
+			return;
+		}
 		context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>() {
 			@Override
 			public Void execute() {
@@ -190,6 +217,18 @@ public class ThriftCounterWrapper implements Counter {
 		}, writeLevel);
 	}
 
+	/**
+	 * Add the delta to the counter accumulator when counter coalescing is
+	 * enabled. The update is then written by the next flush
+	 */
+	private boolean coalesce(long delta, ConsistencyLevel writeLevel) {
+		if (counterAccumulator == null) {
+			return false;
+		}
+		counterAccumulator.add(new ThriftCounterKey(counterDao, key, columnName, writeLevel), delta);
+		return true;
+	}
+
 	public void setCounterDao(ThriftAbstractDao counterDao) {
 		this.counterDao = counterDao;
 	}
@@ -205,4 +244,8 @@ public class ThriftCounterWrapper implements Counter {
 	public void setKey(Object key) {
 		this.key = key;
 	}
+
+	public void setCounterAccumulator(CounterAccumulator<ThriftCounterKey> counterAccumulator) {
+		this.counterAccumulator = counterAccumulator;
+	}
 }
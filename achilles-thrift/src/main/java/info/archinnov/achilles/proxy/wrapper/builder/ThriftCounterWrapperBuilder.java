@@ -17,6 +17,8 @@
 package info.archinnov.achilles.proxy.wrapper.builder;
 
 import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.counter.CounterAccumulator;
+import info.archinnov.achilles.counter.ThriftCounterKey;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.proxy.wrapper.ThriftCounterWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -28,6 +30,7 @@ public class ThriftCounterWrapperBuilder {
 	private ThriftAbstractDao counterDao;
 	private ThriftPersistenceContext context;
 	private ConsistencyLevel consistencyLevel;
+	private CounterAccumulator<ThriftCounterKey> counterAccumulator;
 
 	public static ThriftCounterWrapperBuilder builder(ThriftPersistenceContext context) {
 		return new ThriftCounterWrapperBuilder(context);
@@ -57,12 +60,18 @@ public class ThriftCounterWrapperBuilder {
 		return this;
 	}
 
+	public ThriftCounterWrapperBuilder counterAccumulator(CounterAccumulator<ThriftCounterKey> counterAccumulator) {
+		this.counterAccumulator = counterAccumulator;
+		return this;
+	}
+
 	public ThriftCounterWrapper build() {
 		ThriftCounterWrapper wrapper = new ThriftCounterWrapper(context);
 		wrapper.setCounterDao(counterDao);
 		wrapper.setColumnName(columnName);
 		wrapper.setConsistencyLevel(consistencyLevel);
 		wrapper.setKey(key);
+		wrapper.setCounterAccumulator(counterAccumulator);
 		return wrapper;
 	}
 }
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.*;
 import info.archinnov.achilles.compound.CompoundKeyValidator;
 import info.archinnov.achilles.compound.ThriftCompoundKeyMapper;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
@@ -47,6 +48,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.collect.ImmutableMap;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftCompositeFactoryTest {
 	@Rule
@@ -204,6 +207,53 @@ public class ThriftCompositeFactoryTest {
 		assertThat(comp.getComponent(2).getValue(STRING_SRZ)).isEqualTo("text");
 	}
 
+	@Test
+	public void should_serialize_column_names_as_built_composites() throws Exception {
+		PropertyMeta meta = PropertyMetaTestBuilder.valueClass(String.class).type(MAP).field("preferences").build();
+
+		Composite expected = new Composite();
+		expected.setComponent(0, MAP.flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName());
+		expected.setComponent(1, "preferences", STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
+		expected.setComponent(2, "key", STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
+
+		Composite end = new Composite();
+		end.addComponent(0, MAP.flag(), EQUAL);
+		end.addComponent(1, "preferences", GREATER_THAN_EQUAL);
+
+		assertThat(factory.createForBatchInsertSetOrMap(meta, "key").serialize()).isEqualTo(expected.serialize());
+		assertThat(factory.createForBatchInsertSetOrMap(meta, "key").serialize()).isEqualTo(expected.serialize());
+		assertThat(factory.createBaseForQuery(meta, GREATER_THAN_EQUAL).serialize()).isEqualTo(end.serialize());
+	}
+
+	@Test
+	public void should_build_templates_at_bootstrap() throws Exception {
+		PropertyMeta meta = PropertyMetaTestBuilder.valueClass(Long.class).type(SIMPLE).field("name").build();
+		EntityMeta entityMeta = new EntityMeta();
+		entityMeta.setPropertyMetas(ImmutableMap.of("name", meta));
+
+		ThriftCompositeFactory.buildTemplates(Arrays.asList(entityMeta));
+
+		Object template = meta.getColumnNameTemplate();
+		assertThat(template).isInstanceOf(ThriftCompositeTemplate.class);
+
+		Composite comp = factory.createBaseForGet(meta);
+
+		assertThat(meta.getColumnNameTemplate()).isSameAs(template);
+		assertThat(comp.getComponent(1).getValue(STRING_SRZ)).isEqualTo("name");
+	}
+
+	@Test
+	public void should_keep_template_on_property_meta_not_bootstrapped() throws Exception {
+		PropertyMeta meta = PropertyMetaTestBuilder.valueClass(Long.class).type(SIMPLE).field("name").build();
+
+		factory.createBaseForGet(meta);
+		Object template = meta.getColumnNameTemplate();
+		factory.createForBatchInsertList(meta, 1);
+
+		assertThat(template).isInstanceOf(ThriftCompositeTemplate.class);
+		assertThat(meta.getColumnNameTemplate()).isSameAs(template);
+	}
+
 	@Test
 	public void should_create_for_clustered_query() throws Exception {
 
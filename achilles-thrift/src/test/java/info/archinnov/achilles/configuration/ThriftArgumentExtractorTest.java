@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import me.prettyprint.cassandra.service.CassandraHostConfigurator;
+import me.prettyprint.cassandra.service.FailoverPolicy;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.factory.HFactory;
@@ -38,6 +39,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.google.common.collect.ImmutableMap;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftArgumentExtractorTest {
 	@Rule
@@ -104,12 +107,28 @@ public class ThriftArgumentExtractorTest {
 
 	@Test
 	public void should_init_keyspace() throws Exception {
+		Map<String, String> credentials = ImmutableMap.of("username", "achilles");
 		configMap.put(KEYSPACE_PARAM, keyspace);
+		configMap.put(FAILOVER_POLICY_PARAM, FailoverPolicy.FAIL_FAST);
+		when(keyspace.getKeyspaceName()).thenReturn("achilles");
+		when(cluster.getCredentials()).thenReturn(credentials);
+
+		Keyspace actual = extractor.initKeyspace(cluster, policy, configMap);
 
-		Keyspace actual = extractor.initKeyspace(null, policy, configMap);
+		assertThat(actual).isSameAs(keyspace);
+		verify(keyspace).setConsistencyLevelPolicy(policy);
+		verify(policy).bindKeyspaces(cluster, "achilles", FailoverPolicy.FAIL_FAST, credentials);
+	}
+
+	@Test
+	public void should_not_bind_keyspaces_when_keyspace_has_no_name() throws Exception {
+		configMap.put(KEYSPACE_PARAM, keyspace);
+
+		Keyspace actual = extractor.initKeyspace(cluster, policy, configMap);
 
 		assertThat(actual).isSameAs(keyspace);
 		verify(keyspace).setConsistencyLevelPolicy(policy);
+		verifyZeroInteractions(policy);
 	}
 
 	@Test
@@ -123,6 +142,8 @@ public class ThriftArgumentExtractorTest {
 		assertThat(actual).isNotNull();
 		assertThat(actual).isInstanceOf(Keyspace.class);
 		assertThat(actual.getKeyspaceName()).isEqualTo("achilles");
+		verify(policy).bindKeyspaces(cluster, "achilles", FailoverPolicy.ON_FAIL_TRY_ALL_AVAILABLE,
+				cluster.getCredentials());
 	}
 
 	@Test
@@ -20,14 +20,22 @@ import static info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy.*
 import static me.prettyprint.cassandra.service.OperationType.*;
 import static me.prettyprint.hector.api.HConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.HashMap;
 
+import me.prettyprint.cassandra.connection.HConnectionManager;
+import me.prettyprint.cassandra.service.FailoverPolicy;
+import me.prettyprint.hector.api.Cluster;
+import me.prettyprint.hector.api.Keyspace;
+
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.collect.ImmutableMap;
+
 public class ThriftConsistencyLevelPolicyTest {
 
 	private ThriftConsistencyLevelPolicy policy = new ThriftConsistencyLevelPolicy(ConsistencyLevel.ONE,
@@ -35,11 +43,8 @@ public class ThriftConsistencyLevelPolicyTest {
 
 	@Before
 	public void setUp() {
-		defaultReadConsistencyLevelTL.remove();
-		defaultWriteConsistencyLevelTL.remove();
 		currentReadConsistencyLevel.remove();
 		currentWriteConsistencyLevel.remove();
-
 	}
 
 	@Test
@@ -49,9 +54,9 @@ public class ThriftConsistencyLevelPolicyTest {
 	}
 
 	@Test
-	public void should_get_consistency_level_for_read_and_write_from_thread_local() throws Exception {
-		defaultReadConsistencyLevelTL.set(LOCAL_QUORUM);
-		defaultWriteConsistencyLevelTL.set(ANY);
+	public void should_get_consistency_level_for_read_and_write_from_current_level() throws Exception {
+		currentReadConsistencyLevel.set(ConsistencyLevel.LOCAL_QUORUM);
+		currentWriteConsistencyLevel.set(ConsistencyLevel.ANY);
 
 		assertThat(policy.get(READ)).isEqualTo(LOCAL_QUORUM);
 		assertThat(policy.get(WRITE)).isEqualTo(ANY);
@@ -59,18 +64,17 @@ public class ThriftConsistencyLevelPolicyTest {
 
 	@Test
 	public void should_get_consistency_level_for_meta_read_and_write_from_default() throws Exception {
-		defaultReadConsistencyLevelTL.set(LOCAL_QUORUM);
-		defaultWriteConsistencyLevelTL.set(ANY);
+		currentReadConsistencyLevel.set(ConsistencyLevel.LOCAL_QUORUM);
+		currentWriteConsistencyLevel.set(ConsistencyLevel.ANY);
 
 		assertThat(policy.get(META_READ)).isEqualTo(ONE);
 		assertThat(policy.get(META_WRITE)).isEqualTo(ONE);
 	}
 
 	@Test
-	public void should_get_consistency_level_for_read_and_write_from_thread_local_and_cf() throws Exception {
-
-		defaultReadConsistencyLevelTL.set(LOCAL_QUORUM);
-		defaultWriteConsistencyLevelTL.set(ANY);
+	public void should_get_consistency_level_for_read_and_write_from_current_level_and_cf() throws Exception {
+		currentReadConsistencyLevel.set(ConsistencyLevel.LOCAL_QUORUM);
+		currentWriteConsistencyLevel.set(ConsistencyLevel.ANY);
 
 		assertThat(policy.get(READ, "cf")).isEqualTo(LOCAL_QUORUM);
 		assertThat(policy.get(WRITE, "cf")).isEqualTo(ANY);
@@ -78,50 +82,74 @@ public class ThriftConsistencyLevelPolicyTest {
 
 	@Test
 	public void should_get_consistency_level_for_meta_read_and_write_from_default_and_cf() throws Exception {
-		defaultReadConsistencyLevelTL.set(LOCAL_QUORUM);
-		defaultWriteConsistencyLevelTL.set(ANY);
+		currentReadConsistencyLevel.set(ConsistencyLevel.LOCAL_QUORUM);
+		currentWriteConsistencyLevel.set(ConsistencyLevel.ANY);
 
 		assertThat(policy.get(META_READ, "cf")).isEqualTo(ONE);
 		assertThat(policy.get(META_WRITE, "cf")).isEqualTo(ONE);
 	}
 
 	@Test
-	public void should_load_consistency_for_read_and_write() throws Exception {
+	public void should_get_consistency_level_for_read_and_write_of_cf() throws Exception {
 		policy.setConsistencyLevelForRead(ConsistencyLevel.QUORUM, "cf1");
 		policy.setConsistencyLevelForWrite(ConsistencyLevel.THREE, "cf1");
 
-		policy.loadConsistencyLevelForRead("cf1");
-		policy.loadConsistencyLevelForWrite("cf1");
+		assertThat(policy.getReadLevel("cf1")).isEqualTo(QUORUM);
+		assertThat(policy.getWriteLevel("cf1")).isEqualTo(THREE);
+		assertThat(policy.get(READ, "cf1")).isEqualTo(QUORUM);
+		assertThat(policy.get(WRITE, "cf1")).isEqualTo(THREE);
+		assertThat(policy.getReadLevel("other_cf")).isEqualTo(ONE);
+	}
 
-		assertThat(defaultReadConsistencyLevelTL.get()).isEqualTo(QUORUM);
-		assertThat(defaultWriteConsistencyLevelTL.get()).isEqualTo(THREE);
+	@Test
+	public void should_get_consistency_level_of_cf_from_constructor_maps() throws Exception {
+		HashMap<String, ConsistencyLevel> readMap = new HashMap<String, ConsistencyLevel>();
+		readMap.put("cf", ConsistencyLevel.ALL);
+		HashMap<String, ConsistencyLevel> writeMap = new HashMap<String, ConsistencyLevel>();
+		writeMap.put("cf", ConsistencyLevel.TWO);
+
+		policy = new ThriftConsistencyLevelPolicy(ConsistencyLevel.ONE, ConsistencyLevel.ONE, readMap, writeMap);
+
+		assertThat(policy.getReadLevel("cf")).isEqualTo(ALL);
+		assertThat(policy.getWriteLevel("cf")).isEqualTo(TWO);
 	}
 
 	@Test
-	public void should_load_current_consistency_level_for_read_and_write() throws Exception {
+	public void should_prefer_current_consistency_level_over_cf_level() throws Exception {
 		currentReadConsistencyLevel.set(ConsistencyLevel.EACH_QUORUM);
 		currentWriteConsistencyLevel.set(ConsistencyLevel.LOCAL_QUORUM);
 
 		policy.setConsistencyLevelForRead(ConsistencyLevel.QUORUM, "cf2");
 		policy.setConsistencyLevelForWrite(ConsistencyLevel.THREE, "cf2");
 
-		policy.loadConsistencyLevelForRead("cf2");
-		policy.loadConsistencyLevelForWrite("cf2");
-
-		assertThat(defaultReadConsistencyLevelTL.get()).isEqualTo(EACH_QUORUM);
-		assertThat(defaultWriteConsistencyLevelTL.get()).isEqualTo(LOCAL_QUORUM);
+		assertThat(policy.getReadLevel("cf2")).isEqualTo(EACH_QUORUM);
+		assertThat(policy.getWriteLevel("cf2")).isEqualTo(LOCAL_QUORUM);
+	}
 
+	@Test
+	public void should_return_null_keyspaces_when_not_bound() throws Exception {
+		assertThat(policy.getReadKeyspace("cf")).isNull();
+		assertThat(policy.getWriteKeyspace("cf")).isNull();
+		assertThat(policy.getKeyspace(ConsistencyLevel.QUORUM)).isNull();
 	}
 
 	@Test
-	public void should_reinit_consistency_level_for_read_and_write() throws Exception {
-		policy.setConsistencyLevelForRead(ConsistencyLevel.QUORUM, "cf3");
-		policy.setConsistencyLevelForWrite(ConsistencyLevel.THREE, "cf3");
+	public void should_bind_one_keyspace_per_consistency_level() throws Exception {
+		policy.setConsistencyLevelForRead(ConsistencyLevel.QUORUM, "cf");
+		policy.setConsistencyLevelForWrite(ConsistencyLevel.ALL, "cf");
+
+		Cluster cluster = mock(Cluster.class);
+		when(cluster.getConnectionManager()).thenReturn(mock(HConnectionManager.class));
+
+		policy.bindKeyspaces(cluster, "keyspace", FailoverPolicy.FAIL_FAST, ImmutableMap.of("username", "achilles"));
 
-		policy.reinitDefaultConsistencyLevels();
+		Keyspace readKeyspace = policy.getReadKeyspace("cf");
+		Keyspace writeKeyspace = policy.getWriteKeyspace("cf");
 
-		assertThat(defaultReadConsistencyLevelTL.get()).isNull();
-		assertThat(defaultWriteConsistencyLevelTL.get()).isNull();
+		assertThat(readKeyspace).isSameAs(policy.getKeyspace(ConsistencyLevel.QUORUM));
+		assertThat(writeKeyspace).isSameAs(policy.getKeyspace(ConsistencyLevel.ALL));
+		assertThat(readKeyspace).isNotSameAs(writeKeyspace);
+		assertThat(readKeyspace.getKeyspaceName()).isEqualTo("keyspace");
 	}
 
 	@Test
@@ -138,8 +166,6 @@ public class ThriftConsistencyLevelPolicyTest {
 
 	@AfterClass
 	public static void cleanThreadLocals() {
-		defaultReadConsistencyLevelTL.remove();
-		defaultWriteConsistencyLevelTL.remove();
 		currentReadConsistencyLevel.remove();
 		currentWriteConsistencyLevel.remove();
 	}
@@ -62,7 +62,6 @@ public class ThriftConsistencyContextTest {
 	public void should_reinit_consistency_levels() throws Exception {
 		context.reinitConsistencyLevels();
 		verify(policy).reinitCurrentConsistencyLevels();
-		verify(policy).reinitDefaultConsistencyLevels();
 	}
 
 	@Test
@@ -75,7 +74,6 @@ public class ThriftConsistencyContextTest {
 
 		verify(policy).setCurrentReadLevel(ALL);
 		verify(policy).reinitCurrentConsistencyLevels();
-		verify(policy).reinitDefaultConsistencyLevels();
 	}
 
 	@Test
@@ -88,7 +86,6 @@ public class ThriftConsistencyContextTest {
 
 		verify(policy).setCurrentReadLevel(QUORUM);
 		verify(policy).reinitCurrentConsistencyLevels();
-		verify(policy).reinitDefaultConsistencyLevels();
 	}
 
 	@Test
@@ -122,7 +119,6 @@ public class ThriftConsistencyContextTest {
 
 		verify(policy).setCurrentWriteLevel(ALL);
 		verify(policy).reinitCurrentConsistencyLevels();
-		verify(policy).reinitDefaultConsistencyLevels();
 	}
 
 	@Test
@@ -144,7 +140,6 @@ public class ThriftConsistencyContextTest {
 
 		verify(policy).setCurrentWriteLevel(QUORUM);
 		verify(policy).reinitCurrentConsistencyLevels();
-		verify(policy).reinitDefaultConsistencyLevels();
 	}
 
 	@Test
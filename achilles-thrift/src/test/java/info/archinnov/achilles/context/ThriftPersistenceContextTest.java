@@ -40,6 +40,9 @@ import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.type.OptionsBuilder;
+
+import java.util.concurrent.Callable;
+
 import me.prettyprint.hector.api.mutation.Mutator;
 
 import org.apache.commons.lang.math.RandomUtils;
@@ -54,6 +57,10 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftPersistenceContextTest {
 	@Rule
@@ -242,6 +249,27 @@ public class ThriftPersistenceContextTest {
 		assertThat(actual2).isSameAs(entity);
 	}
 
+	@Test
+	public void should_find_async_on_executor() throws Exception {
+		Whitebox.setInternalState(context, ThriftEntityLoader.class, loader);
+		Whitebox.setInternalState(context, ThriftEntityProxifier.class, proxifier);
+		ListeningExecutorService asyncExecutor = mock(ListeningExecutorService.class);
+		configContext.setAsyncExecutor(asyncExecutor);
+		ArgumentCaptor<Callable<CompleteBean>> taskCaptor = ArgumentCaptor.forClass((Class) Callable.class);
+		ListenableFuture<CompleteBean> future = Futures.immediateFuture(entity);
+		when(asyncExecutor.submit(taskCaptor.capture())).thenReturn(future);
+		when(consistencyContext.executeWithReadConsistencyLevel(execCaptor.capture())).thenReturn(entity);
+		when(proxifier.buildProxy(entity, context)).thenReturn(entity);
+
+		ListenableFuture<CompleteBean> actual = context.findAsync(CompleteBean.class);
+
+		assertThat(actual).isSameAs(future);
+		verifyZeroInteractions(consistencyContext);
+
+		assertThat(taskCaptor.getValue().call()).isSameAs(entity);
+		verify(consistencyContext).executeWithReadConsistencyLevel(any(SafeExecutionContext.class));
+	}
+
 	@Test
 	public void should_not_find() throws Exception {
 		Whitebox.setInternalState(context, ThriftEntityLoader.class, loader);
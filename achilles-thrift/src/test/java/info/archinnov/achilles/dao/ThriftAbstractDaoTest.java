@@ -17,13 +17,16 @@
 package info.archinnov.achilles.dao;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
-import static org.mockito.Mockito.verify;
+import static info.archinnov.achilles.type.ConsistencyLevel.QUORUM;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.serializer.ThriftSerializerUtils;
 import info.archinnov.achilles.test.integration.AchillesInternalThriftResource;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.mutation.Mutator;
 
 import org.apache.cassandra.utils.Pair;
 import org.junit.Before;
@@ -31,7 +34,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
-import org.mockito.internal.util.reflection.Whitebox;
 import org.mockito.runners.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -59,28 +61,38 @@ public class ThriftAbstractDaoTest {
 	}
 
 	@Test
-	public void should_reinit_consistency_level() throws Exception {
+	public void should_read_with_keyspace_of_column_family_read_level() throws Exception {
+		when(policy.getReadKeyspace(columnFamily)).thenReturn(keyspace);
 
 		Composite composite = new Composite();
 		composite.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
 		composite.setComponent(1, "name", ThriftSerializerUtils.STRING_SRZ);
 		abstractDao.getValue(123L, composite);
-		verify(policy).loadConsistencyLevelForRead(columnFamily);
-		verify(policy).reinitDefaultConsistencyLevels();
+
+		verify(policy).getReadKeyspace(columnFamily);
+	}
+
+	@Test
+	public void should_fall_back_to_main_keyspace_when_no_keyspace_bound() throws Exception {
+		assertThat(abstractDao.readKeyspace()).isSameAs(keyspace);
+		assertThat(abstractDao.writeKeyspace()).isSameAs(keyspace);
+	}
+
+	@Test
+	public void should_build_mutator_with_keyspace_of_given_level() throws Exception {
+		when(policy.getKeyspace(QUORUM)).thenReturn(keyspace);
+
+		Mutator<Long> mutator = abstractDao.buildMutator(QUORUM);
+
+		assertThat(mutator).isNotNull();
+		verify(policy).getKeyspace(QUORUM);
+		verify(policy, never()).getWriteKeyspace(columnFamily);
 	}
 
 	@Test
-	public void should_reinit_consistency_level_after_exception() throws Exception {
-		Whitebox.setInternalState(abstractDao, "columnFamily", "xxx");
-		try {
-			Composite composite = new Composite();
-			composite.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
-			composite.setComponent(1, "name", ThriftSerializerUtils.STRING_SRZ);
-			abstractDao.getValue(123L, composite);
-		} catch (RuntimeException e) {
-			verify(policy).loadConsistencyLevelForRead("xxx");
-			verify(policy).reinitDefaultConsistencyLevels();
-		}
+	public void should_build_mutator_with_keyspace_of_column_family_write_level() throws Exception {
+		abstractDao.buildMutator(null);
 
+		verify(policy).getWriteKeyspace(columnFamily);
 	}
 }
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.entity.manager;
 
 import static org.fest.assertions.api.Assertions.*;
+import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.compound.ThriftCompoundKeyValidator;
 import info.archinnov.achilles.context.ConfigurationContext;
@@ -34,7 +35,18 @@ import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.OptionsBuilder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.cassandra.utils.Pair;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -140,4 +152,64 @@ public class ThriftPersistenceManagerTest {
 		assertThat(Whitebox.getInternalState(builder, "meta")).isSameAs(entityMeta);
 		assertThat(Whitebox.getInternalState(builder, "entityClass")).isEqualTo(ClusteredEntity.class);
 	}
+
+	@Test
+	public void should_find_entities_with_multi_get() throws Exception {
+		ThriftPersistenceContext context1 = mock(ThriftPersistenceContext.class);
+		ThriftPersistenceContext context2 = mock(ThriftPersistenceContext.class);
+		Map<Long, ThriftPersistenceContext> contexts = new LinkedHashMap<Long, ThriftPersistenceContext>();
+		contexts.put(10L, context1);
+		contexts.put(11L, context2);
+
+		List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
+		Map<Object, List<Pair<Composite, String>>> rows = new HashMap<Object, List<Pair<Composite, String>>>();
+		rows.put(10L, columns);
+		CompleteBean found = CompleteBeanTestBuilder.builder().id(10L).buid();
+
+		when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+		when(entityMeta.isClusteredEntity()).thenReturn(false);
+		when(context1.eagerFetchEntities(Arrays.asList(10L, 11L))).thenReturn(rows);
+		when(context1.findFromColumns(CompleteBean.class, columns)).thenReturn(found);
+		when(context2.findFromColumns(CompleteBean.class, null)).thenReturn(null);
+
+		Map<Long, CompleteBean> actual = manager.findAll(CompleteBean.class, contexts);
+
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get(10L)).isSameAs(found);
+		verify(context2, never()).eagerFetchEntities(anyListOf(Object.class));
+	}
+
+	@Test
+	public void should_split_scan_into_pages_of_row_keys() throws Exception {
+		List<Object> firstPage = new ArrayList<Object>();
+		for (long key = 1; key <= 101; key++) {
+			firstPage.add(key);
+		}
+		List<Object> secondPage = new ArrayList<Object>();
+		for (long key = 100; key <= 150; key++) {
+			secondPage.add(key);
+		}
+		CompleteBean found = CompleteBeanTestBuilder.builder().id(1L).buid();
+		Map<Object, CompleteBean> entities = new LinkedHashMap<Object, CompleteBean>();
+		entities.put(1L, found);
+
+		when(entityMeta.getTableName()).thenReturn("table");
+		when(daoContext.findEntityDao("table")).thenReturn(entityDao);
+		when(entityDao.findRowKeysRange(null, 101)).thenReturn(firstPage);
+		when(entityDao.<Object> findRowKeysRange(100L, 101)).thenReturn(secondPage);
+		doReturn(entities).when(manager).find(eq(CompleteBean.class), anyCollectionOf(Object.class));
+
+		Iterator<Callable<List<CompleteBean>>> tasks = manager.scanTasks(CompleteBean.class, entityMeta);
+
+		assertThat(tasks.hasNext()).isTrue();
+		assertThat(tasks.next().call()).containsExactly(found);
+		verify(manager).find(CompleteBean.class, firstPage.subList(0, 100));
+
+		assertThat(tasks.hasNext()).isTrue();
+		tasks.next().call();
+		verify(manager).find(CompleteBean.class, secondPage.subList(1, 51));
+
+		assertThat(tasks.hasNext()).isFalse();
+		verify(entityDao, times(2)).findRowKeysRange(any(), eq(101));
+	}
 }
@@ -18,20 +18,27 @@ package info.archinnov.achilles.entity.operations.impl;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
+import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.*;
 import static org.fest.assertions.api.Assertions.*;
+import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
 import info.archinnov.achilles.composite.ThriftCompositeTransformer;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.entity.ThriftEntityMapper;
+import info.archinnov.achilles.entity.metadata.CounterProperties;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.test.parser.entity.BeanWithClusteredId;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -49,7 +56,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import com.google.common.base.Optional;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftLoaderImplTest {
@@ -217,7 +228,7 @@ public class ThriftLoaderImplTest {
 		Composite comp = new Composite();
 		when(compositeFactory.createBaseForGet(pm)).thenReturn(comp);
 		when(context.getEntityDao().getValue(rowKey, comp)).thenReturn(value);
-		when(pm.forceDecodeFromJSON(value)).thenReturn(value);
+		when(pm.forceDecode(value)).thenReturn(value);
 
 		Object actual = loaderImpl.loadSimpleProperty(context, pm);
 		assertThat(actual).isEqualTo(value);
@@ -264,6 +275,41 @@ public class ThriftLoaderImplTest {
 		assertThat(actual).containsExactly("foo", "bar");
 	}
 
+	@Test
+	public void should_load_list_for_several_entities() throws Exception {
+		ThriftPersistenceContext otherContext = mock(ThriftPersistenceContext.class);
+		Object otherRowKey = new Object();
+
+		Composite start = new Composite(), end = new Composite();
+		start.addComponent(LIST.flag(), BYTE_SRZ);
+		start.addComponent("friends", STRING_SRZ);
+		start.addComponent("0", STRING_SRZ);
+
+		end.addComponent(LIST.flag(), BYTE_SRZ);
+		end.addComponent("friends", STRING_SRZ);
+		end.addComponent("1", STRING_SRZ);
+
+		List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
+		columns.add(Pair.create(start, "foo"));
+		columns.add(Pair.create(end, "bar"));
+		Map<Object, List<Pair<Composite, String>>> columnsByRowKey = new HashMap<Object, List<Pair<Composite, String>>>();
+		columnsByRowKey.put(rowKey, columns);
+
+		when(pm.type()).thenReturn(LAZY_LIST);
+		when(compositeFactory.buildRowKey(otherContext)).thenReturn(otherRowKey);
+		when(compositeFactory.createBaseForQuery(pm, EQUAL)).thenReturn(start);
+		when(compositeFactory.createBaseForQuery(pm, GREATER_THAN_EQUAL)).thenReturn(end);
+		when(context.fetchColumnsRange(Arrays.asList(rowKey, otherRowKey), start, end)).thenReturn(columnsByRowKey);
+		when(pm.decode("foo")).thenReturn("foo");
+		when(pm.decode("bar")).thenReturn("bar");
+
+		List<Object> actual = loaderImpl.loadProperties(Arrays.asList(context, otherContext), pm);
+
+		assertThat(actual).hasSize(2);
+		assertThat((List<Object>) actual.get(0)).containsExactly("foo", "bar");
+		assertThat(actual.get(1)).isNull();
+	}
+
 	@Test
 	public void should_load_set() throws Exception {
 
@@ -325,4 +371,32 @@ public class ThriftLoaderImplTest {
 		assertThat(((UserBean) actual.get(1)).getName()).isEqualTo("user1");
 		assertThat(((UserBean) actual.get(2)).getName()).isEqualTo("user2");
 	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_load_counters_of_clustered_entities_from_wide_row() throws Exception {
+		Composite comp = new Composite();
+		CounterProperties counterProperties = new CounterProperties("fqcn");
+		counterProperties.setIdMeta(idMeta);
+
+		when(pm.getCounterProperties()).thenReturn(counterProperties);
+		when(pm.getReadConsistencyLevel()).thenReturn(ONE);
+		when(context.isClusteredEntity()).thenReturn(true);
+		when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> absent());
+		when(context.executeWithReadConsistencyLevel(any(SafeExecutionContext.class), eq(ONE))).thenAnswer(
+				new Answer<Object>() {
+					@Override
+					public Object answer(InvocationOnMock invocation) throws Throwable {
+						return ((SafeExecutionContext<?>) invocation.getArguments()[0]).execute();
+					}
+				});
+		when(idMeta.getPartitionKey(primaryKey)).thenReturn(rowKey);
+		when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
+		when(context.getWideRowDao().getCounterValue(rowKey, comp)).thenReturn(11L);
+
+		List<Long> actual = loaderImpl.loadCounters(Arrays.asList(context), pm);
+
+		assertThat(actual).containsExactly(11L);
+		verify(context, never()).getCounterDao();
+	}
 }
@@ -260,7 +260,7 @@ public class ThriftPersisterImplTest {
 
 		when(invoker.getValueFromField(entity, propertyMeta.getGetter())).thenReturn("testValue");
 
-		when(transcoder.forceEncodeToJSON("testValue")).thenReturn("testValue");
+		when(transcoder.forceEncode("testValue")).thenReturn("testValue");
 		persisterImpl.batchPersistSimpleProperty(context, propertyMeta);
 
 		verify(entityDao).insertColumnBatch(entity.getId(), comp, "testValue", ttlO, timestampO, entityMutator);
@@ -302,8 +302,8 @@ public class ThriftPersisterImplTest {
 		when(compositeFactory.createForBatchInsertList(propertyMeta, 0)).thenReturn(comp1);
 		when(compositeFactory.createForBatchInsertList(propertyMeta, 1)).thenReturn(comp2);
 
-		when(transcoder.forceEncodeToJSON("foo")).thenReturn("foo");
-		when(transcoder.forceEncodeToJSON("bar")).thenReturn("bar");
+		when(transcoder.forceEncode("foo")).thenReturn("foo");
+		when(transcoder.forceEncode("bar")).thenReturn("bar");
 
 		persisterImpl.batchPersistList(Arrays.asList("foo", "bar"), context, propertyMeta);
 
@@ -323,8 +323,8 @@ public class ThriftPersisterImplTest {
 		Composite comp2 = new Composite();
 		comp2.setComponent(0, "Helen", STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
 
-		when(transcoder.forceEncodeToJSON("John")).thenReturn("John");
-		when(transcoder.forceEncodeToJSON("Helen")).thenReturn("Helen");
+		when(transcoder.forceEncode("John")).thenReturn("John");
+		when(transcoder.forceEncode("Helen")).thenReturn("Helen");
 
 		when(compositeFactory.createForBatchInsertSetOrMap(propertyMeta, "John")).thenReturn(comp1);
 		when(compositeFactory.createForBatchInsertSetOrMap(propertyMeta, "Helen")).thenReturn(comp2);
@@ -349,11 +349,11 @@ public class ThriftPersisterImplTest {
 		map.put(3, "75014");
 
 		when(transcoder.forceEncodeToJSON(1)).thenReturn("1");
-		when(transcoder.forceEncodeToJSON("FR")).thenReturn("FR");
+		when(transcoder.forceEncode("FR")).thenReturn("FR");
 		when(transcoder.forceEncodeToJSON(2)).thenReturn("2");
-		when(transcoder.forceEncodeToJSON("Paris")).thenReturn("Paris");
+		when(transcoder.forceEncode("Paris")).thenReturn("Paris");
 		when(transcoder.forceEncodeToJSON(3)).thenReturn("3");
-		when(transcoder.forceEncodeToJSON("75014")).thenReturn("75014");
+		when(transcoder.forceEncode("75014")).thenReturn("75014");
 
 		Composite comp1 = new Composite();
 		comp1.setComponent(0, "1", STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
@@ -95,9 +95,6 @@ public class ThriftQueryExecutorImplTest {
 	@Captor
 	private ArgumentCaptor<SafeExecutionContext<List<HColumn<Composite, Object>>>> columnsCaptor;
 
-	@Captor
-	private ArgumentCaptor<SafeExecutionContext<Void>> removeCaptor;
-
 	@Captor
 	private ArgumentCaptor<SafeExecutionContext<ThriftSliceIterator<Long, Object>>> iteratorCaptor;
 
@@ -139,7 +136,7 @@ public class ThriftQueryExecutorImplTest {
 		when(query.getBatchSize()).thenReturn(batchSize);
 
 		when(context.getWideRowDao()).thenReturn(wideRowDao);
-		when(wideRowDao.buildMutator()).thenReturn(mutator);
+		when(wideRowDao.buildMutator(consistencyLevel)).thenReturn(mutator);
 		when(compositeFactory.buildRowKey(context)).thenReturn(partitionKey);
 	}
 
@@ -251,11 +248,9 @@ public class ThriftQueryExecutorImplTest {
 		executor.removeColumns(columns, consistencyLevel, context);
 
 		verify(wideRowDao).removeColumnBatch(partitionKey, name, mutator);
-		verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(), eq(consistencyLevel));
-
-		removeCaptor.getValue().execute();
-
 		verify(wideRowDao).executeMutator(mutator);
+		verify(context, never()).executeWithWriteConsistencyLevel(any(SafeExecutionContext.class),
+				any(ConsistencyLevel.class));
 	}
 
 	@Test
@@ -272,11 +267,9 @@ public class ThriftQueryExecutorImplTest {
 		executor.removeCounterColumns(counterColumns, consistencyLevel, context);
 
 		verify(wideRowDao).removeCounterBatch(partitionKey, name, mutator);
-		verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(), eq(consistencyLevel));
-
-		removeCaptor.getValue().execute();
-
 		verify(wideRowDao).executeMutator(mutator);
+		verify(context, never()).executeWithWriteConsistencyLevel(any(SafeExecutionContext.class),
+				any(ConsistencyLevel.class));
 	}
 
 	@Test
@@ -284,10 +277,8 @@ public class ThriftQueryExecutorImplTest {
 		executor.removeRow(partitionKey, context, consistencyLevel);
 
 		verify(wideRowDao).removeRowBatch(partitionKey, mutator);
-		verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(), eq(consistencyLevel));
-
-		removeCaptor.getValue().execute();
-
 		verify(wideRowDao).executeMutator(mutator);
+		verify(context, never()).executeWithWriteConsistencyLevel(any(SafeExecutionContext.class),
+				any(ConsistencyLevel.class));
 	}
 }
@@ -22,6 +22,7 @@ import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.ConsistencyLevel;
 
 import java.util.Iterator;
 import java.util.List;
@@ -122,9 +123,7 @@ public class ThriftCounterSliceIteratorTest {
 
 		assertThat(iterator.hasNext()).isEqualTo(false);
 
-		verify(policy, atLeastOnce()).setCurrentReadLevel(LOCAL_QUORUM);
-		verify(policy, atLeastOnce()).setCurrentReadLevel(ONE);
-		verify(policy).loadConsistencyLevelForRead(columnFamily);
+		verify(policy, never()).setCurrentReadLevel(any(ConsistencyLevel.class));
 	}
 
 	@Test
@@ -173,9 +172,7 @@ public class ThriftCounterSliceIteratorTest {
 
 		assertThat(iterator.hasNext()).isEqualTo(false);
 
-		verify(policy, times(2)).setCurrentReadLevel(LOCAL_QUORUM);
-		verify(policy, times(2)).setCurrentReadLevel(ONE);
-		verify(policy, times(2)).loadConsistencyLevelForRead(columnFamily);
+		verify(policy, never()).setCurrentReadLevel(any(ConsistencyLevel.class));
 	}
 
 	@Test(expected = UnsupportedOperationException.class)
@@ -127,9 +127,7 @@ public class ThriftSliceIteratorTest {
 
 		assertThat(iterator.hasNext()).isEqualTo(false);
 
-		verify(policy, atLeastOnce()).setCurrentReadLevel(LOCAL_QUORUM);
-		verify(policy, atLeastOnce()).setCurrentReadLevel(ONE);
-		verify(policy).loadConsistencyLevelForRead(columnFamily);
+		verify(policy, never()).setCurrentReadLevel(any(ConsistencyLevel.class));
 
 	}
 
@@ -77,12 +77,6 @@ public class ThriftEntityInterceptorTest {
 	@Mock
 	private ThriftGenericEntityDao entityDao;
 
-	@Mock
-	private Map<Method, PropertyMeta> getterMetas;
-
-	@Mock
-	private Map<Method, PropertyMeta> setterMetas;
-
 	@Mock
 	private Map<Method, PropertyMeta> dirtyMap;
 
@@ -141,10 +135,11 @@ public class ThriftEntityInterceptorTest {
 
 		entityMeta = new EntityMeta();
 		entityMeta.setIdMeta(idMeta);
-		entityMeta.setGetterMetas(getterMetas);
-		entityMeta.setSetterMetas(setterMetas);
+		entityMeta.setGetterMetas(new HashMap<Method, PropertyMeta>());
+		entityMeta.setSetterMetas(new HashMap<Method, PropertyMeta>());
 		entityMeta.setClusteredEntity(false);
 		entityMeta.setEagerGetters(eagerGetters);
+		entityMeta.setPropertyMetasByOrdinal(Arrays.asList(idMeta, propertyMeta));
 
 		when(flushContext.getConsistencyLevel()).thenReturn(ONE);
 
@@ -167,13 +162,13 @@ public class ThriftEntityInterceptorTest {
 
 	@Test
 	public void should_get_id_value_directly() throws Throwable {
-		Object key = this.interceptor.intercept(entity, idMeta.getGetter(), (Object[]) null, proxy);
+		Object key = this.interceptor.interceptGetter(0, idMeta.getGetter(), (Object[]) null, proxy);
 		assertThat(key).isEqualTo(key);
 	}
 
 	@Test(expected = IllegalAccessException.class)
 	public void should_exception_when_setter_called_on_id() throws Throwable {
-		this.interceptor.intercept(entity, idMeta.getSetter(), new Object[] { 1L }, proxy);
+		this.interceptor.interceptSetter(0, idMeta.getSetter(), new Object[] { 1L }, proxy);
 	}
 
 	@Test
@@ -183,19 +178,17 @@ public class ThriftEntityInterceptorTest {
 
 		assertThat(name).isEqualTo("name");
 
-		verify(getterMetas).containsKey(nameMeta.getGetter());
-		verify(setterMetas).containsKey(nameMeta.getGetter());
+		verifyZeroInteractions(loader, dirtyMap);
 	}
 
 	@Test
 	public void should_load_lazy_property() throws Throwable {
-		when(getterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(getterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.LAZY_SIMPLE);
+		when(propertyMeta.getGetter()).thenReturn(nameMeta.getGetter());
 		when(alreadyLoaded.contains(nameMeta.getGetter())).thenReturn(false);
 		when(proxy.invoke(entity, (Object[]) null)).thenReturn("name");
 
-		Object name = this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		Object name = this.interceptor.interceptGetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 
 		assertThat(name).isEqualTo("name");
 
@@ -205,15 +198,14 @@ public class ThriftEntityInterceptorTest {
 
 	@Test
 	public void should_return_already_loaded_lazy_property() throws Throwable {
-		when(getterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(getterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.LAZY_SIMPLE);
+		when(propertyMeta.getGetter()).thenReturn(nameMeta.getGetter());
 
 		when(alreadyLoaded.contains(nameMeta.getGetter())).thenReturn(true);
 
 		when(proxy.invoke(entity, (Object[]) null)).thenReturn("name");
 
-		Object name = this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		Object name = this.interceptor.interceptGetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 
 		assertThat(name).isEqualTo("name");
 
@@ -223,14 +215,12 @@ public class ThriftEntityInterceptorTest {
 
 	@Test
 	public void should_set_property() throws Throwable {
-		when(setterMetas.containsKey(nameMeta.getSetter())).thenReturn(true);
-		when(setterMetas.get(nameMeta.getSetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.SIMPLE);
 
 		Object[] args = new Object[] { "sdfsdvdqfv" };
 
 		when(proxy.invoke(entity, args)).thenReturn(null);
-		Object name = this.interceptor.intercept(entity, nameMeta.getSetter(), args, proxy);
+		Object name = this.interceptor.interceptSetter(1, nameMeta.getSetter(), args, proxy);
 
 		assertThat(name).isNull();
 
@@ -240,78 +230,66 @@ public class ThriftEntityInterceptorTest {
 
 	@Test
 	public void should_create_list_wrapper() throws Throwable {
-		when(getterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(getterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.LIST);
 
 		when(proxy.invoke(entity, null)).thenReturn(Arrays.asList("a"));
 
-		Object name = this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		Object name = this.interceptor.interceptGetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 
 		assertThat(name).isInstanceOf(ListWrapper.class);
 	}
 
 	@Test
 	public void should_return_null_when_no_list() throws Throwable {
-		when(getterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(getterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.LIST);
 
 		when(proxy.invoke(entity, null)).thenReturn(null);
 
-		Object actual = this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		Object actual = this.interceptor.interceptGetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 
 		assertThat(actual).isNull();
 	}
 
 	@Test
 	public void should_create_set_wrapper() throws Throwable {
-		when(getterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(getterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.SET);
 
 		when(proxy.invoke(entity, null)).thenReturn(new HashSet<String>());
 
-		Object name = this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		Object name = this.interceptor.interceptGetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 
 		assertThat(name).isInstanceOf(SetWrapper.class);
 	}
 
 	@Test
 	public void should_return_null_when_no_set() throws Throwable {
-		when(getterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(getterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.SET);
 
 		when(proxy.invoke(entity, null)).thenReturn(null);
 
-		Object actual = this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		Object actual = this.interceptor.interceptGetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 
 		assertThat(actual).isNull();
 	}
 
 	@Test
 	public void should_create_map_wrapper() throws Throwable {
-		when(getterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(getterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(LAZY_MAP);
 
 		when(proxy.invoke(entity, null)).thenReturn(new HashMap<Integer, String>());
 
-		Object name = this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		Object name = this.interceptor.interceptGetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 
 		assertThat(name).isInstanceOf(MapWrapper.class);
 	}
 
 	@Test
 	public void should_return_null_when_no_map() throws Throwable {
-		when(getterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(getterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(LAZY_MAP);
 
 		when(proxy.invoke(entity, null)).thenReturn(null);
 
-		Object actual = this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		Object actual = this.interceptor.interceptGetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 
 		assertThat(actual).isNull();
 	}
@@ -324,15 +302,13 @@ public class ThriftEntityInterceptorTest {
 
 		Method countGetter = CompleteBean.class.getDeclaredMethod("getCount");
 
-		when(getterMetas.containsKey(countGetter)).thenReturn(true);
-		when(getterMetas.get(countGetter)).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(COUNTER);
 		CounterProperties counterProperties = new CounterProperties("fqcn");
 		counterProperties.setIdMeta(idMeta);
 
 		when(propertyMeta.getCounterProperties()).thenReturn(counterProperties);
 		when(propertyMeta.getPropertyName()).thenReturn(propertyName);
-		Object counterWrapper = this.interceptor.intercept(bean, countGetter, (Object[]) null, proxy);
+		Object counterWrapper = this.interceptor.interceptGetter(1, countGetter, (Object[]) null, proxy);
 
 		assertThat(counterWrapper).isInstanceOf(ThriftCounterWrapper.class);
 
@@ -360,8 +336,6 @@ public class ThriftEntityInterceptorTest {
 
 		entityMeta.setClusteredEntity(true);
 		Method countGetter = CompleteBean.class.getDeclaredMethod("getCount");
-		when(getterMetas.containsKey(countGetter)).thenReturn(true);
-		when(getterMetas.get(countGetter)).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(COUNTER);
 		CounterProperties counterProperties = new CounterProperties("fqcn");
 		counterProperties.setIdMeta(clusteredIdMeta);
@@ -371,7 +345,7 @@ public class ThriftEntityInterceptorTest {
 
 		interceptor.setPrimaryKey(embeddedKey);
 
-		Object counterWrapper = this.interceptor.intercept(bean, countGetter, (Object[]) null, proxy);
+		Object counterWrapper = this.interceptor.interceptGetter(1, countGetter, (Object[]) null, proxy);
 
 		assertThat(counterWrapper).isInstanceOf(ThriftCounterWrapper.class);
 
@@ -382,11 +356,9 @@ public class ThriftEntityInterceptorTest {
 
 	@Test(expected = UnsupportedOperationException.class)
 	public void should_exception_when_call_setter_on_counter() throws Throwable {
-		when(setterMetas.containsKey(nameMeta.getGetter())).thenReturn(true);
-		when(setterMetas.get(nameMeta.getGetter())).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.COUNTER);
 
-		this.interceptor.intercept(entity, nameMeta.getGetter(), (Object[]) null, proxy);
+		this.interceptor.interceptSetter(1, nameMeta.getGetter(), (Object[]) null, proxy);
 	}
 
 }
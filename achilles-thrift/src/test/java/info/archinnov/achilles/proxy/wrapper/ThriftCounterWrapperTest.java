@@ -18,10 +18,13 @@ package info.archinnov.achilles.proxy.wrapper;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.CounterAccumulator;
+import info.archinnov.achilles.counter.ThriftCounterKey;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -175,4 +178,18 @@ public class ThriftCounterWrapperTest {
 
 		verify(counterDao).decrementCounter(key, columnName, 10L);
 	}
+
+	@Test
+	public void should_coalesce_decr_when_counter_accumulator_is_set() throws Exception {
+		@SuppressWarnings("unchecked")
+		CounterAccumulator<ThriftCounterKey> counterAccumulator = mock(CounterAccumulator.class);
+		wrapper.setCounterAccumulator(counterAccumulator);
+
+		wrapper.decr(10L);
+
+		verify(counterAccumulator).add(new ThriftCounterKey(counterDao, key, columnName, consistencyLevel), -10L);
+		verify(context, never()).executeWithWriteConsistencyLevel(any(SafeExecutionContext.class),
+				any(ConsistencyLevel.class));
+		verifyZeroInteractions(counterDao);
+	}
 }
@@ -298,6 +298,5 @@ public class BatchModeIT {
 	@AfterClass
 	public static void cleanUp() {
 		ThriftEmbeddedServer.policy().reinitCurrentConsistencyLevels();
-		ThriftEmbeddedServer.policy().reinitDefaultConsistencyLevels();
 	}
 }
@@ -336,12 +336,10 @@ public class ConsistencyLevelIT {
 	@After
 	public void cleanThreadLocals() {
 		policy.reinitCurrentConsistencyLevels();
-		policy.reinitDefaultConsistencyLevels();
 	}
 
 	@AfterClass
 	public static void cleanUp() {
 		ThriftEmbeddedServer.policy().reinitCurrentConsistencyLevels();
-		ThriftEmbeddedServer.policy().reinitDefaultConsistencyLevels();
 	}
 }